@@ -0,0 +1,70 @@
+/*
+ * Copyright (C) 2014-2026 Philip Helger (www.helger.com)
+ * philip[at]helger[dot]com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.helger.masterdata.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.helger.masterdata.swift.BICManager;
+
+/**
+ * Benchmark for {@link BICManager#isValidBIC(String)}.
+ *
+ * @author Philip Helger
+ */
+@State (Scope.Benchmark)
+@BenchmarkMode (Mode.AverageTime)
+@OutputTimeUnit (TimeUnit.NANOSECONDS)
+@Warmup (iterations = 3, time = 1)
+@Measurement (iterations = 5, time = 1)
+@Fork (1)
+public class BICBenchmark
+{
+  /** Either "valid" or "invalid" */
+  @Param ({ "valid", "invalid" })
+  public String corpus;
+
+  private String [] m_aBICs;
+
+  @Setup
+  public void setup ()
+  {
+    final boolean bValid = "valid".equals (corpus);
+    m_aBICs = bValid ? BenchmarkCorpus.createValidBICs () : BenchmarkCorpus.createInvalidBICs ();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation (BenchmarkCorpus.SIZE)
+  public void isValidBIC (final Blackhole aBH)
+  {
+    for (final String sBIC : m_aBICs)
+      aBH.consume (BICManager.isValidBIC (sBIC));
+  }
+}
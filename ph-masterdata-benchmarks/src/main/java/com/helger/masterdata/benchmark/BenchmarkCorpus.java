@@ -0,0 +1,487 @@
+/*
+ * Copyright (C) 2014-2026 Philip Helger (www.helger.com)
+ * philip[at]helger[dot]com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.helger.masterdata.benchmark;
+
+import java.math.BigDecimal;
+import java.util.Comparator;
+import java.util.Locale;
+import java.util.Random;
+
+import org.jspecify.annotations.NonNull;
+
+import com.helger.annotation.Nonempty;
+import com.helger.annotation.concurrent.Immutable;
+import com.helger.collection.commons.CommonsArrayList;
+import com.helger.collection.commons.ICommonsList;
+import com.helger.masterdata.ean.EAN13;
+import com.helger.masterdata.ean.EEANChecksumMode;
+import com.helger.masterdata.leitwegid.LeitwegID;
+import com.helger.masterdata.postal.PostalCodeManager;
+import com.helger.masterdata.swift.IBANCountryData;
+import com.helger.masterdata.swift.IBANManager;
+import com.helger.masterdata.vat.VATINStructure;
+import com.helger.masterdata.vat.VATINStructureManager;
+import com.helger.masterdata.vat.VATINSyntaxChecker;
+
+/**
+ * Creates reproducible corpora of valid and invalid identifiers for the benchmarks. The valid
+ * entries are derived from the code lists shipped with ph-masterdata (IBAN country layouts, VATIN
+ * examples, postal code formats), the invalid entries are mutations of valid entries so that they
+ * fail as late as possible.
+ *
+ * @author Philip Helger
+ */
+@Immutable
+public final class BenchmarkCorpus
+{
+  /** The number of entries in each corpus */
+  public static final int SIZE = 1024;
+
+  /** The seed for all random numbers to get stable corpora */
+  private static final long SEED = 20260101L;
+
+  private static final String DIGITS = "0123456789";
+  private static final String ALPHA = "ABCDEFGHIJKLMNOPQRSTUVWXYZ";
+  private static final String ALPHANUM = DIGITS + ALPHA;
+
+  private BenchmarkCorpus ()
+  {}
+
+  /**
+   * A single postal code together with the country it belongs to.
+   *
+   * @author Philip Helger
+   */
+  public static final class PostalCode
+  {
+    private final Locale m_aCountry;
+    private final String m_sPostalCode;
+
+    PostalCode (@NonNull final Locale aCountry, @NonNull final String sPostalCode)
+    {
+      m_aCountry = aCountry;
+      m_sPostalCode = sPostalCode;
+    }
+
+    @NonNull
+    public Locale getCountry ()
+    {
+      return m_aCountry;
+    }
+
+    @NonNull
+    public String getPostalCode ()
+    {
+      return m_sPostalCode;
+    }
+  }
+
+  @NonNull
+  private static Random _createRandom ()
+  {
+    return new Random (SEED);
+  }
+
+  private static char _randomChar (@NonNull final Random aRandom, @NonNull @Nonempty final String sChars)
+  {
+    return sChars.charAt (aRandom.nextInt (sChars.length ()));
+  }
+
+  @NonNull
+  private static String _randomString (@NonNull final Random aRandom,
+                                       @NonNull @Nonempty final String sChars,
+                                       final int nLength)
+  {
+    final StringBuilder aSB = new StringBuilder (nLength);
+    for (int i = 0; i < nLength; ++i)
+      aSB.append (_randomChar (aRandom, sChars));
+    return aSB.toString ();
+  }
+
+  /**
+   * Replace the character at the provided index with a different character of the same class, so
+   * that the layout stays intact but the checksum breaks.
+   */
+  @NonNull
+  private static String _mutate (@NonNull final Random aRandom, @NonNull final String s, final int nIndex)
+  {
+    final char cOld = s.charAt (nIndex);
+    final String sChars = cOld >= '0' && cOld <= '9' ? DIGITS : ALPHA;
+    char cNew;
+    do
+    {
+      cNew = _randomChar (aRandom, sChars);
+    } while (cNew == cOld);
+    return s.substring (0, nIndex) + cNew + s.substring (nIndex + 1);
+  }
+
+  /**
+   * Fill an array of {@link #SIZE} elements by cycling over the provided source list.
+   */
+  @NonNull
+  private static String [] _toCorpus (@NonNull final ICommonsList <String> aSource)
+  {
+    if (aSource.isEmpty ())
+      throw new IllegalStateException ("Failed to create any corpus entry");
+    final String [] ret = new String [SIZE];
+    for (int i = 0; i < SIZE; ++i)
+      ret[i] = aSource.get (i % aSource.size ());
+    return ret;
+  }
+
+  /**
+   * @return Valid IBANs for all supported countries, using random characters matching the country
+   *         layout and a correct checksum.
+   */
+  @NonNull
+  public static String [] createValidIBANs ()
+  {
+    final Random aRandom = _createRandom ();
+    final ICommonsList <String> aList = new CommonsArrayList <> ();
+    for (final String sCountry : new CommonsArrayList <> (IBANManager.getAllSupportedCountries ()).getSortedInline (String::compareTo))
+    {
+      final IBANCountryData aData = IBANManager.getCountryData (sCountry);
+      for (int nAttempt = 0; nAttempt < 100; ++nAttempt)
+      {
+        final StringBuilder aBBAN = new StringBuilder ();
+        for (int i = 4; i < aData.getExpectedLength (); ++i)
+        {
+          char c;
+          do
+          {
+            c = _randomChar (aRandom, ALPHANUM);
+          } while (!aData.matchesLayoutChar (i, c));
+          aBBAN.append (c);
+        }
+        final String sIBAN = IBANManager.createIBANWithValidChecksum (sCountry, aBBAN.toString ());
+        // Countries with fixed check digits may fail
+        if (IBANManager.isValidIBAN (sIBAN))
+        {
+          aList.add (sIBAN);
+          break;
+        }
+      }
+    }
+    return _toCorpus (aList);
+  }
+
+  /**
+   * @return IBANs that are invalid because of a wrong checksum, a wrong length or an unsupported
+   *         country.
+   */
+  @NonNull
+  public static String [] createInvalidIBANs ()
+  {
+    final Random aRandom = _createRandom ();
+    final ICommonsList <String> aList = new CommonsArrayList <> ();
+    for (final String sIBAN : createValidIBANs ())
+    {
+      final String sInvalid;
+      switch (aList.size () % 4)
+      {
+        case 0:
+          // Unsupported country
+          sInvalid = "ZZ" + sIBAN.substring (2);
+          break;
+        case 1:
+          // Wrong length
+          sInvalid = sIBAN.substring (0, sIBAN.length () - 1);
+          break;
+        default:
+          // Wrong checksum
+          sInvalid = _mutate (aRandom, sIBAN, 4 + aRandom.nextInt (sIBAN.length () - 4));
+          break;
+      }
+      if (!IBANManager.isValidIBAN (sInvalid))
+        aList.add (sInvalid);
+    }
+    return _toCorpus (aList);
+  }
+
+  /**
+   * @return VATINs of all countries that are valid according to the structure and the syntax
+   *         checker. They are derived from the structure examples by randomizing the digits until
+   *         the checksum matches.
+   */
+  @NonNull
+  public static String [] createValidVATINs ()
+  {
+    final Random aRandom = _createRandom ();
+    final ICommonsList <String> aList = new CommonsArrayList <> ();
+    for (final VATINStructure aStructure : VATINStructureManager.getAllStructures ())
+      for (final String sExample : aStructure.getExamples ())
+        for (int nAttempt = 0; nAttempt < 1000; ++nAttempt)
+        {
+          final StringBuilder aSB = new StringBuilder (sExample.length ());
+          aSB.append (sExample, 0, 2);
+          for (int i = 2; i < sExample.length (); ++i)
+          {
+            final char c = sExample.charAt (i);
+            aSB.append (c >= '0' && c <= '9' ? _randomChar (aRandom, DIGITS) : c);
+          }
+          final String sVATIN = aSB.toString ();
+          if (aStructure.isValid (sVATIN) && VATINSyntaxChecker.isValidVATIN (sVATIN, false))
+          {
+            aList.add (sVATIN);
+            break;
+          }
+        }
+    return _toCorpus (aList);
+  }
+
+  /**
+   * @return VATINs that match the structure of their country, but fail the syntax check.
+   */
+  @NonNull
+  public static String [] createInvalidVATINs ()
+  {
+    final Random aRandom = _createRandom ();
+    final ICommonsList <String> aList = new CommonsArrayList <> ();
+    for (final String sVATIN : createValidVATINs ())
+    {
+      // Change the last digit
+      int nIndex = sVATIN.length () - 1;
+      while (nIndex > 2 && (sVATIN.charAt (nIndex) < '0' || sVATIN.charAt (nIndex) > '9'))
+        nIndex--;
+      final String sInvalid = _mutate (aRandom, sVATIN, nIndex);
+      if (!VATINSyntaxChecker.isValidVATIN (sInvalid, false))
+        aList.add (sInvalid);
+    }
+    return _toCorpus (aList);
+  }
+
+  /**
+   * @param nLength
+   *        The length of the GTIN. One of 8, 12, 13, 14 or 18 (SSCC).
+   * @return GTINs with a valid checksum.
+   */
+  @NonNull
+  public static String [] createValidGTINs (final int nLength)
+  {
+    final Random aRandom = _createRandom ();
+    final ICommonsList <String> aList = new CommonsArrayList <> ();
+    for (int i = 0; i < SIZE; ++i)
+    {
+      final String sBody = _randomString (aRandom, DIGITS, nLength - 1);
+      // Weights 3 and 1 alternating from the right
+      int nSum = 0;
+      for (int j = 0; j < sBody.length (); ++j)
+        nSum += (sBody.charAt (j) - '0') * (((sBody.length () - j) % 2) == 1 ? 3 : 1);
+      aList.add (sBody + (char) ('0' + (10 - nSum % 10) % 10));
+    }
+    return _toCorpus (aList);
+  }
+
+  /**
+   * @param nLength
+   *        The length of the GTIN. One of 8, 12, 13, 14 or 18 (SSCC).
+   * @return GTINs with an invalid checksum.
+   */
+  @NonNull
+  public static String [] createInvalidGTINs (final int nLength)
+  {
+    final Random aRandom = _createRandom ();
+    final ICommonsList <String> aList = new CommonsArrayList <> ();
+    for (final String sGTIN : createValidGTINs (nLength))
+      aList.add (_mutate (aRandom, sGTIN, sGTIN.length () - 1));
+    return _toCorpus (aList);
+  }
+
+  /**
+   * @return Valid ISBNs, alternating between ISBN-10 and ISBN-13.
+   */
+  @NonNull
+  public static String [] createValidISBNs ()
+  {
+    final Random aRandom = _createRandom ();
+    final ICommonsList <String> aList = new CommonsArrayList <> ();
+    for (int i = 0; i < SIZE; ++i)
+    {
+      final String sBody = _randomString (aRandom, DIGITS, 9);
+      if ((i % 2) == 0)
+      {
+        // ISBN-10
+        int nRes = 0;
+        for (int j = 0; j < 9; j++)
+          nRes += ((sBody.charAt (j) - '0') * (10 - j)) % 11;
+        nRes = 11 - (nRes % 11);
+        // A result of 11 cannot be expressed
+        if (nRes <= 10)
+          aList.add (sBody + (nRes == 10 ? 'X' : (char) ('0' + nRes)));
+      }
+      else
+      {
+        // ISBN-13 uses the EAN-13 algorithm
+        aList.add (EAN13.getWithCorrectChecksum (((i % 4) == 1 ? "978" : "979") + sBody, EEANChecksumMode.ADD));
+      }
+    }
+    return _toCorpus (aList);
+  }
+
+  /**
+   * @return ISBNs with an invalid checksum.
+   */
+  @NonNull
+  public static String [] createInvalidISBNs ()
+  {
+    final Random aRandom = _createRandom ();
+    final ICommonsList <String> aList = new CommonsArrayList <> ();
+    for (final String sISBN : createValidISBNs ())
+      aList.add (_mutate (aRandom, sISBN, aRandom.nextInt (sISBN.length () - 1)));
+    return _toCorpus (aList);
+  }
+
+  /**
+   * @return Valid Leitweg-IDs with and without fine addressing.
+   */
+  @NonNull
+  public static String [] createValidLeitwegIDs ()
+  {
+    final Random aRandom = _createRandom ();
+    final ICommonsList <String> aList = new CommonsArrayList <> ();
+    for (int i = 0; i < SIZE; ++i)
+    {
+      // Coarse addressing is usually numeric, fine addressing is alphanumeric
+      String sID = _randomString (aRandom, DIGITS, 2 + aRandom.nextInt (11));
+      if ((i % 2) == 0)
+        sID += LeitwegID.SEPARATOR_CHAR + _randomString (aRandom, ALPHANUM, 1 + aRandom.nextInt (30));
+      aList.add (sID + LeitwegID.SEPARATOR_CHAR + LeitwegID.calcLeitwegIDChecksum (sID));
+    }
+    return _toCorpus (aList);
+  }
+
+  /**
+   * @return Leitweg-IDs with an invalid checksum.
+   */
+  @NonNull
+  public static String [] createInvalidLeitwegIDs ()
+  {
+    final Random aRandom = _createRandom ();
+    final ICommonsList <String> aList = new CommonsArrayList <> ();
+    for (final String sID : createValidLeitwegIDs ())
+    {
+      final String sInvalid = _mutate (aRandom, sID, sID.length () - 1);
+      if (!LeitwegID.isLeitwegIDValid (sInvalid))
+        aList.add (sInvalid);
+    }
+    return _toCorpus (aList);
+  }
+
+  /**
+   * @return Valid BICs, using the IBAN country codes, with 8 and 11 characters.
+   */
+  @NonNull
+  public static String [] createValidBICs ()
+  {
+    final Random aRandom = _createRandom ();
+    final ICommonsList <String> aCountries = new CommonsArrayList <> (IBANManager.getAllSupportedCountries ()).getSortedInline (String::compareTo);
+    final ICommonsList <String> aList = new CommonsArrayList <> ();
+    for (int i = 0; i < SIZE; ++i)
+    {
+      String sBIC = _randomString (aRandom, ALPHA, 4) +
+                    aCountries.get (i % aCountries.size ()) +
+                    _randomString (aRandom, ALPHANUM, 2);
+      if ((i % 2) == 0)
+        sBIC += (i % 4) == 0 ? "XXX" : _randomString (aRandom, ALPHANUM, 3);
+      aList.add (sBIC);
+    }
+    return _toCorpus (aList);
+  }
+
+  /**
+   * @return Invalid BICs with a digit in the bank code or an invalid length.
+   */
+  @NonNull
+  public static String [] createInvalidBICs ()
+  {
+    final Random aRandom = _createRandom ();
+    final ICommonsList <String> aList = new CommonsArrayList <> ();
+    for (final String sBIC : createValidBICs ())
+    {
+      if ((aList.size () % 2) == 0)
+        aList.add (sBIC.substring (0, 3) + _randomChar (aRandom, DIGITS) + sBIC.substring (4));
+      else
+        aList.add (sBIC + _randomChar (aRandom, ALPHANUM));
+    }
+    return _toCorpus (aList);
+  }
+
+  /**
+   * @return Valid postal codes based on the format examples of all countries.
+   */
+  @NonNull
+  public static PostalCode [] createValidPostalCodes ()
+  {
+    final PostalCodeManager aMgr = PostalCodeManager.DEFAULT_MGR;
+    final ICommonsList <PostalCode> aList = new CommonsArrayList <> ();
+    for (final Locale aCountry : new CommonsArrayList <> (aMgr.getAllAvailableCountries ()).getSortedInline (Comparator.comparing (Locale::getCountry)))
+    {
+      final ICommonsList <String> aExamples = aMgr.getPostalCodeExamples (aCountry);
+      if (aExamples != null)
+        for (final String sExample : aExamples)
+          if (aMgr.isValidPostalCodeDefaultNo (aCountry, sExample))
+            aList.add (new PostalCode (aCountry, sExample));
+    }
+    return _toPostalCodeCorpus (aList);
+  }
+
+  /**
+   * @return Invalid postal codes by appending a character to valid postal codes.
+   */
+  @NonNull
+  public static PostalCode [] createInvalidPostalCodes ()
+  {
+    final PostalCodeManager aMgr = PostalCodeManager.DEFAULT_MGR;
+    final ICommonsList <PostalCode> aList = new CommonsArrayList <> ();
+    for (final PostalCode aValid : createValidPostalCodes ())
+    {
+      final String sInvalid = aValid.getPostalCode () + "9";
+      if (!aMgr.isValidPostalCodeDefaultYes (aValid.getCountry (), sInvalid))
+        aList.add (new PostalCode (aValid.getCountry (), sInvalid));
+    }
+    return _toPostalCodeCorpus (aList);
+  }
+
+  @NonNull
+  private static PostalCode [] _toPostalCodeCorpus (@NonNull final ICommonsList <PostalCode> aSource)
+  {
+    if (aSource.isEmpty ())
+      throw new IllegalStateException ("Failed to create any corpus entry");
+    final PostalCode [] ret = new PostalCode [SIZE];
+    for (int i = 0; i < SIZE; ++i)
+      ret[i] = aSource.get (i % aSource.size ());
+    return ret;
+  }
+
+  /**
+   * @return Amounts with 2 fraction digits between -1,000,000 and 1,000,000, as they appear on
+   *         invoices.
+   */
+  @NonNull
+  public static BigDecimal [] createAmounts ()
+  {
+    final Random aRandom = _createRandom ();
+    final BigDecimal [] ret = new BigDecimal [SIZE];
+    for (int i = 0; i < SIZE; ++i)
+    {
+      // Mostly small amounts
+      final long nMax = i % 4 == 0 ? 100_000_000L : 100_000L;
+      ret[i] = BigDecimal.valueOf ((long) ((aRandom.nextDouble () * 2 - 1) * nMax), 2);
+    }
+    return ret;
+  }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (C) 2014-2026 Philip Helger (www.helger.com)
+ * philip[at]helger[dot]com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.helger.masterdata.benchmark;
+
+import java.math.BigDecimal;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.helger.masterdata.currency.ECurrency;
+import com.helger.masterdata.currencyvalue.CurrencyValue;
+import com.helger.masterdata.currencyvalue.CurrencyValueAggregator;
+import com.helger.masterdata.currencyvalue.ICurrencyValue;
+
+/**
+ * Benchmark for summing up currency amounts per currency by folding
+ * {@link ICurrencyValue#getAdded(BigDecimal)} and with {@link CurrencyValueAggregator}.
+ *
+ * @author Philip Helger
+ */
+@State (Scope.Benchmark)
+@BenchmarkMode (Mode.AverageTime)
+@OutputTimeUnit (TimeUnit.NANOSECONDS)
+@Warmup (iterations = 3, time = 1)
+@Measurement (iterations = 5, time = 1)
+@Fork (1)
+public class CurrencyAggregationBenchmark
+{
+  private static final ECurrency [] CURRENCIES = { ECurrency.EUR, ECurrency.USD, ECurrency.CHF, ECurrency.JPY };
+
+  private ECurrency [] m_aCurrencies;
+  private BigDecimal [] m_aAmounts;
+
+  @Setup
+  public void setup ()
+  {
+    m_aAmounts = BenchmarkCorpus.createAmounts ();
+    m_aCurrencies = new ECurrency [m_aAmounts.length];
+    for (int i = 0; i < m_aAmounts.length; ++i)
+    {
+      m_aCurrencies[i] = CURRENCIES[i % CURRENCIES.length];
+      // JPY has no fraction digits
+      if (m_aCurrencies[i] == ECurrency.JPY)
+        m_aAmounts[i] = m_aAmounts[i].movePointRight (m_aAmounts[i].scale ());
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation (BenchmarkCorpus.SIZE)
+  public Map <ECurrency, ICurrencyValue> foldGetAdded ()
+  {
+    final Map <ECurrency, ICurrencyValue> ret = new EnumMap <> (ECurrency.class);
+    for (int i = 0; i < m_aAmounts.length; ++i)
+    {
+      final ECurrency eCurrency = m_aCurrencies[i];
+      final ICurrencyValue aOld = ret.get (eCurrency);
+      ret.put (eCurrency,
+               aOld == null ? new CurrencyValue (eCurrency, m_aAmounts[i]) : aOld.getAdded (m_aAmounts[i]));
+    }
+    return ret;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation (BenchmarkCorpus.SIZE)
+  public Map <ECurrency, ICurrencyValue> aggregate ()
+  {
+    return CurrencyValueAggregator.aggregate (m_aCurrencies, m_aAmounts, null);
+  }
+}
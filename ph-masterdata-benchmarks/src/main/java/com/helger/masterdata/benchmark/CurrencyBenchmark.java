@@ -0,0 +1,127 @@
+/*
+ * Copyright (C) 2014-2026 Philip Helger (www.helger.com)
+ * philip[at]helger[dot]com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.helger.masterdata.benchmark;
+
+import java.math.BigDecimal;
+import java.text.DecimalFormat;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.helger.masterdata.currency.CurrencyFormatter;
+import com.helger.masterdata.currency.CurrencyHelper;
+import com.helger.masterdata.currency.CurrencyParser;
+import com.helger.masterdata.currency.ECurrency;
+import com.helger.masterdata.currency.PerCurrencySettings;
+
+/**
+ * Benchmark for formatting and parsing currency amounts with a cloned {@link DecimalFormat} and
+ * with {@link CurrencyFormatter} and {@link CurrencyParser}.
+ *
+ * @author Philip Helger
+ */
+@State (Scope.Benchmark)
+@BenchmarkMode (Mode.AverageTime)
+@OutputTimeUnit (TimeUnit.NANOSECONDS)
+@Warmup (iterations = 3, time = 1)
+@Measurement (iterations = 5, time = 1)
+@Fork (1)
+public class CurrencyBenchmark
+{
+  private BigDecimal [] m_aAmounts;
+  private PerCurrencySettings m_aSettings;
+  private StringBuilder m_aSB;
+  private String [] m_aFormatted;
+
+  @Setup
+  public void setup ()
+  {
+    m_aAmounts = BenchmarkCorpus.createAmounts ();
+    m_aSettings = CurrencyHelper.getSettings (ECurrency.EUR);
+    m_aSB = new StringBuilder ();
+    m_aFormatted = new String [m_aAmounts.length];
+    for (int i = 0; i < m_aAmounts.length; ++i)
+      m_aFormatted[i] = m_aSettings.getCurrencyFormatted (m_aAmounts[i]);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation (BenchmarkCorpus.SIZE)
+  public void decimalFormat (final Blackhole aBH)
+  {
+    for (final BigDecimal aAmount : m_aAmounts)
+      aBH.consume (m_aSettings.getCurrencyFormat ().format (aAmount));
+  }
+
+  @Benchmark
+  @OperationsPerInvocation (BenchmarkCorpus.SIZE)
+  public void getCurrencyFormatted (final Blackhole aBH)
+  {
+    for (final BigDecimal aAmount : m_aAmounts)
+      aBH.consume (m_aSettings.getCurrencyFormatted (aAmount));
+  }
+
+  @Benchmark
+  @OperationsPerInvocation (BenchmarkCorpus.SIZE)
+  public void appendFormatted (final Blackhole aBH)
+  {
+    final CurrencyFormatter aFormatter = m_aSettings.getCurrencyFormatter ();
+    for (final BigDecimal aAmount : m_aAmounts)
+    {
+      m_aSB.setLength (0);
+      aBH.consume (aFormatter.appendFormatted (aAmount, m_aSB).length ());
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation (BenchmarkCorpus.SIZE)
+  public void parseDecimalFormat (final Blackhole aBH)
+  {
+    for (final String sFormatted : m_aFormatted)
+      aBH.consume (CurrencyHelper.parseCurrency (sFormatted,
+                                                 m_aSettings.getCurrencyFormat (),
+                                                 null,
+                                                 m_aSettings.getRoundingMode ()));
+  }
+
+  @Benchmark
+  @OperationsPerInvocation (BenchmarkCorpus.SIZE)
+  public void parseCurrencyFormat (final Blackhole aBH)
+  {
+    for (final String sFormatted : m_aFormatted)
+      aBH.consume (CurrencyHelper.parseCurrencyFormat (ECurrency.EUR, sFormatted, null));
+  }
+
+  @Benchmark
+  @OperationsPerInvocation (BenchmarkCorpus.SIZE)
+  public void parseUnscaled (final Blackhole aBH)
+  {
+    final CurrencyParser aParser = m_aSettings.getCurrencyParser ();
+    for (final String sFormatted : m_aFormatted)
+      aBH.consume (aParser.parseUnscaled (sFormatted, Long.MIN_VALUE, m_aSettings.getRoundingMode ()));
+  }
+}
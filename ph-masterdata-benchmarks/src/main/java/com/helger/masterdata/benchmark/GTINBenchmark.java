@@ -0,0 +1,121 @@
+/*
+ * Copyright (C) 2014-2026 Philip Helger (www.helger.com)
+ * philip[at]helger[dot]com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.helger.masterdata.benchmark;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.helger.masterdata.ean.GTINValidator;
+
+/**
+ * Benchmark for the {@link GTINValidator} methods.
+ *
+ * @author Philip Helger
+ */
+@State (Scope.Benchmark)
+@BenchmarkMode (Mode.AverageTime)
+@OutputTimeUnit (TimeUnit.NANOSECONDS)
+@Warmup (iterations = 3, time = 1)
+@Measurement (iterations = 5, time = 1)
+@Fork (1)
+public class GTINBenchmark
+{
+  /** Either "valid" or "invalid" */
+  @Param ({ "valid", "invalid" })
+  public String corpus;
+
+  private String [] m_aGTIN8s;
+  private String [] m_aGTIN13s;
+  private String [] m_aGTIN14s;
+  private String [] m_aSSCCs;
+  private byte [] m_aGTIN13Buffer;
+  private byte [] m_aSSCCBuffer;
+  private boolean [] m_aResults;
+
+  @Setup
+  public void setup ()
+  {
+    final boolean bValid = "valid".equals (corpus);
+    m_aGTIN8s = bValid ? BenchmarkCorpus.createValidGTINs (8) : BenchmarkCorpus.createInvalidGTINs (8);
+    m_aGTIN13s = bValid ? BenchmarkCorpus.createValidGTINs (13) : BenchmarkCorpus.createInvalidGTINs (13);
+    m_aGTIN14s = bValid ? BenchmarkCorpus.createValidGTINs (14) : BenchmarkCorpus.createInvalidGTINs (14);
+    m_aSSCCs = bValid ? BenchmarkCorpus.createValidGTINs (18) : BenchmarkCorpus.createInvalidGTINs (18);
+    m_aGTIN13Buffer = String.join ("", m_aGTIN13s).getBytes (StandardCharsets.US_ASCII);
+    m_aSSCCBuffer = String.join ("", m_aSSCCs).getBytes (StandardCharsets.US_ASCII);
+    m_aResults = new boolean [BenchmarkCorpus.SIZE];
+  }
+
+  @Benchmark
+  @OperationsPerInvocation (BenchmarkCorpus.SIZE)
+  public void isValidGTIN8 (final Blackhole aBH)
+  {
+    for (final String sGTIN : m_aGTIN8s)
+      aBH.consume (GTINValidator.isValidGTIN8 (sGTIN));
+  }
+
+  @Benchmark
+  @OperationsPerInvocation (BenchmarkCorpus.SIZE)
+  public void isValidGTIN13 (final Blackhole aBH)
+  {
+    for (final String sGTIN : m_aGTIN13s)
+      aBH.consume (GTINValidator.isValidGTIN13 (sGTIN));
+  }
+
+  @Benchmark
+  @OperationsPerInvocation (BenchmarkCorpus.SIZE)
+  public void isValidGTIN14 (final Blackhole aBH)
+  {
+    for (final String sGTIN : m_aGTIN14s)
+      aBH.consume (GTINValidator.isValidGTIN14 (sGTIN));
+  }
+
+  @Benchmark
+  @OperationsPerInvocation (BenchmarkCorpus.SIZE)
+  public void isValidSSCC (final Blackhole aBH)
+  {
+    for (final String sSSCC : m_aSSCCs)
+      aBH.consume (GTINValidator.isValidSSCC (sSSCC));
+  }
+
+  @Benchmark
+  @OperationsPerInvocation (BenchmarkCorpus.SIZE)
+  public int validateGTIN13Batch ()
+  {
+    return GTINValidator.validateGTINs (m_aGTIN13Buffer, 0, GTINValidator.LENGTH_GTIN13, BenchmarkCorpus.SIZE, m_aResults);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation (BenchmarkCorpus.SIZE)
+  public int validateSSCCBatch ()
+  {
+    return GTINValidator.validateGTINs (m_aSSCCBuffer, 0, GTINValidator.LENGTH_SSCC, BenchmarkCorpus.SIZE, m_aResults);
+  }
+}
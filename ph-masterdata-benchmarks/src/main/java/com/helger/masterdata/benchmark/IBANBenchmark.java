@@ -0,0 +1,90 @@
+/*
+ * Copyright (C) 2014-2026 Philip Helger (www.helger.com)
+ * philip[at]helger[dot]com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.helger.masterdata.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.helger.masterdata.swift.IBANManager;
+
+/**
+ * Benchmark for {@link IBANManager#isValidIBAN(String)} and the IBAN formatting.
+ *
+ * @author Philip Helger
+ */
+@State (Scope.Benchmark)
+@BenchmarkMode (Mode.AverageTime)
+@OutputTimeUnit (TimeUnit.NANOSECONDS)
+@Warmup (iterations = 3, time = 1)
+@Measurement (iterations = 5, time = 1)
+@Fork (1)
+public class IBANBenchmark
+{
+  /** Either "valid" or "invalid" */
+  @Param ({ "valid", "invalid" })
+  public String corpus;
+
+  private String [] m_aIBANs;
+
+  @Setup
+  public void setup ()
+  {
+    final boolean bValid = "valid".equals (corpus);
+    m_aIBANs = bValid ? BenchmarkCorpus.createValidIBANs () : BenchmarkCorpus.createInvalidIBANs ();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation (BenchmarkCorpus.SIZE)
+  public void isValidIBAN (final Blackhole aBH)
+  {
+    for (final String sIBAN : m_aIBANs)
+      aBH.consume (IBANManager.isValidIBAN (sIBAN));
+  }
+
+  @Benchmark
+  @OperationsPerInvocation (BenchmarkCorpus.SIZE)
+  public void getFormattedIBAN (final Blackhole aBH)
+  {
+    for (final String sIBAN : m_aIBANs)
+      aBH.consume (IBANManager.getFormattedIBAN (sIBAN));
+  }
+
+  @Benchmark
+  @OperationsPerInvocation (BenchmarkCorpus.SIZE)
+  public void appendFormattedIBAN (final Blackhole aBH)
+  {
+    final StringBuilder aSB = new StringBuilder (64);
+    for (final String sIBAN : m_aIBANs)
+    {
+      aSB.setLength (0);
+      aBH.consume (IBANManager.appendFormattedIBAN (sIBAN, 4, " ", aSB).length ());
+    }
+  }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (C) 2014-2026 Philip Helger (www.helger.com)
+ * philip[at]helger[dot]com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.helger.masterdata.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.helger.masterdata.swift.EIBANElementType;
+import com.helger.masterdata.swift.IBAN;
+import com.helger.masterdata.swift.IBANElementValue;
+import com.helger.masterdata.swift.IBANView;
+
+/**
+ * Benchmark for extracting the bank code and the account number with {@link IBAN} and
+ * {@link IBANView}.
+ *
+ * @author Philip Helger
+ */
+@State (Scope.Benchmark)
+@BenchmarkMode (Mode.AverageTime)
+@OutputTimeUnit (TimeUnit.NANOSECONDS)
+@Warmup (iterations = 3, time = 1)
+@Measurement (iterations = 5, time = 1)
+@Fork (1)
+public class IBANViewBenchmark
+{
+  private String [] m_aIBANs;
+
+  @Setup
+  public void setup ()
+  {
+    m_aIBANs = BenchmarkCorpus.createValidIBANs ();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation (BenchmarkCorpus.SIZE)
+  public void iban (final Blackhole aBH)
+  {
+    for (final String sIBAN : m_aIBANs)
+      for (final IBANElementValue aValue : IBAN.createFromString (sIBAN).getAllValues ())
+      {
+        final EIBANElementType eType = aValue.getElement ().getElementType ();
+        if (eType == EIBANElementType.NATIONAL_BANK_CODE || eType == EIBANElementType.ACCOUNT_NUMBER)
+          aBH.consume (aValue.getValue ());
+      }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation (BenchmarkCorpus.SIZE)
+  public void ibanView (final Blackhole aBH)
+  {
+    for (final String sIBAN : m_aIBANs)
+    {
+      final IBANView aView = IBANView.createFromString (sIBAN);
+      aBH.consume (aView.getElementValue (EIBANElementType.NATIONAL_BANK_CODE));
+      aBH.consume (aView.getElementValue (EIBANElementType.ACCOUNT_NUMBER));
+    }
+  }
+}
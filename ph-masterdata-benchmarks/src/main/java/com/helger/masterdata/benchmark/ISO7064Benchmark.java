@@ -0,0 +1,94 @@
+/*
+ * Copyright (C) 2014-2026 Philip Helger (www.helger.com)
+ * philip[at]helger[dot]com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.helger.masterdata.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.helger.masterdata.iso.ISO7064;
+import com.helger.masterdata.swift.IBANManager;
+
+/**
+ * Benchmark for the checksum algorithms of {@link ISO7064}.
+ *
+ * @author Philip Helger
+ */
+@State (Scope.Benchmark)
+@BenchmarkMode (Mode.AverageTime)
+@OutputTimeUnit (TimeUnit.NANOSECONDS)
+@Warmup (iterations = 3, time = 1)
+@Measurement (iterations = 5, time = 1)
+@Fork (1)
+public class ISO7064Benchmark
+{
+  private String [] m_aIBANs;
+  private String [] m_aDigits;
+
+  @Setup
+  public void setup ()
+  {
+    m_aIBANs = BenchmarkCorpus.createValidIBANs ();
+    for (int i = 0; i < m_aIBANs.length; ++i)
+      m_aIBANs[i] = IBANManager.unifyIBAN (m_aIBANs[i]);
+    m_aDigits = BenchmarkCorpus.createValidGTINs (13);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation (BenchmarkCorpus.SIZE)
+  public void mod97RotatedCopy (final Blackhole aBH)
+  {
+    // The way IBANs were checked before the range based API was available
+    for (final String sIBAN : m_aIBANs)
+      aBH.consume (ISO7064.Mod97.getChecksum (sIBAN.substring (4) + sIBAN.substring (0, 4)));
+  }
+
+  @Benchmark
+  @OperationsPerInvocation (BenchmarkCorpus.SIZE)
+  public void mod97RotatedRange (final Blackhole aBH)
+  {
+    for (final String sIBAN : m_aIBANs)
+      aBH.consume (ISO7064.Mod97.getChecksum (sIBAN, 0, sIBAN.length (), 4));
+  }
+
+  @Benchmark
+  @OperationsPerInvocation (BenchmarkCorpus.SIZE)
+  public void mod11_2 (final Blackhole aBH)
+  {
+    for (final String s : m_aDigits)
+      aBH.consume (ISO7064.Mod11_2.getCheckCharacter (s));
+  }
+
+  @Benchmark
+  @OperationsPerInvocation (BenchmarkCorpus.SIZE)
+  public void mod11_10 (final Blackhole aBH)
+  {
+    for (final String s : m_aDigits)
+      aBH.consume (ISO7064.Mod11_10.getCheckCharacter (s));
+  }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (C) 2014-2026 Philip Helger (www.helger.com)
+ * philip[at]helger[dot]com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.helger.masterdata;
+
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import com.helger.annotation.Nonempty;
+import com.helger.base.id.IHasID;
+import com.helger.base.lang.EnumHelper;
+import com.helger.masterdata.currency.CurrencyHelper;
+import com.helger.masterdata.locale.ContinentHelper;
+import com.helger.masterdata.locale.DeprecatedLocaleHandler;
+import com.helger.masterdata.locale.ISO639_2Handler;
+import com.helger.masterdata.nuts.NutsManager;
+import com.helger.masterdata.postal.PostalCodeManager;
+import com.helger.masterdata.swift.IBANManager;
+import com.helger.masterdata.telephone.DialCodeManager;
+import com.helger.masterdata.vat.VATINStructureManager;
+import com.helger.masterdata.vat.VATManager;
+
+/**
+ * Contains all the registries of this library that are lazily initialized on first access. Used by
+ * {@link MasterDataBootstrap}.
+ *
+ * @author Philip Helger
+ * @since 8.2.1
+ */
+public enum EMasterDataRegistry implements IHasID <String>
+{
+  IBAN ("iban", IBANManager::getAllSupportedCountries),
+  VATIN_STRUCTURE ("vatin-structure", VATINStructureManager::getAllStructures),
+  VAT ("vat", VATManager::getDefaultInstance),
+  POSTAL_CODE ("postal-code", () -> PostalCodeManager.DEFAULT_MGR),
+  NUTS ("nuts", () -> NutsManager.INSTANCE_2021),
+  CURRENCY ("currency", CurrencyHelper::getAllSupportedCurrencies),
+  CONTINENT ("continent", ContinentHelper::getAll),
+  LANGUAGE ("language", ISO639_2Handler::getDefaultInstance),
+  DEPRECATED_LOCALE ("deprecated-locale", DeprecatedLocaleHandler::getDefaultInstance),
+  DIAL_CODE ("dial-code", DialCodeManager::getAllDialCodes);
+
+  /**
+   * Internal interface that accesses the registry so that it gets initialized.
+   */
+  @FunctionalInterface
+  private interface IInitializer
+  {
+    @Nullable
+    Object access ();
+  }
+
+  private final String m_sID;
+  private final IInitializer m_aInitializer;
+
+  EMasterDataRegistry (@NonNull @Nonempty final String sID, @NonNull final IInitializer aInitializer)
+  {
+    m_sID = sID;
+    m_aInitializer = aInitializer;
+  }
+
+  @NonNull
+  @Nonempty
+  public String getID ()
+  {
+    return m_sID;
+  }
+
+  /**
+   * Ensure this registry is initialized. This is a no-op if it was already initialized before.
+   */
+  public void initialize ()
+  {
+    m_aInitializer.access ();
+  }
+
+  @Nullable
+  public static EMasterDataRegistry getFromIDOrNull (@Nullable final String sID)
+  {
+    return EnumHelper.getFromIDOrNull (EMasterDataRegistry.class, sID);
+  }
+}
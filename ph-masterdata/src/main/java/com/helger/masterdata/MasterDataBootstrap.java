@@ -0,0 +1,120 @@
+/*
+ * Copyright (C) 2014-2026 Philip Helger (www.helger.com)
+ * philip[at]helger[dot]com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.helger.masterdata;
+
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.concurrent.Executor;
+
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.helger.annotation.concurrent.Immutable;
+import com.helger.base.enforce.ValueEnforcer;
+
+/**
+ * Eagerly initializes the registries of this library (see {@link EMasterDataRegistry}). By default
+ * all of them are initialized lazily and serially on first access, which causes a noticeable
+ * latency for the first request using them. Call one of the <code>initialize</code> methods from
+ * the startup hook of your application instead.<br>
+ * Each registry is initialized only once per class loader, so calling this method multiple times
+ * is cheap.
+ *
+ * @author Philip Helger
+ * @since 8.2.1
+ */
+@Immutable
+public final class MasterDataBootstrap
+{
+  private static final Logger LOGGER = LoggerFactory.getLogger (MasterDataBootstrap.class);
+
+  private MasterDataBootstrap ()
+  {}
+
+  /**
+   * Initialize all registries.
+   *
+   * @param aExecutor
+   *        The executor to run the initializations on. If it is <code>null</code>, all registries are
+   *        initialized serially on the calling thread.
+   * @return The timing result. Never <code>null</code>.
+   */
+  @NonNull
+  public static MasterDataBootstrapResult initializeAll (@Nullable final Executor aExecutor)
+  {
+    return initialize (aExecutor, EMasterDataRegistry.values ());
+  }
+
+  /**
+   * Initialize the selected registries. A registry that fails to initialize does not prevent the
+   * others from being initialized - the problem is contained in the result instead.
+   *
+   * @param aExecutor
+   *        The executor to run the initializations on, one task per registry. If it is
+   *        <code>null</code>, all registries are initialized serially on the calling thread.
+   * @param aRegistries
+   *        The registries to initialize. May not be <code>null</code>. Duplicates are ignored.
+   * @return The timing result. Never <code>null</code>.
+   */
+  @NonNull
+  public static MasterDataBootstrapResult initialize (@Nullable final Executor aExecutor,
+                                                      @NonNull final EMasterDataRegistry... aRegistries)
+  {
+    ValueEnforcer.notNullNoNullValue (aRegistries, "Registries");
+
+    final EMasterDataRegistry [] aRealRegistries = aRegistries.length == 0 ? aRegistries
+                                                                           : EnumSet.of (aRegistries[0], aRegistries)
+                                                                                    .toArray (new EMasterDataRegistry [0]);
+    final int nCount = aRealRegistries.length;
+    final long [] aNanos = new long [nCount];
+    final Throwable [] aFailures = new Throwable [nCount];
+
+    final long nStart = System.nanoTime ();
+    // One chunk per registry
+    MasterDataHelper.forEachChunk (nCount, 1, aExecutor, (nStartIndex, nEndIndex) -> {
+      for (int i = nStartIndex; i < nEndIndex; ++i)
+      {
+        final long nRegistryStart = System.nanoTime ();
+        try
+        {
+          aRealRegistries[i].initialize ();
+        }
+        catch (final RuntimeException | LinkageError ex)
+        {
+          // LinkageError covers ExceptionInInitializerError and NoClassDefFoundError
+          aFailures[i] = ex;
+        }
+        aNanos[i] = System.nanoTime () - nRegistryStart;
+      }
+    });
+    final Duration aTotalDuration = Duration.ofNanos (System.nanoTime () - nStart);
+
+    final MasterDataBootstrapResult ret = MasterDataBootstrapResult.create (aRealRegistries,
+                                                                            aNanos,
+                                                                            aFailures,
+                                                                            aTotalDuration);
+    if (LOGGER.isDebugEnabled ())
+      ret.getAllDurations ()
+         .forEach ( (k, v) -> LOGGER.debug ("Initialized master data registry '" + k.getID () + "' in " + v.toMillis () + " ms"));
+    ret.getAllFailures ()
+       .forEach ( (k, v) -> LOGGER.error ("Failed to initialize master data registry '" + k.getID () + "'", v));
+    LOGGER.info ("Initialized " + nCount + " master data registries in " + aTotalDuration.toMillis () + " ms");
+    return ret;
+  }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright (C) 2014-2026 Philip Helger (www.helger.com)
+ * philip[at]helger[dot]com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.helger.masterdata;
+
+import java.time.Duration;
+
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import com.helger.annotation.concurrent.Immutable;
+import com.helger.annotation.style.ReturnsMutableCopy;
+import com.helger.base.enforce.ValueEnforcer;
+import com.helger.base.tostring.ToStringGenerator;
+import com.helger.collection.commons.CommonsLinkedHashMap;
+import com.helger.collection.commons.ICommonsOrderedMap;
+
+/**
+ * The result of {@link MasterDataBootstrap}: the time each registry took to initialize and the
+ * problems that occurred.
+ *
+ * @author Philip Helger
+ * @since 8.2.1
+ */
+@Immutable
+public final class MasterDataBootstrapResult
+{
+  private final ICommonsOrderedMap <EMasterDataRegistry, Duration> m_aDurations;
+  private final ICommonsOrderedMap <EMasterDataRegistry, Throwable> m_aFailures;
+  private final Duration m_aTotalDuration;
+
+  MasterDataBootstrapResult (@NonNull final ICommonsOrderedMap <EMasterDataRegistry, Duration> aDurations,
+                             @NonNull final ICommonsOrderedMap <EMasterDataRegistry, Throwable> aFailures,
+                             @NonNull final Duration aTotalDuration)
+  {
+    m_aDurations = aDurations;
+    m_aFailures = aFailures;
+    m_aTotalDuration = aTotalDuration;
+  }
+
+  /**
+   * @return The wall clock time of the whole bootstrap. Never <code>null</code>.
+   */
+  @NonNull
+  public Duration getTotalDuration ()
+  {
+    return m_aTotalDuration;
+  }
+
+  /**
+   * Get the time the passed registry took to initialize.
+   *
+   * @param eRegistry
+   *        The registry to query. May be <code>null</code>.
+   * @return <code>null</code> if the passed registry was not part of the bootstrap.
+   */
+  @Nullable
+  public Duration getDuration (@Nullable final EMasterDataRegistry eRegistry)
+  {
+    return m_aDurations.get (eRegistry);
+  }
+
+  /**
+   * @return All registries that were part of the bootstrap together with their initialization time,
+   *         in the declaration order of {@link EMasterDataRegistry}. Never
+   *         <code>null</code>.
+   */
+  @NonNull
+  @ReturnsMutableCopy
+  public ICommonsOrderedMap <EMasterDataRegistry, Duration> getAllDurations ()
+  {
+    return m_aDurations.getClone ();
+  }
+
+  /**
+   * Get the reason why the passed registry failed to initialize.
+   *
+   * @param eRegistry
+   *        The registry to query. May be <code>null</code>.
+   * @return <code>null</code> if the registry was initialized successfully or was not part of the
+   *         bootstrap.
+   */
+  @Nullable
+  public Throwable getFailure (@Nullable final EMasterDataRegistry eRegistry)
+  {
+    return m_aFailures.get (eRegistry);
+  }
+
+  /**
+   * @return All registries that failed to initialize together with the reason. Never
+   *         <code>null</code> but maybe empty.
+   */
+  @NonNull
+  @ReturnsMutableCopy
+  public ICommonsOrderedMap <EMasterDataRegistry, Throwable> getAllFailures ()
+  {
+    return m_aFailures.getClone ();
+  }
+
+  /**
+   * @return <code>true</code> if all registries were initialized successfully.
+   */
+  public boolean isSuccess ()
+  {
+    return m_aFailures.isEmpty ();
+  }
+
+  @Override
+  public String toString ()
+  {
+    return new ToStringGenerator (this).append ("Durations", m_aDurations)
+                                       .append ("Failures", m_aFailures)
+                                       .append ("TotalDuration", m_aTotalDuration)
+                                       .getToString ();
+  }
+
+  @NonNull
+  static MasterDataBootstrapResult create (@NonNull final EMasterDataRegistry [] aRegistries,
+                                           @NonNull final long [] aNanos,
+                                           @NonNull final Throwable [] aFailures,
+                                           @NonNull final Duration aTotalDuration)
+  {
+    ValueEnforcer.isTrue (aRegistries.length == aNanos.length && aRegistries.length == aFailures.length,
+                          "Array lengths differ");
+
+    final ICommonsOrderedMap <EMasterDataRegistry, Duration> aDurationMap = new CommonsLinkedHashMap <> ();
+    final ICommonsOrderedMap <EMasterDataRegistry, Throwable> aFailureMap = new CommonsLinkedHashMap <> ();
+    for (int i = 0; i < aRegistries.length; ++i)
+    {
+      aDurationMap.put (aRegistries[i], Duration.ofNanos (aNanos[i]));
+      if (aFailures[i] != null)
+        aFailureMap.put (aRegistries[i], aFailures[i]);
+    }
+    return new MasterDataBootstrapResult (aDurationMap, aFailureMap, aTotalDuration);
+  }
+}
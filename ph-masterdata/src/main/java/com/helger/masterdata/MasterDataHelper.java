@@ -16,10 +16,15 @@
  */
 package com.helger.masterdata;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.Nullable;
 
 import com.helger.annotation.Nonnegative;
 import com.helger.annotation.concurrent.Immutable;
+import com.helger.base.enforce.ValueEnforcer;
 import com.helger.base.string.StringHelper;
 
 /**
@@ -30,6 +35,39 @@ import com.helger.base.string.StringHelper;
 @Immutable
 public final class MasterDataHelper
 {
+  /**
+   * The default number of elements processed as one unit in bulk operations.
+   *
+   * @since 8.2.1
+   */
+  public static final int DEFAULT_BULK_CHUNK_SIZE = 4096;
+
+  /**
+   * The number of different values returned by {@link #getCountryCodeIndex(char, char)}.
+   *
+   * @since 8.2.1
+   */
+  public static final int COUNTRY_CODE_INDEX_SIZE = 26 * 26;
+
+  /**
+   * Callback interface for processing a range of indices.
+   *
+   * @since 8.2.1
+   */
+  @FunctionalInterface
+  public interface IIndexRangeConsumer
+  {
+    /**
+     * Process all indices in the provided range.
+     *
+     * @param nStartIndex
+     *        The first index to process (inclusive).
+     * @param nEndIndex
+     *        The last index to process (exclusive).
+     */
+    void accept (@Nonnegative int nStartIndex, @Nonnegative int nEndIndex);
+  }
+
   private MasterDataHelper ()
   {}
 
@@ -43,4 +81,96 @@ public final class MasterDataHelper
       MasterDataLogger.getInstance ().warn ("String value '" + s + "' was cut to length " + nMaxLen);
     return ret;
   }
+
+  /**
+   * Case insensitive folding of a single character to an upper case ASCII letter, independent of
+   * the default locale and compatible with {@link String#equalsIgnoreCase(String)}. ASCII
+   * characters are handled without any table lookup.
+   *
+   * @param c
+   *        The character to fold.
+   * @return The upper case ASCII letter if the character is a letter that is case insensitively
+   *         equal to one, the unmodified character otherwise.
+   * @since 8.2.1
+   */
+  public static char getCaseFolded (final char c)
+  {
+    if (c >= 'a' && c <= 'z')
+      return (char) (c - 'a' + 'A');
+    if (c < 0x80)
+      return c;
+    // Some non-ASCII characters like the dotless i or the Kelvin sign are equal to ASCII letters
+    final char cUpper = Character.toUpperCase (c);
+    if (cUpper >= 'A' && cUpper <= 'Z')
+      return cUpper;
+    final char cLower = Character.toLowerCase (cUpper);
+    if (cLower >= 'a' && cLower <= 'z')
+      return (char) (cLower - 'a' + 'A');
+    return c;
+  }
+
+  /**
+   * Get the dense index of a two letter country code, suitable for array based lookup tables of
+   * size {@link #COUNTRY_CODE_INDEX_SIZE}.
+   *
+   * @param c0
+   *        The first letter. Only upper case ASCII letters are supported.
+   * @param c1
+   *        The second letter. Only upper case ASCII letters are supported.
+   * @return A value &ge; 0 and &lt; {@link #COUNTRY_CODE_INDEX_SIZE} or -1 if at least one of the
+   *         characters is not an upper case ASCII letter.
+   * @since 8.2.1
+   */
+  public static int getCountryCodeIndex (final char c0, final char c1)
+  {
+    if (c0 < 'A' || c0 > 'Z' || c1 < 'A' || c1 > 'Z')
+      return -1;
+    return (c0 - 'A') * 26 + (c1 - 'A');
+  }
+
+  /**
+   * Split the index range from 0 to <code>nCount</code> into chunks and process them. If no executor
+   * is provided or if all indices fit into a single chunk, everything is processed on the calling
+   * thread. Otherwise each chunk is submitted to the executor and this method blocks until all
+   * chunks are processed.
+   *
+   * @param nCount
+   *        The total number of elements. Must be &ge; 0.
+   * @param nChunkSize
+   *        The maximum number of elements per chunk. Must be &gt; 0.
+   * @param aExecutor
+   *        The executor to use. May be <code>null</code>.
+   * @param aConsumer
+   *        The consumer to be invoked for each chunk. Must be able to handle concurrent invocations
+   *        for disjoint ranges. May not be <code>null</code>.
+   * @since 8.2.1
+   */
+  public static void forEachChunk (@Nonnegative final int nCount,
+                                   @Nonnegative final int nChunkSize,
+                                   @Nullable final Executor aExecutor,
+                                   @NonNull final IIndexRangeConsumer aConsumer)
+  {
+    ValueEnforcer.isGE0 (nCount, "Count");
+    ValueEnforcer.isGT0 (nChunkSize, "ChunkSize");
+    ValueEnforcer.notNull (aConsumer, "Consumer");
+
+    if (aExecutor == null || nCount <= nChunkSize)
+    {
+      // Small batch - stay on the calling thread
+      if (nCount > 0)
+        aConsumer.accept (0, nCount);
+      return;
+    }
+
+    final int nChunks = (nCount + nChunkSize - 1) / nChunkSize;
+    final CompletableFuture <?> [] aFutures = new CompletableFuture <?> [nChunks];
+    for (int i = 0; i < nChunks; ++i)
+    {
+      final int nStart = i * nChunkSize;
+      final int nEnd = Math.min (nStart + nChunkSize, nCount);
+      aFutures[i] = CompletableFuture.runAsync ( () -> aConsumer.accept (nStart, nEnd), aExecutor);
+    }
+    // Wait for all chunks
+    CompletableFuture.allOf (aFutures).join ();
+  }
 }
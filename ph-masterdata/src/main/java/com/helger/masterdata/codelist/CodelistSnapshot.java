@@ -0,0 +1,286 @@
+/*
+ * Copyright (C) 2014-2026 Philip Helger (www.helger.com)
+ * philip[at]helger[dot]com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.helger.masterdata.codelist;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.CRC32;
+
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.helger.annotation.Nonempty;
+import com.helger.annotation.concurrent.ThreadSafe;
+import com.helger.base.enforce.ValueEnforcer;
+import com.helger.base.io.stream.StreamHelper;
+import com.helger.io.resource.IReadableResource;
+import com.helger.xml.microdom.IMicroDocument;
+import com.helger.xml.microdom.IMicroElement;
+import com.helger.xml.microdom.IMicroNode;
+import com.helger.xml.microdom.MicroDocument;
+import com.helger.xml.microdom.serialize.MicroReader;
+
+/**
+ * Reader for the binary codelist snapshots created at build time by the
+ * <code>CodelistSnapshotWriter</code> of the test sources. A snapshot contains
+ * the element tree of a codelist XML file (elements, attributes and all text -
+ * no comments and no processing instructions) in a compact form with a shared
+ * string table, so that reading it requires neither an XML parser nor the
+ * creation of duplicate strings. Snapshots exist only for the codelists read
+ * by this library.<br>
+ * Each snapshot is stored next to its XML source with the additional extension
+ * {@link #SNAPSHOT_FILE_EXTENSION} and contains the length and the CRC32 of the
+ * XML source it was created from. If the snapshot is missing, corrupt or does
+ * not match the XML source anymore, the XML source is read instead.
+ *
+ * @author Philip Helger
+ * @since 8.2.1
+ */
+@ThreadSafe
+public final class CodelistSnapshot
+{
+  /** The extension appended to the XML resource path */
+  public static final String SNAPSHOT_FILE_EXTENSION = ".bin";
+
+  /** The magic bytes "PHMD" at the beginning of each snapshot */
+  static final int MAGIC = 0x50484d44;
+  /** The current version of the snapshot format */
+  static final byte VERSION = 1;
+
+  static final byte NODE_ELEMENT = 1;
+  static final byte NODE_TEXT = 2;
+
+  private static final Logger LOGGER = LoggerFactory.getLogger (CodelistSnapshot.class);
+
+  private static final AtomicBoolean ENABLED = new AtomicBoolean (true);
+
+  private CodelistSnapshot ()
+  {}
+
+  /**
+   * @return <code>true</code> if snapshots are used when available,
+   *         <code>false</code> if the XML sources are always read. Enabled by
+   *         default.
+   */
+  public static boolean isEnabled ()
+  {
+    return ENABLED.get ();
+  }
+
+  /**
+   * Enable or disable the usage of snapshots. This only affects codelists that
+   * are read afterwards.
+   *
+   * @param bEnabled
+   *        <code>true</code> to enable, <code>false</code> to disable.
+   */
+  public static void setEnabled (final boolean bEnabled)
+  {
+    ENABLED.set (bEnabled);
+  }
+
+  /**
+   * Get the path of the snapshot for the passed XML path.
+   *
+   * @param sXMLPath
+   *        The path of the XML source. May not be <code>null</code>.
+   * @return The path of the snapshot. Never <code>null</code>.
+   */
+  @NonNull
+  @Nonempty
+  public static String getSnapshotPath (@NonNull final String sXMLPath)
+  {
+    ValueEnforcer.notNull (sXMLPath, "XMLPath");
+    return sXMLPath + SNAPSHOT_FILE_EXTENSION;
+  }
+
+  static int getChecksum (@NonNull final byte [] aBytes)
+  {
+    final CRC32 aCRC = new CRC32 ();
+    aCRC.update (aBytes, 0, aBytes.length);
+    return (int) aCRC.getValue ();
+  }
+
+  /**
+   * Read the passed codelist. If a matching snapshot is present, it is used,
+   * otherwise the XML is parsed.
+   *
+   * @param aXMLRes
+   *        The XML resource to read. May not be <code>null</code>.
+   * @return <code>null</code> if the resource does not exist or is not valid
+   *         XML.
+   */
+  @Nullable
+  public static IMicroDocument readMicroXML (@NonNull final IReadableResource aXMLRes)
+  {
+    ValueEnforcer.notNull (aXMLRes, "XMLRes");
+
+    final byte [] aXMLBytes = StreamHelper.getAllBytes (aXMLRes);
+    if (aXMLBytes == null)
+      return null;
+
+    if (isEnabled ())
+    {
+      final byte [] aSnapshot = StreamHelper.getAllBytes (aXMLRes.getReadableCloneForPath (getSnapshotPath (aXMLRes.getPath ())));
+      if (aSnapshot != null)
+      {
+        final IMicroDocument aDoc = readSnapshot (aSnapshot, aXMLBytes);
+        if (aDoc != null)
+          return aDoc;
+        LOGGER.warn ("The codelist snapshot of '" + aXMLRes.getPath () + "' is outdated or corrupt - reading XML instead");
+      }
+    }
+
+    return MicroReader.readMicroXML (new ByteArrayInputStream (aXMLBytes));
+  }
+
+  /**
+   * Read a snapshot that was created with
+   * <code>CodelistSnapshotWriter.createSnapshot(byte[])</code>.
+   *
+   * @param aSnapshot
+   *        The snapshot bytes. May not be <code>null</code>.
+   * @param aXMLBytes
+   *        The bytes of the XML source the snapshot must have been created
+   *        from. May not be <code>null</code>.
+   * @return <code>null</code> if the snapshot is corrupt, has an unsupported
+   *         version or was created from a different XML source.
+   */
+  @Nullable
+  public static IMicroDocument readSnapshot (@NonNull final byte [] aSnapshot, @NonNull final byte [] aXMLBytes)
+  {
+    ValueEnforcer.notNull (aSnapshot, "Snapshot");
+    ValueEnforcer.notNull (aXMLBytes, "XMLBytes");
+
+    try
+    {
+      final SnapshotInput aInput = new SnapshotInput (aSnapshot);
+      if (aInput.readInt () != MAGIC || aInput.readByte () != VERSION)
+        return null;
+      if (aInput.readInt () != aXMLBytes.length || aInput.readInt () != getChecksum (aXMLBytes))
+        return null;
+
+      // String table
+      final String [] aStrings = new String [aInput.readVarInt ()];
+      for (int i = 0; i < aStrings.length; ++i)
+        aStrings[i] = aInput.readString ();
+
+      final IMicroDocument aDoc = new MicroDocument ();
+      _readChildren (aInput, aStrings, aDoc);
+      if (aInput.hasMore () || aDoc.getDocumentElement () == null)
+        return null;
+      return aDoc;
+    }
+    catch (final IndexOutOfBoundsException | IllegalArgumentException ex)
+    {
+      LOGGER.warn ("Failed to read codelist snapshot", ex);
+      return null;
+    }
+  }
+
+  private static void _readChildren (@NonNull final SnapshotInput aInput,
+                                     @NonNull final String [] aStrings,
+                                     @NonNull final IMicroNode aParent)
+  {
+    final int nChildCount = aInput.readVarInt ();
+    for (int i = 0; i < nChildCount; ++i)
+    {
+      final byte nType = aInput.readByte ();
+      switch (nType)
+      {
+        case NODE_ELEMENT:
+        {
+          final IMicroElement eElement = aParent.addElement (aStrings[aInput.readVarInt ()]);
+          final int nAttrCount = aInput.readVarInt ();
+          for (int j = 0; j < nAttrCount; ++j)
+            eElement.setAttribute (aStrings[aInput.readVarInt ()], aStrings[aInput.readVarInt ()]);
+          _readChildren (aInput, aStrings, eElement);
+          break;
+        }
+        case NODE_TEXT:
+          aParent.addText (aStrings[aInput.readVarInt ()]);
+          break;
+        default:
+          throw new IllegalArgumentException ("Unsupported node type " + nType);
+      }
+    }
+  }
+
+  /**
+   * Minimal reader on a byte array.
+   */
+  private static final class SnapshotInput
+  {
+    private final byte [] m_aBytes;
+    private int m_nPos = 0;
+
+    SnapshotInput (@NonNull final byte [] aBytes)
+    {
+      m_aBytes = aBytes;
+    }
+
+    boolean hasMore ()
+    {
+      return m_nPos < m_aBytes.length;
+    }
+
+    byte readByte ()
+    {
+      return m_aBytes[m_nPos++];
+    }
+
+    int readInt ()
+    {
+      return ((readByte () & 0xff) << 24) |
+             ((readByte () & 0xff) << 16) |
+             ((readByte () & 0xff) << 8) |
+             (readByte () & 0xff);
+    }
+
+    int readVarInt ()
+    {
+      int ret = 0;
+      int nShift = 0;
+      byte b;
+      do
+      {
+        if (nShift > 28)
+          throw new IllegalArgumentException ("Malformed variable length int");
+        b = readByte ();
+        ret |= (b & 0x7f) << nShift;
+        nShift += 7;
+      } while ((b & 0x80) != 0);
+      if (ret < 0)
+        throw new IllegalArgumentException ("Negative variable length int");
+      return ret;
+    }
+
+    @NonNull
+    String readString ()
+    {
+      final int nLen = readVarInt ();
+      if (nLen > m_aBytes.length - m_nPos)
+        throw new IllegalArgumentException ("String length exceeds snapshot");
+      final String ret = new String (m_aBytes, m_nPos, nLen, StandardCharsets.UTF_8);
+      m_nPos += nLen;
+      return ret;
+    }
+  }
+}
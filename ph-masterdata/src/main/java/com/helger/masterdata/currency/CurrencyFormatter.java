@@ -0,0 +1,473 @@
+/*
+ * Copyright (C) 2014-2026 Philip Helger (www.helger.com)
+ * philip[at]helger[dot]com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.helger.masterdata.currency;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.text.DecimalFormat;
+
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import com.helger.annotation.Nonnegative;
+import com.helger.annotation.concurrent.Immutable;
+import com.helger.base.enforce.ValueEnforcer;
+import com.helger.base.tostring.ToStringGenerator;
+
+/**
+ * A thread-safe formatter for currency values that creates the same output as a provided
+ * {@link DecimalFormat}. All relevant settings (prefixes and suffixes, separators, grouping,
+ * minimum and maximum digits and the rounding mode) are taken once from the {@link DecimalFormat},
+ * so formatting does neither require cloning nor synchronization. Changes to the
+ * {@link DecimalFormat} after construction are not reflected.<br>
+ * Exponential notation and multipliers are not supported.
+ *
+ * @author Philip Helger
+ * @since 8.2.1
+ * @see PerCurrencySettings#getCurrencyFormatter()
+ * @see PerCurrencySettings#getValueFormatter()
+ */
+@Immutable
+public final class CurrencyFormatter implements Serializable
+{
+  /** Powers of 10 that fit into a long */
+  private static final long [] POW10 = new long [19];
+
+  static
+  {
+    POW10[0] = 1;
+    for (int i = 1; i < POW10.length; ++i)
+      POW10[i] = POW10[i - 1] * 10;
+  }
+
+  private final String m_sPositivePrefix;
+  private final String m_sPositiveSuffix;
+  private final String m_sNegativePrefix;
+  private final String m_sNegativeSuffix;
+  private final char m_cZeroDigit;
+  private final char m_cDecimalSep;
+  private final char m_cGroupingSep;
+  /** 0 if no grouping is used */
+  private final int m_nGroupingSize;
+  private final int m_nMinIntegerDigits;
+  private final int m_nMinFractionDigits;
+  private final int m_nMaxFractionDigits;
+  private final boolean m_bDecimalSeparatorAlwaysShown;
+  private final RoundingMode m_eRoundingMode;
+
+  /**
+   * Constructor
+   *
+   * @param aFormat
+   *        The {@link DecimalFormat} to take the settings from. It is not modified. May not be
+   *        <code>null</code>.
+   */
+  public CurrencyFormatter (@NonNull final DecimalFormat aFormat)
+  {
+    ValueEnforcer.notNull (aFormat, "Format");
+    ValueEnforcer.isTrue (aFormat.getMultiplier () == 1, "Multipliers are not supported");
+
+    m_sPositivePrefix = aFormat.getPositivePrefix ();
+    m_sPositiveSuffix = aFormat.getPositiveSuffix ();
+    m_sNegativePrefix = aFormat.getNegativePrefix ();
+    m_sNegativeSuffix = aFormat.getNegativeSuffix ();
+    m_cZeroDigit = aFormat.getDecimalFormatSymbols ().getZeroDigit ();
+    m_nGroupingSize = aFormat.isGroupingUsed () ? aFormat.getGroupingSize () : 0;
+    m_nMinIntegerDigits = aFormat.getMinimumIntegerDigits ();
+    m_nMinFractionDigits = aFormat.getMinimumFractionDigits ();
+    m_nMaxFractionDigits = aFormat.getMaximumFractionDigits ();
+    m_bDecimalSeparatorAlwaysShown = aFormat.isDecimalSeparatorAlwaysShown ();
+    m_eRoundingMode = aFormat.getRoundingMode ();
+
+    // Currency formats use the monetary separators - so format "10.0" with all digits grouped to
+    // get the really used separators
+    final DecimalFormat aProbe = (DecimalFormat) aFormat.clone ();
+    aProbe.setGroupingUsed (true);
+    aProbe.setGroupingSize (1);
+    aProbe.setMinimumIntegerDigits (1);
+    aProbe.setMinimumFractionDigits (1);
+    aProbe.setMaximumFractionDigits (1);
+    final String sProbe = aProbe.format (BigDecimal.TEN);
+    m_cGroupingSep = sProbe.charAt (m_sPositivePrefix.length () + 1);
+    m_cDecimalSep = sProbe.charAt (m_sPositivePrefix.length () + 3);
+  }
+
+  /**
+   * @return The minimum number of fraction digits. Always &ge; 0.
+   */
+  @Nonnegative
+  public int getMinimumFractionDigits ()
+  {
+    return m_nMinFractionDigits;
+  }
+
+  /**
+   * @return The maximum number of fraction digits. Always &ge; 0.
+   */
+  @Nonnegative
+  public int getMaximumFractionDigits ()
+  {
+    return m_nMaxFractionDigits;
+  }
+
+  /**
+   * @return The decimal separator that is really used. For currency formats this is the monetary
+   *         decimal separator.
+   */
+  char getUsedDecimalSeparator ()
+  {
+    return m_cDecimalSep;
+  }
+
+  /**
+   * @return The grouping separator that is really used. For currency formats this is the monetary
+   *         grouping separator.
+   */
+  char getUsedGroupingSeparator ()
+  {
+    return m_cGroupingSep;
+  }
+
+  private static int _getDigitCount (final long nValue)
+  {
+    int ret = 1;
+    while (ret < POW10.length && nValue >= POW10[ret])
+      ret++;
+    return ret;
+  }
+
+  /**
+   * Get a single digit of the unscaled value.
+   *
+   * @param nUnscaled
+   *        The unscaled value, if no digit string is present.
+   * @param sUnscaled
+   *        The digits of the unscaled value. May be <code>null</code>.
+   * @param nDigits
+   *        The number of digits of the unscaled value.
+   * @param nIndex
+   *        The 0-based index of the digit from the left. Negative values denote leading zeros.
+   * @return The digit value
+   */
+  private static int _getDigit (final long nUnscaled,
+                                @Nullable final String sUnscaled,
+                                final int nDigits,
+                                final int nIndex)
+  {
+    if (nIndex < 0)
+      return 0;
+    if (sUnscaled != null)
+      return sUnscaled.charAt (nIndex) - '0';
+    return (int) ((nUnscaled / POW10[nDigits - 1 - nIndex]) % 10);
+  }
+
+  /**
+   * The main formatting routine.
+   *
+   * @param bNegative
+   *        <code>true</code> to use the negative prefix and suffix
+   * @param nUnscaled
+   *        The unscaled absolute value if no digit string is present. Must be &ge; 0.
+   * @param sUnscaled
+   *        The digits of the unscaled absolute value, if it does not fit into a long. May be
+   *        <code>null</code>.
+   * @param nScale
+   *        The scale of the value. Must be &ge; 0 and &le; the maximum fraction digits.
+   * @param nMinFractionDigits
+   *        The minimum fraction digits to use.
+   * @param aTarget
+   *        The target to append to.
+   * @throws IOException
+   *         in case appending fails
+   */
+  private void _append (final boolean bNegative,
+                        final long nUnscaled,
+                        @Nullable final String sUnscaled,
+                        final int nScale,
+                        final int nMinFractionDigits,
+                        @NonNull final Appendable aTarget) throws IOException
+  {
+    final int nDigits = sUnscaled != null ? sUnscaled.length () : _getDigitCount (nUnscaled);
+
+    // Skip trailing zeros that are not required
+    int nFractionDigits = nScale;
+    while (nFractionDigits > nMinFractionDigits &&
+           _getDigit (nUnscaled, sUnscaled, nDigits, nDigits - 1 - nScale + nFractionDigits) == 0)
+      nFractionDigits--;
+
+    final boolean bIsZero = sUnscaled == null && nUnscaled == 0;
+    final int nIntegerDigits = bIsZero ? 0 : Math.max (nDigits - nScale, 0);
+    final int nPrintedIntegerDigits = Math.max (nIntegerDigits, m_nMinIntegerDigits);
+    final int nPrintedFractionDigits = Math.max (nFractionDigits, nMinFractionDigits);
+
+    aTarget.append (bNegative ? m_sNegativePrefix : m_sPositivePrefix);
+
+    // i is the position from the right
+    for (int i = nPrintedIntegerDigits - 1; i >= 0; --i)
+    {
+      final int nDigit = i < nIntegerDigits ? _getDigit (nUnscaled, sUnscaled, nDigits, nDigits - nScale - 1 - i) : 0;
+      aTarget.append ((char) (m_cZeroDigit + nDigit));
+      if (m_nGroupingSize > 0 && i > 0 && i % m_nGroupingSize == 0)
+        aTarget.append (m_cGroupingSep);
+    }
+    // Same as DecimalFormat: print at least one digit
+    if (nPrintedIntegerDigits == 0 && nPrintedFractionDigits == 0)
+      aTarget.append (m_cZeroDigit);
+
+    if (nPrintedFractionDigits > 0 || m_bDecimalSeparatorAlwaysShown)
+      aTarget.append (m_cDecimalSep);
+    for (int i = 0; i < nPrintedFractionDigits; ++i)
+    {
+      final int nDigit = i < nFractionDigits ? _getDigit (nUnscaled, sUnscaled, nDigits, nDigits - nScale + i) : 0;
+      aTarget.append ((char) (m_cZeroDigit + nDigit));
+    }
+
+    aTarget.append (bNegative ? m_sNegativeSuffix : m_sPositiveSuffix);
+  }
+
+  private void _append (@NonNull final BigDecimal aValue,
+                        final int nMaxFractionDigits,
+                        @NonNull final Appendable aTarget) throws IOException
+  {
+    // Like in DecimalFormat the sign is determined before rounding, so e.g. "-0.001" results in
+    // "-0.00"
+    final boolean bNegative = aValue.signum () < 0;
+    final int nMinFractionDigits = Math.min (m_nMinFractionDigits, nMaxFractionDigits);
+    if (aValue.scale () - aValue.precision () > nMaxFractionDigits)
+    {
+      // Same as DecimalFormat: if the first significant digit is more than one position behind
+      // the last fraction digit, the result is zero independent of the rounding mode
+      _append (bNegative, 0, null, nMaxFractionDigits, nMinFractionDigits, aTarget);
+      return;
+    }
+
+    final BigDecimal aRounded = aValue.setScale (nMaxFractionDigits, m_eRoundingMode).abs ();
+    final BigInteger aUnscaled = aRounded.unscaledValue ();
+    if (aUnscaled.bitLength () < 64)
+      _append (bNegative, aUnscaled.longValue (), null, nMaxFractionDigits, nMinFractionDigits, aTarget);
+    else
+      _append (bNegative, 0, aUnscaled.toString (), nMaxFractionDigits, nMinFractionDigits, aTarget);
+  }
+
+  /**
+   * Format the passed value into the passed target.
+   *
+   * @param aValue
+   *        The value to format. May not be <code>null</code>.
+   * @param aTarget
+   *        The target to write to. May not be <code>null</code>.
+   * @return The passed target. Never <code>null</code>.
+   * @throws IOException
+   *         If writing to the target fails
+   */
+  @NonNull
+  public <T extends Appendable> T appendFormatted (@NonNull final BigDecimal aValue,
+                                                   @NonNull final T aTarget) throws IOException
+  {
+    return appendFormatted (aValue, m_nMaxFractionDigits, aTarget);
+  }
+
+  /**
+   * Format the passed value with a custom number of maximum fraction digits into the passed
+   * target. This is the same as calling {@link DecimalFormat#setMaximumFractionDigits(int)} before
+   * formatting.
+   *
+   * @param aValue
+   *        The value to format. May not be <code>null</code>.
+   * @param nMaxFractionDigits
+   *        The maximum number of fraction digits. Must be &ge; 0.
+   * @param aTarget
+   *        The target to write to. May not be <code>null</code>.
+   * @return The passed target. Never <code>null</code>.
+   * @throws IOException
+   *         If writing to the target fails
+   */
+  @NonNull
+  public <T extends Appendable> T appendFormatted (@NonNull final BigDecimal aValue,
+                                                   @Nonnegative final int nMaxFractionDigits,
+                                                   @NonNull final T aTarget) throws IOException
+  {
+    ValueEnforcer.notNull (aValue, "Value");
+    ValueEnforcer.isGE0 (nMaxFractionDigits, "MaxFractionDigits");
+    ValueEnforcer.notNull (aTarget, "Target");
+
+    _append (aValue, nMaxFractionDigits, aTarget);
+    return aTarget;
+  }
+
+  /**
+   * Format the passed scaled value into the passed target. If the scale is not larger than the
+   * maximum fraction digits, no objects are created.
+   *
+   * @param nUnscaledValue
+   *        The unscaled value, e.g. 1234 for 12.34 with a scale of 2.
+   * @param nScale
+   *        The number of fraction digits contained in the unscaled value. Must be &ge; 0.
+   * @param aTarget
+   *        The target to write to. May not be <code>null</code>.
+   * @return The passed target. Never <code>null</code>.
+   * @throws IOException
+   *         If writing to the target fails
+   */
+  @NonNull
+  public <T extends Appendable> T appendFormattedScaled (final long nUnscaledValue,
+                                                         @Nonnegative final int nScale,
+                                                         @NonNull final T aTarget) throws IOException
+  {
+    ValueEnforcer.isGE0 (nScale, "Scale");
+    ValueEnforcer.notNull (aTarget, "Target");
+
+    if (nScale > m_nMaxFractionDigits || nUnscaledValue == Long.MIN_VALUE)
+    {
+      // Rounding is needed or the absolute value does not fit into a long
+      _append (BigDecimal.valueOf (nUnscaledValue, nScale), m_nMaxFractionDigits, aTarget);
+    }
+    else
+      _append (nUnscaledValue < 0, Math.abs (nUnscaledValue), null, nScale, m_nMinFractionDigits, aTarget);
+    return aTarget;
+  }
+
+  /**
+   * Format the passed value into the passed {@link StringBuilder}.
+   *
+   * @param aValue
+   *        The value to format. May not be <code>null</code>.
+   * @param aTarget
+   *        The target to write to. May not be <code>null</code>.
+   * @return The passed target. Never <code>null</code>.
+   */
+  @NonNull
+  public StringBuilder appendFormatted (@NonNull final BigDecimal aValue, @NonNull final StringBuilder aTarget)
+  {
+    return appendFormatted (aValue, m_nMaxFractionDigits, aTarget);
+  }
+
+  /**
+   * Format the passed value with a custom number of maximum fraction digits into the passed
+   * {@link StringBuilder}.
+   *
+   * @param aValue
+   *        The value to format. May not be <code>null</code>.
+   * @param nMaxFractionDigits
+   *        The maximum number of fraction digits. Must be &ge; 0.
+   * @param aTarget
+   *        The target to write to. May not be <code>null</code>.
+   * @return The passed target. Never <code>null</code>.
+   */
+  @NonNull
+  public StringBuilder appendFormatted (@NonNull final BigDecimal aValue,
+                                        @Nonnegative final int nMaxFractionDigits,
+                                        @NonNull final StringBuilder aTarget)
+  {
+    try
+    {
+      appendFormatted (aValue, nMaxFractionDigits, (Appendable) aTarget);
+      return aTarget;
+    }
+    catch (final IOException ex)
+    {
+      // Cannot happen with a StringBuilder
+      throw new UncheckedIOException (ex);
+    }
+  }
+
+  /**
+   * Format the passed scaled value into the passed {@link StringBuilder}.
+   *
+   * @param nUnscaledValue
+   *        The unscaled value, e.g. 1234 for 12.34 with a scale of 2.
+   * @param nScale
+   *        The number of fraction digits contained in the unscaled value. Must be &ge; 0.
+   * @param aTarget
+   *        The target to write to. May not be <code>null</code>.
+   * @return The passed target. Never <code>null</code>.
+   */
+  @NonNull
+  public StringBuilder appendFormattedScaled (final long nUnscaledValue,
+                                              @Nonnegative final int nScale,
+                                              @NonNull final StringBuilder aTarget)
+  {
+    try
+    {
+      appendFormattedScaled (nUnscaledValue, nScale, (Appendable) aTarget);
+      return aTarget;
+    }
+    catch (final IOException ex)
+    {
+      // Cannot happen with a StringBuilder
+      throw new UncheckedIOException (ex);
+    }
+  }
+
+  /**
+   * @param aValue
+   *        The value to format. May not be <code>null</code>.
+   * @return The formatted value. Never <code>null</code>.
+   */
+  @NonNull
+  public String getFormatted (@NonNull final BigDecimal aValue)
+  {
+    return appendFormatted (aValue, new StringBuilder (24)).toString ();
+  }
+
+  /**
+   * @param aValue
+   *        The value to format. May not be <code>null</code>.
+   * @param nMaxFractionDigits
+   *        The maximum number of fraction digits. Must be &ge; 0.
+   * @return The formatted value. Never <code>null</code>.
+   */
+  @NonNull
+  public String getFormatted (@NonNull final BigDecimal aValue, @Nonnegative final int nMaxFractionDigits)
+  {
+    return appendFormatted (aValue, nMaxFractionDigits, new StringBuilder (24)).toString ();
+  }
+
+  /**
+   * @param nUnscaledValue
+   *        The unscaled value, e.g. 1234 for 12.34 with a scale of 2.
+   * @param nScale
+   *        The number of fraction digits contained in the unscaled value. Must be &ge; 0.
+   * @return The formatted value. Never <code>null</code>.
+   */
+  @NonNull
+  public String getFormattedScaled (final long nUnscaledValue, @Nonnegative final int nScale)
+  {
+    return appendFormattedScaled (nUnscaledValue, nScale, new StringBuilder (24)).toString ();
+  }
+
+  @Override
+  public String toString ()
+  {
+    return new ToStringGenerator (this).append ("PositivePrefix", m_sPositivePrefix)
+                                       .append ("PositiveSuffix", m_sPositiveSuffix)
+                                       .append ("NegativePrefix", m_sNegativePrefix)
+                                       .append ("NegativeSuffix", m_sNegativeSuffix)
+                                       .append ("DecimalSep", m_cDecimalSep)
+                                       .append ("GroupingSep", m_cGroupingSep)
+                                       .append ("GroupingSize", m_nGroupingSize)
+                                       .append ("MinIntegerDigits", m_nMinIntegerDigits)
+                                       .append ("MinFractionDigits", m_nMinFractionDigits)
+                                       .append ("MaxFractionDigits", m_nMaxFractionDigits)
+                                       .append ("RoundingMode", m_eRoundingMode)
+                                       .getToString ();
+  }
+}
@@ -23,6 +23,7 @@ import java.text.NumberFormat;
 import java.util.Comparator;
 import java.util.Currency;
 import java.util.Locale;
+import java.util.function.UnaryOperator;
 
 import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.Nullable;
@@ -30,14 +31,11 @@ import org.jspecify.annotations.Nullable;
 import com.helger.annotation.CheckReturnValue;
 import com.helger.annotation.Nonempty;
 import com.helger.annotation.Nonnegative;
-import com.helger.annotation.concurrent.GuardedBy;
 import com.helger.annotation.concurrent.Immutable;
 import com.helger.annotation.style.ReturnsMutableCopy;
 import com.helger.base.concurrent.SimpleReadWriteLock;
 import com.helger.base.enforce.ValueEnforcer;
 import com.helger.base.string.StringHelper;
-import com.helger.base.string.StringReplace;
-import com.helger.collection.commons.CommonsEnumMap;
 import com.helger.collection.commons.CommonsHashMap;
 import com.helger.collection.commons.CommonsTreeSet;
 import com.helger.collection.commons.ICommonsMap;
@@ -68,9 +66,10 @@ public final class CurrencyHelper
   // Sorted set of all available currencies
   private static final ICommonsSortedSet <Currency> ALL_CURRENCIES = new CommonsTreeSet <> (Comparator.comparing (Currency::getCurrencyCode));
   private static final ICommonsMap <Locale, Currency> LOCALE_TO_CURRENCY = new CommonsHashMap <> ();
+  // Only used for writing - reading is done without locking
   private static final SimpleReadWriteLock RW_LOCK = new SimpleReadWriteLock ();
-  @GuardedBy ("RW_LOCK")
-  private static final ICommonsMap <ECurrency, PerCurrencySettings> SETTINGS_MAP = new CommonsEnumMap <> (ECurrency.class);
+  // Indexed by the ordinal of ECurrency. The array is never modified after it was published
+  private static volatile PerCurrencySettings [] s_aSettings;
 
   static
   {
@@ -100,15 +99,39 @@ public final class CurrencyHelper
   public static void reinitializeCurrencySettings ()
   {
     RW_LOCK.writeLocked ( () -> {
-      SETTINGS_MAP.clear ();
-      for (final ECurrency e : ECurrency.values ())
+      final ECurrency [] aCurrencies = ECurrency.values ();
+      final PerCurrencySettings [] aSettings = new PerCurrencySettings [aCurrencies.length];
+      for (final ECurrency e : aCurrencies)
       {
-        SETTINGS_MAP.put (e, new PerCurrencySettings (e));
+        aSettings[e.ordinal ()] = new PerCurrencySettings (e);
 
         for (final Locale aLocale : e.matchingLocales ())
           if (!localeSupportsCurrencyRetrieval (aLocale))
             throw new IllegalArgumentException ("Passed locale " + aLocale + " does not support currency retrieval!");
       }
+      s_aSettings = aSettings;
+    });
+  }
+
+  /**
+   * Replace the settings of a single currency with modified settings. The currently used settings
+   * are not modified.
+   *
+   * @param eCurrency
+   *        The currency it is about. If <code>null</code> is provided {@link #DEFAULT_CURRENCY} is
+   *        used instead.
+   * @param aModifier
+   *        The function that creates the new settings from the old settings. May not be
+   *        <code>null</code>.
+   */
+  private static void _modifySettings (@Nullable final ECurrency eCurrency,
+                                       @NonNull final UnaryOperator <PerCurrencySettings> aModifier)
+  {
+    final int nIndex = (eCurrency != null ? eCurrency : DEFAULT_CURRENCY).ordinal ();
+    RW_LOCK.writeLocked ( () -> {
+      final PerCurrencySettings [] aSettings = s_aSettings.clone ();
+      aSettings[nIndex] = aModifier.apply (aSettings[nIndex]);
+      s_aSettings = aSettings;
     });
   }
 
@@ -244,15 +267,7 @@ public final class CurrencyHelper
   @NonNull
   public static PerCurrencySettings getSettings (@Nullable final ECurrency eCurrency)
   {
-    RW_LOCK.readLock ().lock ();
-    try
-    {
-      return SETTINGS_MAP.get (eCurrency != null ? eCurrency : DEFAULT_CURRENCY);
-    }
-    finally
-    {
-      RW_LOCK.readLock ().unlock ();
-    }
+    return s_aSettings[(eCurrency != null ? eCurrency : DEFAULT_CURRENCY).ordinal ()];
   }
 
   @NonNull
@@ -302,6 +317,34 @@ public final class CurrencyHelper
     return getSettings (eCurrency).getCurrencyFormat ();
   }
 
+  /**
+   * @param eCurrency
+   *        The currency it is about. If <code>null</code> is provided {@link #DEFAULT_CURRENCY} is
+   *        used instead.
+   * @return The thread-safe formatter that creates the same output as
+   *         {@link #getCurrencyFormat(ECurrency)}. Never <code>null</code>.
+   * @since 8.2.1
+   */
+  @NonNull
+  public static CurrencyFormatter getCurrencyFormatter (@Nullable final ECurrency eCurrency)
+  {
+    return getSettings (eCurrency).getCurrencyFormatter ();
+  }
+
+  /**
+   * @param eCurrency
+   *        The currency it is about. If <code>null</code> is provided {@link #DEFAULT_CURRENCY} is
+   *        used instead.
+   * @return The thread-safe parser that creates the same results as parsing with
+   *         {@link #getCurrencyFormat(ECurrency)}. Never <code>null</code>.
+   * @since 8.2.1
+   */
+  @NonNull
+  public static CurrencyParser getCurrencyParser (@Nullable final ECurrency eCurrency)
+  {
+    return getSettings (eCurrency).getCurrencyParser ();
+  }
+
   @NonNull
   public static String getCurrencyFormatted (@Nullable final ECurrency eCurrency, @NonNull final BigDecimal aValue)
   {
@@ -329,6 +372,34 @@ public final class CurrencyHelper
     return getSettings (eCurrency).getValueFormat ();
   }
 
+  /**
+   * @param eCurrency
+   *        The currency it is about. If <code>null</code> is provided {@link #DEFAULT_CURRENCY} is
+   *        used instead.
+   * @return The thread-safe formatter that creates the same output as
+   *         {@link #getValueFormat(ECurrency)}. Never <code>null</code>.
+   * @since 8.2.1
+   */
+  @NonNull
+  public static CurrencyFormatter getValueFormatter (@Nullable final ECurrency eCurrency)
+  {
+    return getSettings (eCurrency).getValueFormatter ();
+  }
+
+  /**
+   * @param eCurrency
+   *        The currency it is about. If <code>null</code> is provided {@link #DEFAULT_CURRENCY} is
+   *        used instead.
+   * @return The thread-safe parser that creates the same results as parsing with
+   *         {@link #getValueFormat(ECurrency)}. Never <code>null</code>.
+   * @since 8.2.1
+   */
+  @NonNull
+  public static CurrencyParser getValueParser (@Nullable final ECurrency eCurrency)
+  {
+    return getSettings (eCurrency).getValueParser ();
+  }
+
   @NonNull
   public static String getValueFormatted (@Nullable final ECurrency eCurrency, @NonNull final BigDecimal aValue)
   {
@@ -352,7 +423,7 @@ public final class CurrencyHelper
   @Nonnegative
   public static int getMinimumFractionDigits (@Nullable final ECurrency eCurrency)
   {
-    return getCurrencyFormat (eCurrency).getMinimumFractionDigits ();
+    return getSettings (eCurrency).getMinimumFractionDigits ();
   }
 
   /**
@@ -367,7 +438,8 @@ public final class CurrencyHelper
    */
   public static void setMinimumFractionDigits (@Nullable final ECurrency eCurrency, @Nonnegative final int nDecimals)
   {
-    getSettings (eCurrency).setMinimumFractionDigits (nDecimals);
+    ValueEnforcer.isGE0 (nDecimals, "Decimals");
+    _modifySettings (eCurrency, x -> x.getWithMinimumFractionDigits (nDecimals));
   }
 
   @Nullable
@@ -382,58 +454,6 @@ public final class CurrencyHelper
     return getSettings (eCurrency).getGroupingSeparator ();
   }
 
-  /**
-   * Adopt the passed text value according to the requested decimal separator.
-   *
-   * @param sTextValue
-   *        The text to be manipulated. May be <code>null</code>.
-   * @param eDecimalSep
-   *        The decimal separator that is required. May not be <code>null</code> .
-   * @param eGroupingSep
-   *        The grouping separator that is required. May not be <code>null</code> .
-   * @return The manipulated text so that it matches the required decimal separator or the original
-   *         text
-   */
-  @Nullable
-  private static String _getTextValueForDecimalSeparator (@Nullable final String sTextValue,
-                                                          @NonNull final EDecimalSeparator eDecimalSep,
-                                                          @NonNull final EGroupingSeparator eGroupingSep)
-  {
-    ValueEnforcer.notNull (eDecimalSep, "DecimalSeparator");
-    ValueEnforcer.notNull (eGroupingSep, "GroupingSeparator");
-
-    final String ret = StringHelper.trim (sTextValue);
-
-    // Replace only, if the desired decimal separator is not present
-    if (ret != null && ret.indexOf (eDecimalSep.getChar ()) < 0)
-      switch (eDecimalSep)
-      {
-        case COMMA:
-        {
-          // Decimal separator is a ","
-          if (ret.indexOf ('.') > -1 && eGroupingSep.getChar () != '.')
-          {
-            // Currency expects "," but user passed "."
-            return StringReplace.replaceAll (ret, '.', eDecimalSep.getChar ());
-          }
-          break;
-        }
-        case POINT:
-        {
-          // Decimal separator is a "."
-          if (ret.indexOf (',') > -1 && eGroupingSep.getChar () != ',')
-          {
-            // Pattern contains no "," but value contains ","
-            return StringReplace.replaceAll (ret, ',', eDecimalSep.getChar ());
-          }
-          break;
-        }
-        default:
-          throw new IllegalStateException ("Unexpected decimal separator [" + eDecimalSep + "]");
-      }
-    return ret;
-  }
-
   /**
    * Try to parse a string value formatted by the {@link NumberFormat} object returned from
    * {@link #getCurrencyFormat(ECurrency)}. E.g. <code>&euro; 5,00</code>
@@ -453,18 +473,7 @@ public final class CurrencyHelper
                                                 @Nullable final BigDecimal aDefault)
   {
     final PerCurrencySettings aPCS = getSettings (eCurrency);
-    final DecimalFormat aCurrencyFormat = aPCS.getCurrencyFormat ();
-
-    // Adopt the decimal separator
-    final String sRealTextValue;
-    // In Java 9 onwards, this the separators may be null (e.g. for AED)
-    if (aPCS.getDecimalSeparator () != null && aPCS.getGroupingSeparator () != null)
-      sRealTextValue = _getTextValueForDecimalSeparator (sTextValue,
-                                                         aPCS.getDecimalSeparator (),
-                                                         aPCS.getGroupingSeparator ());
-    else
-      sRealTextValue = sTextValue;
-    return parseCurrency (sRealTextValue, aCurrencyFormat, aDefault, aPCS.getRoundingMode ());
+    return aPCS.getCurrencyParser ().parse (sTextValue, aDefault, aPCS.getRoundingMode ());
   }
 
   /**
@@ -486,8 +495,7 @@ public final class CurrencyHelper
                                                          @Nullable final BigDecimal aDefault)
   {
     final PerCurrencySettings aPCS = getSettings (eCurrency);
-    final DecimalFormat aCurrencyFormat = aPCS.getCurrencyFormat ();
-    return parseCurrency (sTextValue, aCurrencyFormat, aDefault, aPCS.getRoundingMode ());
+    return aPCS.getCurrencyParser ().parseUnchanged (sTextValue, aDefault, aPCS.getRoundingMode ());
   }
 
   /**
@@ -509,18 +517,7 @@ public final class CurrencyHelper
                                              @Nullable final BigDecimal aDefault)
   {
     final PerCurrencySettings aPCS = getSettings (eCurrency);
-    final DecimalFormat aValueFormat = aPCS.getValueFormat ();
-
-    // Adopt the decimal separator
-    final String sRealTextValue;
-    // In Java 9 onwards, this the separators may be null (e.g. for AED)
-    if (aPCS.getDecimalSeparator () != null && aPCS.getGroupingSeparator () != null)
-      sRealTextValue = _getTextValueForDecimalSeparator (sTextValue,
-                                                         aPCS.getDecimalSeparator (),
-                                                         aPCS.getGroupingSeparator ());
-    else
-      sRealTextValue = sTextValue;
-    return parseCurrency (sRealTextValue, aValueFormat, aDefault, aPCS.getRoundingMode ());
+    return aPCS.getValueParser ().parse (sTextValue, aDefault, aPCS.getRoundingMode ());
   }
 
   /**
@@ -542,9 +539,7 @@ public final class CurrencyHelper
                                                       @Nullable final BigDecimal aDefault)
   {
     final PerCurrencySettings aPCS = getSettings (eCurrency);
-    final DecimalFormat aValueFormat = aPCS.getValueFormat ();
-
-    return parseCurrency (sTextValue, aValueFormat, aDefault, aPCS.getRoundingMode ());
+    return aPCS.getValueParser ().parseUnchanged (sTextValue, aDefault, aPCS.getRoundingMode ());
   }
 
   /**
@@ -687,6 +682,6 @@ public final class CurrencyHelper
    */
   public static void setRoundingMode (@Nullable final ECurrency eCurrency, @Nullable final RoundingMode eRoundingMode)
   {
-    getSettings (eCurrency).setRoundingMode (eRoundingMode);
+    _modifySettings (eCurrency, x -> x.getWithRoundingMode (eRoundingMode));
   }
 }
@@ -0,0 +1,514 @@
+/*
+ * Copyright (C) 2014-2026 Philip Helger (www.helger.com)
+ * philip[at]helger[dot]com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.helger.masterdata.currency;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import com.helger.annotation.Nonnegative;
+import com.helger.annotation.concurrent.Immutable;
+import com.helger.base.enforce.ValueEnforcer;
+import com.helger.base.tostring.ToStringGenerator;
+
+/**
+ * A thread-safe parser for currency values that creates the same results as
+ * {@link CurrencyHelper#parseCurrency(String, DecimalFormat, BigDecimal, RoundingMode)} with a
+ * provided {@link DecimalFormat}. All relevant settings (prefixes and suffixes, separators and the
+ * maximum fraction digits) are taken once from the {@link DecimalFormat}, so parsing does neither
+ * require cloning nor synchronization. Changes to the {@link DecimalFormat} after construction are
+ * not reflected.<br>
+ * Like {@link DecimalFormat} the parser is lenient: the grouping separator may occur anywhere in
+ * the integer part and text after the parsed number is ignored. Values that {@link DecimalFormat}
+ * parses as "NaN" or "Infinity" are considered unparsable.<br>
+ * Multipliers are not supported.
+ *
+ * @author Philip Helger
+ * @since 8.2.1
+ * @see PerCurrencySettings#getCurrencyParser()
+ * @see PerCurrencySettings#getValueParser()
+ */
+@Immutable
+public final class CurrencyParser implements Serializable
+{
+  /** The maximum number of digits that are collected in a long */
+  private static final int MAX_LONG_DIGITS = 18;
+
+  private final String m_sPositivePrefix;
+  private final String m_sPositiveSuffix;
+  private final String m_sNegativePrefix;
+  private final String m_sNegativeSuffix;
+  private final char m_cZeroDigit;
+  private final char m_cDecimalSep;
+  private final char m_cGroupingSep;
+  private final boolean m_bGroupingUsed;
+  private final String m_sExponentSep;
+  private final String m_sMinusSign;
+  private final String m_sNaN;
+  private final String m_sInfinity;
+  private final int m_nMaxFractionDigits;
+  // Lenient parsing: if the text does not contain the lenient decimal separator, all occurrences
+  // of the "from" character are treated like the lenient decimal separator
+  private final boolean m_bLenientReplace;
+  private final char m_cLenientDecimalSep;
+  private final char m_cLenientReplaceFrom;
+
+  /**
+   * Constructor
+   *
+   * @param aFormat
+   *        The {@link DecimalFormat} to take the settings from. It is not modified. May not be
+   *        <code>null</code>.
+   */
+  public CurrencyParser (@NonNull final DecimalFormat aFormat)
+  {
+    this (aFormat, new CurrencyFormatter (aFormat));
+  }
+
+  /**
+   * Constructor
+   *
+   * @param aFormat
+   *        The {@link DecimalFormat} to take the settings from. It is not modified. May not be
+   *        <code>null</code>.
+   * @param aFormatter
+   *        The formatter that was created from the same {@link DecimalFormat}. It is used to
+   *        determine the really used separators. May not be <code>null</code>.
+   */
+  CurrencyParser (@NonNull final DecimalFormat aFormat, @NonNull final CurrencyFormatter aFormatter)
+  {
+    ValueEnforcer.notNull (aFormat, "Format");
+    ValueEnforcer.notNull (aFormatter, "Formatter");
+    ValueEnforcer.isTrue (aFormat.getMultiplier () == 1, "Multipliers are not supported");
+
+    final DecimalFormatSymbols aDFS = aFormat.getDecimalFormatSymbols ();
+    m_sPositivePrefix = aFormat.getPositivePrefix ();
+    m_sPositiveSuffix = aFormat.getPositiveSuffix ();
+    m_sNegativePrefix = aFormat.getNegativePrefix ();
+    m_sNegativeSuffix = aFormat.getNegativeSuffix ();
+    m_cZeroDigit = aDFS.getZeroDigit ();
+    m_cDecimalSep = aFormatter.getUsedDecimalSeparator ();
+    m_cGroupingSep = aFormatter.getUsedGroupingSeparator ();
+    m_bGroupingUsed = aFormat.isGroupingUsed ();
+    m_sExponentSep = aDFS.getExponentSeparator ();
+    // The negative prefix of the simplest pattern is the locale specific minus sign text
+    m_sMinusSign = new DecimalFormat ("0", aDFS).getNegativePrefix ();
+    m_sNaN = aDFS.getNaN ();
+    m_sInfinity = aDFS.getInfinity ();
+    m_nMaxFractionDigits = aFormat.getMaximumFractionDigits ();
+
+    // Same rules as in PerCurrencySettings
+    final EDecimalSeparator eDecimalSep = EDecimalSeparator.getFromCharOrNull (aDFS.getDecimalSeparator ());
+    final EGroupingSeparator eGroupingSep = EGroupingSeparator.getFromCharOrNull (aDFS.getGroupingSeparator ());
+    if (eDecimalSep != null && eGroupingSep != null)
+    {
+      m_cLenientDecimalSep = eDecimalSep.getChar ();
+      m_cLenientReplaceFrom = eDecimalSep == EDecimalSeparator.COMMA ? '.' : ',';
+      m_bLenientReplace = eGroupingSep.getChar () != m_cLenientReplaceFrom;
+    }
+    else
+    {
+      m_cLenientDecimalSep = 0;
+      m_cLenientReplaceFrom = 0;
+      m_bLenientReplace = false;
+    }
+  }
+
+  /**
+   * @return The scale of all parsed values. This is the maximum number of fraction digits of the
+   *         underlying {@link DecimalFormat}. Always &ge; 0.
+   */
+  @Nonnegative
+  public int getScale ()
+  {
+    return m_nMaxFractionDigits;
+  }
+
+  private static boolean _contains (@NonNull final CharSequence aText,
+                                    final int nStart,
+                                    final int nEnd,
+                                    final char cSearch)
+  {
+    for (int i = nStart; i < nEnd; ++i)
+      if (aText.charAt (i) == cSearch)
+        return true;
+    return false;
+  }
+
+  private char _charAt (@NonNull final CharSequence aText, final int nIndex, final boolean bReplace)
+  {
+    final char c = aText.charAt (nIndex);
+    return bReplace && c == m_cLenientReplaceFrom ? m_cLenientDecimalSep : c;
+  }
+
+  private boolean _regionMatches (@NonNull final CharSequence aText,
+                                  final int nPos,
+                                  final int nEnd,
+                                  final boolean bReplace,
+                                  @NonNull final String sPart)
+  {
+    final int nLength = sPart.length ();
+    if (nEnd - nPos < nLength)
+      return false;
+    for (int i = 0; i < nLength; ++i)
+      if (_charAt (aText, nPos + i, bReplace) != sPart.charAt (i))
+        return false;
+    return true;
+  }
+
+  private int _getDigit (final char c)
+  {
+    final int ret = c - m_cZeroDigit;
+    return ret >= 0 && ret <= 9 ? ret : Character.digit (c, 10);
+  }
+
+  /**
+   * Parse the exponent after the exponent separator the same way as {@link DecimalFormat} does.
+   *
+   * @return {@link Long#MIN_VALUE} if no valid exponent is present. Otherwise the exponent clamped
+   *         to the int range in the upper 32 bits and the position after the exponent in the lower
+   *         32 bits.
+   */
+  private long _parseExponent (@NonNull final CharSequence aText,
+                               final int nStart,
+                               final int nEnd,
+                               final boolean bReplace)
+  {
+    int nPos = nStart;
+    final boolean bNegative = !m_sMinusSign.isEmpty () && _regionMatches (aText, nPos, nEnd, bReplace, m_sMinusSign);
+    if (bNegative)
+      nPos += m_sMinusSign.length ();
+
+    // Accumulate negative to be able to represent Long.MIN_VALUE
+    long nValue = 0;
+    boolean bSawDigit = false;
+    boolean bOverflow = false;
+    for (; nPos < nEnd; ++nPos)
+    {
+      final int nDigit = _getDigit (_charAt (aText, nPos, bReplace));
+      if (nDigit < 0 || nDigit > 9)
+        break;
+      bSawDigit = true;
+      if (!bOverflow)
+      {
+        if (nValue < (Long.MIN_VALUE + nDigit) / 10)
+          bOverflow = true;
+        else
+          nValue = nValue * 10 - nDigit;
+      }
+    }
+    // Same as DecimalFormat: the exponent must fit into a long
+    if (!bSawDigit || bOverflow || (!bNegative && nValue == Long.MIN_VALUE))
+      return Long.MIN_VALUE;
+
+    final long nExponent = bNegative ? nValue : -nValue;
+    final int nClamped = (int) Math.max (Integer.MIN_VALUE, Math.min (Integer.MAX_VALUE, nExponent));
+    return ((long) nClamped << 32) | nPos;
+  }
+
+  /**
+   * The main parsing routine that follows the rules of {@link DecimalFormat#parse(String)}.
+   *
+   * @param aText
+   *        The text to parse. May not be <code>null</code>.
+   * @param bLenient
+   *        <code>true</code> to trim the text and to swap the decimal separator if necessary.
+   * @return The unscaled parsed value or <code>null</code> if the text cannot be parsed.
+   */
+  @Nullable
+  private BigDecimal _parse (@NonNull final CharSequence aText, final boolean bLenient)
+  {
+    int nStart = 0;
+    int nEnd = aText.length ();
+    boolean bReplace = false;
+    if (bLenient)
+    {
+      // Same as String.trim
+      while (nStart < nEnd && aText.charAt (nStart) <= ' ')
+        nStart++;
+      while (nEnd > nStart && aText.charAt (nEnd - 1) <= ' ')
+        nEnd--;
+
+      // Replace only, if the desired decimal separator is not present
+      bReplace = m_bLenientReplace &&
+                 !_contains (aText, nStart, nEnd, m_cLenientDecimalSep) &&
+                 _contains (aText, nStart, nEnd, m_cLenientReplaceFrom);
+    }
+    if (nStart == nEnd)
+      return null;
+
+    int nPos = nStart;
+    if (_regionMatches (aText, nPos, nEnd, bReplace, m_sNaN))
+      return null;
+
+    // Prefix - if both match, take the longer one
+    boolean bPositive = _regionMatches (aText, nPos, nEnd, bReplace, m_sPositivePrefix);
+    boolean bNegative = _regionMatches (aText, nPos, nEnd, bReplace, m_sNegativePrefix);
+    if (bPositive && bNegative)
+    {
+      if (m_sPositivePrefix.length () > m_sNegativePrefix.length ())
+        bNegative = false;
+      else
+        if (m_sPositivePrefix.length () < m_sNegativePrefix.length ())
+          bPositive = false;
+    }
+    if (bPositive)
+      nPos += m_sPositivePrefix.length ();
+    else
+      if (bNegative)
+        nPos += m_sNegativePrefix.length ();
+      else
+        return null;
+
+    if (_regionMatches (aText, nPos, nEnd, bReplace, m_sInfinity))
+      return null;
+
+    // The first significant digits
+    long nDigits = 0;
+    // All significant digits, if there are too many for a long
+    StringBuilder aDigits = null;
+    int nDigitCount = 0;
+    // The position of the decimal point relative to the first significant digit
+    long nDecimalAt = 0;
+    boolean bSawDecimal = false;
+    boolean bSawDigit = false;
+    int nBackup = -1;
+    for (; nPos < nEnd; ++nPos)
+    {
+      final char c = _charAt (aText, nPos, bReplace);
+      final int nDigit = _getDigit (c);
+      if (nDigit >= 0 && nDigit <= 9)
+      {
+        // A grouping separator is only consumed if a digit follows
+        nBackup = -1;
+        bSawDigit = true;
+        if (nDigitCount == 0 && nDigit == 0)
+        {
+          // Leading zeros
+          if (bSawDecimal)
+            nDecimalAt--;
+          continue;
+        }
+        if (aDigits != null)
+          aDigits.append ((char) ('0' + nDigit));
+        else
+          if (nDigitCount < MAX_LONG_DIGITS)
+            nDigits = nDigits * 10 + nDigit;
+          else
+          {
+            aDigits = new StringBuilder (MAX_LONG_DIGITS * 2);
+            aDigits.append (nDigits).append ((char) ('0' + nDigit));
+          }
+        nDigitCount++;
+      }
+      else
+        if (c == m_cDecimalSep)
+        {
+          if (bSawDecimal)
+            break;
+          nDecimalAt = nDigitCount;
+          bSawDecimal = true;
+        }
+        else
+          if (c == m_cGroupingSep && m_bGroupingUsed)
+          {
+            if (bSawDecimal)
+              break;
+            nBackup = nPos;
+          }
+          else
+          {
+            if (_regionMatches (aText, nPos, nEnd, bReplace, m_sExponentSep))
+            {
+              // Whether the exponent is valid or not, the number ends here
+              final long nExponent = _parseExponent (aText, nPos + m_sExponentSep.length (), nEnd, bReplace);
+              if (nExponent != Long.MIN_VALUE)
+              {
+                if (!bSawDecimal)
+                {
+                  nDecimalAt = nDigitCount;
+                  bSawDecimal = true;
+                }
+                nDecimalAt += (int) (nExponent >> 32);
+                nPos = (int) nExponent;
+              }
+            }
+            break;
+          }
+    }
+    if (nBackup != -1)
+      nPos = nBackup;
+    if (!bSawDigit)
+      return null;
+    if (!bSawDecimal)
+      nDecimalAt = nDigitCount;
+
+    // Suffix - if both match, take the longer one
+    if (bPositive)
+      bPositive = _regionMatches (aText, nPos, nEnd, bReplace, m_sPositiveSuffix);
+    if (bNegative)
+      bNegative = _regionMatches (aText, nPos, nEnd, bReplace, m_sNegativeSuffix);
+    if (bPositive && bNegative)
+    {
+      if (m_sPositiveSuffix.length () > m_sNegativeSuffix.length ())
+        bNegative = false;
+      else
+        if (m_sPositiveSuffix.length () < m_sNegativeSuffix.length ())
+          bPositive = false;
+    }
+    if (bPositive == bNegative)
+      return null;
+
+    if (nDigitCount == 0)
+      return BigDecimal.ZERO;
+
+    final long nScale = nDigitCount - nDecimalAt;
+    if (nScale < Integer.MIN_VALUE || nScale > Integer.MAX_VALUE)
+      return null;
+    final BigDecimal ret = aDigits == null ? BigDecimal.valueOf (nDigits, (int) nScale)
+                                           : new BigDecimal (new BigInteger (aDigits.toString ()), (int) nScale);
+    return bNegative ? ret.negate () : ret;
+  }
+
+  @Nullable
+  private BigDecimal _parseScaled (@Nullable final CharSequence aText,
+                                   final boolean bLenient,
+                                   @NonNull final RoundingMode eRoundingMode)
+  {
+    ValueEnforcer.notNull (eRoundingMode, "RoundingMode");
+
+    if (aText == null || aText.length () == 0)
+      return null;
+    final BigDecimal ret = _parse (aText, bLenient);
+    return ret == null ? null : ret.setScale (m_nMaxFractionDigits, eRoundingMode);
+  }
+
+  private static long _getUnscaled (@Nullable final BigDecimal aValue, final long nDefault)
+  {
+    if (aValue == null)
+      return nDefault;
+    final BigInteger aUnscaled = aValue.unscaledValue ();
+    return aUnscaled.bitLength () < 64 ? aUnscaled.longValue () : nDefault;
+  }
+
+  /**
+   * Parse the passed text. The text is trimmed and if it does not contain the decimal separator
+   * of the locale, but the "other" one (e.g. "." instead of ","), the "other" one is used as the
+   * decimal separator, unless it is the grouping separator.
+   *
+   * @param aText
+   *        The text to parse. May be <code>null</code>.
+   * @param aDefault
+   *        The default value to be returned if parsing fails. May be <code>null</code>.
+   * @param eRoundingMode
+   *        The rounding mode to be used to reach the scale. May not be <code>null</code>.
+   * @return The parsed value with a scale of {@link #getScale()} or the default value.
+   * @see CurrencyHelper#parseCurrencyFormat(ECurrency, String, BigDecimal)
+   * @see CurrencyHelper#parseValueFormat(ECurrency, String, BigDecimal)
+   */
+  @Nullable
+  public BigDecimal parse (@Nullable final CharSequence aText,
+                           @Nullable final BigDecimal aDefault,
+                           @NonNull final RoundingMode eRoundingMode)
+  {
+    final BigDecimal ret = _parseScaled (aText, true, eRoundingMode);
+    return ret != null ? ret : aDefault;
+  }
+
+  /**
+   * Parse the passed text without any modification.
+   *
+   * @param aText
+   *        The text to parse. May be <code>null</code>.
+   * @param aDefault
+   *        The default value to be returned if parsing fails. May be <code>null</code>.
+   * @param eRoundingMode
+   *        The rounding mode to be used to reach the scale. May not be <code>null</code>.
+   * @return The parsed value with a scale of {@link #getScale()} or the default value.
+   * @see CurrencyHelper#parseCurrencyFormatUnchanged(ECurrency, String, BigDecimal)
+   * @see CurrencyHelper#parseValueFormatUnchanged(ECurrency, String, BigDecimal)
+   */
+  @Nullable
+  public BigDecimal parseUnchanged (@Nullable final CharSequence aText,
+                                    @Nullable final BigDecimal aDefault,
+                                    @NonNull final RoundingMode eRoundingMode)
+  {
+    final BigDecimal ret = _parseScaled (aText, false, eRoundingMode);
+    return ret != null ? ret : aDefault;
+  }
+
+  /**
+   * Parse the passed text like {@link #parse(CharSequence, BigDecimal, RoundingMode)} and return
+   * the unscaled value, e.g. 1234 for "12.34" with a scale of 2.
+   *
+   * @param aText
+   *        The text to parse. May be <code>null</code>.
+   * @param nDefault
+   *        The default value to be returned if parsing fails or if the unscaled value does not fit
+   *        into a long.
+   * @param eRoundingMode
+   *        The rounding mode to be used to reach the scale. May not be <code>null</code>.
+   * @return The unscaled value with a scale of {@link #getScale()} or the default value.
+   */
+  public long parseUnscaled (@Nullable final CharSequence aText,
+                             final long nDefault,
+                             @NonNull final RoundingMode eRoundingMode)
+  {
+    return _getUnscaled (_parseScaled (aText, true, eRoundingMode), nDefault);
+  }
+
+  /**
+   * Parse the passed text like {@link #parseUnchanged(CharSequence, BigDecimal, RoundingMode)} and
+   * return the unscaled value, e.g. 1234 for "12.34" with a scale of 2.
+   *
+   * @param aText
+   *        The text to parse. May be <code>null</code>.
+   * @param nDefault
+   *        The default value to be returned if parsing fails or if the unscaled value does not fit
+   *        into a long.
+   * @param eRoundingMode
+   *        The rounding mode to be used to reach the scale. May not be <code>null</code>.
+   * @return The unscaled value with a scale of {@link #getScale()} or the default value.
+   */
+  public long parseUnscaledUnchanged (@Nullable final CharSequence aText,
+                                      final long nDefault,
+                                      @NonNull final RoundingMode eRoundingMode)
+  {
+    return _getUnscaled (_parseScaled (aText, false, eRoundingMode), nDefault);
+  }
+
+  @Override
+  public String toString ()
+  {
+    return new ToStringGenerator (this).append ("PositivePrefix", m_sPositivePrefix)
+                                       .append ("PositiveSuffix", m_sPositiveSuffix)
+                                       .append ("NegativePrefix", m_sNegativePrefix)
+                                       .append ("NegativeSuffix", m_sNegativeSuffix)
+                                       .append ("DecimalSep", m_cDecimalSep)
+                                       .append ("GroupingSep", m_cGroupingSep)
+                                       .append ("GroupingUsed", m_bGroupingUsed)
+                                       .append ("MaxFractionDigits", m_nMaxFractionDigits)
+                                       .append ("LenientReplace", m_bLenientReplace)
+                                       .getToString ();
+  }
+}
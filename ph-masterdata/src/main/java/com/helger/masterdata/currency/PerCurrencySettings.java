@@ -31,12 +31,16 @@ import org.jspecify.annotations.Nullable;
 import com.helger.annotation.Nonempty;
 import com.helger.annotation.Nonnegative;
 import com.helger.annotation.concurrent.NotThreadSafe;
+import com.helger.annotation.style.ReturnsMutableCopy;
 import com.helger.base.enforce.ValueEnforcer;
 import com.helger.base.string.StringRemove;
 import com.helger.base.string.StringReplace;
 
 /**
- * Per currency settings. Not thread safe.
+ * Per currency settings. Not thread safe.<br>
+ * The instances provided by {@link CurrencyHelper#getSettings(ECurrency)} are shared and are never
+ * modified. Use {@link #getWithMinimumFractionDigits(int)} and
+ * {@link #getWithRoundingMode(RoundingMode)} to create modified settings.
  *
  * @author Philip Helger
  */
@@ -48,6 +52,10 @@ public final class PerCurrencySettings implements Serializable
   private final String m_sValuePattern;
   private final DecimalFormat m_aCurrencyFormat;
   private final DecimalFormat m_aValueFormat;
+  private CurrencyFormatter m_aCurrencyFormatter;
+  private CurrencyFormatter m_aValueFormatter;
+  private CurrencyParser m_aCurrencyParser;
+  private CurrencyParser m_aValueParser;
   private final DecimalFormatSymbols m_aDFS;
   private RoundingMode m_eRoundingMode;
   private final EDecimalSeparator m_eDecimalSep;
@@ -91,6 +99,7 @@ public final class PerCurrencySettings implements Serializable
 
     // Use the decimal symbols from the currency format
     m_aValueFormat = new DecimalFormat (m_sValuePattern, m_aDFS);
+    _createFormatters ();
 
     // By default the default rounding mode should be used
     m_eRoundingMode = null;
@@ -99,6 +108,42 @@ public final class PerCurrencySettings implements Serializable
     m_eGroupingSep = EGroupingSeparator.getFromCharOrNull (m_aDFS.getGroupingSeparator ());
   }
 
+  /**
+   * Copy constructor. The formats are cloned, so the source object is not affected.
+   *
+   * @param aOther
+   *        The settings to copy from. May not be <code>null</code>.
+   * @param nMinFractionDigits
+   *        The minimum fraction digits to use. Must be &ge; 0.
+   * @param eRoundingMode
+   *        The rounding mode to use. May be <code>null</code>.
+   */
+  private PerCurrencySettings (@NonNull final PerCurrencySettings aOther,
+                               @Nonnegative final int nMinFractionDigits,
+                               @Nullable final RoundingMode eRoundingMode)
+  {
+    m_nScale = aOther.m_nScale;
+    m_sCurrencyPattern = aOther.m_sCurrencyPattern;
+    m_sValuePattern = aOther.m_sValuePattern;
+    m_aCurrencyFormat = (DecimalFormat) aOther.m_aCurrencyFormat.clone ();
+    m_aCurrencyFormat.setMinimumFractionDigits (nMinFractionDigits);
+    m_aValueFormat = (DecimalFormat) aOther.m_aValueFormat.clone ();
+    m_aValueFormat.setMinimumFractionDigits (nMinFractionDigits);
+    m_aDFS = aOther.m_aDFS;
+    _createFormatters ();
+    m_eRoundingMode = eRoundingMode;
+    m_eDecimalSep = aOther.m_eDecimalSep;
+    m_eGroupingSep = aOther.m_eGroupingSep;
+  }
+
+  private void _createFormatters ()
+  {
+    m_aCurrencyFormatter = new CurrencyFormatter (m_aCurrencyFormat);
+    m_aValueFormatter = new CurrencyFormatter (m_aValueFormat);
+    m_aCurrencyParser = new CurrencyParser (m_aCurrencyFormat, m_aCurrencyFormatter);
+    m_aValueParser = new CurrencyParser (m_aValueFormat, m_aValueFormatter);
+  }
+
   /**
    * @return The scaling to be used for BigDecimal operations. Always &ge; 0. If no underlying JDK
    *         currency is present, {@value CurrencyHelper#DEFAULT_SCALE} is returned.
@@ -142,18 +187,38 @@ public final class PerCurrencySettings implements Serializable
     return (DecimalFormat) m_aCurrencyFormat.clone ();
   }
 
+  /**
+   * @return The thread-safe formatter that creates the same output as {@link #getCurrencyFormat()}
+   *         without the need to clone it. Never <code>null</code>.
+   * @since 8.2.1
+   */
+  @NonNull
+  public CurrencyFormatter getCurrencyFormatter ()
+  {
+    return m_aCurrencyFormatter;
+  }
+
+  /**
+   * @return The thread-safe parser that creates the same results as parsing with
+   *         {@link #getCurrencyFormat()} without the need to clone it. Never <code>null</code>.
+   * @since 8.2.1
+   */
+  @NonNull
+  public CurrencyParser getCurrencyParser ()
+  {
+    return m_aCurrencyParser;
+  }
+
   @NonNull
   public String getCurrencyFormatted (@NonNull final BigDecimal aValue)
   {
-    return getCurrencyFormat ().format (aValue);
+    return m_aCurrencyFormatter.getFormatted (aValue);
   }
 
   @NonNull
   public String getCurrencyFormatted (@NonNull final BigDecimal aValue, @Nonnegative final int nFractionDigits)
   {
-    final DecimalFormat aFormat = getCurrencyFormat ();
-    aFormat.setMaximumFractionDigits (nFractionDigits);
-    return aFormat.format (aValue);
+    return m_aCurrencyFormatter.getFormatted (aValue, nFractionDigits);
   }
 
   /**
@@ -168,18 +233,65 @@ public final class PerCurrencySettings implements Serializable
     return (DecimalFormat) m_aValueFormat.clone ();
   }
 
+  /**
+   * @return The thread-safe formatter that creates the same output as {@link #getValueFormat()}
+   *         without the need to clone it. Never <code>null</code>.
+   * @since 8.2.1
+   */
+  @NonNull
+  public CurrencyFormatter getValueFormatter ()
+  {
+    return m_aValueFormatter;
+  }
+
+  /**
+   * @return The thread-safe parser that creates the same results as parsing with
+   *         {@link #getValueFormat()} without the need to clone it. Never <code>null</code>.
+   * @since 8.2.1
+   */
+  @NonNull
+  public CurrencyParser getValueParser ()
+  {
+    return m_aValueParser;
+  }
+
   @NonNull
   public String getValueFormatted (@NonNull final BigDecimal aValue)
   {
-    return getValueFormat ().format (aValue);
+    return m_aValueFormatter.getFormatted (aValue);
   }
 
   @NonNull
   public String getValueFormatted (@NonNull final BigDecimal aValue, @Nonnegative final int nFractionDigits)
   {
-    final DecimalFormat aFormat = getValueFormat ();
-    aFormat.setMaximumFractionDigits (nFractionDigits);
-    return aFormat.format (aValue);
+    return m_aValueFormatter.getFormatted (aValue, nFractionDigits);
+  }
+
+  /**
+   * @return The minimum fraction digits used for formatting. Always &ge; 0.
+   * @since 8.2.1
+   */
+  @Nonnegative
+  public int getMinimumFractionDigits ()
+  {
+    return m_aCurrencyFormatter.getMinimumFractionDigits ();
+  }
+
+  /**
+   * Get a copy of these settings with different minimum fraction digits. Applies to the
+   * currency-formatting and the value-formatting. This object is not modified.
+   *
+   * @param nDecimals
+   *        The new minimum fraction digits. May not be negative.
+   * @return The new settings. Never <code>null</code>.
+   * @since 8.2.1
+   */
+  @NonNull
+  @ReturnsMutableCopy
+  public PerCurrencySettings getWithMinimumFractionDigits (@Nonnegative final int nDecimals)
+  {
+    ValueEnforcer.isGE0 (nDecimals, "Decimals");
+    return new PerCurrencySettings (this, nDecimals, m_eRoundingMode);
   }
 
   /**
@@ -188,12 +300,17 @@ public final class PerCurrencySettings implements Serializable
    *
    * @param nDecimals
    *        The new minimum fraction digits. May not be negative.
+   * @deprecated The settings provided by {@link CurrencyHelper} are shared and must not be
+   *             modified. Use {@link #getWithMinimumFractionDigits(int)} or
+   *             {@link CurrencyHelper#setMinimumFractionDigits(ECurrency, int)} instead.
    */
+  @Deprecated (since = "8.2.1")
   public void setMinimumFractionDigits (@Nonnegative final int nDecimals)
   {
     ValueEnforcer.isGE0 (nDecimals, "Decimals");
     m_aCurrencyFormat.setMinimumFractionDigits (nDecimals);
     m_aValueFormat.setMinimumFractionDigits (nDecimals);
+    _createFormatters ();
   }
 
   @NonNull
@@ -213,12 +330,31 @@ public final class PerCurrencySettings implements Serializable
     return m_eRoundingMode != null ? m_eRoundingMode : CurrencyHelper.DEFAULT_ROUNDING_MODE;
   }
 
+  /**
+   * Get a copy of these settings with a different rounding mode. This object is not modified.
+   *
+   * @param eRoundingMode
+   *        The rounding mode to be used. May be <code>null</code> to use the default rounding mode.
+   * @return The new settings. Never <code>null</code>.
+   * @since 8.2.1
+   */
+  @NonNull
+  @ReturnsMutableCopy
+  public PerCurrencySettings getWithRoundingMode (@Nullable final RoundingMode eRoundingMode)
+  {
+    return new PerCurrencySettings (this, getMinimumFractionDigits (), eRoundingMode);
+  }
+
   /**
    * Change the rounding mode of this currency.
    *
    * @param eRoundingMode
    *        The rounding mode to be used. May be <code>null</code>.
+   * @deprecated The settings provided by {@link CurrencyHelper} are shared and must not be
+   *             modified. Use {@link #getWithRoundingMode(RoundingMode)} or
+   *             {@link CurrencyHelper#setRoundingMode(ECurrency, RoundingMode)} instead.
    */
+  @Deprecated (since = "8.2.1")
   public void setRoundingMode (@Nullable final RoundingMode eRoundingMode)
   {
     m_eRoundingMode = eRoundingMode;
@@ -0,0 +1,419 @@
+/*
+ * Copyright (C) 2014-2026 Philip Helger (www.helger.com)
+ * philip[at]helger[dot]com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.helger.masterdata.currencyvalue;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.stream.Collector;
+
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import com.helger.annotation.Nonnegative;
+import com.helger.annotation.concurrent.NotThreadSafe;
+import com.helger.annotation.style.ReturnsMutableCopy;
+import com.helger.base.enforce.ValueEnforcer;
+import com.helger.collection.commons.CommonsEnumMap;
+import com.helger.collection.commons.ICommonsMap;
+import com.helger.masterdata.MasterDataHelper;
+import com.helger.masterdata.currency.CurrencyHelper;
+import com.helger.masterdata.currency.ECurrency;
+
+/**
+ * Sums up currency amounts per currency. The totals are kept in arrays indexed by the ordinal of
+ * {@link ECurrency}, as <code>long</code> values in minor units of the currency (see
+ * {@link CurrencyHelper#getScale(ECurrency)}). Only amounts with more fraction digits than the
+ * currency and sums that overflow a <code>long</code> fall back to {@link BigDecimal}, so the
+ * totals are always exact.<br>
+ * Instances of this class are not thread-safe. For parallel processing use one instance per thread
+ * and merge them with {@link #addAll(CurrencyValueAggregator)}, as done by the static
+ * <code>aggregate</code> methods and by {@link #toTotals()}.
+ *
+ * @author Philip Helger
+ * @since 8.2.1
+ */
+@NotThreadSafe
+public final class CurrencyValueAggregator
+{
+  private static final ECurrency [] CURRENCIES = ECurrency.values ();
+  /** The maximum number of decimal digits that always fit into a long */
+  private static final int MAX_LONG_DIGITS = 18;
+  private static final long [] POW10 = new long [MAX_LONG_DIGITS + 1];
+
+  static
+  {
+    POW10[0] = 1;
+    for (int i = 1; i < POW10.length; ++i)
+      POW10[i] = POW10[i - 1] * 10;
+  }
+
+  /** The totals in minor units per currency ordinal */
+  private final long [] m_aMinorUnits = new long [CURRENCIES.length];
+  /** The scale of the minor units per currency ordinal or -1 if the currency was not used */
+  private final int [] m_aScales = new int [CURRENCIES.length];
+  /** The parts of the totals that cannot be represented in minor units. Lazily created. */
+  private BigDecimal [] m_aBigTotals;
+
+  public CurrencyValueAggregator ()
+  {
+    Arrays.fill (m_aScales, -1);
+  }
+
+  private int _getScale (@NonNull final ECurrency eCurrency, final int nOrdinal)
+  {
+    int ret = m_aScales[nOrdinal];
+    if (ret < 0)
+    {
+      // First usage of this currency
+      ret = CurrencyHelper.getScale (eCurrency);
+      m_aScales[nOrdinal] = ret;
+    }
+    return ret;
+  }
+
+  private void _addBig (final int nOrdinal, @NonNull final BigDecimal aAmount)
+  {
+    if (m_aBigTotals == null)
+      m_aBigTotals = new BigDecimal [CURRENCIES.length];
+    final BigDecimal aOld = m_aBigTotals[nOrdinal];
+    m_aBigTotals[nOrdinal] = aOld == null ? aAmount : aOld.add (aAmount);
+  }
+
+  private void _addMinorUnits (final int nOrdinal, final long nMinorUnits)
+  {
+    final long nOld = m_aMinorUnits[nOrdinal];
+    final long nNew = nOld + nMinorUnits;
+    // Same overflow check as in Math.addExact but without an exception
+    if (((nOld ^ nNew) & (nMinorUnits ^ nNew)) < 0)
+      _addBig (nOrdinal, BigDecimal.valueOf (nMinorUnits, m_aScales[nOrdinal]));
+    else
+      m_aMinorUnits[nOrdinal] = nNew;
+  }
+
+  private void _add (@NonNull final ECurrency eCurrency, @NonNull final BigDecimal aAmount)
+  {
+    final int nOrdinal = eCurrency.ordinal ();
+    final int nScale = _getScale (eCurrency, nOrdinal);
+    final int nAmountScale = aAmount.scale ();
+    if (nAmountScale <= nScale && aAmount.precision () + (nScale - nAmountScale) <= MAX_LONG_DIGITS)
+    {
+      // Fits into minor units
+      _addMinorUnits (nOrdinal, aAmount.unscaledValue ().longValue () * POW10[nScale - nAmountScale]);
+    }
+    else
+      _addBig (nOrdinal, aAmount);
+  }
+
+  private void _addMinorUnits (@NonNull final ECurrency eCurrency, final long nMinorUnits)
+  {
+    final int nOrdinal = eCurrency.ordinal ();
+    final int nScale = _getScale (eCurrency, nOrdinal);
+    final int nCurrencyScale = CurrencyHelper.getScale (eCurrency);
+    if (nScale == nCurrencyScale)
+      _addMinorUnits (nOrdinal, nMinorUnits);
+    else
+      _addBig (nOrdinal, BigDecimal.valueOf (nMinorUnits, nCurrencyScale));
+  }
+
+  /**
+   * Add an amount.
+   *
+   * @param eCurrency
+   *        The currency of the amount. May not be <code>null</code>.
+   * @param aAmount
+   *        The amount to add. May not be <code>null</code>.
+   */
+  public void add (@NonNull final ECurrency eCurrency, @NonNull final BigDecimal aAmount)
+  {
+    ValueEnforcer.notNull (eCurrency, "Currency");
+    ValueEnforcer.notNull (aAmount, "Amount");
+    _add (eCurrency, aAmount);
+  }
+
+  /**
+   * Add an amount.
+   *
+   * @param aValue
+   *        The currency value to add. May not be <code>null</code>.
+   */
+  public void add (@NonNull final ICurrencyValue aValue)
+  {
+    ValueEnforcer.notNull (aValue, "Value");
+    add (aValue.getCurrency (), aValue.getValue ());
+  }
+
+  /**
+   * Add an amount.
+   *
+   * @param aValue
+   *        The currency value to add. May not be <code>null</code>.
+   */
+  public void add (@NonNull final MinorUnitCurrencyValue aValue)
+  {
+    ValueEnforcer.notNull (aValue, "Value");
+    _addMinorUnits (aValue.getCurrency (), aValue.getMinorUnits ());
+  }
+
+  /**
+   * Add an amount in minor units.
+   *
+   * @param eCurrency
+   *        The currency of the amount. May not be <code>null</code>.
+   * @param nMinorUnits
+   *        The amount in minor units of the currency, e.g. 1234 for 12.34 EUR.
+   */
+  public void addMinorUnits (@NonNull final ECurrency eCurrency, final long nMinorUnits)
+  {
+    ValueEnforcer.notNull (eCurrency, "Currency");
+    _addMinorUnits (eCurrency, nMinorUnits);
+  }
+
+  /**
+   * Add all totals of the passed aggregator to this aggregator. The passed aggregator is not
+   * modified.
+   *
+   * @param aOther
+   *        The aggregator to add. May not be <code>null</code>.
+   */
+  public void addAll (@NonNull final CurrencyValueAggregator aOther)
+  {
+    ValueEnforcer.notNull (aOther, "Other");
+
+    for (int i = 0; i < CURRENCIES.length; ++i)
+    {
+      final int nOtherScale = aOther.m_aScales[i];
+      if (nOtherScale >= 0)
+      {
+        final int nScale = _getScale (CURRENCIES[i], i);
+        if (nScale == nOtherScale)
+          _addMinorUnits (i, aOther.m_aMinorUnits[i]);
+        else
+          _addBig (i, BigDecimal.valueOf (aOther.m_aMinorUnits[i], nOtherScale));
+
+        if (aOther.m_aBigTotals != null && aOther.m_aBigTotals[i] != null)
+          _addBig (i, aOther.m_aBigTotals[i]);
+      }
+    }
+  }
+
+  /**
+   * @return <code>true</code> if no amount was added so far.
+   */
+  public boolean isEmpty ()
+  {
+    for (final int nScale : m_aScales)
+      if (nScale >= 0)
+        return false;
+    return true;
+  }
+
+  /**
+   * @param eCurrency
+   *        The currency to check. May be <code>null</code>.
+   * @return <code>true</code> if at least one amount of the passed currency was added.
+   */
+  public boolean containsCurrency (@Nullable final ECurrency eCurrency)
+  {
+    return eCurrency != null && m_aScales[eCurrency.ordinal ()] >= 0;
+  }
+
+  /**
+   * Get the total of a single currency.
+   *
+   * @param eCurrency
+   *        The currency to query. May be <code>null</code>.
+   * @return <code>null</code> if no amount of the passed currency was added. The returned value has
+   *         at least the scale of the currency.
+   */
+  @Nullable
+  public BigDecimal getTotal (@Nullable final ECurrency eCurrency)
+  {
+    if (!containsCurrency (eCurrency))
+      return null;
+
+    final int nOrdinal = eCurrency.ordinal ();
+    final BigDecimal ret = BigDecimal.valueOf (m_aMinorUnits[nOrdinal], m_aScales[nOrdinal]);
+    if (m_aBigTotals != null && m_aBigTotals[nOrdinal] != null)
+      return ret.add (m_aBigTotals[nOrdinal]);
+    return ret;
+  }
+
+  /**
+   * @return A map from currency to its total for all currencies for which at least one amount was
+   *         added. The map is ordered by currency. Never <code>null</code>.
+   */
+  @NonNull
+  @ReturnsMutableCopy
+  public ICommonsMap <ECurrency, ICurrencyValue> getTotals ()
+  {
+    final ICommonsMap <ECurrency, ICurrencyValue> ret = new CommonsEnumMap <> (ECurrency.class);
+    for (final ECurrency eCurrency : CURRENCIES)
+      if (containsCurrency (eCurrency))
+        ret.put (eCurrency, new CurrencyValue (eCurrency, getTotal (eCurrency)));
+    return ret;
+  }
+
+  @NonNull
+  private static CurrencyValueAggregator _aggregate (@Nonnegative final int nCount,
+                                                     @Nullable final Executor aExecutor,
+                                                     @NonNull final IChunkAggregator aChunkAggregator)
+  {
+    final int nChunkSize = MasterDataHelper.DEFAULT_BULK_CHUNK_SIZE;
+    final int nChunks = Math.max ((nCount + nChunkSize - 1) / nChunkSize, 1);
+    final CurrencyValueAggregator [] aPartials = new CurrencyValueAggregator [nChunks];
+    MasterDataHelper.forEachChunk (nCount, nChunkSize, aExecutor, (nStart, nEnd) -> {
+      final CurrencyValueAggregator aPartial = new CurrencyValueAggregator ();
+      aChunkAggregator.aggregate (aPartial, nStart, nEnd);
+      aPartials[nStart / nChunkSize] = aPartial;
+    });
+
+    // Merge the partial results
+    CurrencyValueAggregator ret = null;
+    for (final CurrencyValueAggregator aPartial : aPartials)
+      if (aPartial != null)
+      {
+        if (ret == null)
+          ret = aPartial;
+        else
+          ret.addAll (aPartial);
+      }
+    return ret != null ? ret : new CurrencyValueAggregator ();
+  }
+
+  /**
+   * Internal callback for aggregating a range of the input.
+   */
+  @FunctionalInterface
+  private interface IChunkAggregator
+  {
+    void aggregate (@NonNull CurrencyValueAggregator aTarget, int nStartIndex, int nEndIndex);
+  }
+
+  /**
+   * Sum up the amounts of parallel arrays per currency, optionally in parallel. The arrays are split
+   * into chunks of {@link MasterDataHelper#DEFAULT_BULK_CHUNK_SIZE} elements, and each chunk is
+   * aggregated on the provided executor. Arrays that fit into a single chunk are always aggregated
+   * on the calling thread.
+   *
+   * @param aCurrencies
+   *        The currency of each amount. May not be <code>null</code> and may not contain
+   *        <code>null</code> elements.
+   * @param aAmounts
+   *        The amounts. Must have the same length as the currencies. May not be <code>null</code>
+   *        and may not contain <code>null</code> elements.
+   * @param aExecutor
+   *        The executor to run the chunks on. May be <code>null</code> to aggregate all elements
+   *        on the calling thread.
+   * @return A map from currency to its total, ordered by currency. Never <code>null</code>.
+   */
+  @NonNull
+  @ReturnsMutableCopy
+  public static ICommonsMap <ECurrency, ICurrencyValue> aggregate (@NonNull final ECurrency [] aCurrencies,
+                                                                   @NonNull final BigDecimal [] aAmounts,
+                                                                   @Nullable final Executor aExecutor)
+  {
+    ValueEnforcer.notNull (aCurrencies, "Currencies");
+    ValueEnforcer.notNull (aAmounts, "Amounts");
+    ValueEnforcer.isTrue (aCurrencies.length == aAmounts.length, "Currencies and amounts differ in length");
+
+    return _aggregate (aCurrencies.length, aExecutor, (aTarget, nStart, nEnd) -> {
+      for (int i = nStart; i < nEnd; ++i)
+        aTarget._add (aCurrencies[i], aAmounts[i]);
+    }).getTotals ();
+  }
+
+  /**
+   * Sum up the amounts in minor units of parallel arrays per currency, optionally in parallel. The
+   * arrays are split into chunks of {@link MasterDataHelper#DEFAULT_BULK_CHUNK_SIZE} elements, and
+   * each chunk is aggregated on the provided executor. Arrays that fit into a single chunk are
+   * always aggregated on the calling thread.
+   *
+   * @param aCurrencies
+   *        The currency of each amount. May not be <code>null</code> and may not contain
+   *        <code>null</code> elements.
+   * @param aMinorUnits
+   *        The amounts in minor units of the respective currency. Must have the same length as the
+   *        currencies. May not be <code>null</code>.
+   * @param aExecutor
+   *        The executor to run the chunks on. May be <code>null</code> to aggregate all elements
+   *        on the calling thread.
+   * @return A map from currency to its total, ordered by currency. Never <code>null</code>.
+   */
+  @NonNull
+  @ReturnsMutableCopy
+  public static ICommonsMap <ECurrency, ICurrencyValue> aggregate (@NonNull final ECurrency [] aCurrencies,
+                                                                   @NonNull final long [] aMinorUnits,
+                                                                   @Nullable final Executor aExecutor)
+  {
+    ValueEnforcer.notNull (aCurrencies, "Currencies");
+    ValueEnforcer.notNull (aMinorUnits, "MinorUnits");
+    ValueEnforcer.isTrue (aCurrencies.length == aMinorUnits.length,
+                          "Currencies and minor units differ in length");
+
+    return _aggregate (aCurrencies.length, aExecutor, (aTarget, nStart, nEnd) -> {
+      for (int i = nStart; i < nEnd; ++i)
+        aTarget._addMinorUnits (aCurrencies[i], aMinorUnits[i]);
+    }).getTotals ();
+  }
+
+  /**
+   * Sum up the currency values of a list per currency, optionally in parallel. The list is split
+   * into chunks of {@link MasterDataHelper#DEFAULT_BULK_CHUNK_SIZE} elements, and each chunk is
+   * aggregated on the provided executor. Lists that fit into a single chunk are always aggregated
+   * on the calling thread.
+   *
+   * @param aValues
+   *        The values to aggregate. May not be <code>null</code> and may not contain
+   *        <code>null</code> elements. The list should provide fast random access and must not be
+   *        modified while aggregating.
+   * @param aExecutor
+   *        The executor to run the chunks on. May be <code>null</code> to aggregate all elements
+   *        on the calling thread.
+   * @return A map from currency to its total, ordered by currency. Never <code>null</code>.
+   */
+  @NonNull
+  @ReturnsMutableCopy
+  public static ICommonsMap <ECurrency, ICurrencyValue> aggregate (@NonNull final List <? extends ICurrencyValue> aValues,
+                                                                   @Nullable final Executor aExecutor)
+  {
+    ValueEnforcer.notNull (aValues, "Values");
+
+    return _aggregate (aValues.size (), aExecutor, (aTarget, nStart, nEnd) -> {
+      for (int i = nStart; i < nEnd; ++i)
+      {
+        final ICurrencyValue aValue = aValues.get (i);
+        aTarget._add (aValue.getCurrency (), aValue.getValue ());
+      }
+    }).getTotals ();
+  }
+
+  /**
+   * @return A collector that sums up the currency values of a stream per currency. Parallel streams
+   *         are reduced with one aggregator per thread. The result is a map from currency to its
+   *         total, ordered by currency. Never <code>null</code>.
+   */
+  @NonNull
+  public static Collector <ICurrencyValue, ?, ICommonsMap <ECurrency, ICurrencyValue>> toTotals ()
+  {
+    return Collector.of (CurrencyValueAggregator::new, CurrencyValueAggregator::add, (aAgg1, aAgg2) -> {
+      aAgg1.addAll (aAgg2);
+      return aAgg1;
+    }, CurrencyValueAggregator::getTotals, Collector.Characteristics.UNORDERED);
+  }
+}
@@ -30,5 +30,7 @@ public final class CurrencyValueMicroTypeConverterRegistrar implements IMicroTyp
   public void registerMicroTypeConverter (@NonNull final IMicroTypeConverterRegistry aRegistry)
   {
     aRegistry.registerMicroElementTypeConverter (CurrencyValue.class, new CurrencyValueMicroTypeConverter ());
+    aRegistry.registerMicroElementTypeConverter (MinorUnitCurrencyValue.class,
+                                                 new MinorUnitCurrencyValueMicroTypeConverter ());
   }
 }
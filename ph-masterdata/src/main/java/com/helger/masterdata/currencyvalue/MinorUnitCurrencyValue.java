@@ -0,0 +1,570 @@
+/*
+ * Copyright (C) 2014-2026 Philip Helger (www.helger.com)
+ * philip[at]helger[dot]com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.helger.masterdata.currencyvalue;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import org.jspecify.annotations.NonNull;
+
+import com.helger.annotation.CheckReturnValue;
+import com.helger.annotation.Nonnegative;
+import com.helger.annotation.concurrent.Immutable;
+import com.helger.base.enforce.ValueEnforcer;
+import com.helger.base.hashcode.HashCodeGenerator;
+import com.helger.base.tostring.ToStringGenerator;
+import com.helger.masterdata.currency.CurrencyHelper;
+import com.helger.masterdata.currency.ECurrency;
+import com.helger.masterdata.currency.IHasCurrency;
+
+/**
+ * An immutable currency value that is stored as a <code>long</code> number of minor units (e.g.
+ * cents), based on the scale of the currency as defined by {@link CurrencyHelper#getScale(ECurrency)}.
+ * So for EUR the value 12.34 is stored as 1234 whereas for JPY the value 1234 is stored as 1234.
+ * <br>
+ * All arithmetic operations check for overflow and throw an {@link ArithmeticException} in that
+ * case. Operations that may require rounding either take an explicit {@link RoundingMode} or use
+ * the rounding mode of the currency as defined by {@link CurrencyHelper#getRoundingMode(ECurrency)}.
+ *
+ * @author Philip Helger
+ * @since 8.2.1
+ * @see CurrencyValue
+ */
+@Immutable
+public final class MinorUnitCurrencyValue implements IHasCurrency, Serializable
+{
+  private final ECurrency m_eCurrency;
+  private final long m_nMinorUnits;
+
+  /**
+   * Constructor
+   *
+   * @param eCurrency
+   *        The currency to use. May not be <code>null</code>.
+   * @param nMinorUnits
+   *        The value in minor units of the currency.
+   */
+  public MinorUnitCurrencyValue (@NonNull final ECurrency eCurrency, final long nMinorUnits)
+  {
+    ValueEnforcer.notNull (eCurrency, "Currency");
+    m_eCurrency = eCurrency;
+    m_nMinorUnits = nMinorUnits;
+  }
+
+  @NonNull
+  public ECurrency getCurrency ()
+  {
+    return m_eCurrency;
+  }
+
+  /**
+   * @return The value in minor units of the currency, e.g. 1234 for 12.34 EUR.
+   */
+  public long getMinorUnits ()
+  {
+    return m_nMinorUnits;
+  }
+
+  /**
+   * @return The number of fraction digits of the currency. Always &ge; 0.
+   */
+  @Nonnegative
+  public int getScale ()
+  {
+    return CurrencyHelper.getScale (m_eCurrency);
+  }
+
+  /**
+   * @return The value as a {@link BigDecimal} with the scale of the currency. Never
+   *         <code>null</code>.
+   */
+  @NonNull
+  public BigDecimal getValue ()
+  {
+    return BigDecimal.valueOf (m_nMinorUnits, getScale ());
+  }
+
+  /**
+   * @return The value as a new {@link CurrencyValue}. The conversion is lossless. Never
+   *         <code>null</code>.
+   */
+  @NonNull
+  @CheckReturnValue
+  public CurrencyValue getAsCurrencyValue ()
+  {
+    return new CurrencyValue (m_eCurrency, getValue ());
+  }
+
+  public boolean isLT0 ()
+  {
+    return m_nMinorUnits < 0;
+  }
+
+  public boolean isLE0 ()
+  {
+    return m_nMinorUnits <= 0;
+  }
+
+  public boolean isEQ0 ()
+  {
+    return m_nMinorUnits == 0;
+  }
+
+  public boolean isNE0 ()
+  {
+    return m_nMinorUnits != 0;
+  }
+
+  public boolean isGT0 ()
+  {
+    return m_nMinorUnits > 0;
+  }
+
+  public boolean isGE0 ()
+  {
+    return m_nMinorUnits >= 0;
+  }
+
+  @NonNull
+  private MinorUnitCurrencyValue _getWithMinorUnits (final long nMinorUnits)
+  {
+    return nMinorUnits == m_nMinorUnits ? this : new MinorUnitCurrencyValue (m_eCurrency, nMinorUnits);
+  }
+
+  private void _checkSameCurrency (@NonNull final MinorUnitCurrencyValue aOther)
+  {
+    ValueEnforcer.notNull (aOther, "Other");
+    if (aOther.m_eCurrency != m_eCurrency)
+      throw new IllegalArgumentException ("Currency mismatch: " + m_eCurrency + " and " + aOther.m_eCurrency);
+  }
+
+  /**
+   * @param nMinorUnits
+   *        The minor units to add.
+   * @return The added value with the same currency. Never <code>null</code>.
+   * @throws ArithmeticException
+   *         in case of an overflow
+   */
+  @NonNull
+  @CheckReturnValue
+  public MinorUnitCurrencyValue getAdded (final long nMinorUnits)
+  {
+    return _getWithMinorUnits (Math.addExact (m_nMinorUnits, nMinorUnits));
+  }
+
+  /**
+   * @param aValue
+   *        The value to add. Must have the same currency. May not be <code>null</code>.
+   * @return The added value with the same currency. Never <code>null</code>.
+   * @throws IllegalArgumentException
+   *         if the currencies differ
+   * @throws ArithmeticException
+   *         in case of an overflow
+   */
+  @NonNull
+  @CheckReturnValue
+  public MinorUnitCurrencyValue getAdded (@NonNull final MinorUnitCurrencyValue aValue)
+  {
+    _checkSameCurrency (aValue);
+    return getAdded (aValue.m_nMinorUnits);
+  }
+
+  /**
+   * @param nMinorUnits
+   *        The minor units to subtract.
+   * @return The subtracted value with the same currency. Never <code>null</code>.
+   * @throws ArithmeticException
+   *         in case of an overflow
+   */
+  @NonNull
+  @CheckReturnValue
+  public MinorUnitCurrencyValue getSubtracted (final long nMinorUnits)
+  {
+    return _getWithMinorUnits (Math.subtractExact (m_nMinorUnits, nMinorUnits));
+  }
+
+  /**
+   * @param aValue
+   *        The value to subtract. Must have the same currency. May not be <code>null</code>.
+   * @return The subtracted value with the same currency. Never <code>null</code>.
+   * @throws IllegalArgumentException
+   *         if the currencies differ
+   * @throws ArithmeticException
+   *         in case of an overflow
+   */
+  @NonNull
+  @CheckReturnValue
+  public MinorUnitCurrencyValue getSubtracted (@NonNull final MinorUnitCurrencyValue aValue)
+  {
+    _checkSameCurrency (aValue);
+    return getSubtracted (aValue.m_nMinorUnits);
+  }
+
+  /**
+   * @return The negated value with the same currency. Never <code>null</code>.
+   * @throws ArithmeticException
+   *         in case of an overflow
+   */
+  @NonNull
+  @CheckReturnValue
+  public MinorUnitCurrencyValue getNegated ()
+  {
+    return _getWithMinorUnits (Math.negateExact (m_nMinorUnits));
+  }
+
+  /**
+   * @param nFactor
+   *        The factor to multiply with.
+   * @return The multiplied value with the same currency. Never <code>null</code>.
+   * @throws ArithmeticException
+   *         in case of an overflow
+   */
+  @NonNull
+  @CheckReturnValue
+  public MinorUnitCurrencyValue getMultiplied (final long nFactor)
+  {
+    return _getWithMinorUnits (Math.multiplyExact (m_nMinorUnits, nFactor));
+  }
+
+  /**
+   * Multiply with the passed factor and round the result to minor units with the rounding mode of
+   * the currency.
+   *
+   * @param aFactor
+   *        The factor to multiply with. May not be <code>null</code>.
+   * @return The multiplied value with the same currency. Never <code>null</code>.
+   * @throws ArithmeticException
+   *         in case of an overflow
+   */
+  @NonNull
+  @CheckReturnValue
+  public MinorUnitCurrencyValue getMultiplied (@NonNull final BigDecimal aFactor)
+  {
+    return getMultiplied (aFactor, CurrencyHelper.getRoundingMode (m_eCurrency));
+  }
+
+  /**
+   * Multiply with the passed factor and round the result to minor units.
+   *
+   * @param aFactor
+   *        The factor to multiply with. May not be <code>null</code>.
+   * @param eRoundingMode
+   *        The rounding mode to use. May not be <code>null</code>.
+   * @return The multiplied value with the same currency. Never <code>null</code>.
+   * @throws ArithmeticException
+   *         in case of an overflow or if {@link RoundingMode#UNNECESSARY} is used and rounding is
+   *         necessary
+   */
+  @NonNull
+  @CheckReturnValue
+  public MinorUnitCurrencyValue getMultiplied (@NonNull final BigDecimal aFactor,
+                                               @NonNull final RoundingMode eRoundingMode)
+  {
+    ValueEnforcer.notNull (aFactor, "Factor");
+    ValueEnforcer.notNull (eRoundingMode, "RoundingMode");
+
+    if (aFactor.scale () == 0 && aFactor.unscaledValue ().bitLength () < 64)
+    {
+      // Integral factor - no rounding needed
+      return getMultiplied (aFactor.longValue ());
+    }
+    return _getWithMinorUnits (BigDecimal.valueOf (m_nMinorUnits)
+                                         .multiply (aFactor)
+                                         .setScale (0, eRoundingMode)
+                                         .longValueExact ());
+  }
+
+  /**
+   * Divide the passed values and round the result to an integer.
+   *
+   * @param nDividend
+   *        The dividend.
+   * @param nDivisor
+   *        The divisor. Must not be 0.
+   * @param eRoundingMode
+   *        The rounding mode to use. May not be <code>null</code>.
+   * @return The rounded quotient.
+   * @throws ArithmeticException
+   *         if the divisor is 0, in case of an overflow or if {@link RoundingMode#UNNECESSARY} is
+   *         used and rounding is necessary
+   */
+  static long getDivided (final long nDividend, final long nDivisor, @NonNull final RoundingMode eRoundingMode)
+  {
+    if (nDividend == Long.MIN_VALUE && nDivisor == -1)
+      throw new ArithmeticException ("long overflow");
+
+    final long nQuotient = nDividend / nDivisor;
+    final long nRemainder = nDividend % nDivisor;
+    if (nRemainder == 0)
+      return nQuotient;
+
+    final boolean bNegative = (nDividend ^ nDivisor) < 0;
+    // Compare the remainder with the half divisor as unsigned values, as the absolute value of
+    // Long.MIN_VALUE does not fit into a long
+    final long nAbsRemainder = Math.abs (nRemainder);
+    final long nAbsDivisor = nDivisor < 0 ? -nDivisor : nDivisor;
+    final int nCmpHalf = Long.compareUnsigned (nAbsRemainder, nAbsDivisor - nAbsRemainder);
+
+    final boolean bAwayFromZero;
+    switch (eRoundingMode)
+    {
+      case UP:
+        bAwayFromZero = true;
+        break;
+      case DOWN:
+        bAwayFromZero = false;
+        break;
+      case CEILING:
+        bAwayFromZero = !bNegative;
+        break;
+      case FLOOR:
+        bAwayFromZero = bNegative;
+        break;
+      case HALF_UP:
+        bAwayFromZero = nCmpHalf >= 0;
+        break;
+      case HALF_DOWN:
+        bAwayFromZero = nCmpHalf > 0;
+        break;
+      case HALF_EVEN:
+        bAwayFromZero = nCmpHalf > 0 || (nCmpHalf == 0 && (nQuotient & 1) != 0);
+        break;
+      case UNNECESSARY:
+        throw new ArithmeticException ("Rounding necessary");
+      default:
+        throw new IllegalStateException ("Unsupported rounding mode " + eRoundingMode);
+    }
+    if (!bAwayFromZero)
+      return nQuotient;
+    return bNegative ? nQuotient - 1 : nQuotient + 1;
+  }
+
+  /**
+   * Divide by the passed divisor and round the result to minor units with the rounding mode of
+   * the currency.
+   *
+   * @param nDivisor
+   *        The divisor. Must not be 0.
+   * @return The divided value with the same currency. Never <code>null</code>.
+   * @throws ArithmeticException
+   *         if the divisor is 0 or in case of an overflow
+   */
+  @NonNull
+  @CheckReturnValue
+  public MinorUnitCurrencyValue getDivided (final long nDivisor)
+  {
+    return getDivided (nDivisor, CurrencyHelper.getRoundingMode (m_eCurrency));
+  }
+
+  /**
+   * Divide by the passed divisor and round the result to minor units.
+   *
+   * @param nDivisor
+   *        The divisor. Must not be 0.
+   * @param eRoundingMode
+   *        The rounding mode to use. May not be <code>null</code>.
+   * @return The divided value with the same currency. Never <code>null</code>.
+   * @throws ArithmeticException
+   *         if the divisor is 0, in case of an overflow or if {@link RoundingMode#UNNECESSARY} is
+   *         used and rounding is necessary
+   */
+  @NonNull
+  @CheckReturnValue
+  public MinorUnitCurrencyValue getDivided (final long nDivisor, @NonNull final RoundingMode eRoundingMode)
+  {
+    ValueEnforcer.notNull (eRoundingMode, "RoundingMode");
+    return _getWithMinorUnits (getDivided (m_nMinorUnits, nDivisor, eRoundingMode));
+  }
+
+  /**
+   * Divide by the passed divisor and round the result to minor units with the rounding mode of
+   * the currency.
+   *
+   * @param aDivisor
+   *        The divisor. May neither be <code>null</code> nor 0.
+   * @return The divided value with the same currency. Never <code>null</code>.
+   * @throws ArithmeticException
+   *         if the divisor is 0 or in case of an overflow
+   */
+  @NonNull
+  @CheckReturnValue
+  public MinorUnitCurrencyValue getDivided (@NonNull final BigDecimal aDivisor)
+  {
+    return getDivided (aDivisor, CurrencyHelper.getRoundingMode (m_eCurrency));
+  }
+
+  /**
+   * Divide by the passed divisor and round the result to minor units.
+   *
+   * @param aDivisor
+   *        The divisor. May neither be <code>null</code> nor 0.
+   * @param eRoundingMode
+   *        The rounding mode to use. May not be <code>null</code>.
+   * @return The divided value with the same currency. Never <code>null</code>.
+   * @throws ArithmeticException
+   *         if the divisor is 0, in case of an overflow or if {@link RoundingMode#UNNECESSARY} is
+   *         used and rounding is necessary
+   */
+  @NonNull
+  @CheckReturnValue
+  public MinorUnitCurrencyValue getDivided (@NonNull final BigDecimal aDivisor,
+                                            @NonNull final RoundingMode eRoundingMode)
+  {
+    ValueEnforcer.notNull (aDivisor, "Divisor");
+    ValueEnforcer.notNull (eRoundingMode, "RoundingMode");
+
+    if (aDivisor.scale () == 0 && aDivisor.unscaledValue ().bitLength () < 64)
+    {
+      // Integral divisor
+      return getDivided (aDivisor.longValue (), eRoundingMode);
+    }
+    return _getWithMinorUnits (BigDecimal.valueOf (m_nMinorUnits)
+                                         .divide (aDivisor, 0, eRoundingMode)
+                                         .longValueExact ());
+  }
+
+  /**
+   * @return The value as a formatted currency including the currency sign. The scale is defined by
+   *         the currency.
+   */
+  @NonNull
+  public String getCurrencyFormatted ()
+  {
+    return CurrencyHelper.getCurrencyFormatter (m_eCurrency).getFormattedScaled (m_nMinorUnits, getScale ());
+  }
+
+  /**
+   * @return The value as a formatted currency excluding the currency sign. The scale is defined by
+   *         the currency.
+   */
+  @NonNull
+  public String getValueFormatted ()
+  {
+    return CurrencyHelper.getValueFormatter (m_eCurrency).getFormattedScaled (m_nMinorUnits, getScale ());
+  }
+
+  @Override
+  public boolean equals (final Object o)
+  {
+    if (o == this)
+      return true;
+    if (o == null || !getClass ().equals (o.getClass ()))
+      return false;
+    final MinorUnitCurrencyValue rhs = (MinorUnitCurrencyValue) o;
+    return m_eCurrency.equals (rhs.m_eCurrency) && m_nMinorUnits == rhs.m_nMinorUnits;
+  }
+
+  @Override
+  public int hashCode ()
+  {
+    return new HashCodeGenerator (this).append (m_eCurrency).append (m_nMinorUnits).getHashCode ();
+  }
+
+  @Override
+  public String toString ()
+  {
+    return new ToStringGenerator (this).append ("currency", m_eCurrency)
+                                       .append ("minorUnits", m_nMinorUnits)
+                                       .getToString ();
+  }
+
+  /**
+   * Create a new value from the passed amount. The amount must not have more fraction digits than
+   * the currency (ignoring trailing zeros).
+   *
+   * @param eCurrency
+   *        The currency to use. May not be <code>null</code>.
+   * @param aValue
+   *        The amount. May not be <code>null</code>.
+   * @return The new value. Never <code>null</code>.
+   * @throws ArithmeticException
+   *         if rounding would be necessary or if the value does not fit into a long
+   */
+  @NonNull
+  public static MinorUnitCurrencyValue of (@NonNull final ECurrency eCurrency, @NonNull final BigDecimal aValue)
+  {
+    return of (eCurrency, aValue, RoundingMode.UNNECESSARY);
+  }
+
+  /**
+   * Create a new value from the passed amount, rounded to the scale of the currency.
+   *
+   * @param eCurrency
+   *        The currency to use. May not be <code>null</code>.
+   * @param aValue
+   *        The amount. May not be <code>null</code>.
+   * @param eRoundingMode
+   *        The rounding mode to use. May not be <code>null</code>.
+   * @return The new value. Never <code>null</code>.
+   * @throws ArithmeticException
+   *         if the value does not fit into a long or if {@link RoundingMode#UNNECESSARY} is used
+   *         and rounding is necessary
+   */
+  @NonNull
+  public static MinorUnitCurrencyValue of (@NonNull final ECurrency eCurrency,
+                                           @NonNull final BigDecimal aValue,
+                                           @NonNull final RoundingMode eRoundingMode)
+  {
+    ValueEnforcer.notNull (eCurrency, "Currency");
+    ValueEnforcer.notNull (aValue, "Value");
+    ValueEnforcer.notNull (eRoundingMode, "RoundingMode");
+
+    final long nMinorUnits = aValue.setScale (CurrencyHelper.getScale (eCurrency), eRoundingMode)
+                                   .unscaledValue ()
+                                   .longValueExact ();
+    return new MinorUnitCurrencyValue (eCurrency, nMinorUnits);
+  }
+
+  /**
+   * Create a new value from the passed currency value. The conversion is lossless.
+   *
+   * @param aValue
+   *        The currency value to convert. May not be <code>null</code>.
+   * @return The new value. Never <code>null</code>.
+   * @throws ArithmeticException
+   *         if the value has more fraction digits than the currency or if the value does not fit
+   *         into a long
+   * @see #of(ICurrencyValue, RoundingMode)
+   */
+  @NonNull
+  public static MinorUnitCurrencyValue of (@NonNull final ICurrencyValue aValue)
+  {
+    ValueEnforcer.notNull (aValue, "Value");
+    return of (aValue.getCurrency (), aValue.getValue ());
+  }
+
+  /**
+   * Create a new value from the passed currency value, rounded to the scale of the currency.
+   *
+   * @param aValue
+   *        The currency value to convert. May not be <code>null</code>.
+   * @param eRoundingMode
+   *        The rounding mode to use. May not be <code>null</code>.
+   * @return The new value. Never <code>null</code>.
+   * @throws ArithmeticException
+   *         if the value does not fit into a long or if {@link RoundingMode#UNNECESSARY} is used
+   *         and rounding is necessary
+   */
+  @NonNull
+  public static MinorUnitCurrencyValue of (@NonNull final ICurrencyValue aValue,
+                                           @NonNull final RoundingMode eRoundingMode)
+  {
+    ValueEnforcer.notNull (aValue, "Value");
+    return of (aValue.getCurrency (), aValue.getValue (), eRoundingMode);
+  }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (C) 2014-2026 Philip Helger (www.helger.com)
+ * philip[at]helger[dot]com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.helger.masterdata.currencyvalue;
+
+import java.math.BigDecimal;
+
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import com.helger.masterdata.currency.CurrencyHelper;
+import com.helger.masterdata.currency.ECurrency;
+import com.helger.xml.microdom.IMicroElement;
+import com.helger.xml.microdom.IMicroQName;
+import com.helger.xml.microdom.MicroElement;
+import com.helger.xml.microdom.MicroQName;
+import com.helger.xml.microdom.convert.IMicroTypeConverter;
+
+/**
+ * MicroType converter for {@link MinorUnitCurrencyValue}. The value is serialized as a decimal
+ * number, so that the XML representation is identical to the one of {@link CurrencyValue}. When
+ * reading, values with more fraction digits than the currency are rounded with the rounding mode
+ * of the currency (see {@link CurrencyHelper#getRoundingMode(ECurrency)}). As for
+ * {@link CurrencyValue}, an unknown currency ID is not supported.
+ *
+ * @author Philip Helger
+ * @since 8.2.1
+ */
+public class MinorUnitCurrencyValueMicroTypeConverter implements IMicroTypeConverter <MinorUnitCurrencyValue>
+{
+  private static final IMicroQName ATTR_CURRENCY = new MicroQName ("currency");
+  private static final IMicroQName ATTR_VALUE = new MicroQName ("value");
+
+  @NonNull
+  public IMicroElement convertToMicroElement (@NonNull final MinorUnitCurrencyValue aValue,
+                                              @Nullable final String sNamespaceURI,
+                                              @NonNull final String sTagName)
+  {
+    final IMicroElement ePrice = new MicroElement (sNamespaceURI, sTagName);
+    ePrice.setAttribute (ATTR_CURRENCY, aValue.getCurrency ().getID ());
+    ePrice.setAttributeWithConversion (ATTR_VALUE, aValue.getValue ());
+    return ePrice;
+  }
+
+  @NonNull
+  public MinorUnitCurrencyValue convertToNative (@NonNull final IMicroElement ePrice)
+  {
+    final ECurrency eCurrency = ECurrency.getFromIDOrNull (ePrice.getAttributeValue (ATTR_CURRENCY));
+    final BigDecimal aValue = ePrice.getAttributeValueWithConversion (ATTR_VALUE, BigDecimal.class);
+    return MinorUnitCurrencyValue.of (eCurrency, aValue, CurrencyHelper.getRoundingMode (eCurrency));
+  }
+}
@@ -16,6 +16,8 @@
  */
 package com.helger.masterdata.ean;
 
+import java.util.List;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 
 import org.jspecify.annotations.NonNull;
@@ -23,9 +25,12 @@ import org.jspecify.annotations.Nullable;
 
 import com.helger.annotation.Nonempty;
 import com.helger.annotation.Nonnegative;
+import com.helger.annotation.style.ReturnsMutableCopy;
+import com.helger.base.enforce.ValueEnforcer;
 import com.helger.base.string.StringHelper;
-import com.helger.collection.commons.CommonsHashSet;
-import com.helger.collection.commons.ICommonsSet;
+import com.helger.collection.commons.CommonsArrayList;
+import com.helger.collection.commons.ICommonsList;
+import com.helger.masterdata.MasterDataHelper;
 
 /**
  * GS1 company prefix<br>
@@ -167,10 +172,64 @@ public enum EGS1Prefix
   X11 ("981", "984", "GS1 coupon identification for common currency areas", null),
   X12 ("99", null, "GS1 coupon identification", null);
 
+  /** The number of digits used for the direct lookup table */
+  private static final int BUCKET_DIGITS = 3;
+  private static final int BUCKET_COUNT = 1000;
+  private static final EGS1Prefix [] NO_PREFIXES = new EGS1Prefix [0];
+
+  /**
+   * The candidates for each combination of the first 3 digits of a code, in declaration order.
+   * Mostly this is a single item. Longer prefixes need to be checked in detail, shorter prefixes
+   * always match.
+   */
+  private static final EGS1Prefix [] [] BUCKETS = new EGS1Prefix [BUCKET_COUNT] [];
+  /** All prefixes with less than 3 digits, in declaration order */
+  private static final EGS1Prefix [] SHORT_PREFIXES;
+
+  static
+  {
+    final ICommonsList <EGS1Prefix> aShortPrefixes = new CommonsArrayList <> ();
+    for (final EGS1Prefix e : values ())
+      if (e.getPrefixLength () < BUCKET_DIGITS)
+        aShortPrefixes.add (e);
+    SHORT_PREFIXES = aShortPrefixes.toArray (NO_PREFIXES);
+
+    for (int nBucket = 0; nBucket < BUCKET_COUNT; ++nBucket)
+    {
+      final ICommonsList <EGS1Prefix> aCandidates = new CommonsArrayList <> ();
+      for (final EGS1Prefix e : values ())
+      {
+        final int nLength = e.getPrefixLength ();
+        final boolean bCovers;
+        if (nLength >= BUCKET_DIGITS)
+        {
+          final int nDivisor = _getPowerOf10 (nLength - BUCKET_DIGITS);
+          bCovers = nBucket >= e.m_nFromValue / nDivisor && nBucket <= e.m_nToValue / nDivisor;
+        }
+        else
+        {
+          final int nValue = nBucket / _getPowerOf10 (BUCKET_DIGITS - nLength);
+          bCovers = nValue >= e.m_nFromValue && nValue <= e.m_nToValue;
+        }
+        if (bCovers)
+        {
+          aCandidates.add (e);
+          // Prefixes with up to 3 digits match all codes in this bucket - the following ones are
+          // never used
+          if (nLength <= BUCKET_DIGITS)
+            break;
+        }
+      }
+      BUCKETS[nBucket] = aCandidates.toArray (NO_PREFIXES);
+    }
+  }
+
   private final String m_sFrom;
   private final String m_sTo;
   private final String m_sDescription;
   private final String m_sCountryCode;
+  private final int m_nFromValue;
+  private final int m_nToValue;
 
   EGS1Prefix (@NonNull @Nonempty final String sFrom,
               @Nullable final String sTo,
@@ -181,6 +240,16 @@ public enum EGS1Prefix
     m_sTo = sTo;
     m_sDescription = sDescription;
     m_sCountryCode = sCountryCode;
+    m_nFromValue = Integer.parseInt (sFrom);
+    m_nToValue = sTo == null ? m_nFromValue : Integer.parseInt (sTo);
+  }
+
+  private static int _getPowerOf10 (final int nExponent)
+  {
+    int ret = 1;
+    for (int i = 0; i < nExponent; ++i)
+      ret *= 10;
+    return ret;
   }
 
   @NonNull
@@ -249,27 +318,105 @@ public enum EGS1Prefix
     }
   }
 
+  /**
+   * Check if the passed code starts with this prefix.
+   *
+   * @param aCode
+   *        The code to check. May not be <code>null</code>.
+   * @param nCodeLen
+   *        The length of the code.
+   * @return <code>true</code> if the code starts with a prefix in the range of this item.
+   */
+  private boolean _matches (@NonNull final CharSequence aCode, final int nCodeLen)
+  {
+    final int nLength = m_sFrom.length ();
+    if (nCodeLen < nLength)
+      return false;
+    int nValue = 0;
+    for (int i = 0; i < nLength; ++i)
+    {
+      final char c = aCode.charAt (i);
+      if (c < '0' || c > '9')
+        return false;
+      nValue = nValue * 10 + (c - '0');
+    }
+    return nValue >= m_nFromValue && nValue <= m_nToValue;
+  }
+
   @Nullable
   public static EGS1Prefix getPrefixFromCode (@Nullable final String sCode)
   {
-    // Input code length
-    final int nCodeLen = StringHelper.getLength (sCode);
-    if (nCodeLen > 0)
-    {
-      // Outside of the loop for performance
-      final ICommonsSet <String> aPrefixes = new CommonsHashSet <> (100);
-      for (final EGS1Prefix e : values ())
-        if (nCodeLen >= e.getPrefixLength ())
-        {
-          final String sUsablePrefix = sCode.substring (0, e.getPrefixLength ());
+    return getPrefixFromCode ((CharSequence) sCode);
+  }
+
+  /**
+   * Determine the GS1 prefix of the passed code (e.g. a GTIN). This uses a precomputed lookup table
+   * on the first 3 digits and does not allocate.
+   *
+   * @param aCode
+   *        The code to check. May be <code>null</code>.
+   * @return <code>null</code> if no prefix matches the passed code.
+   * @since 8.2.1
+   */
+  @Nullable
+  public static EGS1Prefix getPrefixFromCode (@Nullable final CharSequence aCode)
+  {
+    if (aCode == null)
+      return null;
 
-          aPrefixes.clear ();
-          e.iterateAllPrefixes (aPrefixes::add);
-          if (aPrefixes.contains (sUsablePrefix))
+    final int nCodeLen = aCode.length ();
+    if (nCodeLen >= BUCKET_DIGITS)
+    {
+      final char c0 = aCode.charAt (0);
+      final char c1 = aCode.charAt (1);
+      final char c2 = aCode.charAt (2);
+      if (c0 >= '0' && c0 <= '9' && c1 >= '0' && c1 <= '9' && c2 >= '0' && c2 <= '9')
+      {
+        final EGS1Prefix [] aCandidates = BUCKETS[(c0 - '0') * 100 + (c1 - '0') * 10 + (c2 - '0')];
+        for (final EGS1Prefix e : aCandidates)
+          if (e.getPrefixLength () <= BUCKET_DIGITS || e._matches (aCode, nCodeLen))
             return e;
-        }
+        return null;
+      }
     }
 
+    // Too short or not only digits - only the short prefixes can match
+    for (final EGS1Prefix e : SHORT_PREFIXES)
+      if (e._matches (aCode, nCodeLen))
+        return e;
     return null;
   }
+
+  /**
+   * Determine the GS1 prefixes of all passed codes, optionally in parallel. The list is split into
+   * chunks of {@link MasterDataHelper#DEFAULT_BULK_CHUNK_SIZE} elements, and each chunk is processed
+   * on the provided executor.
+   *
+   * @param aCodes
+   *        The codes to check. May not be <code>null</code> but may contain <code>null</code>
+   *        elements. The list should provide fast random access and must not be modified while
+   *        processing.
+   * @param aExecutor
+   *        The executor to run the chunks on. May be <code>null</code> to process all elements on
+   *        the calling thread.
+   * @return An array with one element per input element in the same order. An element is
+   *         <code>null</code> if no prefix matches. Never <code>null</code>.
+   * @see #getPrefixFromCode(CharSequence)
+   * @since 8.2.1
+   */
+  @NonNull
+  @ReturnsMutableCopy
+  public static EGS1Prefix [] getPrefixesFromCodes (@NonNull final List <? extends CharSequence> aCodes,
+                                                    @Nullable final Executor aExecutor)
+  {
+    ValueEnforcer.notNull (aCodes, "Codes");
+
+    final int nCount = aCodes.size ();
+    final EGS1Prefix [] ret = new EGS1Prefix [nCount];
+    MasterDataHelper.forEachChunk (nCount, MasterDataHelper.DEFAULT_BULK_CHUNK_SIZE, aExecutor, (nStart, nEnd) -> {
+      for (int i = nStart; i < nEnd; ++i)
+        ret[i] = getPrefixFromCode (aCodes.get (i));
+    });
+    return ret;
+  }
 }
@@ -16,13 +16,22 @@
  */
 package com.helger.masterdata.ean;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+
 import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.Nullable;
 
 import com.helger.annotation.Nonnegative;
 import com.helger.annotation.concurrent.Immutable;
 import com.helger.annotation.style.PresentForCodeCoverage;
+import com.helger.annotation.style.ReturnsMutableCopy;
+import com.helger.base.enforce.ValueEnforcer;
 import com.helger.base.string.StringHelper;
+import com.helger.masterdata.validation.EValidationCacheType;
+import com.helger.masterdata.validation.ValidationCache;
+import com.helger.masterdata.validation.ValidationCacheManager;
 
 /**
  * Utility class that makes verification of GTIN numbers a bit simpler :)
@@ -32,27 +41,113 @@ import com.helger.base.string.StringHelper;
 @Immutable
 public final class GTINValidator
 {
+  /** The code length of a GTIN-8 */
+  public static final int LENGTH_GTIN8 = 8;
+  /** The code length of a GTIN-12 (UPC-A) */
+  public static final int LENGTH_GTIN12 = 12;
+  /** The code length of a GTIN-13 (EAN-13) and a GLN */
+  public static final int LENGTH_GTIN13 = 13;
+  /** The code length of a GTIN-14 */
+  public static final int LENGTH_GTIN14 = 14;
+  /** The code length of an SSCC */
+  public static final int LENGTH_SSCC = 18;
+
+  /**
+   * The checksum weights per supported code length, including the check digit with weight 1. The
+   * weights alternate between 3 and 1 starting from the right.
+   */
+  private static final int [] [] WEIGHTS = new int [LENGTH_SSCC + 1] [];
+
+  /** Reads 8 bytes of a byte array as one little endian long */
+  private static final VarHandle LONG_LE = MethodHandles.byteArrayViewVarHandle (long [].class,
+                                                                                 ByteOrder.LITTLE_ENDIAN);
+  private static final long HIGH_NIBBLES = 0xF0F0F0F0F0F0F0F0L;
+  private static final long ASCII_ZEROS = 0x3030303030303030L;
+  private static final long SIXES = 0x0606060606060606L;
+  private static final long BYTE_SUM = 0x0101010101010101L;
+
+  /**
+   * The batch validation reads each code in 8 byte words. Per supported code length this contains
+   * the offset of each word within the code (the last word may overlap with the previous one).
+   */
+  private static final int [] [] WORD_OFFSETS = new int [LENGTH_SSCC + 1] [];
+  /**
+   * Per supported code length and word: 0x0F for each byte that is not covered by a previous word.
+   */
+  private static final long [] [] WORD_DIGIT_MASKS = new long [LENGTH_SSCC + 1] [];
+  /**
+   * Per supported code length and word: 0x0F for each byte that is not covered by a previous word
+   * and has the weight 3.
+   */
+  private static final long [] [] WORD_WEIGHT3_MASKS = new long [LENGTH_SSCC + 1] [];
+
+  static
+  {
+    for (final int nLength : new int [] { LENGTH_GTIN8, LENGTH_GTIN12, LENGTH_GTIN13, LENGTH_GTIN14, LENGTH_SSCC })
+    {
+      final int [] aWeights = new int [nLength];
+      for (int i = 0; i < nLength; ++i)
+        aWeights[i] = ((nLength - 1 - i) % 2) == 0 ? 1 : 3;
+      WEIGHTS[nLength] = aWeights;
+
+      final int nWords = (nLength + 7) / 8;
+      final int [] aOffsets = new int [nWords];
+      final long [] aDigitMasks = new long [nWords];
+      final long [] aWeight3Masks = new long [nWords];
+      int nCovered = 0;
+      for (int nWord = 0; nWord < nWords; ++nWord)
+      {
+        final int nWordOffset = Math.min (nWord * 8, nLength - 8);
+        for (int nByte = 0; nByte < 8; ++nByte)
+        {
+          final int nPos = nWordOffset + nByte;
+          if (nPos >= nCovered)
+          {
+            aDigitMasks[nWord] |= 0x0FL << (nByte * 8);
+            if (aWeights[nPos] == 3)
+              aWeight3Masks[nWord] |= 0x0FL << (nByte * 8);
+          }
+        }
+        aOffsets[nWord] = nWordOffset;
+        nCovered = nWordOffset + 8;
+      }
+      WORD_OFFSETS[nLength] = aOffsets;
+      WORD_DIGIT_MASKS[nLength] = aDigitMasks;
+      WORD_WEIGHT3_MASKS[nLength] = aWeight3Masks;
+    }
+  }
+
   @PresentForCodeCoverage
   private static final GTINValidator INSTANCE = new GTINValidator ();
 
   private GTINValidator ()
   {}
 
-  private static boolean _containsValidChecksum (@NonNull final char [] aChars)
-  {
-    final int nCalcedChecksum = AbstractUPCEAN.calcChecksum (aChars, aChars.length - 1);
-    final int nChecksum = AbstractUPCEAN.asInt (aChars[aChars.length - 1]);
-    return nCalcedChecksum == nChecksum;
-  }
-
   private static boolean _isValidGTIN (@Nullable final String sGTIN, @Nonnegative final int nExpectedLength)
   {
     if (StringHelper.getLength (sGTIN) != nExpectedLength)
       return false;
-    final char [] aChars = sGTIN.toCharArray ();
-    if (AbstractUPCEAN.validateMessage (aChars).isInvalid ())
-      return false;
-    return _containsValidChecksum (aChars);
+
+    final ValidationCache aCache = ValidationCacheManager.getCache (EValidationCacheType.GTIN);
+    if (aCache != null)
+      return aCache.getOrCompute (sGTIN, x -> _isValidChecksum (x) ? 1 : 0) == 1;
+    return _isValidChecksum (sGTIN);
+  }
+
+  private static boolean _isValidChecksum (@NonNull final String sGTIN)
+  {
+    // Same as validateGTINs but on a String
+    final int nLength = sGTIN.length ();
+    final int [] aWeights = WEIGHTS[nLength];
+    int nSum = 0;
+    for (int i = 0; i < nLength; ++i)
+    {
+      final char c = sGTIN.charAt (i);
+      if (c < '0' || c > '9')
+        return false;
+      nSum += (c - '0') * aWeights[i];
+    }
+    return nSum % 10 == 0;
   }
 
   public static boolean isValidGTIN8 (@Nullable final String sGTIN8)
@@ -84,4 +179,110 @@ public final class GTINValidator
   {
     return _isValidGTIN (sSSCC, 18);
   }
+
+  /**
+   * Check if the passed length is a code length supported by the batch validation.
+   *
+   * @param nCodeLength
+   *        The code length to check.
+   * @return <code>true</code> for 8, 12, 13, 14 and 18.
+   * @since 8.2.1
+   */
+  public static boolean isSupportedCodeLength (final int nCodeLength)
+  {
+    return nCodeLength >= 0 && nCodeLength < WEIGHTS.length && WEIGHTS[nCodeLength] != null;
+  }
+
+  /**
+   * Validate many codes of the same length at once. The codes are stored as ASCII digits in a
+   * single byte array, one after another without separators. This avoids creating a String per
+   * code and processes 8 digits at once in a single long value.
+   *
+   * @param aBuffer
+   *        The buffer with the codes. May not be <code>null</code>.
+   * @param nOffset
+   *        The offset into the buffer where the first code starts. Must be &ge; 0.
+   * @param nCodeLength
+   *        The length of each code. Must be one of 8 (GTIN-8), 12 (GTIN-12), 13 (GTIN-13), 14
+   *        (GTIN-14) or 18 (SSCC).
+   * @param nCount
+   *        The number of codes to validate. Must be &ge; 0.
+   * @param aResults
+   *        The array to store the results in. Index 0 gets the result of the first code. Must
+   *        have at least <code>nCount</code> elements.
+   * @return The number of valid codes.
+   * @since 8.2.1
+   */
+  @Nonnegative
+  public static int validateGTINs (@NonNull final byte [] aBuffer,
+                                   @Nonnegative final int nOffset,
+                                   @Nonnegative final int nCodeLength,
+                                   @Nonnegative final int nCount,
+                                   @NonNull final boolean [] aResults)
+  {
+    ValueEnforcer.notNull (aBuffer, "Buffer");
+    ValueEnforcer.isTrue (isSupportedCodeLength (nCodeLength), () -> "Unsupported code length " + nCodeLength);
+    ValueEnforcer.isGE0 (nCount, "Count");
+    ValueEnforcer.isArrayOfsLen (aBuffer, nOffset, nCount * nCodeLength);
+    ValueEnforcer.notNull (aResults, "Results");
+    ValueEnforcer.isTrue (aResults.length >= nCount, () -> "Results array is too small");
+
+    final int [] aOffsets = WORD_OFFSETS[nCodeLength];
+    final long [] aDigitMasks = WORD_DIGIT_MASKS[nCodeLength];
+    final long [] aWeight3Masks = WORD_WEIGHT3_MASKS[nCodeLength];
+    final int nWords = aOffsets.length;
+    int nValid = 0;
+    int nPos = nOffset;
+    for (int nCode = 0; nCode < nCount; ++nCode)
+    {
+      int nSum = 0;
+      // Gets non-zero if any byte is not a digit
+      long nInvalid = 0;
+      for (int nWord = 0; nWord < nWords; ++nWord)
+      {
+        final long nBytes = (long) LONG_LE.get (aBuffer, nPos + aOffsets[nWord]);
+        // A byte is a digit if its high nibble is 3, also after adding 6
+        nInvalid |= ((nBytes & HIGH_NIBBLES) ^ ASCII_ZEROS) | (((nBytes + SIXES) & HIGH_NIBBLES) ^ ASCII_ZEROS);
+        // Each byte is at most 9 + 2 * 9 so the sum of all 8 bytes does not overflow a byte
+        final long nWeighted = (nBytes & aDigitMasks[nWord]) + ((nBytes & aWeight3Masks[nWord]) << 1);
+        nSum += (int) ((nWeighted * BYTE_SUM) >>> 56);
+      }
+      nPos += nCodeLength;
+
+      final boolean bValid = nInvalid == 0 && nSum % 10 == 0;
+      aResults[nCode] = bValid;
+      if (bValid)
+        nValid++;
+    }
+    return nValid;
+  }
+
+  /**
+   * Validate all codes of the same length contained in the passed buffer. The codes are stored as
+   * ASCII digits one after another without separators.
+   *
+   * @param aBuffer
+   *        The buffer with the codes. May not be <code>null</code>. The length must be a multiple of
+   *        the code length.
+   * @param nCodeLength
+   *        The length of each code. Must be one of 8 (GTIN-8), 12 (GTIN-12), 13 (GTIN-13), 14
+   *        (GTIN-14) or 18 (SSCC).
+   * @return An array with the validity of each code. Never <code>null</code>.
+   * @see #validateGTINs(byte[], int, int, int, boolean[])
+   * @since 8.2.1
+   */
+  @NonNull
+  @ReturnsMutableCopy
+  public static boolean [] validateGTINs (@NonNull final byte [] aBuffer, @Nonnegative final int nCodeLength)
+  {
+    ValueEnforcer.notNull (aBuffer, "Buffer");
+    ValueEnforcer.isTrue (isSupportedCodeLength (nCodeLength), () -> "Unsupported code length " + nCodeLength);
+    ValueEnforcer.isTrue (aBuffer.length % nCodeLength == 0,
+                          () -> "Buffer length " + aBuffer.length + " is not a multiple of " + nCodeLength);
+
+    final int nCount = aBuffer.length / nCodeLength;
+    final boolean [] ret = new boolean [nCount];
+    validateGTINs (aBuffer, 0, nCodeLength, nCount, ret);
+    return ret;
+  }
 }
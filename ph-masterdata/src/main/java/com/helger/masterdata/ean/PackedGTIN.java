@@ -0,0 +1,192 @@
+/*
+ * Copyright (C) 2014-2026 Philip Helger (www.helger.com)
+ * philip[at]helger[dot]com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.helger.masterdata.ean;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import com.helger.annotation.Nonempty;
+import com.helger.annotation.concurrent.Immutable;
+import com.helger.annotation.style.PresentForCodeCoverage;
+import com.helger.annotation.style.ReturnsMutableCopy;
+import com.helger.base.enforce.ValueEnforcer;
+import com.helger.masterdata.MasterDataHelper;
+
+/**
+ * Encodes GTINs as primitive <code>long</code> values. GTIN-8, GTIN-12 and GTIN-13 are normalized to
+ * GTIN-14 by prepending zeros, so the encoded value is simply the numeric value of the GTIN-14. This
+ * means that e.g. the GTIN-13 "4006381333931" and the GTIN-14 "04006381333931" have the same
+ * encoded value. Only GTINs with a valid check digit can be encoded.<br>
+ * SSCCs are not supported, because they would clash with the GTIN-14 values.
+ *
+ * @author Philip Helger
+ * @since 8.2.1
+ * @see PackedGTINSet
+ * @see PackedGTINIntMap
+ */
+@Immutable
+public final class PackedGTIN
+{
+  /** The value returned if a GTIN cannot be encoded. All valid encoded values are &ge; 0. */
+  public static final long INVALID = -1;
+
+  /** The exclusive upper bound of all encoded values */
+  private static final long MAX_VALUE_EXCL = 100_000_000_000_000L;
+
+  @PresentForCodeCoverage
+  private static final PackedGTIN INSTANCE = new PackedGTIN ();
+
+  private PackedGTIN ()
+  {}
+
+  /**
+   * Encode the passed GTIN.
+   *
+   * @param aGTIN
+   *        The GTIN-8, GTIN-12, GTIN-13 or GTIN-14 to encode. May be <code>null</code>.
+   * @return {@link #INVALID} if the passed value is <code>null</code>, has an unsupported length,
+   *         contains something else than digits or has an invalid check digit. A value &ge; 0
+   *         otherwise.
+   */
+  public static long encode (@Nullable final CharSequence aGTIN)
+  {
+    if (aGTIN == null)
+      return INVALID;
+
+    final int nLength = aGTIN.length ();
+    if (nLength != GTINValidator.LENGTH_GTIN8 &&
+        nLength != GTINValidator.LENGTH_GTIN12 &&
+        nLength != GTINValidator.LENGTH_GTIN13 &&
+        nLength != GTINValidator.LENGTH_GTIN14)
+      return INVALID;
+
+    long nValue = 0;
+    int nSum = 0;
+    for (int i = 0; i < nLength; ++i)
+    {
+      final char c = aGTIN.charAt (i);
+      if (c < '0' || c > '9')
+        return INVALID;
+      final int nDigit = c - '0';
+      nValue = nValue * 10 + nDigit;
+      // Weight 1 for the check digit, alternating with 3 from the right
+      nSum += ((nLength - 1 - i) & 1) == 0 ? nDigit : nDigit * 3;
+    }
+    return nSum % 10 == 0 ? nValue : INVALID;
+  }
+
+  /**
+   * Encode all passed GTINs, optionally in parallel. The list is split into chunks of
+   * {@link MasterDataHelper#DEFAULT_BULK_CHUNK_SIZE} elements, and each chunk is processed on the
+   * provided executor.
+   *
+   * @param aGTINs
+   *        The GTINs to encode. May not be <code>null</code> but may contain <code>null</code>
+   *        elements. The list should provide fast random access and must not be modified while
+   *        processing.
+   * @param aExecutor
+   *        The executor to run the chunks on. May be <code>null</code> to process all elements on
+   *        the calling thread.
+   * @return An array with one encoded value per input element in the same order. An element is
+   *         {@link #INVALID} if the GTIN cannot be encoded. Never <code>null</code>.
+   * @see #encode(CharSequence)
+   */
+  @NonNull
+  @ReturnsMutableCopy
+  public static long [] encodeAll (@NonNull final List <? extends CharSequence> aGTINs,
+                                   @Nullable final Executor aExecutor)
+  {
+    ValueEnforcer.notNull (aGTINs, "GTINs");
+
+    final int nCount = aGTINs.size ();
+    final long [] ret = new long [nCount];
+    MasterDataHelper.forEachChunk (nCount, MasterDataHelper.DEFAULT_BULK_CHUNK_SIZE, aExecutor, (nStart, nEnd) -> {
+      for (int i = nStart; i < nEnd; ++i)
+        ret[i] = encode (aGTINs.get (i));
+    });
+    return ret;
+  }
+
+  /**
+   * Check if the passed value is a valid encoded GTIN.
+   *
+   * @param nValue
+   *        The value to check.
+   * @return <code>true</code> if the value is in the GTIN-14 range and has a valid check digit.
+   */
+  public static boolean isValid (final long nValue)
+  {
+    if (nValue < 0 || nValue >= MAX_VALUE_EXCL)
+      return false;
+
+    long nRest = nValue;
+    int nSum = 0;
+    // Position 0 is the check digit with weight 1
+    for (int nPos = 0; nRest != 0; ++nPos)
+    {
+      final int nDigit = (int) (nRest % 10);
+      nSum += (nPos & 1) == 0 ? nDigit : nDigit * 3;
+      nRest /= 10;
+    }
+    return nSum % 10 == 0;
+  }
+
+  /**
+   * Decode the passed value to a GTIN-14.
+   *
+   * @param nValue
+   *        The encoded value. Must be a valid encoded value.
+   * @return The 14 digit GTIN including leading zeros. Never <code>null</code>.
+   * @throws IllegalArgumentException
+   *         if the passed value is not a valid encoded GTIN
+   */
+  @NonNull
+  @Nonempty
+  public static String decode (final long nValue)
+  {
+    ValueEnforcer.isTrue (isValid (nValue), () -> "Invalid encoded GTIN " + nValue);
+
+    final char [] ret = new char [GTINValidator.LENGTH_GTIN14];
+    long nRest = nValue;
+    for (int i = ret.length - 1; i >= 0; --i)
+    {
+      ret[i] = (char) ('0' + nRest % 10);
+      nRest /= 10;
+    }
+    return new String (ret);
+  }
+
+  /**
+   * Decode the passed value to a GTIN-13 if possible.
+   *
+   * @param nValue
+   *        The encoded value. Must be a valid encoded value.
+   * @return <code>null</code> if the GTIN-14 has an indicator digit other than 0 and can therefore
+   *         not be represented as a GTIN-13.
+   * @throws IllegalArgumentException
+   *         if the passed value is not a valid encoded GTIN
+   */
+  @Nullable
+  public static String decodeToGTIN13OrNull (final long nValue)
+  {
+    final String sGTIN14 = decode (nValue);
+    return sGTIN14.charAt (0) == '0' ? sGTIN14.substring (1) : null;
+  }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright (C) 2014-2026 Philip Helger (www.helger.com)
+ * philip[at]helger[dot]com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.helger.masterdata.ean;
+
+import java.util.function.LongConsumer;
+
+import org.jspecify.annotations.NonNull;
+
+import com.helger.annotation.Nonnegative;
+import com.helger.annotation.concurrent.NotThreadSafe;
+import com.helger.annotation.style.ReturnsMutableCopy;
+import com.helger.base.enforce.ValueEnforcer;
+import com.helger.masterdata.internal.AbstractPackedLongHashTable;
+
+/**
+ * A set of GTINs encoded with {@link PackedGTIN}, using open addressing with linear probing on a
+ * single <code>long</code> array. Compared to a set of Strings this needs roughly 8 to 16 bytes
+ * per element instead of about 100 bytes, which matters when e.g. deduplicating product catalogs
+ * with millions of items. Only values &ge; 0 can be stored.
+ *
+ * @author Philip Helger
+ * @since 8.2.1
+ */
+@NotThreadSafe
+public class PackedGTINSet extends AbstractPackedLongHashTable
+{
+  public PackedGTINSet ()
+  {
+    this (DEFAULT_EXPECTED_SIZE);
+  }
+
+  /**
+   * Constructor
+   *
+   * @param nExpectedSize
+   *        The number of elements that can be added without resizing. Must be &ge; 0.
+   */
+  public PackedGTINSet (@Nonnegative final int nExpectedSize)
+  {
+    this (nExpectedSize, DEFAULT_FILL_FACTOR);
+  }
+
+  /**
+   * Constructor
+   *
+   * @param nExpectedSize
+   *        The number of elements that can be added without resizing. Must be &ge; 0.
+   * @param fFillFactor
+   *        The maximum share of used slots before resizing. Must be &gt; 0 and &lt; 1.
+   */
+  public PackedGTINSet (@Nonnegative final int nExpectedSize, final float fFillFactor)
+  {
+    super (1, false, nExpectedSize, fFillFactor);
+  }
+
+  /**
+   * Add a value.
+   *
+   * @param nValue
+   *        The value to add. Must be &ge; 0.
+   * @return <code>true</code> if the value was added, <code>false</code> if it was already
+   *         contained.
+   */
+  public boolean add (final long nValue)
+  {
+    ValueEnforcer.isGE0 (nValue, "Value");
+
+    final int nSlot = getSlotForInsert (nValue, 0);
+    if (nSlot >= 0)
+      return false;
+    insertAt (nSlot, nValue, 0, 0);
+    return true;
+  }
+
+  /**
+   * Check if the passed value is contained.
+   *
+   * @param nValue
+   *        The value to check.
+   * @return <code>true</code> if it is contained.
+   */
+  public boolean contains (final long nValue)
+  {
+    return getSlot (nValue, 0) >= 0;
+  }
+
+  /**
+   * Remove a value.
+   *
+   * @param nValue
+   *        The value to remove.
+   * @return <code>true</code> if the value was removed, <code>false</code> if it was not contained.
+   */
+  public boolean remove (final long nValue)
+  {
+    final int nSlot = getSlot (nValue, 0);
+    if (nSlot < 0)
+      return false;
+    removeAt (nSlot);
+    return true;
+  }
+
+  /**
+   * Invoke the passed consumer for all values, in no particular order.
+   *
+   * @param aConsumer
+   *        The consumer to invoke. May not be <code>null</code>.
+   */
+  public void forEach (@NonNull final LongConsumer aConsumer)
+  {
+    ValueEnforcer.notNull (aConsumer, "Consumer");
+    final int nCapacity = getCapacity ();
+    for (int i = 0; i < nCapacity; ++i)
+      if (isUsedSlot (i))
+        aConsumer.accept (getKeyAt (i, 0));
+  }
+
+  /**
+   * @return All values in no particular order. Never <code>null</code>.
+   */
+  @NonNull
+  @ReturnsMutableCopy
+  public long [] toArray ()
+  {
+    return getAllKeys ();
+  }
+}
@@ -0,0 +1,422 @@
+/*
+ * Copyright (C) 2014-2026 Philip Helger (www.helger.com)
+ * philip[at]helger[dot]com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.helger.masterdata.internal;
+
+import java.util.Arrays;
+
+import org.jspecify.annotations.NonNull;
+
+import com.helger.annotation.Nonnegative;
+import com.helger.annotation.concurrent.NotThreadSafe;
+import com.helger.annotation.style.ReturnsMutableCopy;
+import com.helger.annotation.style.VisibleForTesting;
+import com.helger.base.enforce.ValueEnforcer;
+import com.helger.base.tostring.ToStringGenerator;
+
+/**
+ * Abstract hash table with open addressing and linear probing for keys made of one or two
+ * <code>long</code> values, optionally with an <code>int</code> value per key. All key parts of a
+ * slot are stored next to each other in a single <code>long</code> array, so that no objects are
+ * created per entry. Removed entries are filled by moving back the following entries of the same
+ * cluster, so no tombstones are needed. The key with all parts equal to -1 is reserved to mark
+ * unused slots and cannot be stored.<br>
+ * Internal API: this is the shared implementation of the packed GTIN and IBAN sets and maps. It is
+ * only public because they are in different packages. It is not meant to be used directly and may
+ * change without notice.
+ *
+ * @author Philip Helger
+ * @since 8.2.1
+ */
+@NotThreadSafe
+public abstract class AbstractPackedLongHashTable
+{
+  /** The default fill factor */
+  public static final float DEFAULT_FILL_FACTOR = 0.75f;
+
+  /** The expected size used by the default constructors */
+  protected static final int DEFAULT_EXPECTED_SIZE = 16;
+
+  /** Marks an unused slot in all key parts */
+  private static final long FREE_KEY = -1;
+  private static final int MIN_CAPACITY = 16;
+  /** The maximum length of the key array */
+  private static final int MAX_KEYS_LENGTH = 1 << 30;
+  /** The multiplier for Fibonacci hashing */
+  private static final long HASH_MULTIPLIER = 0x9E3779B97F4A7C15L;
+
+  private final int m_nKeyWidth;
+  private final boolean m_bWithValues;
+  private final float m_fFillFactor;
+  private final int m_nMaxCapacity;
+  /** Key part n of a slot is at index slot * key width + n */
+  private long [] m_aKeys;
+  private int [] m_aValues;
+  private int m_nCapacity;
+  private int m_nMask;
+  private int m_nShift;
+  private int m_nThreshold;
+  private int m_nSize;
+
+  /**
+   * Constructor
+   *
+   * @param nKeyWidth
+   *        The number of <code>long</code> values per key. Must be 1 or 2.
+   * @param bWithValues
+   *        <code>true</code> to store an <code>int</code> value per key.
+   * @param nExpectedSize
+   *        The number of elements that can be added without resizing. Must be &ge; 0.
+   * @param fFillFactor
+   *        The maximum share of used slots before resizing. Must be &gt; 0 and &lt; 1.
+   */
+  protected AbstractPackedLongHashTable (final int nKeyWidth,
+                                         final boolean bWithValues,
+                                         @Nonnegative final int nExpectedSize,
+                                         final float fFillFactor)
+  {
+    this (nKeyWidth, bWithValues, nExpectedSize, fFillFactor, MAX_KEYS_LENGTH / nKeyWidth);
+  }
+
+  /**
+   * Constructor with a custom maximum capacity, so that the behavior of a full table can be tested.
+   *
+   * @param nKeyWidth
+   *        The number of <code>long</code> values per key. Must be 1 or 2.
+   * @param bWithValues
+   *        <code>true</code> to store an <code>int</code> value per key.
+   * @param nExpectedSize
+   *        The number of elements that can be added without resizing. Must be &ge; 0.
+   * @param fFillFactor
+   *        The maximum share of used slots before resizing. Must be &gt; 0 and &lt; 1.
+   * @param nMaxCapacity
+   *        The maximum number of slots. Must be a power of 2 between the minimum capacity and the
+   *        maximum key array length divided by the key width.
+   */
+  @VisibleForTesting
+  AbstractPackedLongHashTable (final int nKeyWidth,
+                               final boolean bWithValues,
+                               @Nonnegative final int nExpectedSize,
+                               final float fFillFactor,
+                               final int nMaxCapacity)
+  {
+    ValueEnforcer.isBetweenInclusive (nKeyWidth, "KeyWidth", 1, 2);
+    ValueEnforcer.isGE0 (nExpectedSize, "ExpectedSize");
+    ValueEnforcer.isTrue (fFillFactor > 0 && fFillFactor < 1, "FillFactor must be between 0 and 1");
+    ValueEnforcer.isBetweenInclusive (nMaxCapacity, "MaxCapacity", MIN_CAPACITY, MAX_KEYS_LENGTH / nKeyWidth);
+    ValueEnforcer.isTrue (Integer.bitCount (nMaxCapacity) == 1, "MaxCapacity must be a power of 2");
+    m_nKeyWidth = nKeyWidth;
+    m_bWithValues = bWithValues;
+    m_fFillFactor = fFillFactor;
+    m_nMaxCapacity = nMaxCapacity;
+    _allocate (_getCapacity (nExpectedSize, fFillFactor, m_nMaxCapacity));
+  }
+
+  /**
+   * Get the capacity of the hash table.
+   *
+   * @param nExpectedSize
+   *        The number of elements to store without resizing.
+   * @param fFillFactor
+   *        The maximum share of used slots.
+   * @param nMaxCapacity
+   *        The maximum capacity. Must be a power of 2.
+   * @return A power of 2 between the minimum and the maximum capacity.
+   */
+  private static int _getCapacity (final int nExpectedSize, final float fFillFactor, final int nMaxCapacity)
+  {
+    final long nNeeded = (long) Math.ceil (nExpectedSize / (double) fFillFactor) + 1;
+    if (nNeeded >= nMaxCapacity)
+      return nMaxCapacity;
+    return Math.max (MIN_CAPACITY, Integer.highestOneBit ((int) nNeeded - 1) << 1);
+  }
+
+  private void _allocate (final int nCapacity)
+  {
+    m_aKeys = new long [nCapacity * m_nKeyWidth];
+    if (m_bWithValues)
+      m_aValues = new int [nCapacity];
+    Arrays.fill (m_aKeys, FREE_KEY);
+    m_nCapacity = nCapacity;
+    m_nMask = nCapacity - 1;
+    m_nShift = Long.numberOfLeadingZeros (nCapacity) + 1;
+    // At the maximum capacity at least one slot must stay free, so that probing always terminates
+    m_nThreshold = nCapacity == m_nMaxCapacity ? nCapacity - 1 : (int) (nCapacity * m_fFillFactor);
+  }
+
+  /**
+   * Get the home slot of a key. Fibonacci hashing is used, because consecutive keys (like GTINs or
+   * account numbers) are very common.
+   */
+  private int _getHomeSlot (final long nKey0, final long nKey1)
+  {
+    if (m_nKeyWidth == 1)
+      return (int) ((nKey0 * HASH_MULTIPLIER) >>> m_nShift);
+    return (int) (((nKey0 * HASH_MULTIPLIER + nKey1) * HASH_MULTIPLIER) >>> m_nShift);
+  }
+
+  private int _getHomeSlotOfIndex (final int nIndex)
+  {
+    return _getHomeSlot (m_aKeys[nIndex], m_nKeyWidth == 1 ? 0 : m_aKeys[nIndex + 1]);
+  }
+
+  private boolean _isFreeKey (final long nKey0, final long nKey1)
+  {
+    return nKey0 == FREE_KEY && (m_nKeyWidth == 1 || nKey1 == FREE_KEY);
+  }
+
+  private boolean _isFreeIndex (final int nIndex)
+  {
+    return m_aKeys[nIndex] == FREE_KEY && (m_nKeyWidth == 1 || m_aKeys[nIndex + 1] == FREE_KEY);
+  }
+
+  private boolean _isKeyAtIndex (final int nIndex, final long nKey0, final long nKey1)
+  {
+    return m_aKeys[nIndex] == nKey0 && (m_nKeyWidth == 1 || m_aKeys[nIndex + 1] == nKey1);
+  }
+
+  private void _rehash ()
+  {
+    ValueEnforcer.isTrue (m_nCapacity < m_nMaxCapacity, "Maximum capacity reached");
+
+    final long [] aOldKeys = m_aKeys;
+    final int [] aOldValues = m_aValues;
+    final int nOldCapacity = m_nCapacity;
+    _allocate (nOldCapacity * 2);
+    for (int nOldSlot = 0; nOldSlot < nOldCapacity; ++nOldSlot)
+    {
+      final int nOldIndex = nOldSlot * m_nKeyWidth;
+      final long nKey0 = aOldKeys[nOldIndex];
+      final long nKey1 = m_nKeyWidth == 1 ? 0 : aOldKeys[nOldIndex + 1];
+      if (!_isFreeKey (nKey0, nKey1))
+      {
+        int nSlot = _getHomeSlot (nKey0, nKey1);
+        while (!_isFreeIndex (nSlot * m_nKeyWidth))
+          nSlot = (nSlot + 1) & m_nMask;
+        System.arraycopy (aOldKeys, nOldIndex, m_aKeys, nSlot * m_nKeyWidth, m_nKeyWidth);
+        if (m_bWithValues)
+          m_aValues[nSlot] = aOldValues[nOldSlot];
+      }
+    }
+  }
+
+  /**
+   * Get the slot of a key.
+   *
+   * @param nKey0
+   *        The first part of the key.
+   * @param nKey1
+   *        The second part of the key. Ignored for a key width of 1.
+   * @return The slot of the key or -1 if it is not contained.
+   */
+  protected final int getSlot (final long nKey0, final long nKey1)
+  {
+    // The reserved key never matches a used slot
+    int nSlot = _getHomeSlot (nKey0, nKey1);
+    int nIndex;
+    while (!_isFreeIndex (nIndex = nSlot * m_nKeyWidth))
+    {
+      if (_isKeyAtIndex (nIndex, nKey0, nKey1))
+        return nSlot;
+      nSlot = (nSlot + 1) & m_nMask;
+    }
+    return -1;
+  }
+
+  /**
+   * Get the slot of a key, or the free slot where it would be inserted.
+   *
+   * @param nKey0
+   *        The first part of the key.
+   * @param nKey1
+   *        The second part of the key. Ignored for a key width of 1.
+   * @return The slot of the key if it is contained, or <code>-(free slot) - 1</code> if it is not
+   *         contained. The latter can be passed to {@link #insertAt(int, long, long, int)}.
+   */
+  protected final int getSlotForInsert (final long nKey0, final long nKey1)
+  {
+    int nSlot = _getHomeSlot (nKey0, nKey1);
+    int nIndex;
+    while (!_isFreeIndex (nIndex = nSlot * m_nKeyWidth))
+    {
+      if (_isKeyAtIndex (nIndex, nKey0, nKey1))
+        return nSlot;
+      nSlot = (nSlot + 1) & m_nMask;
+    }
+    return -nSlot - 1;
+  }
+
+  /**
+   * Insert a key into a free slot. If the table is full, it is resized before the key is inserted.
+   *
+   * @param nFreeSlot
+   *        The negative value returned by {@link #getSlotForInsert(long, long)} for the same key.
+   * @param nKey0
+   *        The first part of the key.
+   * @param nKey1
+   *        The second part of the key. Ignored for a key width of 1. Not all key parts may be -1.
+   * @param nValue
+   *        The value of the key. Ignored if no values are stored.
+   * @throws IllegalArgumentException
+   *         if the key is reserved or if the maximum capacity is reached. The table is not modified
+   *         in this case.
+   */
+  protected final void insertAt (final int nFreeSlot, final long nKey0, final long nKey1, final int nValue)
+  {
+    ValueEnforcer.isFalse (_isFreeKey (nKey0, nKey1), "The key is reserved for unused slots");
+
+    int nSlot = -nFreeSlot - 1;
+    if (m_nSize + 1 > m_nThreshold)
+    {
+      // Resize first, so that a failure leaves the table unmodified
+      _rehash ();
+      nSlot = -getSlotForInsert (nKey0, nKey1) - 1;
+    }
+
+    final int nIndex = nSlot * m_nKeyWidth;
+    m_aKeys[nIndex] = nKey0;
+    if (m_nKeyWidth == 2)
+      m_aKeys[nIndex + 1] = nKey1;
+    if (m_bWithValues)
+      m_aValues[nSlot] = nValue;
+    m_nSize++;
+  }
+
+  /**
+   * Remove the key of a used slot.
+   *
+   * @param nSlot
+   *        The slot as returned by {@link #getSlot(long, long)}.
+   */
+  protected final void removeAt (final int nSlot)
+  {
+    // Move the following entries of the same cluster back, so that no tombstones are needed
+    int nFree = nSlot;
+    int nNext = (nSlot + 1) & m_nMask;
+    int nNextIndex;
+    while (!_isFreeIndex (nNextIndex = nNext * m_nKeyWidth))
+    {
+      final int nHome = _getHomeSlotOfIndex (nNextIndex);
+      if (((nNext - nHome) & m_nMask) >= ((nNext - nFree) & m_nMask))
+      {
+        System.arraycopy (m_aKeys, nNextIndex, m_aKeys, nFree * m_nKeyWidth, m_nKeyWidth);
+        if (m_bWithValues)
+          m_aValues[nFree] = m_aValues[nNext];
+        nFree = nNext;
+      }
+      nNext = (nNext + 1) & m_nMask;
+    }
+    Arrays.fill (m_aKeys, nFree * m_nKeyWidth, (nFree + 1) * m_nKeyWidth, FREE_KEY);
+    m_nSize--;
+  }
+
+  /**
+   * @return The number of slots. Always a power of 2.
+   */
+  @Nonnegative
+  protected final int getCapacity ()
+  {
+    return m_nCapacity;
+  }
+
+  /**
+   * @param nSlot
+   *        The slot to check. Must be &ge; 0 and &lt; {@link #getCapacity()}.
+   * @return <code>true</code> if the slot contains a key.
+   */
+  protected final boolean isUsedSlot (final int nSlot)
+  {
+    return !_isFreeIndex (nSlot * m_nKeyWidth);
+  }
+
+  /**
+   * @param nSlot
+   *        The slot to use. Must be &ge; 0 and &lt; {@link #getCapacity()}.
+   * @param nPart
+   *        The key part to get. Must be &ge; 0 and &lt; the key width.
+   * @return The key part of the slot.
+   */
+  protected final long getKeyAt (final int nSlot, final int nPart)
+  {
+    return m_aKeys[nSlot * m_nKeyWidth + nPart];
+  }
+
+  /**
+   * @param nSlot
+   *        The used slot. Only valid if values are stored.
+   * @return The value of the slot.
+   */
+  protected final int getValueAt (final int nSlot)
+  {
+    return m_aValues[nSlot];
+  }
+
+  /**
+   * @param nSlot
+   *        The used slot. Only valid if values are stored.
+   * @param nValue
+   *        The new value of the slot.
+   */
+  protected final void setValueAt (final int nSlot, final int nValue)
+  {
+    m_aValues[nSlot] = nValue;
+  }
+
+  /**
+   * @return All keys in no particular order, with all parts of a key next to each other. Never
+   *         <code>null</code>.
+   */
+  @NonNull
+  @ReturnsMutableCopy
+  protected final long [] getAllKeys ()
+  {
+    final long [] ret = new long [m_nSize * m_nKeyWidth];
+    int nIndex = 0;
+    for (int i = 0; i < m_aKeys.length; i += m_nKeyWidth)
+      if (!_isFreeIndex (i))
+      {
+        System.arraycopy (m_aKeys, i, ret, nIndex, m_nKeyWidth);
+        nIndex += m_nKeyWidth;
+      }
+    return ret;
+  }
+
+  @Nonnegative
+  public final int size ()
+  {
+    return m_nSize;
+  }
+
+  public final boolean isEmpty ()
+  {
+    return m_nSize == 0;
+  }
+
+  /**
+   * Remove all entries but keep the capacity.
+   */
+  public final void clear ()
+  {
+    Arrays.fill (m_aKeys, FREE_KEY);
+    m_nSize = 0;
+  }
+
+  @Override
+  public String toString ()
+  {
+    return new ToStringGenerator (this).append ("Size", m_nSize).append ("Capacity", m_nCapacity).getToString ();
+  }
+}
@@ -18,16 +18,23 @@ package com.helger.masterdata.iso;
 
 import org.jspecify.annotations.NonNull;
 
+import com.helger.annotation.Nonnegative;
 import com.helger.base.CGlobal;
+import com.helger.base.enforce.ValueEnforcer;
 
 /**
- * ISO 7064 checksum algorithms.
+ * ISO 7064 checksum algorithms. All algorithms work on a {@link CharSequence} without creating
+ * intermediate objects. The characters are mapped as follows: '0' to '9' are 0 to 9 and 'A' to 'Z'
+ * are 10 to 35. Lower case characters are not supported.
  *
  * @author Philip Helger
  * @since 6.1.4
  */
 public final class ISO7064
 {
+  /** The value of characters that are not supported */
+  private static final int ILLEGAL_VALUE = -1;
+
   /**
    * Mod 97 algorithm. Used e.g. for IBAN.
    *
@@ -38,41 +45,441 @@ public final class ISO7064
     public static final int ILLEGAL_CHECKSUM = CGlobal.ILLEGAL_UINT;
     public static final int EXPECTED_CHECKSUM = 1;
 
+    /**
+     * Below this value another 2 digits can be appended to a long without an overflow. So the
+     * modulo operation is only needed every 7 to 14 characters.
+     */
+    private static final long REDUCE_LIMIT = 10_000_000_000_000_000L;
+
     private Mod97 ()
     {}
 
     public static int getChecksum (@NonNull final String s)
     {
-      int nChecksum = 0;
-      for (final char c : s.toCharArray ())
+      return getChecksum ((CharSequence) s);
+    }
+
+    /**
+     * Calculate the Mod 97 checksum of the passed characters.
+     *
+     * @param s
+     *        The characters to use. May not be <code>null</code>.
+     * @return {@link #ILLEGAL_CHECKSUM} if an unsupported character is contained, the checksum
+     *         between 0 and 96 otherwise.
+     * @since 8.2.1
+     */
+    public static int getChecksum (@NonNull final CharSequence s)
+    {
+      return getChecksum (s, 0, s.length (), 0);
+    }
+
+    /**
+     * Calculate the Mod 97 checksum of a range of the passed characters, starting at a rotation
+     * offset and wrapping around. E.g. for IBAN the rotation is 4, because the country code and the
+     * check digits must be processed after the BBAN. No copy of the characters is needed.
+     *
+     * @param s
+     *        The characters to use. May not be <code>null</code>.
+     * @param nOfs
+     *        The offset of the range. Must be &ge; 0.
+     * @param nLen
+     *        The length of the range. Must be &ge; 0.
+     * @param nRotation
+     *        The number of characters at the beginning of the range that are processed last. Must
+     *        be between 0 and the length of the range.
+     * @return {@link #ILLEGAL_CHECKSUM} if an unsupported character is contained, the checksum
+     *         between 0 and 96 otherwise.
+     * @since 8.2.1
+     */
+    public static int getChecksum (@NonNull final CharSequence s,
+                                   @Nonnegative final int nOfs,
+                                   @Nonnegative final int nLen,
+                                   @Nonnegative final int nRotation)
+    {
+      return getChecksum (0, s, nOfs, nLen, nRotation);
+    }
+
+    /**
+     * Continue the Mod 97 checksum calculation of previous characters with a range of the passed
+     * characters. This is e.g. needed when the relevant characters are split into several parts.
+     *
+     * @param nPreviousChecksum
+     *        The checksum of the previous characters. Must be between 0 and 96.
+     * @param s
+     *        The characters to use. May not be <code>null</code>.
+     * @param nOfs
+     *        The offset of the range. Must be &ge; 0.
+     * @param nLen
+     *        The length of the range. Must be &ge; 0.
+     * @param nRotation
+     *        The number of characters at the beginning of the range that are processed last. Must
+     *        be between 0 and the length of the range.
+     * @return {@link #ILLEGAL_CHECKSUM} if an unsupported character is contained, the checksum
+     *         between 0 and 96 otherwise.
+     * @see #getChecksum(CharSequence, int, int, int)
+     * @since 8.2.1
+     */
+    public static int getChecksum (final int nPreviousChecksum,
+                                   @NonNull final CharSequence s,
+                                   @Nonnegative final int nOfs,
+                                   @Nonnegative final int nLen,
+                                   @Nonnegative final int nRotation)
+    {
+      ValueEnforcer.isBetweenInclusive (nPreviousChecksum, "PreviousChecksum", 0, 96);
+      ValueEnforcer.notNull (s, "Chars");
+      ValueEnforcer.isTrue (nOfs >= 0 && nLen >= 0 && nOfs + nLen <= s.length (), "Invalid range");
+      ValueEnforcer.isTrue (nRotation >= 0 && nRotation <= nLen, "Invalid rotation");
+
+      // Two loops instead of wrapping around the index
+      long nValue = _getValue (nPreviousChecksum, s, nOfs + nRotation, nOfs + nLen);
+      if (nValue >= 0)
+        nValue = _getValue (nValue, s, nOfs, nOfs + nRotation);
+      return nValue < 0 ? ILLEGAL_CHECKSUM : (int) (nValue % 97);
+    }
+
+    /**
+     * Continue the Mod 97 checksum calculation of previous characters with a single character. This
+     * is meant for callers that process the characters one by one, e.g. while skipping separators.
+     *
+     * @param nPreviousChecksum
+     *        The checksum of the previous characters. Must be between 0 and 96 or
+     *        {@link #ILLEGAL_CHECKSUM}.
+     * @param c
+     *        The character to append.
+     * @return {@link #ILLEGAL_CHECKSUM} if the previous checksum is illegal or the character is not
+     *         supported, the checksum between 0 and 96 otherwise.
+     * @see #getChecksum(int, CharSequence, int, int, int)
+     * @since 8.2.1
+     */
+    public static int getChecksum (final int nPreviousChecksum, final char c)
+    {
+      if (nPreviousChecksum < 0)
+        return ILLEGAL_CHECKSUM;
+      if (c >= '0' && c <= '9')
+        return (10 * nPreviousChecksum + (c - '0')) % 97;
+      if (c >= 'A' && c <= 'Z')
+        return (100 * nPreviousChecksum + (c - 'A' + 10)) % 97;
+      return ILLEGAL_CHECKSUM;
+    }
+
+    /**
+     * Append the passed characters to the decimal value that is only reduced modulo 97 when needed.
+     *
+     * @return -1 if an unsupported character is contained
+     */
+    private static long _getValue (final long nStartValue,
+                                   @NonNull final CharSequence s,
+                                   final int nStart,
+                                   final int nEnd)
+    {
+      long nValue = nStartValue;
+      for (int i = nStart; i < nEnd; ++i)
       {
-        final int nCurChecksumValue;
+        final char c = s.charAt (i);
+        if (nValue >= REDUCE_LIMIT)
+          nValue %= 97;
         if (c >= '0' && c <= '9')
-          nCurChecksumValue = c - '0';
+          nValue = 10 * nValue + (c - '0');
         else
           if (c >= 'A' && c <= 'Z')
-          {
-            // Same as "- '7'" but more clear
-            nCurChecksumValue = c - 'A' + 10;
-          }
+            nValue = 100 * nValue + (c - 'A' + 10);
           else
-            return ILLEGAL_CHECKSUM;
-
-        if (nCurChecksumValue > 9)
-          nChecksum = (100 * nChecksum + nCurChecksumValue) % 97;
-        else
-          nChecksum = (10 * nChecksum + nCurChecksumValue) % 97;
+            return -1;
       }
-      return nChecksum;
+      return nValue;
     }
 
     public static boolean isValid (@NonNull final String s)
     {
       return getChecksum (s) == EXPECTED_CHECKSUM;
     }
+
+    /**
+     * Check if the Mod 97 checksum of the passed characters is {@link #EXPECTED_CHECKSUM}.
+     *
+     * @param s
+     *        The characters to check. May not be <code>null</code>.
+     * @return <code>true</code> if the checksum is valid.
+     * @since 8.2.1
+     */
+    public static boolean isValid (@NonNull final CharSequence s)
+    {
+      return getChecksum (s) == EXPECTED_CHECKSUM;
+    }
+  }
+
+  /**
+   * Mod 11-2 algorithm (pure system). Used e.g. for ISNI and ORCID. Works on digits only, the check
+   * character is a digit or 'X'.
+   *
+   * @author Philip Helger
+   * @since 8.2.1
+   */
+  public static final class Mod11_2
+  {
+    private Mod11_2 ()
+    {}
+
+    /**
+     * Calculate the check character of the passed digits.
+     *
+     * @param s
+     *        The digits to use. May not be <code>null</code>.
+     * @return {@link CGlobal#ILLEGAL_UINT} if an unsupported character is contained. The check
+     *         character '0' to '9' or 'X' otherwise.
+     */
+    public static int getCheckCharacter (@NonNull final CharSequence s)
+    {
+      final int nCheckValue = _getPureCheckValue (s, 0, s.length (), 11, 9);
+      if (nCheckValue == ILLEGAL_VALUE)
+        return CGlobal.ILLEGAL_UINT;
+      return nCheckValue == 10 ? 'X' : '0' + nCheckValue;
+    }
+
+    /**
+     * Check if the last character of the passed characters is the valid check character.
+     *
+     * @param s
+     *        The digits including the check character. May not be <code>null</code>.
+     * @return <code>true</code> if the check character is valid.
+     */
+    public static boolean isValid (@NonNull final CharSequence s)
+    {
+      final int nLen = s.length ();
+      if (nLen == 0)
+        return false;
+      final int nCheckValue = _getPureCheckValue (s, 0, nLen - 1, 11, 9);
+      return _isSameValue (nCheckValue, _getValue (s.charAt (nLen - 1), 'X', 10));
+    }
+  }
+
+  /**
+   * Mod 37-2 algorithm (pure system). Works on digits and upper case letters, the check character
+   * is a digit, an upper case letter or '*'.
+   *
+   * @author Philip Helger
+   * @since 8.2.1
+   */
+  public static final class Mod37_2
+  {
+    private Mod37_2 ()
+    {}
+
+    /**
+     * Calculate the check character of the passed characters.
+     *
+     * @param s
+     *        The characters to use. May not be <code>null</code>.
+     * @return {@link CGlobal#ILLEGAL_UINT} if an unsupported character is contained. The check
+     *         character '0' to '9', 'A' to 'Z' or '*' otherwise.
+     */
+    public static int getCheckCharacter (@NonNull final CharSequence s)
+    {
+      final int nCheckValue = _getPureCheckValue (s, 0, s.length (), 37, 35);
+      if (nCheckValue == ILLEGAL_VALUE)
+        return CGlobal.ILLEGAL_UINT;
+      return nCheckValue == 36 ? '*' : _getCharacter (nCheckValue);
+    }
+
+    /**
+     * Check if the last character of the passed characters is the valid check character.
+     *
+     * @param s
+     *        The characters including the check character. May not be <code>null</code>.
+     * @return <code>true</code> if the check character is valid.
+     */
+    public static boolean isValid (@NonNull final CharSequence s)
+    {
+      final int nLen = s.length ();
+      if (nLen == 0)
+        return false;
+      final int nCheckValue = _getPureCheckValue (s, 0, nLen - 1, 37, 35);
+      return _isSameValue (nCheckValue, _getValue (s.charAt (nLen - 1), '*', 36));
+    }
+  }
+
+  /**
+   * Mod 11,10 algorithm (hybrid system). Used e.g. for the German VAT identification number. Works
+   * on digits only, the check character is a digit.
+   *
+   * @author Philip Helger
+   * @since 8.2.1
+   */
+  public static final class Mod11_10
+  {
+    private Mod11_10 ()
+    {}
+
+    /**
+     * Calculate the check character of the passed digits.
+     *
+     * @param s
+     *        The digits to use. May not be <code>null</code>.
+     * @return {@link CGlobal#ILLEGAL_UINT} if an unsupported character is contained. The check
+     *         character '0' to '9' otherwise.
+     */
+    public static int getCheckCharacter (@NonNull final CharSequence s)
+    {
+      final int nCheckValue = _getHybridCheckValue (s, 0, s.length (), 10, 9);
+      return nCheckValue == ILLEGAL_VALUE ? CGlobal.ILLEGAL_UINT : '0' + nCheckValue;
+    }
+
+    /**
+     * Check if the last character of the passed characters is the valid check character.
+     *
+     * @param s
+     *        The digits including the check character. May not be <code>null</code>.
+     * @return <code>true</code> if the check character is valid.
+     */
+    public static boolean isValid (@NonNull final CharSequence s)
+    {
+      final int nLen = s.length ();
+      if (nLen == 0)
+        return false;
+      final int nCheckValue = _getHybridCheckValue (s, 0, nLen - 1, 10, 9);
+      return _isSameValue (nCheckValue, _getValue (s.charAt (nLen - 1), 9));
+    }
+  }
+
+  /**
+   * Mod 37,36 algorithm (hybrid system). Works on digits and upper case letters, the check
+   * character is a digit or an upper case letter.
+   *
+   * @author Philip Helger
+   * @since 8.2.1
+   */
+  public static final class Mod37_36
+  {
+    private Mod37_36 ()
+    {}
+
+    /**
+     * Calculate the check character of the passed characters.
+     *
+     * @param s
+     *        The characters to use. May not be <code>null</code>.
+     * @return {@link CGlobal#ILLEGAL_UINT} if an unsupported character is contained. The check
+     *         character '0' to '9' or 'A' to 'Z' otherwise.
+     */
+    public static int getCheckCharacter (@NonNull final CharSequence s)
+    {
+      final int nCheckValue = _getHybridCheckValue (s, 0, s.length (), 36, 35);
+      return nCheckValue == ILLEGAL_VALUE ? CGlobal.ILLEGAL_UINT : _getCharacter (nCheckValue);
+    }
+
+    /**
+     * Check if the last character of the passed characters is the valid check character.
+     *
+     * @param s
+     *        The characters including the check character. May not be <code>null</code>.
+     * @return <code>true</code> if the check character is valid.
+     */
+    public static boolean isValid (@NonNull final CharSequence s)
+    {
+      final int nLen = s.length ();
+      if (nLen == 0)
+        return false;
+      final int nCheckValue = _getHybridCheckValue (s, 0, nLen - 1, 36, 35);
+      return _isSameValue (nCheckValue, _getValue (s.charAt (nLen - 1), 35));
+    }
   }
 
   private ISO7064 ()
   {}
 
+  /**
+   * Get the numeric value of a character.
+   *
+   * @param c
+   *        The character to map.
+   * @return 0 to 9 for '0' to '9', 10 to 35 for 'A' to 'Z' and -1 for all other characters.
+   */
+  private static int _getValue (final char c)
+  {
+    if (c >= '0' && c <= '9')
+      return c - '0';
+    if (c >= 'A' && c <= 'Z')
+      return c - 'A' + 10;
+    return ILLEGAL_VALUE;
+  }
+
+  private static int _getValue (final char c, final int nMaxValue)
+  {
+    final int ret = _getValue (c);
+    return ret > nMaxValue ? ILLEGAL_VALUE : ret;
+  }
+
+  private static int _getValue (final char c, final char cSupplementary, final int nSupplementaryValue)
+  {
+    return c == cSupplementary ? nSupplementaryValue : _getValue (c, nSupplementaryValue - 1);
+  }
+
+  private static boolean _isSameValue (final int nExpectedValue, final int nActualValue)
+  {
+    return nExpectedValue != ILLEGAL_VALUE && nExpectedValue == nActualValue;
+  }
+
+  private static int _getCharacter (final int nValue)
+  {
+    return nValue < 10 ? '0' + nValue : 'A' + nValue - 10;
+  }
+
+  /**
+   * Calculate the check value of a pure system with radix 2 and a single check character.
+   *
+   * @return The check value between 0 and nModulus - 1 or -1 if an unsupported character is
+   *         contained.
+   */
+  private static int _getPureCheckValue (@NonNull final CharSequence s,
+                                        final int nOfs,
+                                        final int nLen,
+                                        final int nModulus,
+                                        final int nMaxValue)
+  {
+    int nValue = 0;
+    for (int i = nOfs; i < nOfs + nLen; ++i)
+    {
+      final int nCharValue = _getValue (s.charAt (i), nMaxValue);
+      if (nCharValue == ILLEGAL_VALUE)
+        return ILLEGAL_VALUE;
+      // Both values are below the modulus, so no division is needed
+      nValue += nCharValue;
+      if (nValue >= nModulus)
+        nValue -= nModulus;
+      nValue *= 2;
+      if (nValue >= nModulus)
+        nValue -= nModulus;
+    }
+    return (nModulus + 1 - nValue) % nModulus;
+  }
+
+  /**
+   * Calculate the check value of a hybrid system with the moduli nModulus+1 and nModulus.
+   *
+   * @return The check value between 0 and nModulus - 1 or -1 if an unsupported character is
+   *         contained.
+   */
+  private static int _getHybridCheckValue (@NonNull final CharSequence s,
+                                          final int nOfs,
+                                          final int nLen,
+                                          final int nModulus,
+                                          final int nMaxValue)
+  {
+    int nValue = nModulus;
+    for (int i = nOfs; i < nOfs + nLen; ++i)
+    {
+      final int nCharValue = _getValue (s.charAt (i), nMaxValue);
+      if (nCharValue == ILLEGAL_VALUE)
+        return ILLEGAL_VALUE;
+      // nValue is between 1 and nModulus, so no division is needed and the sum is never 0 modulo
+      // nModulus (where nModulus would be used instead of 0)
+      int nSum = nValue + nCharValue;
+      if (nSum > nModulus)
+        nSum -= nModulus;
+      nValue = nSum * 2;
+      if (nValue > nModulus)
+        nValue -= nModulus + 1;
+    }
+    return (nModulus + 1 - nValue) % nModulus;
+  }
 }
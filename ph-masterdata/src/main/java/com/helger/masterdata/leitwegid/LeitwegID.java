@@ -16,16 +16,17 @@
  */
 package com.helger.masterdata.leitwegid;
 
-import java.math.BigInteger;
-
+import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.Nullable;
 
 import com.helger.annotation.Nonempty;
 import com.helger.annotation.concurrent.Immutable;
-import com.helger.base.CGlobal;
-import com.helger.base.numeric.BigHelper;
 import com.helger.base.string.StringHelper;
 import com.helger.cache.regex.RegExHelper;
+import com.helger.masterdata.iso.ISO7064;
+import com.helger.masterdata.validation.EValidationCacheType;
+import com.helger.masterdata.validation.ValidationCache;
+import com.helger.masterdata.validation.ValidationCacheManager;
 
 /**
  * Handler for Leitweg-ID specific stuff.
@@ -48,39 +49,28 @@ public final class LeitwegID
   public static final int MIN_TOTAL_LENGTH = MIN_COARSE_LENGTH + 1 + CHECKSUM_LENGTH;
   public static final int MAX_TOTAL_LENGTH = MAX_COARSE_LENGTH + 1 + MAX_FINE_LENGTH + 1 + CHECKSUM_LENGTH;
 
-  private static final BigInteger BI97 = BigInteger.valueOf (97);
-
   private LeitwegID ()
   {}
 
-  private static int _calcChecksum (@Nonempty final String s)
+  private static int _calcChecksum (@Nonempty final String sCoarse, @Nullable final String sFine)
   {
-    BigInteger aBI = BigInteger.ZERO;
-    for (final char c : s.toCharArray ())
-      if (c >= '0' && c <= '9')
-      {
-        // Simple case
-        aBI = aBI.multiply (BigInteger.TEN).add (BigHelper.toBigInteger (c - '0'));
-      }
-      else
-      {
-        // Must be A-Z
-        // 10 <= n <= 35
-        final int n = 10 + (c - 'A');
-        aBI = aBI.multiply (CGlobal.BIGINT_100).add (BigHelper.toBigInteger (n));
-      }
+    // The RegEx ensures that only digits and upper case letters are contained
+    int nMod = ISO7064.Mod97.getChecksum (sCoarse);
+    if (sFine != null)
+      nMod = ISO7064.Mod97.getChecksum (nMod, sFine, 0, sFine.length (), 0);
 
     // Add the trailing "00"
-    aBI = aBI.multiply (CGlobal.BIGINT_100);
+    nMod = (nMod * 100) % 97;
 
-    final int nMod = aBI.mod (BI97).intValueExact ();
     // Use 98 to avoid that the result can be 0
     return 98 - nMod;
   }
 
   /**
    * Check if the provided Leitweg ID is valid or not. This method also checks the validity of the
-   * checksum. An example code that is valid is <code>04011000-1234512345-06</code>.
+   * checksum. An example code that is valid is <code>04011000-1234512345-06</code>. If a cache is
+   * enabled for {@link EValidationCacheType#LEITWEG_ID} in {@link ValidationCacheManager}, the result
+   * is cached.
    *
    * @param sID
    *        The ID to check. May be <code>null</code>.
@@ -96,6 +86,14 @@ public final class LeitwegID
       return false;
     }
 
+    final ValidationCache aCache = ValidationCacheManager.getCache (EValidationCacheType.LEITWEG_ID);
+    if (aCache != null)
+      return aCache.getOrCompute (sID, x -> _isValidLeitwegID (x) ? 1 : 0) == 1;
+    return _isValidLeitwegID (sID);
+  }
+
+  private static boolean _isValidLeitwegID (@NonNull final String sID)
+  {
     // RegEx does it all
     if (!RegExHelper.stringMatchesPattern (REGEX_LEITWEGID, sID))
       return false;
@@ -127,7 +125,7 @@ public final class LeitwegID
     if (sChecksum.length () != CHECKSUM_LENGTH)
       return false;
 
-    final int nCheckSum = _calcChecksum (bHasFineAddressing ? aParts[0] + aParts[1] : aParts[0]);
+    final int nCheckSum = _calcChecksum (aParts[0], bHasFineAddressing ? aParts[1] : null);
     return sChecksum.equals (StringHelper.getLeadingZero (nCheckSum, CHECKSUM_LENGTH));
   }
 
@@ -172,7 +170,7 @@ public final class LeitwegID
         return null;
     }
 
-    final int nCheckSum = _calcChecksum (nParts == 2 ? aParts[0] + aParts[1] : aParts[0]);
+    final int nCheckSum = _calcChecksum (aParts[0], nParts == 2 ? aParts[1] : null);
     return StringHelper.getLeadingZero (nCheckSum, CHECKSUM_LENGTH);
   }
 }
@@ -33,6 +33,7 @@ import com.helger.base.tostring.ToStringGenerator;
 import com.helger.collection.commons.CommonsHashSet;
 import com.helger.collection.commons.ICommonsSet;
 import com.helger.io.resource.ClassPathResource;
+import com.helger.masterdata.codelist.CodelistSnapshot;
 import com.helger.text.locale.LocaleCache;
 import com.helger.xml.microdom.IMicroDocument;
 import com.helger.xml.microdom.IMicroElement;
@@ -47,7 +48,12 @@ public class DeprecatedLocaleHandler
 {
   private static final class SingletonHolder
   {
-    static final DeprecatedLocaleHandler INSTANCE = readFromXML (new ClassPathResource ("codelists/locale-deprecated.xml"));
+    static final DeprecatedLocaleHandler INSTANCE = new DeprecatedLocaleHandler ();
+
+    static
+    {
+      INSTANCE.initFromXML (CodelistSnapshot.readMicroXML (new ClassPathResource ("codelists/locale-deprecated.xml")));
+    }
   }
 
   @Immutable
@@ -27,9 +27,9 @@ import com.helger.collection.commons.CommonsHashMap;
 import com.helger.collection.commons.ICommonsMap;
 import com.helger.io.resource.ClassPathResource;
 import com.helger.io.resource.IReadableResource;
+import com.helger.masterdata.codelist.CodelistSnapshot;
 import com.helger.xml.microdom.IMicroDocument;
 import com.helger.xml.microdom.IMicroElement;
-import com.helger.xml.microdom.serialize.MicroReader;
 
 public class ISO639_2Handler
 {
@@ -62,7 +62,7 @@ public class ISO639_2Handler
   @NonNull
   public ISO639_2Handler readFromResource (@NonNull final IReadableResource aRes)
   {
-    final IMicroDocument aDoc = MicroReader.readMicroXML (aRes);
+    final IMicroDocument aDoc = CodelistSnapshot.readMicroXML (aRes);
     if (aDoc == null)
       throw new IllegalArgumentException ("Failed to read resource: " + aRes);
     for (final IMicroElement eItem : aDoc.getDocumentElement ().getAllChildElements ("item"))
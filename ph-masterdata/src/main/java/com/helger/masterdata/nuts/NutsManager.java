@@ -32,9 +32,9 @@ import com.helger.collection.commons.CommonsLinkedHashMap;
 import com.helger.collection.commons.ICommonsOrderedMap;
 import com.helger.io.resource.ClassPathResource;
 import com.helger.io.resource.IReadableResource;
+import com.helger.masterdata.codelist.CodelistSnapshot;
 import com.helger.xml.microdom.IMicroDocument;
 import com.helger.xml.microdom.IMicroElement;
-import com.helger.xml.microdom.serialize.MicroReader;
 
 /**
  * A manager for NUTS items. The data of 2021 is accessible via {@link #INSTANCE_2021}
@@ -111,7 +111,7 @@ public class NutsManager implements INutsManager, ICloneable <NutsManager>
 
     LOGGER.info ("Reading NUTS data from XML: " + aRes);
 
-    final IMicroDocument aDoc = MicroReader.readMicroXML (aRes);
+    final IMicroDocument aDoc = CodelistSnapshot.readMicroXML (aRes);
     if (aDoc == null || aDoc.getDocumentElement () == null)
       throw new IllegalArgumentException ("Failed to read " + aRes + " as XML");
 
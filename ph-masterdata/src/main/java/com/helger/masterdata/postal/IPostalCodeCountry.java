@@ -92,6 +92,24 @@ public interface IPostalCodeCountry
    */
   boolean isValidPostalCode (@Nullable String sPostalCode);
 
+  /**
+   * Find the format of this country that the passed postal code matches.
+   *
+   * @param sPostalCode
+   *        The postal code to check. May be <code>null</code>.
+   * @return The first matching format or <code>null</code> if no format matches.
+   * @since 8.2.1
+   */
+  @Nullable
+  default PostalCodeFormat getMatchingFormat (@Nullable final String sPostalCode)
+  {
+    if (sPostalCode != null)
+      for (final PostalCodeFormat aFormat : getAllFormats ())
+        if (aFormat.isValidPostalCode (sPostalCode))
+          return aFormat;
+    return null;
+  }
+
   /**
    * @return A list of all available example postal codes that show the
    *         different formats available.
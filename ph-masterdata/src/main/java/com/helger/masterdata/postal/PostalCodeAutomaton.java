@@ -0,0 +1,250 @@
+/*
+ * Copyright (C) 2014-2026 Philip Helger (www.helger.com)
+ * philip[at]helger[dot]com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.helger.masterdata.postal;
+
+import java.io.Serializable;
+import java.util.BitSet;
+import java.util.List;
+
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import com.helger.annotation.concurrent.Immutable;
+import com.helger.base.enforce.ValueEnforcer;
+import com.helger.collection.commons.CommonsArrayList;
+import com.helger.collection.commons.CommonsHashMap;
+import com.helger.collection.commons.ICommonsList;
+import com.helger.collection.commons.ICommonsMap;
+
+/**
+ * A deterministic finite automaton that checks a postal code against all formats of a single
+ * country in a single pass, without using regular expressions. It accepts exactly the same postal
+ * codes as the regular expressions of {@link PostalCodeFormat}.<br>
+ * The input characters are partitioned into symbols (e.g. all digits are one symbol) and the states
+ * are created from the formats via subset construction, so that overlapping formats (like "NNNN"
+ * and "NNNNN") share the common states.
+ *
+ * @author Philip Helger
+ * @since 8.2.1
+ */
+@Immutable
+final class PostalCodeAutomaton implements Serializable
+{
+  private static final int DEAD_STATE = -1;
+  private static final int START_STATE = 0;
+  /** Only ASCII characters are part of any format */
+  private static final int MAX_CHAR = 128;
+  /** Symbol for all characters that are not accepted by any format */
+  private static final int SYMBOL_NONE = 0;
+
+  private static final int ATOM_LETTER = -1;
+  private static final int ATOM_NUMBER = -2;
+
+  /** Maps each ASCII character to its symbol */
+  private final int [] m_aSymbols = new int [MAX_CHAR];
+  private final int m_nSymbolCount;
+  /** Indexed by state * symbol count + symbol */
+  private final int [] m_aTransitions;
+  /** The index of the matching format per state or -1 if the state is not accepting */
+  private final int [] m_aAcceptingFormat;
+
+  /**
+   * Create the automaton for the provided formats.
+   *
+   * @param aFormats
+   *        The formats to be matched. May not be <code>null</code> but maybe empty, in which case
+   *        nothing matches. If multiple formats match the same postal code, the first one wins.
+   */
+  PostalCodeAutomaton (@NonNull final List <PostalCodeFormat> aFormats)
+  {
+    ValueEnforcer.notNullNoNullValue (aFormats, "Formats");
+
+    // Expand all formats into sequences of atoms - either character classes or literal characters
+    final int nFormats = aFormats.size ();
+    final int [] [] aAtoms = new int [nFormats] [];
+    // The NFA state of format f at position p is aOffsets[f] + p
+    final int [] aOffsets = new int [nFormats];
+    int nNFAStates = 0;
+    for (int f = 0; f < nFormats; ++f)
+    {
+      aAtoms[f] = _getAtoms (aFormats.get (f));
+      aOffsets[f] = nNFAStates;
+      nNFAStates += aAtoms[f].length + 1;
+    }
+
+    // Group all characters accepted by the same atoms into one symbol, with one representative each
+    final ICommonsMap <BitSet, Integer> aSignatureToSymbol = new CommonsHashMap <> ();
+    final ICommonsList <Character> aRepresentatives = new CommonsArrayList <> ();
+    aRepresentatives.add (Character.valueOf ((char) 0));
+    for (char c = 0; c < MAX_CHAR; ++c)
+    {
+      final BitSet aSignature = new BitSet ();
+      for (int f = 0; f < nFormats; ++f)
+        for (int p = 0; p < aAtoms[f].length; ++p)
+          if (_isAccepted (aAtoms[f][p], c))
+            aSignature.set (aOffsets[f] + p);
+      if (aSignature.isEmpty ())
+        m_aSymbols[c] = SYMBOL_NONE;
+      else
+      {
+        Integer aSymbol = aSignatureToSymbol.get (aSignature);
+        if (aSymbol == null)
+        {
+          aSymbol = Integer.valueOf (aRepresentatives.size ());
+          aSignatureToSymbol.put (aSignature, aSymbol);
+          aRepresentatives.add (Character.valueOf (c));
+        }
+        m_aSymbols[c] = aSymbol.intValue ();
+      }
+    }
+    m_nSymbolCount = aRepresentatives.size ();
+
+    // Subset construction
+    final BitSet aStart = new BitSet (nNFAStates);
+    for (int f = 0; f < nFormats; ++f)
+      aStart.set (aOffsets[f]);
+    final ICommonsList <BitSet> aDFAStates = new CommonsArrayList <> ();
+    aDFAStates.add (aStart);
+    final ICommonsMap <BitSet, Integer> aDFAStateIndex = new CommonsHashMap <> ();
+    aDFAStateIndex.put (aStart, Integer.valueOf (START_STATE));
+    final ICommonsList <int []> aTransitions = new CommonsArrayList <> ();
+    for (int nState = 0; nState < aDFAStates.size (); ++nState)
+    {
+      final BitSet aCurrent = aDFAStates.get (nState);
+      final int [] aRow = new int [m_nSymbolCount];
+      aRow[SYMBOL_NONE] = DEAD_STATE;
+      for (int nSymbol = 1; nSymbol < m_nSymbolCount; ++nSymbol)
+      {
+        final char c = aRepresentatives.get (nSymbol).charValue ();
+        final BitSet aNext = new BitSet (nNFAStates);
+        for (int f = 0; f < nFormats; ++f)
+        {
+          final int [] aFormatAtoms = aAtoms[f];
+          for (int p = 0; p < aFormatAtoms.length; ++p)
+            if (aCurrent.get (aOffsets[f] + p) && _isAccepted (aFormatAtoms[p], c))
+              aNext.set (aOffsets[f] + p + 1);
+        }
+        if (aNext.isEmpty ())
+          aRow[nSymbol] = DEAD_STATE;
+        else
+        {
+          Integer aNextState = aDFAStateIndex.get (aNext);
+          if (aNextState == null)
+          {
+            aNextState = Integer.valueOf (aDFAStates.size ());
+            aDFAStateIndex.put (aNext, aNextState);
+            aDFAStates.add (aNext);
+          }
+          aRow[nSymbol] = aNextState.intValue ();
+        }
+      }
+      aTransitions.add (aRow);
+    }
+
+    final int nDFAStates = aDFAStates.size ();
+    m_aTransitions = new int [nDFAStates * m_nSymbolCount];
+    m_aAcceptingFormat = new int [nDFAStates];
+    for (int nState = 0; nState < nDFAStates; ++nState)
+    {
+      System.arraycopy (aTransitions.get (nState), 0, m_aTransitions, nState * m_nSymbolCount, m_nSymbolCount);
+
+      final BitSet aCurrent = aDFAStates.get (nState);
+      m_aAcceptingFormat[nState] = -1;
+      for (int f = 0; f < nFormats; ++f)
+        if (aCurrent.get (aOffsets[f] + aAtoms[f].length))
+        {
+          m_aAcceptingFormat[nState] = f;
+          break;
+        }
+    }
+  }
+
+  @NonNull
+  private static int [] _getAtoms (@NonNull final PostalCodeFormat aFormat)
+  {
+    final String sISO = aFormat.getISO ();
+    final ICommonsList <EPostalCodeFormatElement> aElements = aFormat.getAllElements ();
+    int nLength = 0;
+    for (final EPostalCodeFormatElement eElement : aElements)
+      nLength += eElement == EPostalCodeFormatElement.COUNTRY_CODE ? sISO.length () : 1;
+
+    final int [] ret = new int [nLength];
+    int nIndex = 0;
+    for (final EPostalCodeFormatElement eElement : aElements)
+      switch (eElement)
+      {
+        case LETTER:
+          ret[nIndex++] = ATOM_LETTER;
+          break;
+        case NUMBER:
+          ret[nIndex++] = ATOM_NUMBER;
+          break;
+        case COUNTRY_CODE:
+          for (final char c : sISO.toCharArray ())
+            ret[nIndex++] = c;
+          break;
+        case SPACE:
+          ret[nIndex++] = ' ';
+          break;
+        case DASH:
+          ret[nIndex++] = '-';
+          break;
+        default:
+          throw new IllegalStateException ("Unsupported element " + eElement);
+      }
+    return ret;
+  }
+
+  private static boolean _isAccepted (final int nAtom, final char c)
+  {
+    switch (nAtom)
+    {
+      case ATOM_LETTER:
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+      case ATOM_NUMBER:
+        return c >= '0' && c <= '9';
+      default:
+        return c == nAtom;
+    }
+  }
+
+  /**
+   * Find the format matching the passed postal code.
+   *
+   * @param aPostalCode
+   *        The postal code to check. May be <code>null</code>.
+   * @return The index of the first matching format or -1 if no format matches.
+   */
+  int getMatchingFormatIndex (@Nullable final CharSequence aPostalCode)
+  {
+    if (aPostalCode == null)
+      return -1;
+
+    int nState = START_STATE;
+    final int nLength = aPostalCode.length ();
+    for (int i = 0; i < nLength; ++i)
+    {
+      final char c = aPostalCode.charAt (i);
+      if (c >= MAX_CHAR)
+        return -1;
+      nState = m_aTransitions[nState * m_nSymbolCount + m_aSymbols[c]];
+      if (nState == DEAD_STATE)
+        return -1;
+    }
+    return m_aAcceptingFormat[nState];
+  }
+}
@@ -43,10 +43,13 @@ public class PostalCodeCountry implements IPostalCodeCountry, Serializable
   private final ICommonsList <PostalCodeFormat> m_aFormats = new CommonsArrayList <> ();
   private final ICommonsList <String> m_aSpecificPostalCodes = new CommonsArrayList <> ();
   private String m_sNote;
+  // Status vars
+  private PostalCodeAutomaton m_aAutomaton;
 
   public PostalCodeCountry (@NonNull @Nonempty final String sISO)
   {
     m_sISO = ValueEnforcer.notEmpty (sISO, "ISO");
+    m_aAutomaton = new PostalCodeAutomaton (m_aFormats);
   }
 
   @NonNull
@@ -60,6 +63,8 @@ public class PostalCodeCountry implements IPostalCodeCountry, Serializable
   {
     ValueEnforcer.notNull (aFormat, "Format");
     m_aFormats.add (aFormat);
+    // The number of formats per country is small, so simply rebuild
+    m_aAutomaton = new PostalCodeAutomaton (m_aFormats);
   }
 
   @Nonnegative
@@ -116,14 +121,24 @@ public class PostalCodeCountry implements IPostalCodeCountry, Serializable
 
   public boolean isValidPostalCode (@Nullable final String sPostalCode)
   {
-    if (StringHelper.isNotEmpty (sPostalCode))
-      for (final PostalCodeFormat aFormat : m_aFormats)
-        if (aFormat.isValidPostalCode (sPostalCode))
-          return true;
+    if (StringHelper.isNotEmpty (sPostalCode) && m_aAutomaton.getMatchingFormatIndex (sPostalCode) >= 0)
+      return true;
     // No format - all are valid
     return m_aFormats.isEmpty ();
   }
 
+  /**
+   * {@inheritDoc}<br>
+   * This implementation checks all formats at once in a single pass.
+   */
+  @Override
+  @Nullable
+  public PostalCodeFormat getMatchingFormat (@Nullable final String sPostalCode)
+  {
+    final int nIndex = m_aAutomaton.getMatchingFormatIndex (sPostalCode);
+    return nIndex < 0 ? null : m_aFormats.get (nIndex);
+  }
+
   @NonNull
   @ReturnsMutableCopy
   public ICommonsList <String> getAllExamples ()
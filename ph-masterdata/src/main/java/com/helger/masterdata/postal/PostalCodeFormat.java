@@ -25,9 +25,12 @@ import org.jspecify.annotations.Nullable;
 
 import com.helger.annotation.Nonempty;
 import com.helger.annotation.concurrent.Immutable;
+import com.helger.annotation.style.ReturnsMutableCopy;
 import com.helger.base.enforce.ValueEnforcer;
 import com.helger.base.tostring.ToStringGenerator;
 import com.helger.cache.regex.RegExCache;
+import com.helger.collection.commons.CommonsArrayList;
+import com.helger.collection.commons.ICommonsList;
 
 /**
  * This class contains a single postal code format for a certain country.
@@ -38,6 +41,7 @@ import com.helger.cache.regex.RegExCache;
 public class PostalCodeFormat implements Serializable
 {
   private final String m_sISO;
+  private final ICommonsList <EPostalCodeFormatElement> m_aElements;
   private final String m_sFormat;
   private final Pattern m_aPattern;
   private final String m_sExample;
@@ -57,6 +61,7 @@ public class PostalCodeFormat implements Serializable
     ValueEnforcer.notEmpty (aElements, "Elements");
 
     m_sISO = sISO;
+    m_aElements = new CommonsArrayList <> (aElements);
 
     final StringBuilder aSBFormat = new StringBuilder ();
     final StringBuilder aSBRegEx = new StringBuilder ("^");
@@ -88,6 +93,18 @@ public class PostalCodeFormat implements Serializable
     return m_sFormat;
   }
 
+  /**
+   * @return The elements this format is made up. Never <code>null</code> nor empty.
+   * @since 8.2.1
+   */
+  @NonNull
+  @Nonempty
+  @ReturnsMutableCopy
+  ICommonsList <EPostalCodeFormatElement> getAllElements ()
+  {
+    return m_aElements.getClone ();
+  }
+
   /**
    * @return The non-<code>null</code> ISO country string, to which this format
    *         belongs.
@@ -29,9 +29,9 @@ import com.helger.collection.commons.ICommonsList;
 import com.helger.datetime.helper.PDTFactory;
 import com.helger.io.resource.IReadableResource;
 import com.helger.masterdata.MasterDataLogger;
+import com.helger.masterdata.codelist.CodelistSnapshot;
 import com.helger.xml.microdom.IMicroDocument;
 import com.helger.xml.microdom.IMicroElement;
-import com.helger.xml.microdom.serialize.MicroReader;
 
 /**
  * Read postal code definitions from an XML resource.
@@ -86,7 +86,7 @@ public class PostalCodeListReader
   public void readFromFile (@NonNull final IReadableResource aRes)
   {
     ValueEnforcer.notNull (aRes, "Resource");
-    final IMicroDocument aDoc = MicroReader.readMicroXML (aRes);
+    final IMicroDocument aDoc = CodelistSnapshot.readMicroXML (aRes);
     if (aDoc == null)
       throw new IllegalArgumentException ("Passed resource is not an XML file: " + aRes);
 
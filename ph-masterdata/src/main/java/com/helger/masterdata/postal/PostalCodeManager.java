@@ -21,6 +21,7 @@ import java.util.Locale;
 import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.Nullable;
 
+import com.helger.annotation.concurrent.Immutable;
 import com.helger.annotation.concurrent.ThreadSafe;
 import com.helger.annotation.style.ReturnsMutableCopy;
 import com.helger.base.concurrent.SimpleReadWriteLock;
@@ -33,10 +34,13 @@ import com.helger.collection.commons.ICommonsMap;
 import com.helger.collection.commons.ICommonsSet;
 import com.helger.io.resource.ClassPathResource;
 import com.helger.io.resource.IReadableResource;
+import com.helger.masterdata.MasterDataHelper;
 import com.helger.text.locale.country.CountryCache;
 
 /**
- * Manages postal code definitions for different countries.
+ * Manages postal code definitions for different countries.<br>
+ * Since v8.2.1 all registered countries are held in an immutable snapshot that is replaced on
+ * {@link #addCountry(IPostalCodeCountry)}, so that lookups are lock free.
  *
  * @author Philip Helger
  */
@@ -46,8 +50,33 @@ public class PostalCodeManager
   /** Default postal code manager */
   public static final PostalCodeManager DEFAULT_MGR = new PostalCodeManager (new ClassPathResource ("codelists/postal-codes-20220114.xml"));
 
+  /**
+   * An immutable state of all registered countries. It is replaced as a whole when a country is
+   * added, so that reading requires no locking.
+   */
+  @Immutable
+  private static final class Snapshot
+  {
+    static final Snapshot EMPTY = new Snapshot (new CommonsHashMap <> ());
+
+    private final ICommonsMap <Locale, IPostalCodeCountry> m_aMap;
+    /** Same as the map but indexed by the two letter ISO country code */
+    private final IPostalCodeCountry [] m_aIndex = new IPostalCodeCountry [MasterDataHelper.COUNTRY_CODE_INDEX_SIZE];
+
+    Snapshot (@NonNull final ICommonsMap <Locale, IPostalCodeCountry> aMap)
+    {
+      m_aMap = aMap;
+      aMap.forEach ( (k, v) -> {
+        final int nIndex = k == null ? -1 : _getIndex (k.getCountry ());
+        if (nIndex >= 0)
+          m_aIndex[nIndex] = v;
+      });
+    }
+  }
+
+  // Only writers need to be serialized
   private final SimpleReadWriteLock m_aRWLock = new SimpleReadWriteLock ();
-  private final ICommonsMap <Locale, IPostalCodeCountry> m_aMap = new CommonsHashMap <> ();
+  private volatile Snapshot m_aSnapshot = Snapshot.EMPTY;
 
   public PostalCodeManager ()
   {}
@@ -68,30 +97,67 @@ public class PostalCodeManager
     final Locale aCountry = CountryCache.getInstance ().getCountry (aPostalCountry.getISO ());
 
     m_aRWLock.writeLocked ( () -> {
-      if (m_aMap.containsKey (aCountry))
+      final ICommonsMap <Locale, IPostalCodeCountry> aMap = m_aSnapshot.m_aMap;
+      if (aMap.containsKey (aCountry))
         throw new IllegalArgumentException ("A country with code '" + aCountry + "' was already regsitered!");
-      m_aMap.put (aCountry, aPostalCountry);
+
+      // Copy on write
+      final ICommonsMap <Locale, IPostalCodeCountry> aNewMap = new CommonsHashMap <> (aMap);
+      aNewMap.put (aCountry, aPostalCountry);
+      m_aSnapshot = new Snapshot (aNewMap);
     });
   }
 
+  /**
+   * Get the index of a two letter country code.
+   *
+   * @param sCountryCode
+   *        The country code to use. May not be <code>null</code>.
+   * @return -1 if the passed code does not consist of two letters that case insensitively match ASCII
+   *         letters
+   * @see MasterDataHelper#getCaseFolded(char)
+   */
+  private static int _getIndex (@NonNull final String sCountryCode)
+  {
+    if (sCountryCode.length () != 2)
+      return -1;
+    return MasterDataHelper.getCountryCodeIndex (MasterDataHelper.getCaseFolded (sCountryCode.charAt (0)),
+                                                 MasterDataHelper.getCaseFolded (sCountryCode.charAt (1)));
+  }
+
   @Nullable
   public IPostalCodeCountry getPostalCountryOfCountry (@Nullable final String sISO)
   {
-    return getPostalCountryOfCountry (CountryCache.getInstance ().getCountry (sISO));
+    final Snapshot aSnapshot = m_aSnapshot;
+    if (sISO != null)
+    {
+      // Fast path without resolving the country
+      final int nIndex = _getIndex (sISO);
+      if (nIndex >= 0)
+        return aSnapshot.m_aIndex[nIndex];
+    }
+    return aSnapshot.m_aMap.get (CountryCache.getInstance ().getCountry (sISO));
   }
 
   @Nullable
   public IPostalCodeCountry getPostalCountryOfCountry (@Nullable final Locale aCountry)
   {
-    final Locale aRealCountry = CountryCache.getInstance ().getCountry (aCountry);
-    return m_aRWLock.readLockedGet ( () -> m_aMap.get (aRealCountry));
+    final Snapshot aSnapshot = m_aSnapshot;
+    if (aCountry != null)
+    {
+      // Fast path without resolving the country
+      final int nIndex = _getIndex (aCountry.getCountry ());
+      if (nIndex >= 0)
+        return aSnapshot.m_aIndex[nIndex];
+    }
+    return aSnapshot.m_aMap.get (CountryCache.getInstance ().getCountry (aCountry));
   }
 
   @NonNull
   @ReturnsMutableCopy
   public ICommonsSet <Locale> getAllAvailableCountries ()
   {
-    return m_aRWLock.readLockedGet (m_aMap::copyOfKeySet);
+    return m_aSnapshot.m_aMap.copyOfKeySet ();
   }
 
   /**
@@ -171,6 +237,6 @@ public class PostalCodeManager
   @Override
   public String toString ()
   {
-    return new ToStringGenerator (this).append ("map", m_aMap).getToString ();
+    return new ToStringGenerator (this).append ("map", m_aSnapshot.m_aMap).getToString ();
   }
 }
@@ -0,0 +1,62 @@
+/*
+ * Copyright (C) 2014-2026 Philip Helger (www.helger.com)
+ * philip[at]helger[dot]com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.helger.masterdata.swift;
+
+import org.jspecify.annotations.NonNull;
+
+/**
+ * The detailed result of an IBAN validation. The constants are ordered in the sequence in which the
+ * checks are performed, so only the first failing check is reported.
+ *
+ * @author Philip Helger
+ * @since 8.2.1
+ */
+public enum EIBANValidationStatus
+{
+  /** The IBAN is valid */
+  VALID,
+  /** <code>null</code> or less than 4 alphanumeric characters */
+  TOO_SHORT,
+  /** The country code is not supported */
+  UNSUPPORTED_COUNTRY,
+  /** The length does not match the country specific length */
+  INVALID_LENGTH,
+  /** The check digits at index 2 and 3 are not numeric */
+  INVALID_CHECK_DIGITS,
+  /** The ISO 7064 Mod 97 checksum is invalid */
+  INVALID_CHECKSUM,
+  /** The IBAN does not match the country specific layout */
+  INVALID_LAYOUT;
+
+  private static final EIBANValidationStatus [] VALUES = values ();
+
+  public boolean isValid ()
+  {
+    return this == VALID;
+  }
+
+  public boolean isInvalid ()
+  {
+    return this != VALID;
+  }
+
+  @NonNull
+  static EIBANValidationStatus getFromOrdinal (final int nOrdinal)
+  {
+    return VALUES[nOrdinal];
+  }
+}
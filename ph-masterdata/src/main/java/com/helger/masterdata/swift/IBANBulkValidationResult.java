@@ -0,0 +1,39 @@
+/*
+ * Copyright (C) 2014-2026 Philip Helger (www.helger.com)
+ * philip[at]helger[dot]com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.helger.masterdata.swift;
+
+import org.jspecify.annotations.NonNull;
+
+import com.helger.annotation.concurrent.Immutable;
+import com.helger.masterdata.validation.AbstractBulkValidationResult;
+
+/**
+ * The compact result of a bulk IBAN validation. Per input element a single byte with the
+ * {@link EIBANValidationStatus} is stored, plus a bit set with all valid elements.
+ *
+ * @author Philip Helger
+ * @since 8.2.1
+ * @see IBANManager#validateIBANs(java.util.List, java.util.concurrent.Executor)
+ */
+@Immutable
+public final class IBANBulkValidationResult extends AbstractBulkValidationResult <EIBANValidationStatus>
+{
+  IBANBulkValidationResult (@NonNull final byte [] aStatus)
+  {
+    super (aStatus, EIBANValidationStatus::getFromOrdinal, EIBANValidationStatus.VALID);
+  }
+}
@@ -18,12 +18,14 @@ package com.helger.masterdata.swift;
 
 import java.io.Serializable;
 import java.time.LocalDate;
+import java.util.Arrays;
 import java.util.List;
 import java.util.regex.Pattern;
 
 import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.Nullable;
 
+import com.helger.annotation.CheckForSigned;
 import com.helger.annotation.Nonempty;
 import com.helger.annotation.Nonnegative;
 import com.helger.annotation.style.ReturnsMutableCopy;
@@ -47,9 +49,21 @@ import com.helger.datetime.period.LocalDatePeriod;
  */
 public class IBANCountryData implements ILocalDatePeriod, Serializable
 {
+  /** Layout table marker for a numeric character (0-9) */
+  public static final char LAYOUT_NUMERIC = 'n';
+  /** Layout table marker for an upper case alpha character (A-Z) */
+  public static final char LAYOUT_ALPHA = 'a';
+  /** Layout table marker for a mixed case alphanumeric character (a-z, A-Z, 0-9) */
+  public static final char LAYOUT_ALPHANUMERIC = 'c';
+
   private final int m_nExpectedLength;
   private final Pattern m_aPattern;
+  private final char [] m_aLayout;
   private final ICommonsList <IBANElement> m_aElements;
+  /** The offset of the first element of each type, indexed by the ordinal. -1 if not present. */
+  private final int [] m_aElementOffsets;
+  /** The length of the first element of each type, indexed by the ordinal. 0 if not present. */
+  private final int [] m_aElementLengths;
   private final String m_sFixedCheckDigits;
   private final LocalDatePeriod m_aValidity;
 
@@ -74,8 +88,41 @@ public class IBANCountryData implements ILocalDatePeriod, Serializable
                           @Nullable final LocalDate aValidFrom,
                           @Nullable final LocalDate aValidTo,
                           @NonNull final List <IBANElement> aElements)
+  {
+    this (nExpectedLength, aPattern, null, sFixedCheckDigits, aValidFrom, aValidTo, aElements);
+  }
+
+  /**
+   * @param nExpectedLength
+   *        The total expected length. Serves mainly as a checksum field to check whether the length
+   *        of the passed fields matches.
+   * @param aPattern
+   *        <code>null</code> or the RegEx pattern to valid values of this country.
+   * @param aLayout
+   *        <code>null</code> or the precompiled layout table, having one entry per IBAN character.
+   *        Each entry is either one of the <code>LAYOUT_*</code> markers or a fixed upper case
+   *        character. Must be consistent with the provided pattern.
+   * @param sFixedCheckDigits
+   *        <code>null</code> or fixed check digits (of length 2)
+   * @param aValidFrom
+   *        Validity start date. May be <code>null</code>.
+   * @param aValidTo
+   *        Validity end date. May be <code>null</code>.
+   * @param aElements
+   *        The IBAN elements for this country. May not be <code>null</code>.
+   * @since 8.2.1
+   */
+  protected IBANCountryData (@Nonnegative final int nExpectedLength,
+                             @Nullable final Pattern aPattern,
+                             @Nullable final char [] aLayout,
+                             @Nullable final String sFixedCheckDigits,
+                             @Nullable final LocalDate aValidFrom,
+                             @Nullable final LocalDate aValidTo,
+                             @NonNull final List <IBANElement> aElements)
   {
     ValueEnforcer.notNull (aElements, "Elements");
+    if (aLayout != null)
+      ValueEnforcer.isTrue (aLayout.length == nExpectedLength, "Layout table length must match the expected length!");
     if (sFixedCheckDigits != null)
     {
       ValueEnforcer.isTrue (sFixedCheckDigits.length () == 2, "Check digits must be length 2!");
@@ -84,13 +131,26 @@ public class IBANCountryData implements ILocalDatePeriod, Serializable
 
     m_nExpectedLength = nExpectedLength;
     m_aPattern = aPattern;
+    m_aLayout = aLayout;
     m_aElements = new CommonsArrayList <> (aElements);
     m_sFixedCheckDigits = sFixedCheckDigits;
     m_aValidity = new LocalDatePeriod (aValidFrom, aValidTo);
 
+    final int nElementTypes = EIBANElementType.values ().length;
+    m_aElementOffsets = new int [nElementTypes];
+    Arrays.fill (m_aElementOffsets, -1);
+    m_aElementLengths = new int [nElementTypes];
     int nCalcedLength = 0;
     for (final IBANElement aChar : aElements)
+    {
+      final int nOrdinal = aChar.getElementType ().ordinal ();
+      if (m_aElementOffsets[nOrdinal] < 0)
+      {
+        m_aElementOffsets[nOrdinal] = nCalcedLength;
+        m_aElementLengths[nOrdinal] = aChar.getLength ();
+      }
       nCalcedLength += aChar.getLength ();
+    }
     if (nCalcedLength != nExpectedLength)
       throw new IllegalArgumentException ("Expected length=" + nExpectedLength + "; calced length=" + nCalcedLength);
   }
@@ -122,6 +182,84 @@ public class IBANCountryData implements ILocalDatePeriod, Serializable
     return m_aPattern.matcher (sIBAN).matches ();
   }
 
+  /**
+   * Check if a single character of a unified IBAN matches the layout of this country. This is the
+   * allocation free alternative to {@link #matchesPattern(String)} that can be applied character by
+   * character.
+   *
+   * @param nIndex
+   *        The 0-based index of the character within the unified IBAN (incl. country code).
+   * @param c
+   *        The character to check. Should already be upper case.
+   * @return <code>true</code> if the character is valid at the provided index or if no layout is
+   *         present, <code>false</code> otherwise.
+   * @since 8.2.1
+   */
+  public boolean matchesLayoutChar (@Nonnegative final int nIndex, final char c)
+  {
+    if (m_aLayout == null)
+      return true;
+    if (nIndex >= m_aLayout.length)
+      return false;
+
+    final char cLayout = m_aLayout[nIndex];
+    switch (cLayout)
+    {
+      case LAYOUT_NUMERIC:
+        return c >= '0' && c <= '9';
+      case LAYOUT_ALPHA:
+        return c >= 'A' && c <= 'Z';
+      case LAYOUT_ALPHANUMERIC:
+        return (c >= '0' && c <= '9') || (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z');
+      default:
+        return c == cLayout;
+    }
+  }
+
+  /**
+   * Get the number of different upper case characters that are possible at the passed index of the
+   * BBAN part of a unified IBAN.
+   *
+   * @param nIndex
+   *        The 0-based index of the character within the unified IBAN (incl. country code). Must be
+   *        &ge; 4 and &lt; the expected length.
+   * @return 10 for numeric characters, 26 for alpha characters, 36 for alphanumeric characters or
+   *         if no layout is present and 1 for fixed characters.
+   */
+  @Nonnegative
+  int getLayoutCharCount (@Nonnegative final int nIndex)
+  {
+    if (m_aLayout == null)
+      return 36;
+    switch (m_aLayout[nIndex])
+    {
+      case LAYOUT_NUMERIC:
+        return 10;
+      case LAYOUT_ALPHA:
+        return 26;
+      case LAYOUT_ALPHANUMERIC:
+        return 36;
+      default:
+        return 1;
+    }
+  }
+
+  /**
+   * Get the fixed character at the passed index of a unified IBAN.
+   *
+   * @param nIndex
+   *        The 0-based index of the character within the unified IBAN (incl. country code). Must be
+   *        &ge; 0 and &lt; the expected length.
+   * @return The fixed character or 0 if the character is variable or if no layout is present.
+   * @see #getLayoutCharCount(int)
+   */
+  char getLayoutFixedChar (@Nonnegative final int nIndex)
+  {
+    if (m_aLayout == null || getLayoutCharCount (nIndex) != 1)
+      return 0;
+    return m_aLayout[nIndex];
+  }
+
   /**
    * @return An list of all IBAN elements for this country.
    */
@@ -132,6 +270,38 @@ public class IBANCountryData implements ILocalDatePeriod, Serializable
     return m_aElements.getClone ();
   }
 
+  /**
+   * Get the offset of an element within the unified IBAN. If the element type occurs more than once,
+   * the first occurrence is used.
+   *
+   * @param eElementType
+   *        The element type to search. May not be <code>null</code>.
+   * @return The 0-based offset of the element or -1 if this country has no such element.
+   * @since 8.2.1
+   */
+  @CheckForSigned
+  public int getElementOffset (@NonNull final EIBANElementType eElementType)
+  {
+    ValueEnforcer.notNull (eElementType, "ElementType");
+    return m_aElementOffsets[eElementType.ordinal ()];
+  }
+
+  /**
+   * Get the length of an element within the unified IBAN. If the element type occurs more than once,
+   * the first occurrence is used.
+   *
+   * @param eElementType
+   *        The element type to search. May not be <code>null</code>.
+   * @return The length of the element or 0 if this country has no such element.
+   * @since 8.2.1
+   */
+  @Nonnegative
+  public int getElementLength (@NonNull final EIBANElementType eElementType)
+  {
+    ValueEnforcer.notNull (eElementType, "ElementType");
+    return m_aElementLengths[eElementType.ordinal ()];
+  }
+
   public boolean hasFixedCheckDigits ()
   {
     return m_sFixedCheckDigits != null;
@@ -241,7 +411,7 @@ public class IBANCountryData implements ILocalDatePeriod, Serializable
   }
 
   @Nullable
-  private static Pattern _parseLayout (@NonNull @Nonempty final String sCountryCode,
+  private static char [] _parseLayout (@NonNull @Nonempty final String sCountryCode,
                                        @Nonnegative final int nExpectedLength,
                                        @Nullable final String sFixedCheckDigits,
                                        @Nullable final String sLayout)
@@ -250,18 +420,15 @@ public class IBANCountryData implements ILocalDatePeriod, Serializable
     if (sLayout == null)
       return null;
 
-    final StringBuilder aRegEx = new StringBuilder ();
+    final StringBuilder aTable = new StringBuilder (nExpectedLength);
     // Always start with country code
+    aTable.append (sCountryCode);
     // Depending on fixed check digits or not different check
     if (sFixedCheckDigits != null)
-      aRegEx.append (Pattern.quote (sCountryCode + sFixedCheckDigits));
+      aTable.append (sFixedCheckDigits);
     else
-    {
-      aRegEx.append (Pattern.quote (sCountryCode));
-      aRegEx.append ("[0-9]{2}");
-    }
+      aTable.append (LAYOUT_NUMERIC).append (LAYOUT_NUMERIC);
 
-    int nLen = 4;
     for (final String sPart : StringHelper.getExploded (',', sLayout))
     {
       final String [] aParts = RegExHelper.getAllMatchingGroupValues ("([0-9]+)([anc])", sPart);
@@ -270,27 +437,54 @@ public class IBANCountryData implements ILocalDatePeriod, Serializable
       final int nPartLen = StringParser.parseInt (aParts[0], CGlobal.ILLEGAL_UINT);
       if (nPartLen <= 0)
         throw new IllegalArgumentException ("Failed to parse layout part '" + sPart + "' - illegal numeric value");
-      nLen += nPartLen;
       if (aParts[1].length () != 1)
         throw new IllegalArgumentException ("Failed to parse layout part '" + sPart + "' - type length is invalid");
       final char cType = aParts[1].charAt (0);
-      if (cType == 'a')
-        aRegEx.append ("[A-Z]{" + nPartLen + "}");
-      else
-        if (cType == 'n')
-          aRegEx.append ("[0-9]{" + nPartLen + "}");
-        else
-          if (cType == 'c')
-            aRegEx.append ("[a-zA-Z0-9]{" + nPartLen + "}");
-          else
-            throw new IllegalArgumentException ("Failed to parse layout part '" + sPart + "' - type is invalid");
+      if (cType != LAYOUT_ALPHA && cType != LAYOUT_NUMERIC && cType != LAYOUT_ALPHANUMERIC)
+        throw new IllegalArgumentException ("Failed to parse layout part '" + sPart + "' - type is invalid");
+      for (int i = 0; i < nPartLen; ++i)
+        aTable.append (cType);
     }
-    if (nLen != nExpectedLength)
+    if (aTable.length () != nExpectedLength)
       throw new IllegalArgumentException ("Failed to parse layout - length mismatch. Having " +
-                                          nLen +
+                                          aTable.length () +
                                           " but expected " +
                                           nExpectedLength);
 
+    final char [] ret = new char [aTable.length ()];
+    aTable.getChars (0, ret.length, ret, 0);
+    return ret;
+  }
+
+  @Nullable
+  private static Pattern _createLayoutPattern (@Nullable final char [] aLayout, final boolean bFixedCheckDigits)
+  {
+    if (aLayout == null)
+      return null;
+
+    final StringBuilder aRegEx = new StringBuilder ();
+    // Country code and optionally the fixed check digits
+    final int nFixedLen = bFixedCheckDigits ? 4 : 2;
+    aRegEx.append (Pattern.quote (new String (aLayout, 0, nFixedLen)));
+
+    int nIndex = nFixedLen;
+    while (nIndex < aLayout.length)
+    {
+      // Combine all subsequent identical markers into one group
+      final char cType = aLayout[nIndex];
+      int nPartLen = 1;
+      while (nIndex + nPartLen < aLayout.length && aLayout[nIndex + nPartLen] == cType)
+        nPartLen++;
+
+      if (cType == LAYOUT_ALPHA)
+        aRegEx.append ("[A-Z]{" + nPartLen + "}");
+      else
+        if (cType == LAYOUT_NUMERIC)
+          aRegEx.append ("[0-9]{" + nPartLen + "}");
+        else
+          aRegEx.append ("[a-zA-Z0-9]{" + nPartLen + "}");
+      nIndex += nPartLen;
+    }
     return RegExCache.getPattern (aRegEx.toString ());
   }
 
@@ -328,12 +522,19 @@ public class IBANCountryData implements ILocalDatePeriod, Serializable
 
     final ICommonsList <IBANElement> aList = _parseElements (sDesc);
 
-    final Pattern aPattern = _parseLayout (sCountryCode, nExpectedLength, sFixedCheckDigits, sLayout);
+    final char [] aLayout = _parseLayout (sCountryCode, nExpectedLength, sFixedCheckDigits, sLayout);
+    final Pattern aPattern = _createLayoutPattern (aLayout, sFixedCheckDigits != null);
 
     // And we're done
     try
     {
-      return new IBANCountryData (nExpectedLength, aPattern, sFixedCheckDigits, aValidFrom, aValidTo, aList);
+      return new IBANCountryData (nExpectedLength,
+                                  aPattern,
+                                  aLayout,
+                                  sFixedCheckDigits,
+                                  aValidFrom,
+                                  aValidTo,
+                                  aList);
     }
     catch (final IllegalArgumentException ex)
     {
@@ -16,15 +16,24 @@
  */
 package com.helger.masterdata.swift;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferOverflowException;
+import java.nio.CharBuffer;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.helger.annotation.CheckForSigned;
 import com.helger.annotation.Nonempty;
 import com.helger.annotation.Nonnegative;
 import com.helger.annotation.style.ReturnsMutableCopy;
@@ -39,11 +48,15 @@ import com.helger.collection.commons.ICommonsMap;
 import com.helger.collection.commons.ICommonsSet;
 import com.helger.datetime.format.PDTFromString;
 import com.helger.io.resource.ClassPathResource;
+import com.helger.masterdata.MasterDataHelper;
+import com.helger.masterdata.codelist.CodelistSnapshot;
 import com.helger.masterdata.iso.ISO7064;
+import com.helger.masterdata.validation.EValidationCacheType;
+import com.helger.masterdata.validation.ValidationCache;
+import com.helger.masterdata.validation.ValidationCacheManager;
 import com.helger.text.locale.country.CountryCache;
 import com.helger.xml.microdom.IMicroDocument;
 import com.helger.xml.microdom.IMicroElement;
-import com.helger.xml.microdom.serialize.MicroReader;
 
 /**
  * Contains the IBAN manager.<br>
@@ -82,6 +95,8 @@ public final class IBANManager
 
   /** Maps country code to IBAn country data */
   private static final ICommonsMap <String, IBANCountryData> IBAN_DATA = new CommonsHashMap <> ();
+  /** Same as IBAN_DATA but indexed by the two country letters for fast access */
+  private static final IBANCountryData [] IBAN_DATA_INDEX = new IBANCountryData [MasterDataHelper.COUNTRY_CODE_INDEX_SIZE];
 
   static
   {
@@ -96,7 +111,7 @@ public final class IBANManager
    */
   private static void _readIBANDataFromXML ()
   {
-    final IMicroDocument aDoc = MicroReader.readMicroXML (new ClassPathResource ("codelists/iban-country-data.xml"));
+    final IMicroDocument aDoc = CodelistSnapshot.readMicroXML (new ClassPathResource ("codelists/iban-country-data.xml"));
     if (aDoc == null)
       throw new InitializationException ("Failed to read IBAN country data [1]");
     if (aDoc.getDocumentElement () == null)
@@ -135,17 +150,39 @@ public final class IBANManager
 
       if (IBAN_DATA.containsKey (sCountryCode))
         throw new IllegalArgumentException ("Country " + sCountryCode + " is already contained!");
-      IBAN_DATA.put (sCountryCode,
-                     IBANCountryData.createFromString (sCountryCode,
-                                                       nExpectedLength,
-                                                       sLayout,
-                                                       sCheckDigits,
-                                                       aValidFrom,
-                                                       aValidTo,
-                                                       sDesc));
+      final int nCountryIndex = MasterDataHelper.getCountryCodeIndex (sCountryCode.charAt (0), sCountryCode.charAt (1));
+      if (nCountryIndex < 0)
+        throw new InitializationException ("IBAN country code '" + sCountryCode + "' is not made of 2 letters");
+
+      final IBANCountryData aCountryData = IBANCountryData.createFromString (sCountryCode,
+                                                                             nExpectedLength,
+                                                                             sLayout,
+                                                                             sCheckDigits,
+                                                                             aValidFrom,
+                                                                             aValidTo,
+                                                                             sDesc);
+      IBAN_DATA.put (sCountryCode, aCountryData);
+      IBAN_DATA_INDEX[nCountryIndex] = aCountryData;
     }
   }
 
+  /**
+   * Get the country data of the passed country code characters.
+   *
+   * @param c0
+   *        First country code character. Must be upper case.
+   * @param c1
+   *        Second country code character. Must be upper case.
+   * @return <code>null</code> if one of the characters is not in the range A-Z or if the country
+   *         has no IBAN support.
+   */
+  @Nullable
+  static IBANCountryData getCountryData (final char c0, final char c1)
+  {
+    final int nCountryIndex = MasterDataHelper.getCountryCodeIndex (c0, c1);
+    return nCountryIndex < 0 ? null : IBAN_DATA_INDEX[nCountryIndex];
+  }
+
   /**
    * Get the country data for the given country code.
    *
@@ -215,10 +252,23 @@ public final class IBANManager
     return isValidIBAN (sIBAN, false);
   }
 
+  /**
+   * Check if the passed IBAN is valid and the country is supported!
+   *
+   * @param aIBAN
+   *        The IBAN number to check.
+   * @return <code>true</code> if the IBAN is valid and supported.
+   * @since 8.2.1
+   */
+  public static boolean isValidIBAN (@Nullable final CharSequence aIBAN)
+  {
+    return isValidIBAN (aIBAN, false);
+  }
+
   private static int _calculateChecksum (@NonNull final String sIBAN)
   {
-    final String sCalcBase = sIBAN.substring (4) + sIBAN.substring (0, 4);
-    return ISO7064.Mod97.getChecksum (sCalcBase);
+    // Country code and check digits are processed last
+    return ISO7064.Mod97.getChecksum (sIBAN, 0, sIBAN.length (), 4);
   }
 
   /**
@@ -232,33 +282,308 @@ public final class IBANManager
    */
   public static boolean isValidIBAN (@Nullable final String sIBAN, final boolean bReturnCodeIfNoCountryData)
   {
-    // kick all non-IBAN chars
-    final String sRealIBAN = unifyIBAN (sIBAN);
+    return isValidIBAN ((CharSequence) sIBAN, bReturnCodeIfNoCountryData);
+  }
+
+  /**
+   * Check if the passed IBAN is valid and the country is supported! This method works in a single
+   * pass over the provided characters and does not create any intermediate objects. See
+   * {@link #getValidationStatus(CharSequence)} for details.
+   *
+   * @param aIBAN
+   *        The IBAN number to check. May be <code>null</code>.
+   * @param bReturnCodeIfNoCountryData
+   *        The return value if no country data is present for the specified IBAN.
+   * @return <code>true</code> if the IBAN is valid and supported.
+   * @since 8.2.1
+   */
+  public static boolean isValidIBAN (@Nullable final CharSequence aIBAN, final boolean bReturnCodeIfNoCountryData)
+  {
+    final EIBANValidationStatus eStatus = getValidationStatus (aIBAN);
+    if (eStatus == EIBANValidationStatus.UNSUPPORTED_COUNTRY)
+      return bReturnCodeIfNoCountryData;
+    return eStatus.isValid ();
+  }
+
+  @NonNull
+  private static EIBANValidationStatus _getValidationStatusOfUnifiedIBAN (@Nullable final String sRealIBAN)
+  {
     if (sRealIBAN == null)
-      return false;
+      return EIBANValidationStatus.TOO_SHORT;
 
     // is the country supported?
     final IBANCountryData aData = IBAN_DATA.get (sRealIBAN.substring (0, 2));
     if (aData == null)
-      return bReturnCodeIfNoCountryData;
+      return EIBANValidationStatus.UNSUPPORTED_COUNTRY;
 
     // Does the length match the expected length?
     if (aData.getExpectedLength () != sRealIBAN.length ())
-      return false;
+      return EIBANValidationStatus.INVALID_LENGTH;
 
     // Are the checksum characters valid?
     if (!_isValidChecksumChar (sRealIBAN.charAt (2)) || !_isValidChecksumChar (sRealIBAN.charAt (3)))
-      return false;
+      return EIBANValidationStatus.INVALID_CHECK_DIGITS;
 
     // Is existing checksum valid?
     if (_calculateChecksum (sRealIBAN) != ISO7064.Mod97.EXPECTED_CHECKSUM)
-      return false;
+      return EIBANValidationStatus.INVALID_CHECKSUM;
 
     // Perform pattern check
     if (!aData.matchesPattern (sRealIBAN))
-      return false;
+      return EIBANValidationStatus.INVALID_LAYOUT;
+
+    return EIBANValidationStatus.VALID;
+  }
+
+  /**
+   * Check the passed IBAN and determine the detailed validation status. This method works in a
+   * single pass over the provided characters and does not create any intermediate objects: non
+   * alphanumeric characters are skipped, lower case characters are folded to upper case, the
+   * rotated ISO 7064 Mod 97 checksum is calculated on the fly and the country layout is checked
+   * character by character. The result is identical to applying the checks on the result of
+   * {@link #unifyIBAN(String)}. If a cache is enabled for {@link EValidationCacheType#IBAN} in
+   * {@link ValidationCacheManager}, the result is cached by the unified IBAN.
+   *
+   * @param aIBAN
+   *        The IBAN number to check. May be <code>null</code>.
+   * @return The validation status and never <code>null</code>. If multiple checks fail, the first
+   *         one in the order of {@link EIBANValidationStatus} is returned.
+   * @since 8.2.1
+   */
+  @NonNull
+  public static EIBANValidationStatus getValidationStatus (@Nullable final CharSequence aIBAN)
+  {
+    final ValidationCache aCache = ValidationCacheManager.getCache (EValidationCacheType.IBAN);
+    if (aCache != null)
+    {
+      final String sCacheKey = _getCacheKey (aIBAN);
+      if (sCacheKey != null)
+        return EIBANValidationStatus.getFromOrdinal (aCache.getOrCompute (sCacheKey,
+                                                                         x -> _getValidationStatus (x).ordinal ()));
+    }
+    return _getValidationStatus (aIBAN);
+  }
+
+  /**
+   * Get the key for the validation cache. This is the same as {@link #unifyIBAN(String)} but without
+   * the length check and without a regular expression.
+   *
+   * @param aIBAN
+   *        The IBAN to get the key from. May be <code>null</code>.
+   * @return <code>null</code> if the passed IBAN is <code>null</code> or contains non-ASCII
+   *         characters.
+   */
+  @Nullable
+  private static String _getCacheKey (@Nullable final CharSequence aIBAN)
+  {
+    if (aIBAN == null)
+      return null;
 
-    return true;
+    // Find the first character that needs to be upper cased or removed
+    final int nLen = aIBAN.length ();
+    int nFirstChange = 0;
+    while (nFirstChange < nLen)
+    {
+      final char c = aIBAN.charAt (nFirstChange);
+      if (c > 0x7f)
+        return null;
+      if ((c < '0' || c > '9') && (c < 'A' || c > 'Z'))
+        break;
+      nFirstChange++;
+    }
+
+    // Already unified - for a String no object is created
+    if (nFirstChange == nLen)
+      return aIBAN.toString ();
+
+    final StringBuilder aSB = new StringBuilder (nLen);
+    aSB.append (aIBAN, 0, nFirstChange);
+    for (int i = nFirstChange; i < nLen; ++i)
+    {
+      final char c = aIBAN.charAt (i);
+      if (c >= 'a' && c <= 'z')
+        aSB.append ((char) (c - 'a' + 'A'));
+      else
+        if (c > 0x7f)
+          return null;
+        else
+          if ((c >= '0' && c <= '9') || (c >= 'A' && c <= 'Z'))
+            aSB.append (c);
+    }
+    return aSB.toString ();
+  }
+
+  @NonNull
+  private static EIBANValidationStatus _getValidationStatus (@Nullable final CharSequence aIBAN)
+  {
+    if (aIBAN == null)
+      return EIBANValidationStatus.TOO_SHORT;
+
+    // The first 4 characters are rotated to the end for the checksum
+    char c0 = 0;
+    char c1 = 0;
+    char c2 = 0;
+    char c3 = 0;
+    IBANCountryData aData = null;
+    int nExpectedLength = 0;
+    int nChecksum = 0;
+    boolean bLayoutMatches = true;
+    int nIndex = 0;
+    final int nLen = aIBAN.length ();
+    for (int i = 0; i < nLen; ++i)
+    {
+      char c = aIBAN.charAt (i);
+      if (c >= 'a' && c <= 'z')
+        c -= 'a' - 'A';
+      else
+        if (c > 0x7f)
+        {
+          // Non-ASCII upper casing is locale and context dependent - use the String based path
+          return _getValidationStatusOfUnifiedIBAN (unifyIBAN (aIBAN.toString ()));
+        }
+        else
+          if ((c < '0' || c > '9') && (c < 'A' || c > 'Z'))
+          {
+            // Ignore all separators
+            continue;
+          }
+
+      switch (nIndex)
+      {
+        case 0:
+          c0 = c;
+          break;
+        case 1:
+        {
+          c1 = c;
+          final int nCountryIndex = MasterDataHelper.getCountryCodeIndex (c0, c1);
+          if (nCountryIndex >= 0)
+          {
+            aData = IBAN_DATA_INDEX[nCountryIndex];
+            if (aData != null)
+              nExpectedLength = aData.getExpectedLength ();
+          }
+          break;
+        }
+        case 2:
+          c2 = c;
+          break;
+        case 3:
+          // At least 4 chars are present
+          if (aData == null)
+            return EIBANValidationStatus.UNSUPPORTED_COUNTRY;
+          c3 = c;
+          break;
+        default:
+          // Too long?
+          if (nIndex >= nExpectedLength)
+            return EIBANValidationStatus.INVALID_LENGTH;
+          nChecksum = ISO7064.Mod97.getChecksum (nChecksum, c);
+          break;
+      }
+
+      if (bLayoutMatches && aData != null && !aData.matchesLayoutChar (nIndex, c))
+      {
+        // Don't stop here, because the other checks have precedence
+        bLayoutMatches = false;
+      }
+      nIndex++;
+    }
+
+    if (nIndex < 4)
+      return EIBANValidationStatus.TOO_SHORT;
+
+    // Too short?
+    if (nIndex != nExpectedLength)
+      return EIBANValidationStatus.INVALID_LENGTH;
+
+    // Are the checksum characters valid?
+    if (!_isValidChecksumChar (c2) || !_isValidChecksumChar (c3))
+      return EIBANValidationStatus.INVALID_CHECK_DIGITS;
+
+    // Rotate the first 4 chars to the end
+    nChecksum = ISO7064.Mod97.getChecksum (nChecksum, c0);
+    nChecksum = ISO7064.Mod97.getChecksum (nChecksum, c1);
+    nChecksum = ISO7064.Mod97.getChecksum (nChecksum, c2);
+    nChecksum = ISO7064.Mod97.getChecksum (nChecksum, c3);
+    if (nChecksum != ISO7064.Mod97.EXPECTED_CHECKSUM)
+      return EIBANValidationStatus.INVALID_CHECKSUM;
+
+    if (!bLayoutMatches)
+      return EIBANValidationStatus.INVALID_LAYOUT;
+
+    return EIBANValidationStatus.VALID;
+  }
+
+  /**
+   * Validate a list of IBANs on the calling thread.
+   *
+   * @param aIBANs
+   *        The IBANs to validate. May not be <code>null</code> but may contain <code>null</code>
+   *        elements.
+   * @return The bulk validation result with one entry per input element in the same order. Never
+   *         <code>null</code>.
+   * @since 8.2.1
+   */
+  @NonNull
+  public static IBANBulkValidationResult validateIBANs (@NonNull final List <? extends CharSequence> aIBANs)
+  {
+    return validateIBANs (aIBANs, null);
+  }
+
+  /**
+   * Validate a list of IBANs, optionally in parallel. The list is split into chunks of
+   * {@link MasterDataHelper#DEFAULT_BULK_CHUNK_SIZE} elements, and each chunk is validated on the
+   * provided executor. Lists that fit into a single chunk are always validated on the calling
+   * thread.
+   *
+   * @param aIBANs
+   *        The IBANs to validate. May not be <code>null</code> but may contain <code>null</code>
+   *        elements. The list should provide fast random access and must not be modified while
+   *        validating.
+   * @param aExecutor
+   *        The executor to run the chunks on. May be <code>null</code> to validate all elements on
+   *        the calling thread. This may e.g. be a {@link java.util.concurrent.ForkJoinPool} or an
+   *        executor using virtual threads.
+   * @return The bulk validation result with one entry per input element in the same order. Never
+   *         <code>null</code>.
+   * @since 8.2.1
+   */
+  @NonNull
+  public static IBANBulkValidationResult validateIBANs (@NonNull final List <? extends CharSequence> aIBANs,
+                                                        @Nullable final Executor aExecutor)
+  {
+    ValueEnforcer.notNull (aIBANs, "IBANs");
+
+    final int nCount = aIBANs.size ();
+    final byte [] aStatus = new byte [nCount];
+    MasterDataHelper.forEachChunk (nCount, MasterDataHelper.DEFAULT_BULK_CHUNK_SIZE, aExecutor, (nStart, nEnd) -> {
+      for (int i = nStart; i < nEnd; ++i)
+        aStatus[i] = (byte) getValidationStatus (aIBANs.get (i)).ordinal ();
+    });
+    return new IBANBulkValidationResult (aStatus);
+  }
+
+  /**
+   * Validate a stream of IBANs, optionally in parallel. The stream is collected into a list first.
+   *
+   * @param aIBANs
+   *        The IBANs to validate. May not be <code>null</code>.
+   * @param aExecutor
+   *        The executor to run the chunks on. May be <code>null</code> to validate all elements on
+   *        the calling thread.
+   * @return The bulk validation result with one entry per stream element in encounter order. Never
+   *         <code>null</code>.
+   * @see #validateIBANs(List, Executor)
+   * @since 8.2.1
+   */
+  @NonNull
+  public static IBANBulkValidationResult validateIBANs (@NonNull final Stream <? extends CharSequence> aIBANs,
+                                                        @Nullable final Executor aExecutor)
+  {
+    ValueEnforcer.notNull (aIBANs, "IBANs");
+
+    return validateIBANs (aIBANs.collect (Collectors.toList ()), aExecutor);
   }
 
   public static int createChecksumOfNewIBAN (@NonNull final String sCountryCode, @NonNull final String sBBAN)
@@ -298,6 +623,18 @@ public final class IBANManager
     return getFormattedIBAN (sIBAN, 4, " ");
   }
 
+  /**
+   * Get the unified and grouped representation of the passed IBAN. See
+   * {@link #appendFormattedIBAN(CharSequence, int, String, Appendable)} for details.
+   *
+   * @param sIBAN
+   *        The IBAN to format. May be <code>null</code>.
+   * @param nGroupSize
+   *        The number of characters per group. Must be &gt; 0.
+   * @param sDelimiter
+   *        The delimiter between the groups. May neither be <code>null</code> nor empty.
+   * @return The passed IBAN, if it is <code>null</code> or empty.
+   */
   @Nullable
   public static String getFormattedIBAN (@Nullable final String sIBAN,
                                          @Nonnegative final int nGroupSize,
@@ -309,16 +646,171 @@ public final class IBANManager
     if (StringHelper.isEmpty (sIBAN))
       return sIBAN;
 
-    final StringBuilder aSB = new StringBuilder ();
-    String sRest = unifyIBAN (sIBAN);
-    while (sRest.length () >= nGroupSize)
+    final int nLen = sIBAN.length ();
+    final StringBuilder aSB = new StringBuilder (nLen + (nLen / nGroupSize) * sDelimiter.length ());
+    return appendFormattedIBAN (sIBAN, nGroupSize, sDelimiter, aSB).toString ();
+  }
+
+  private static int _appendGrouped (final char c,
+                                     final int nGroupPos,
+                                     final int nGroupSize,
+                                     @NonNull final String sDelimiter,
+                                     @NonNull final Appendable aTarget) throws IOException
+  {
+    // The delimiter is only added if another character follows a complete group
+    int ret = nGroupPos;
+    if (ret == nGroupSize)
     {
-      aSB.append (sRest, 0, nGroupSize);
-      sRest = sRest.substring (nGroupSize);
-      if (sRest.length () > 0)
-        aSB.append (sDelimiter);
+      aTarget.append (sDelimiter);
+      ret = 0;
     }
-    aSB.append (sRest);
-    return aSB.toString ();
+    aTarget.append (c);
+    return ret + 1;
+  }
+
+  private static void _appendFormattedIBAN (@NonNull final CharSequence aIBAN,
+                                            final int nGroupSize,
+                                            @NonNull final String sDelimiter,
+                                            @NonNull final Appendable aTarget) throws IOException
+  {
+    // The number of characters in the current group
+    int nGroupPos = 0;
+    final int nLen = aIBAN.length ();
+    for (int i = 0; i < nLen; ++i)
+    {
+      final char c = aIBAN.charAt (i);
+      if (c >= 'a' && c <= 'z')
+        nGroupPos = _appendGrouped ((char) (c - 'a' + 'A'), nGroupPos, nGroupSize, sDelimiter, aTarget);
+      else
+        if ((c >= '0' && c <= '9') || (c >= 'A' && c <= 'Z'))
+          nGroupPos = _appendGrouped (c, nGroupPos, nGroupSize, sDelimiter, aTarget);
+        else
+          if (c > 0x7f)
+          {
+            // Rare case: upper casing may create ASCII characters (e.g. the German sharp s becomes
+            // "SS") - same as unifyIBAN
+            final String sUpper = String.valueOf (c).toUpperCase (Locale.US);
+            for (int j = 0; j < sUpper.length (); ++j)
+            {
+              final char cUpper = sUpper.charAt (j);
+              if ((cUpper >= '0' && cUpper <= '9') || (cUpper >= 'A' && cUpper <= 'Z'))
+                nGroupPos = _appendGrouped (cUpper, nGroupPos, nGroupSize, sDelimiter, aTarget);
+            }
+          }
+    }
+  }
+
+  /**
+   * Write the unified and grouped representation of the passed IBAN to the passed target. This
+   * happens in a single pass over the passed characters, without creating intermediate strings: all
+   * non alphanumeric characters are skipped and lower case characters are converted to upper case,
+   * so the output is the same as grouping the result of {@link #unifyIBAN(String)}. The IBAN is not
+   * validated.
+   *
+   * @param aIBAN
+   *        The IBAN to format. May not be <code>null</code>.
+   * @param nGroupSize
+   *        The number of characters per group. Must be &gt; 0.
+   * @param sDelimiter
+   *        The delimiter between the groups. May neither be <code>null</code> nor empty.
+   * @param aTarget
+   *        The target to write to. May not be <code>null</code>.
+   * @return The passed target. Never <code>null</code>.
+   * @throws IOException
+   *         If writing to the target fails
+   * @since 8.2.1
+   */
+  @NonNull
+  public static <T extends Appendable> T appendFormattedIBAN (@NonNull final CharSequence aIBAN,
+                                                              @Nonnegative final int nGroupSize,
+                                                              @NonNull @Nonempty final String sDelimiter,
+                                                              @NonNull final T aTarget) throws IOException
+  {
+    ValueEnforcer.notNull (aIBAN, "IBAN");
+    ValueEnforcer.isGT0 (nGroupSize, "GroupSize");
+    ValueEnforcer.notEmpty (sDelimiter, "Delimiter");
+    ValueEnforcer.notNull (aTarget, "Target");
+
+    _appendFormattedIBAN (aIBAN, nGroupSize, sDelimiter, aTarget);
+    return aTarget;
+  }
+
+  /**
+   * Write the unified and grouped representation of the passed IBAN to the passed
+   * {@link StringBuilder}. See {@link #appendFormattedIBAN(CharSequence, int, String, Appendable)}
+   * for details.
+   *
+   * @param aIBAN
+   *        The IBAN to format. May not be <code>null</code>.
+   * @param nGroupSize
+   *        The number of characters per group. Must be &gt; 0.
+   * @param sDelimiter
+   *        The delimiter between the groups. May neither be <code>null</code> nor empty.
+   * @param aTarget
+   *        The target to write to. May not be <code>null</code>.
+   * @return The passed target. Never <code>null</code>.
+   * @since 8.2.1
+   */
+  @NonNull
+  public static StringBuilder appendFormattedIBAN (@NonNull final CharSequence aIBAN,
+                                                   @Nonnegative final int nGroupSize,
+                                                   @NonNull @Nonempty final String sDelimiter,
+                                                   @NonNull final StringBuilder aTarget)
+  {
+    try
+    {
+      appendFormattedIBAN (aIBAN, nGroupSize, sDelimiter, (Appendable) aTarget);
+      return aTarget;
+    }
+    catch (final IOException ex)
+    {
+      // Cannot happen with a StringBuilder
+      throw new UncheckedIOException (ex);
+    }
+  }
+
+  /**
+   * Write the unified and grouped representation of the passed IBAN to the passed char array. See
+   * {@link #appendFormattedIBAN(CharSequence, int, String, Appendable)} for details.
+   *
+   * @param aIBAN
+   *        The IBAN to format. May not be <code>null</code>.
+   * @param nGroupSize
+   *        The number of characters per group. Must be &gt; 0.
+   * @param sDelimiter
+   *        The delimiter between the groups. May neither be <code>null</code> nor empty.
+   * @param aTarget
+   *        The char array to write to. May not be <code>null</code>.
+   * @param nOfs
+   *        The offset in the char array to start writing. Must be &ge; 0.
+   * @return The number of written characters or {@link CGlobal#ILLEGAL_UINT} if the char array is
+   *         too small. In the latter case the content of the char array after the offset is
+   *         undefined.
+   * @since 8.2.1
+   */
+  @CheckForSigned
+  public static int getFormattedIBAN (@NonNull final CharSequence aIBAN,
+                                      @Nonnegative final int nGroupSize,
+                                      @NonNull @Nonempty final String sDelimiter,
+                                      @NonNull final char [] aTarget,
+                                      @Nonnegative final int nOfs)
+  {
+    ValueEnforcer.isArrayOfsLen (aTarget, nOfs, 0);
+
+    final CharBuffer aBuffer = CharBuffer.wrap (aTarget, nOfs, aTarget.length - nOfs);
+    try
+    {
+      appendFormattedIBAN (aIBAN, nGroupSize, sDelimiter, aBuffer);
+    }
+    catch (final BufferOverflowException ex)
+    {
+      return CGlobal.ILLEGAL_UINT;
+    }
+    catch (final IOException ex)
+    {
+      // Cannot happen with a CharBuffer
+      throw new UncheckedIOException (ex);
+    }
+    return aBuffer.position () - nOfs;
   }
 }
@@ -0,0 +1,277 @@
+/*
+ * Copyright (C) 2014-2026 Philip Helger (www.helger.com)
+ * philip[at]helger[dot]com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.helger.masterdata.swift;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import com.helger.annotation.Nonnegative;
+import com.helger.annotation.concurrent.Immutable;
+import com.helger.base.CGlobal;
+import com.helger.base.enforce.ValueEnforcer;
+
+/**
+ * A lightweight read-only view on a single IBAN. In contrast to {@link IBAN}, the unified IBAN
+ * characters are stored only once, and the element values are determined lazily via the offset
+ * table of the {@link IBANCountryData}. So e.g. extracting the bank code and the account number
+ * does not require a substring or an {@link IBANElementValue} per element. The view itself is the
+ * unified IBAN as a {@link CharSequence}.<br>
+ * Like {@link IBAN#createFromString(String)} this class does not check the IBAN checksum - use
+ * {@link IBANManager#isValidIBAN(CharSequence)} for that.
+ *
+ * @author Philip Helger
+ * @since 8.2.1
+ */
+@Immutable
+public final class IBANView implements CharSequence, Serializable
+{
+  /** The maximum number of digits that can be converted to a long */
+  private static final int MAX_LONG_DIGITS = 18;
+
+  /**
+   * A read-only part of the characters of an IBAN.
+   */
+  @Immutable
+  private static final class Slice implements CharSequence
+  {
+    private final char [] m_aChars;
+    private final int m_nOfs;
+    private final int m_nLen;
+
+    Slice (@NonNull final char [] aChars, @Nonnegative final int nOfs, @Nonnegative final int nLen)
+    {
+      m_aChars = aChars;
+      m_nOfs = nOfs;
+      m_nLen = nLen;
+    }
+
+    public int length ()
+    {
+      return m_nLen;
+    }
+
+    public char charAt (final int nIndex)
+    {
+      ValueEnforcer.isBetweenInclusive (nIndex, "Index", 0, m_nLen - 1);
+      return m_aChars[m_nOfs + nIndex];
+    }
+
+    @NonNull
+    public CharSequence subSequence (final int nStart, final int nEnd)
+    {
+      ValueEnforcer.isTrue (nStart >= 0 && nStart <= nEnd && nEnd <= m_nLen, "Invalid range");
+      return new Slice (m_aChars, m_nOfs + nStart, nEnd - nStart);
+    }
+
+    @Override
+    @NonNull
+    public String toString ()
+    {
+      return new String (m_aChars, m_nOfs, m_nLen);
+    }
+  }
+
+  private final char [] m_aChars;
+  private final IBANCountryData m_aCountryData;
+
+  private IBANView (@NonNull final char [] aChars, @NonNull final IBANCountryData aCountryData)
+  {
+    m_aChars = aChars;
+    m_aCountryData = aCountryData;
+  }
+
+  /**
+   * @return The IBAN country data of this IBAN. Never <code>null</code>.
+   */
+  @NonNull
+  public IBANCountryData getCountryData ()
+  {
+    return m_aCountryData;
+  }
+
+  /**
+   * @param eElementType
+   *        The element type to check. May not be <code>null</code>.
+   * @return <code>true</code> if the country of this IBAN has an element of the passed type.
+   */
+  public boolean hasElement (@NonNull final EIBANElementType eElementType)
+  {
+    return m_aCountryData.getElementOffset (eElementType) >= 0;
+  }
+
+  /**
+   * Get the value of an element. The returned object refers to the characters of this view, so no
+   * characters are copied.
+   *
+   * @param eElementType
+   *        The element type to get. May not be <code>null</code>.
+   * @return <code>null</code> if the country of this IBAN has no element of the passed type.
+   * @see IBANCountryData#getElementOffset(EIBANElementType)
+   */
+  @Nullable
+  public CharSequence getElementValue (@NonNull final EIBANElementType eElementType)
+  {
+    final int nOfs = m_aCountryData.getElementOffset (eElementType);
+    if (nOfs < 0)
+      return null;
+    return new Slice (m_aChars, nOfs, m_aCountryData.getElementLength (eElementType));
+  }
+
+  /**
+   * Get the value of a numeric element as a number, without creating any object.
+   *
+   * @param eElementType
+   *        The element type to get. May not be <code>null</code>.
+   * @return {@link CGlobal#ILLEGAL_ULONG} if the country of this IBAN has no element of the passed
+   *         type, if the element value contains something else than digits or if it has more than 18
+   *         digits. A value &ge; 0 otherwise. Note: leading zeros get lost.
+   */
+  public long getElementValueAsLong (@NonNull final EIBANElementType eElementType)
+  {
+    final int nOfs = m_aCountryData.getElementOffset (eElementType);
+    if (nOfs < 0)
+      return CGlobal.ILLEGAL_ULONG;
+
+    final int nLen = m_aCountryData.getElementLength (eElementType);
+    if (nLen > MAX_LONG_DIGITS)
+      return CGlobal.ILLEGAL_ULONG;
+
+    long ret = 0;
+    for (int i = nOfs; i < nOfs + nLen; ++i)
+    {
+      final char c = m_aChars[i];
+      if (c < '0' || c > '9')
+        return CGlobal.ILLEGAL_ULONG;
+      ret = ret * 10 + (c - '0');
+    }
+    return ret;
+  }
+
+  /**
+   * @return This view as an {@link IBAN} with one {@link IBANElementValue} per element. Never
+   *         <code>null</code>.
+   */
+  @NonNull
+  public IBAN getAsIBAN ()
+  {
+    return new IBAN (m_aCountryData.parseToElementValues (toString ()));
+  }
+
+  public int length ()
+  {
+    return m_aChars.length;
+  }
+
+  public char charAt (final int nIndex)
+  {
+    return m_aChars[nIndex];
+  }
+
+  @NonNull
+  public CharSequence subSequence (final int nStart, final int nEnd)
+  {
+    ValueEnforcer.isTrue (nStart >= 0 && nStart <= nEnd && nEnd <= m_aChars.length, "Invalid range");
+    return new Slice (m_aChars, nStart, nEnd - nStart);
+  }
+
+  @Override
+  public boolean equals (final Object o)
+  {
+    if (o == this)
+      return true;
+    if (o == null || !getClass ().equals (o.getClass ()))
+      return false;
+    final IBANView rhs = (IBANView) o;
+    return Arrays.equals (m_aChars, rhs.m_aChars);
+  }
+
+  @Override
+  public int hashCode ()
+  {
+    return Arrays.hashCode (m_aChars);
+  }
+
+  /**
+   * @return The unified IBAN. Never <code>null</code>.
+   */
+  @Override
+  @NonNull
+  public String toString ()
+  {
+    return new String (m_aChars);
+  }
+
+  /**
+   * Create a view on the passed IBAN. The IBAN is unified the same way as
+   * {@link IBANManager#unifyIBAN(String)} does, but without a regular expression and without
+   * intermediate strings.
+   *
+   * @param aIBAN
+   *        The IBAN to use. May be <code>null</code>.
+   * @return <code>null</code> if the passed IBAN is <code>null</code> or contains less than 4
+   *         relevant characters.
+   * @throws IllegalArgumentException
+   *         if the country of the IBAN is not supported or if the length does not match the country
+   *         specific length
+   */
+  @Nullable
+  public static IBANView createFromString (@Nullable final CharSequence aIBAN)
+  {
+    if (aIBAN == null)
+      return null;
+
+    final int nLen = aIBAN.length ();
+    char [] aChars = new char [nLen];
+    int nCount = 0;
+    for (int i = 0; i < nLen; ++i)
+    {
+      final char c = aIBAN.charAt (i);
+      if (c >= 'a' && c <= 'z')
+        aChars[nCount++] = (char) (c - 'a' + 'A');
+      else
+        if (c > 0x7f)
+        {
+          // Non-ASCII upper casing is locale and context dependent - use the String based path
+          final String sRealIBAN = IBANManager.unifyIBAN (aIBAN.toString ());
+          if (sRealIBAN == null)
+            return null;
+          aChars = sRealIBAN.toCharArray ();
+          nCount = aChars.length;
+          break;
+        }
+        else
+          if ((c >= '0' && c <= '9') || (c >= 'A' && c <= 'Z'))
+            aChars[nCount++] = c;
+    }
+    if (nCount < 4)
+      return null;
+
+    final IBANCountryData aCountryData = IBANManager.getCountryData (aChars[0], aChars[1]);
+    if (aCountryData == null)
+      throw new IllegalArgumentException ("Passed IBAN country '" + aChars[0] + aChars[1] + "' is not supported!");
+    if (nCount != aCountryData.getExpectedLength ())
+      throw new IllegalArgumentException ("Passed IBAN has an invalid length. Expected " +
+                                          aCountryData.getExpectedLength () +
+                                          " but found " +
+                                          nCount);
+
+    return new IBANView (nCount == aChars.length ? aChars : Arrays.copyOf (aChars, nCount), aCountryData);
+  }
+}
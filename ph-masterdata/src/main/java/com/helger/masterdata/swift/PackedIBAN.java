@@ -0,0 +1,423 @@
+/*
+ * Copyright (C) 2014-2026 Philip Helger (www.helger.com)
+ * philip[at]helger[dot]com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.helger.masterdata.swift;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Executor;
+
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import com.helger.annotation.Nonempty;
+import com.helger.annotation.Nonnegative;
+import com.helger.annotation.concurrent.Immutable;
+import com.helger.annotation.style.PresentForCodeCoverage;
+import com.helger.annotation.style.ReturnsMutableCopy;
+import com.helger.base.enforce.ValueEnforcer;
+import com.helger.masterdata.MasterDataHelper;
+
+/**
+ * Encodes valid IBANs as pairs of primitive <code>long</code> values (the high and the low part of
+ * an unsigned 128 bit number). The BBAN is encoded as a mixed radix number, using the layout of the
+ * country from {@link IBANManager} (10 values for numeric, 26 for alpha, 36 for alphanumeric and 1
+ * for fixed characters). Each country has its own range of values, so the country is implicitly
+ * contained. The check digits are not stored, because they can be recalculated from the country and
+ * the BBAN. Only the value with all 128 bits set is reserved for {@link #INVALID}.<br>
+ * A few countries with long alphanumeric BBANs (currently KW, LC, MT, PS and QA) do not fit into 128
+ * bits together with all other countries and can therefore not be encoded - see
+ * {@link #isEncodableCountry(String)}.<br>
+ * Note: the encoded values depend on the IBAN country data of this library version and should
+ * therefore not be persisted.
+ *
+ * @author Philip Helger
+ * @since 8.2.1
+ * @see PackedIBANSet
+ * @see PackedIBANIntMap
+ */
+@Immutable
+public final class PackedIBAN
+{
+  /**
+   * The value of both parts if an IBAN cannot be encoded. No valid encoded value has both parts
+   * equal to this value.
+   */
+  public static final long INVALID = -1;
+
+  /**
+   * The per country encoding information.
+   */
+  private static final class CountryEntry
+  {
+    private final String m_sCountryCode;
+    private final IBANCountryData m_aCountryData;
+    /** The number of possible values for each BBAN character */
+    private final byte [] m_aCharCounts;
+    /** The fixed BBAN characters or 0 for variable characters */
+    private final char [] m_aFixedChars;
+    private final long m_nOffsetHigh;
+    private final long m_nOffsetLow;
+
+    CountryEntry (@NonNull final String sCountryCode,
+                  @NonNull final IBANCountryData aCountryData,
+                  @NonNull final byte [] aCharCounts,
+                  @NonNull final BigInteger aOffset)
+    {
+      m_sCountryCode = sCountryCode;
+      m_aCountryData = aCountryData;
+      m_aCharCounts = aCharCounts;
+      m_aFixedChars = new char [aCharCounts.length];
+      for (int i = 0; i < aCharCounts.length; ++i)
+        m_aFixedChars[i] = aCountryData.getLayoutFixedChar (4 + i);
+      m_nOffsetHigh = aOffset.shiftRight (64).longValue ();
+      m_nOffsetLow = aOffset.longValue ();
+    }
+  }
+
+  /** All encodable countries sorted by offset */
+  private static final CountryEntry [] ENTRIES;
+  private static final CountryEntry [] ENTRY_INDEX = new CountryEntry [MasterDataHelper.COUNTRY_CODE_INDEX_SIZE];
+  /** The exclusive upper bound of all encoded values, as unsigned 128 bit number */
+  private static final long MAX_HIGH_EXCL;
+  private static final long MAX_LOW_EXCL;
+
+  static
+  {
+    final String [] aCountryCodes = IBANManager.getAllSupportedCountries ().toArray (new String [0]);
+    Arrays.sort (aCountryCodes);
+
+    // Number of different BBANs per country
+    final int nCountries = aCountryCodes.length;
+    final IBANCountryData [] aCountryData = new IBANCountryData [nCountries];
+    final byte [] [] aCharCounts = new byte [nCountries] [];
+    final BigInteger [] aBBANCounts = new BigInteger [nCountries];
+    for (int i = 0; i < nCountries; ++i)
+    {
+      final IBANCountryData aData = IBANManager.getCountryData (aCountryCodes[i]);
+      final byte [] aCounts = new byte [aData.getExpectedLength () - 4];
+      BigInteger aBBANCount = BigInteger.ONE;
+      for (int j = 0; j < aCounts.length; ++j)
+      {
+        aCounts[j] = (byte) aData.getLayoutCharCount (4 + j);
+        aBBANCount = aBBANCount.multiply (BigInteger.valueOf (aCounts[j]));
+      }
+      aCountryData[i] = aData;
+      aCharCounts[i] = aCounts;
+      aBBANCounts[i] = aBBANCount;
+    }
+
+    // Take the countries with the fewest BBANs, so that all values fit into 128 bits and the value
+    // with all bits set stays free for INVALID
+    final Integer [] aBySize = new Integer [nCountries];
+    for (int i = 0; i < nCountries; ++i)
+      aBySize[i] = Integer.valueOf (i);
+    Arrays.sort (aBySize, Comparator.comparing (x -> aBBANCounts[x.intValue ()]));
+    final BigInteger aLimit = BigInteger.ONE.shiftLeft (128).subtract (BigInteger.ONE);
+    final boolean [] aEncodable = new boolean [nCountries];
+    BigInteger aTotal = BigInteger.ZERO;
+    for (final Integer aIndex : aBySize)
+    {
+      final int nIndex = aIndex.intValue ();
+      final BigInteger aNewTotal = aTotal.add (aBBANCounts[nIndex]);
+      if (aNewTotal.compareTo (aLimit) > 0)
+        break;
+      aEncodable[nIndex] = true;
+      aTotal = aNewTotal;
+    }
+
+    // Assign the ranges in the order of the country codes
+    int nEntries = 0;
+    final CountryEntry [] aEntries = new CountryEntry [nCountries];
+    BigInteger aOffset = BigInteger.ZERO;
+    for (int i = 0; i < nCountries; ++i)
+      if (aEncodable[i])
+      {
+        final String sCountryCode = aCountryCodes[i];
+        final CountryEntry aEntry = new CountryEntry (sCountryCode, aCountryData[i], aCharCounts[i], aOffset);
+        aEntries[nEntries++] = aEntry;
+        ENTRY_INDEX[MasterDataHelper.getCountryCodeIndex (sCountryCode.charAt (0), sCountryCode.charAt (1))] = aEntry;
+        aOffset = aOffset.add (aBBANCounts[i]);
+      }
+    ENTRIES = Arrays.copyOf (aEntries, nEntries);
+    MAX_HIGH_EXCL = aOffset.shiftRight (64).longValue ();
+    MAX_LOW_EXCL = aOffset.longValue ();
+  }
+
+  @PresentForCodeCoverage
+  private static final PackedIBAN INSTANCE = new PackedIBAN ();
+
+  private PackedIBAN ()
+  {}
+
+  /**
+   * Check if IBANs of the passed country can be encoded.
+   *
+   * @param sCountryCode
+   *        The 2 character country code to check. May be <code>null</code>.
+   * @return <code>true</code> if the country has IBAN support and its IBANs can be encoded.
+   */
+  public static boolean isEncodableCountry (@Nullable final String sCountryCode)
+  {
+    if (sCountryCode == null || sCountryCode.length () != 2)
+      return false;
+    final String sRealCountryCode = sCountryCode.toUpperCase (Locale.US);
+    final int nCountryIndex = MasterDataHelper.getCountryCodeIndex (sRealCountryCode.charAt (0),
+                                                                    sRealCountryCode.charAt (1));
+    return nCountryIndex >= 0 && ENTRY_INDEX[nCountryIndex] != null;
+  }
+
+  private static int _getCharValue (final char c, final int nCharCount)
+  {
+    if (nCharCount == 26)
+      return c - 'A';
+    return c <= '9' ? c - '0' : c - 'A' + 10;
+  }
+
+  private static char _getChar (final int nValue, final int nCharCount)
+  {
+    if (nCharCount == 26)
+      return (char) ('A' + nValue);
+    return (char) (nValue < 10 ? '0' + nValue : 'A' + nValue - 10);
+  }
+
+  /**
+   * Encode the passed IBAN without allocating any objects.
+   *
+   * @param aIBAN
+   *        The IBAN to encode. Separators and lower case characters are allowed, as in
+   *        {@link IBANManager#getValidationStatus(CharSequence)}. May be <code>null</code>.
+   * @param aTarget
+   *        The array to write the high part at index <code>nOfs</code> and the low part at index
+   *        <code>nOfs + 1</code> to. May not be <code>null</code>.
+   * @param nOfs
+   *        The offset in the target array. Must be &ge; 0.
+   * @return <code>true</code> if the IBAN was encoded, <code>false</code> if it is not valid, if its
+   *         country cannot be encoded or if it has the unusual check digits 00, 01 or 99. In the
+   *         latter case the target array is not modified.
+   */
+  public static boolean encode (@Nullable final CharSequence aIBAN,
+                                @NonNull final long [] aTarget,
+                                @Nonnegative final int nOfs)
+  {
+    ValueEnforcer.isArrayOfsLen (aTarget, nOfs, 2);
+
+    if (IBANManager.getValidationStatus (aIBAN).isInvalid ())
+      return false;
+
+    char c0 = 0;
+    CountryEntry aEntry = null;
+    int nCheckDigits = 0;
+    long nHigh = 0;
+    long nLow = 0;
+    int nIndex = 0;
+    final int nLen = aIBAN.length ();
+    for (int i = 0; i < nLen; ++i)
+    {
+      char c = aIBAN.charAt (i);
+      if (c >= 'a' && c <= 'z')
+        c -= 'a' - 'A';
+      else
+        if (c > 0x7f)
+        {
+          // Same as in the validation
+          return encode (IBANManager.unifyIBAN (aIBAN.toString ()), aTarget, nOfs);
+        }
+        else
+          if ((c < '0' || c > '9') && (c < 'A' || c > 'Z'))
+            continue;
+
+      switch (nIndex)
+      {
+        case 0:
+          c0 = c;
+          break;
+        case 1:
+          aEntry = ENTRY_INDEX[MasterDataHelper.getCountryCodeIndex (c0, c)];
+          if (aEntry == null)
+            return false;
+          break;
+        case 2:
+        case 3:
+          nCheckDigits = nCheckDigits * 10 + c - '0';
+          break;
+        default:
+        {
+          // (nHigh, nLow) = (nHigh, nLow) * nCharCount + nCharValue - fixed characters have a single
+          // value and are therefore skipped
+          final int nCharCount = aEntry.m_aCharCounts[nIndex - 4];
+          if (nCharCount > 1)
+          {
+            final long nLowProduct = nLow * nCharCount;
+            final long nCarry = Math.multiplyHigh (nLow, nCharCount) + ((nLow >> 63) & nCharCount);
+            nLow = nLowProduct + _getCharValue (c, nCharCount);
+            nHigh = nHigh * nCharCount + nCarry + (Long.compareUnsigned (nLow, nLowProduct) < 0 ? 1 : 0);
+          }
+          break;
+        }
+      }
+      nIndex++;
+    }
+
+    // Check digits 00, 01 and 99 pass the checksum test but are not the calculated ones
+    if (nCheckDigits < 2 || nCheckDigits > 98)
+      return false;
+
+    final long nResultLow = nLow + aEntry.m_nOffsetLow;
+    aTarget[nOfs] = nHigh + aEntry.m_nOffsetHigh + (Long.compareUnsigned (nResultLow, nLow) < 0 ? 1 : 0);
+    aTarget[nOfs + 1] = nResultLow;
+    return true;
+  }
+
+  /**
+   * Encode all passed IBANs, optionally in parallel. The list is split into chunks of
+   * {@link MasterDataHelper#DEFAULT_BULK_CHUNK_SIZE} elements, and each chunk is processed on the
+   * provided executor.
+   *
+   * @param aIBANs
+   *        The IBANs to encode. May not be <code>null</code> but may contain <code>null</code>
+   *        elements. The list should provide fast random access and must not be modified while
+   *        processing.
+   * @param aExecutor
+   *        The executor to run the chunks on. May be <code>null</code> to process all elements on
+   *        the calling thread.
+   * @return An array with two values (high and low part) per input element in the same order. Both
+   *         values are {@link #INVALID} if the IBAN cannot be encoded. Never <code>null</code>.
+   * @see #encode(CharSequence, long[], int)
+   */
+  @NonNull
+  @ReturnsMutableCopy
+  public static long [] encodeAll (@NonNull final List <? extends CharSequence> aIBANs,
+                                   @Nullable final Executor aExecutor)
+  {
+    ValueEnforcer.notNull (aIBANs, "IBANs");
+
+    final int nCount = aIBANs.size ();
+    final long [] ret = new long [nCount * 2];
+    MasterDataHelper.forEachChunk (nCount, MasterDataHelper.DEFAULT_BULK_CHUNK_SIZE, aExecutor, (nStart, nEnd) -> {
+      for (int i = nStart; i < nEnd; ++i)
+        if (!encode (aIBANs.get (i), ret, i * 2))
+        {
+          ret[i * 2] = INVALID;
+          ret[i * 2 + 1] = INVALID;
+        }
+    });
+    return ret;
+  }
+
+  /**
+   * Check if the passed value is a valid encoded IBAN.
+   *
+   * @param nHigh
+   *        The high part of the value to check.
+   * @param nLow
+   *        The low part of the value to check.
+   * @return <code>true</code> if the value is in the range of an encodable country.
+   */
+  public static boolean isValid (final long nHigh, final long nLow)
+  {
+    final int nCompareHigh = Long.compareUnsigned (nHigh, MAX_HIGH_EXCL);
+    return nCompareHigh < 0 || (nCompareHigh == 0 && Long.compareUnsigned (nLow, MAX_LOW_EXCL) < 0);
+  }
+
+  @Nullable
+  private static CountryEntry _getEntry (final long nHigh, final long nLow)
+  {
+    if (!isValid (nHigh, nLow))
+      return null;
+
+    // Find the last entry with an offset <= the value
+    int nLower = 0;
+    int nUpper = ENTRIES.length - 1;
+    while (nLower < nUpper)
+    {
+      final int nMid = (nLower + nUpper + 1) >>> 1;
+      final CountryEntry aMid = ENTRIES[nMid];
+      final int nCompareHigh = Long.compareUnsigned (aMid.m_nOffsetHigh, nHigh);
+      if (nCompareHigh < 0 || (nCompareHigh == 0 && Long.compareUnsigned (aMid.m_nOffsetLow, nLow) <= 0))
+        nLower = nMid;
+      else
+        nUpper = nMid - 1;
+    }
+    return ENTRIES[nLower];
+  }
+
+  /**
+   * Get the country data of an encoded IBAN.
+   *
+   * @param nHigh
+   *        The high part of the encoded value.
+   * @param nLow
+   *        The low part of the encoded value.
+   * @return <code>null</code> if the passed value is not a valid encoded IBAN.
+   */
+  @Nullable
+  public static IBANCountryData getCountryData (final long nHigh, final long nLow)
+  {
+    final CountryEntry aEntry = _getEntry (nHigh, nLow);
+    return aEntry == null ? null : aEntry.m_aCountryData;
+  }
+
+  /**
+   * Decode the passed value to a unified IBAN.
+   *
+   * @param nHigh
+   *        The high part of the encoded value.
+   * @param nLow
+   *        The low part of the encoded value.
+   * @return The unified IBAN with the calculated check digits. Never <code>null</code>.
+   * @throws IllegalArgumentException
+   *         if the passed value is not a valid encoded IBAN
+   */
+  @NonNull
+  @Nonempty
+  public static String decode (final long nHigh, final long nLow)
+  {
+    final CountryEntry aEntry = _getEntry (nHigh, nLow);
+    ValueEnforcer.isTrue (aEntry != null, () -> "Invalid encoded IBAN " + nHigh + "/" + nLow);
+
+    // Subtract the country offset
+    long nRestLow = nLow - aEntry.m_nOffsetLow;
+    long nRestHigh = nHigh - aEntry.m_nOffsetHigh - (Long.compareUnsigned (nLow, aEntry.m_nOffsetLow) < 0 ? 1 : 0);
+
+    final byte [] aCharCounts = aEntry.m_aCharCounts;
+    final char [] aBBAN = new char [aCharCounts.length];
+    for (int i = aBBAN.length - 1; i >= 0; --i)
+    {
+      final int nCharCount = aCharCounts[i];
+      if (nCharCount == 1)
+      {
+        aBBAN[i] = aEntry.m_aFixedChars[i];
+        continue;
+      }
+
+      // (nRestHigh, nRestLow) /= nCharCount in 32 bit steps - nRestHigh is unsigned
+      final long nQuotientHigh = Long.divideUnsigned (nRestHigh, nCharCount);
+      long nRemainder = Long.remainderUnsigned (nRestHigh, nCharCount);
+      final long nUpper = (nRemainder << 32) | (nRestLow >>> 32);
+      nRemainder = nUpper % nCharCount;
+      final long nLower = (nRemainder << 32) | (nRestLow & 0xffff_ffffL);
+      nRemainder = nLower % nCharCount;
+      nRestHigh = nQuotientHigh;
+      nRestLow = ((nUpper / nCharCount) << 32) | (nLower / nCharCount);
+      aBBAN[i] = _getChar ((int) nRemainder, nCharCount);
+    }
+    return IBANManager.createIBANWithValidChecksum (aEntry.m_sCountryCode, new String (aBBAN));
+  }
+}
@@ -0,0 +1,228 @@
+/*
+ * Copyright (C) 2014-2026 Philip Helger (www.helger.com)
+ * philip[at]helger[dot]com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.helger.masterdata.swift;
+
+import org.jspecify.annotations.NonNull;
+
+import com.helger.annotation.Nonnegative;
+import com.helger.annotation.concurrent.NotThreadSafe;
+import com.helger.annotation.style.ReturnsMutableCopy;
+import com.helger.base.enforce.ValueEnforcer;
+import com.helger.masterdata.internal.AbstractPackedLongHashTable;
+
+/**
+ * A map from IBANs encoded with {@link PackedIBAN} to <code>int</code> values (e.g. row indices),
+ * using open addressing with linear probing on a <code>long</code> array with the high and low part
+ * of each key next to each other and an <code>int</code> array. All keys except the one with both
+ * parts equal to {@link PackedIBAN#INVALID} can be stored.
+ *
+ * @author Philip Helger
+ * @since 8.2.1
+ */
+@NotThreadSafe
+public class PackedIBANIntMap extends AbstractPackedLongHashTable
+{
+  /**
+   * The value returned by {@link #get(long, long)} and {@link #put(long, long, int)} if no mapping
+   * exists
+   */
+  public static final int NO_VALUE = -1;
+
+  public PackedIBANIntMap ()
+  {
+    this (DEFAULT_EXPECTED_SIZE);
+  }
+
+  /**
+   * Constructor
+   *
+   * @param nExpectedSize
+   *        The number of elements that can be added without resizing. Must be &ge; 0.
+   */
+  public PackedIBANIntMap (@Nonnegative final int nExpectedSize)
+  {
+    this (nExpectedSize, DEFAULT_FILL_FACTOR);
+  }
+
+  /**
+   * Constructor
+   *
+   * @param nExpectedSize
+   *        The number of elements that can be added without resizing. Must be &ge; 0.
+   * @param fFillFactor
+   *        The maximum share of used slots before resizing. Must be &gt; 0 and &lt; 1.
+   */
+  public PackedIBANIntMap (@Nonnegative final int nExpectedSize, final float fFillFactor)
+  {
+    super (2, true, nExpectedSize, fFillFactor);
+  }
+
+  private int _put (final long nHigh, final long nLow, final int nValue, final boolean bReplace)
+  {
+    final int nSlot = getSlotForInsert (nHigh, nLow);
+    if (nSlot >= 0)
+    {
+      final int ret = getValueAt (nSlot);
+      if (bReplace)
+        setValueAt (nSlot, nValue);
+      return ret;
+    }
+    insertAt (nSlot, nHigh, nLow, nValue);
+    return NO_VALUE;
+  }
+
+  /**
+   * Add or replace a mapping.
+   *
+   * @param nHigh
+   *        The high part of the key to use. Not both parts may be {@link PackedIBAN#INVALID}.
+   * @param nLow
+   *        The low part of the key to use.
+   * @param nValue
+   *        The value to use.
+   * @return The previous value or {@link #NO_VALUE} if there was no mapping for the key.
+   */
+  public int put (final long nHigh, final long nLow, final int nValue)
+  {
+    return _put (nHigh, nLow, nValue, true);
+  }
+
+  /**
+   * Add a mapping if none exists for the key yet. This is handy to keep the first occurrence when
+   * deduplicating.
+   *
+   * @param nHigh
+   *        The high part of the key to use. Not both parts may be {@link PackedIBAN#INVALID}.
+   * @param nLow
+   *        The low part of the key to use.
+   * @param nValue
+   *        The value to use.
+   * @return The existing value or {@link #NO_VALUE} if the mapping was added.
+   */
+  public int putIfAbsent (final long nHigh, final long nLow, final int nValue)
+  {
+    return _put (nHigh, nLow, nValue, false);
+  }
+
+  /**
+   * Get the value of the passed key.
+   *
+   * @param nHigh
+   *        The high part of the key to search.
+   * @param nLow
+   *        The low part of the key to search.
+   * @return {@link #NO_VALUE} if no mapping exists.
+   */
+  public int get (final long nHigh, final long nLow)
+  {
+    return get (nHigh, nLow, NO_VALUE);
+  }
+
+  /**
+   * Get the value of the passed key.
+   *
+   * @param nHigh
+   *        The high part of the key to search.
+   * @param nLow
+   *        The low part of the key to search.
+   * @param nDefault
+   *        The value to return if no mapping exists.
+   * @return The mapped value or the default value.
+   */
+  public int get (final long nHigh, final long nLow, final int nDefault)
+  {
+    final int nSlot = getSlot (nHigh, nLow);
+    return nSlot < 0 ? nDefault : getValueAt (nSlot);
+  }
+
+  /**
+   * Check if a mapping for the passed key exists.
+   *
+   * @param nHigh
+   *        The high part of the key to check.
+   * @param nLow
+   *        The low part of the key to check.
+   * @return <code>true</code> if it is contained.
+   */
+  public boolean containsKey (final long nHigh, final long nLow)
+  {
+    return getSlot (nHigh, nLow) >= 0;
+  }
+
+  /**
+   * Remove a mapping.
+   *
+   * @param nHigh
+   *        The high part of the key to remove.
+   * @param nLow
+   *        The low part of the key to remove.
+   * @return The removed value or {@link #NO_VALUE} if no mapping existed.
+   */
+  public int remove (final long nHigh, final long nLow)
+  {
+    final int nSlot = getSlot (nHigh, nLow);
+    if (nSlot < 0)
+      return NO_VALUE;
+
+    final int ret = getValueAt (nSlot);
+    removeAt (nSlot);
+    return ret;
+  }
+
+  /**
+   * Callback interface for iterating all mappings.
+   */
+  @FunctionalInterface
+  public interface IEntryConsumer
+  {
+    /**
+     * @param nHigh
+     *        The high part of the key.
+     * @param nLow
+     *        The low part of the key.
+     * @param nValue
+     *        The value mapped to the key.
+     */
+    void accept (long nHigh, long nLow, int nValue);
+  }
+
+  /**
+   * Invoke the passed consumer for all mappings, in no particular order.
+   *
+   * @param aConsumer
+   *        The consumer to invoke. May not be <code>null</code>.
+   */
+  public void forEach (@NonNull final IEntryConsumer aConsumer)
+  {
+    ValueEnforcer.notNull (aConsumer, "Consumer");
+    final int nCapacity = getCapacity ();
+    for (int i = 0; i < nCapacity; ++i)
+      if (isUsedSlot (i))
+        aConsumer.accept (getKeyAt (i, 0), getKeyAt (i, 1), getValueAt (i));
+  }
+
+  /**
+   * @return All keys in no particular order, with the high part at even and the low part at odd
+   *         indices. Never <code>null</code>.
+   */
+  @NonNull
+  @ReturnsMutableCopy
+  public long [] keysToArray ()
+  {
+    return getAllKeys ();
+  }
+}
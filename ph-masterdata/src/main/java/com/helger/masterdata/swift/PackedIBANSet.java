@@ -0,0 +1,162 @@
+/*
+ * Copyright (C) 2014-2026 Philip Helger (www.helger.com)
+ * philip[at]helger[dot]com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.helger.masterdata.swift;
+
+import org.jspecify.annotations.NonNull;
+
+import com.helger.annotation.Nonnegative;
+import com.helger.annotation.concurrent.NotThreadSafe;
+import com.helger.annotation.style.ReturnsMutableCopy;
+import com.helger.base.enforce.ValueEnforcer;
+import com.helger.masterdata.internal.AbstractPackedLongHashTable;
+
+/**
+ * A set of IBANs encoded with {@link PackedIBAN}, using open addressing with linear probing on a
+ * single <code>long</code> array that contains the high and the low part of each value next to each
+ * other. Compared to a set of Strings this needs roughly 16 to 32 bytes per element instead of
+ * about 100 bytes, which matters when e.g. screening against millions of known IBANs. Lookups don't
+ * allocate any objects, if the IBAN is encoded into a reused array with
+ * {@link PackedIBAN#encode(CharSequence, long[], int)}. All values except the one with both parts
+ * equal to {@link PackedIBAN#INVALID} can be stored.
+ *
+ * @author Philip Helger
+ * @since 8.2.1
+ */
+@NotThreadSafe
+public class PackedIBANSet extends AbstractPackedLongHashTable
+{
+  public PackedIBANSet ()
+  {
+    this (DEFAULT_EXPECTED_SIZE);
+  }
+
+  /**
+   * Constructor
+   *
+   * @param nExpectedSize
+   *        The number of elements that can be added without resizing. Must be &ge; 0.
+   */
+  public PackedIBANSet (@Nonnegative final int nExpectedSize)
+  {
+    this (nExpectedSize, DEFAULT_FILL_FACTOR);
+  }
+
+  /**
+   * Constructor
+   *
+   * @param nExpectedSize
+   *        The number of elements that can be added without resizing. Must be &ge; 0.
+   * @param fFillFactor
+   *        The maximum share of used slots before resizing. Must be &gt; 0 and &lt; 1.
+   */
+  public PackedIBANSet (@Nonnegative final int nExpectedSize, final float fFillFactor)
+  {
+    super (2, false, nExpectedSize, fFillFactor);
+  }
+
+  /**
+   * Add a value.
+   *
+   * @param nHigh
+   *        The high part of the value to add. Not both parts may be {@link PackedIBAN#INVALID}.
+   * @param nLow
+   *        The low part of the value to add.
+   * @return <code>true</code> if the value was added, <code>false</code> if it was already
+   *         contained.
+   */
+  public boolean add (final long nHigh, final long nLow)
+  {
+    final int nSlot = getSlotForInsert (nHigh, nLow);
+    if (nSlot >= 0)
+      return false;
+    insertAt (nSlot, nHigh, nLow, 0);
+    return true;
+  }
+
+  /**
+   * Check if the passed value is contained.
+   *
+   * @param nHigh
+   *        The high part of the value to check.
+   * @param nLow
+   *        The low part of the value to check.
+   * @return <code>true</code> if it is contained.
+   */
+  public boolean contains (final long nHigh, final long nLow)
+  {
+    return getSlot (nHigh, nLow) >= 0;
+  }
+
+  /**
+   * Remove a value.
+   *
+   * @param nHigh
+   *        The high part of the value to remove.
+   * @param nLow
+   *        The low part of the value to remove.
+   * @return <code>true</code> if the value was removed, <code>false</code> if it was not contained.
+   */
+  public boolean remove (final long nHigh, final long nLow)
+  {
+    final int nSlot = getSlot (nHigh, nLow);
+    if (nSlot < 0)
+      return false;
+    removeAt (nSlot);
+    return true;
+  }
+
+  /**
+   * Callback interface for iterating all values.
+   */
+  @FunctionalInterface
+  public interface IValueConsumer
+  {
+    /**
+     * @param nHigh
+     *        The high part of the value.
+     * @param nLow
+     *        The low part of the value.
+     */
+    void accept (long nHigh, long nLow);
+  }
+
+  /**
+   * Invoke the passed consumer for all values, in no particular order.
+   *
+   * @param aConsumer
+   *        The consumer to invoke. May not be <code>null</code>.
+   */
+  public void forEach (@NonNull final IValueConsumer aConsumer)
+  {
+    ValueEnforcer.notNull (aConsumer, "Consumer");
+    final int nCapacity = getCapacity ();
+    for (int i = 0; i < nCapacity; ++i)
+      if (isUsedSlot (i))
+        aConsumer.accept (getKeyAt (i, 0), getKeyAt (i, 1));
+  }
+
+  /**
+   * @return All values in no particular order, with the high part at even and the low part at odd
+   *         indices. Never <code>null</code>.
+   */
+  @NonNull
+  @ReturnsMutableCopy
+  public long [] toArray ()
+  {
+    return getAllKeys ();
+  }
+}
@@ -28,6 +28,8 @@ import com.helger.base.string.StringHelper;
 import com.helger.collection.commons.CommonsHashMap;
 import com.helger.collection.commons.ICommonsMap;
 import com.helger.io.resource.ClassPathResource;
+import com.helger.masterdata.codelist.CodelistSnapshot;
+import com.helger.xml.microdom.IMicroDocument;
 import com.helger.xml.microdom.util.XMLMapHandler;
 
 /**
@@ -42,8 +44,8 @@ public final class DialCodeManager
 
   static
   {
-    if (XMLMapHandler.readMap (new ClassPathResource ("codelists/dialcode-country-data.xml"), COUNTRY_TO_DIAL_CODE)
-                     .isFailure ())
+    final IMicroDocument aDoc = CodelistSnapshot.readMicroXML (new ClassPathResource ("codelists/dialcode-country-data.xml"));
+    if (aDoc == null || XMLMapHandler.readMap (aDoc.getDocumentElement (), COUNTRY_TO_DIAL_CODE).isFailure ())
       throw new InitializationException ("Failed to init dial code country data");
   }
 
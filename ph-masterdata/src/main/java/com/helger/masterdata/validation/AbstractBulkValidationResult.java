@@ -0,0 +1,174 @@
+/*
+ * Copyright (C) 2014-2026 Philip Helger (www.helger.com)
+ * philip[at]helger[dot]com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.helger.masterdata.validation;
+
+import java.util.BitSet;
+import java.util.function.IntFunction;
+
+import org.jspecify.annotations.NonNull;
+
+import com.helger.annotation.Nonnegative;
+import com.helger.annotation.concurrent.Immutable;
+import com.helger.annotation.style.ReturnsMutableCopy;
+import com.helger.base.enforce.ValueEnforcer;
+import com.helger.base.tostring.ToStringGenerator;
+
+/**
+ * Abstract compact result of a bulk validation. Per input element a single byte with the ordinal
+ * of the validation status is stored, plus a bit set with all valid elements.
+ *
+ * @author Philip Helger
+ * @param <STATUSTYPE>
+ *        The validation status enum type
+ * @since 8.2.1
+ */
+@Immutable
+public abstract class AbstractBulkValidationResult <STATUSTYPE extends Enum <STATUSTYPE>>
+{
+  private final byte [] m_aStatus;
+  private final IntFunction <STATUSTYPE> m_aStatusResolver;
+  private final STATUSTYPE m_eValidStatus;
+  private final BitSet m_aValid;
+  private final int m_nValidCount;
+
+  /**
+   * Constructor
+   *
+   * @param aStatus
+   *        The status ordinal per input element. May not be <code>null</code>. The array is not
+   *        copied and must not be modified afterwards.
+   * @param aStatusResolver
+   *        The function to resolve a status from its ordinal. May not be <code>null</code>.
+   * @param eValidStatus
+   *        The status that indicates a valid element. May not be <code>null</code>.
+   */
+  protected AbstractBulkValidationResult (@NonNull final byte [] aStatus,
+                                          @NonNull final IntFunction <STATUSTYPE> aStatusResolver,
+                                          @NonNull final STATUSTYPE eValidStatus)
+  {
+    ValueEnforcer.notNull (aStatus, "Status");
+    ValueEnforcer.notNull (aStatusResolver, "StatusResolver");
+    ValueEnforcer.notNull (eValidStatus, "ValidStatus");
+    m_aStatus = aStatus;
+    m_aStatusResolver = aStatusResolver;
+    m_eValidStatus = eValidStatus;
+    m_aValid = new BitSet (aStatus.length);
+    final int nValidOrdinal = eValidStatus.ordinal ();
+    for (int i = 0; i < aStatus.length; ++i)
+      if (aStatus[i] == nValidOrdinal)
+        m_aValid.set (i);
+    m_nValidCount = m_aValid.cardinality ();
+  }
+
+  /**
+   * @return The number of validated elements. Always &ge; 0.
+   */
+  @Nonnegative
+  public final int getCount ()
+  {
+    return m_aStatus.length;
+  }
+
+  /**
+   * @return The number of valid elements. Always &ge; 0.
+   */
+  @Nonnegative
+  public final int getValidCount ()
+  {
+    return m_nValidCount;
+  }
+
+  /**
+   * @return The number of invalid elements. Always &ge; 0.
+   */
+  @Nonnegative
+  public final int getInvalidCount ()
+  {
+    return m_aStatus.length - m_nValidCount;
+  }
+
+  /**
+   * @return <code>true</code> if all elements are valid, <code>false</code> otherwise.
+   */
+  public final boolean areAllValid ()
+  {
+    return m_nValidCount == m_aStatus.length;
+  }
+
+  /**
+   * @param nIndex
+   *        The 0-based index of the input element.
+   * @return <code>true</code> if the element at the provided index is valid.
+   */
+  public final boolean isValid (@Nonnegative final int nIndex)
+  {
+    ValueEnforcer.isBetweenInclusive (nIndex, "Index", 0, m_aStatus.length - 1);
+    return m_aValid.get (nIndex);
+  }
+
+  /**
+   * @param nIndex
+   *        The 0-based index of the input element.
+   * @return The validation status of the element at the provided index. Never <code>null</code>.
+   */
+  @NonNull
+  public final STATUSTYPE getStatus (@Nonnegative final int nIndex)
+  {
+    ValueEnforcer.isBetweenInclusive (nIndex, "Index", 0, m_aStatus.length - 1);
+    return m_aStatusResolver.apply (m_aStatus[nIndex]);
+  }
+
+  /**
+   * @param eStatus
+   *        The status to search. May not be <code>null</code>.
+   * @return The number of elements having the provided status. Always &ge; 0.
+   */
+  @Nonnegative
+  public final int getCountOfStatus (@NonNull final STATUSTYPE eStatus)
+  {
+    ValueEnforcer.notNull (eStatus, "Status");
+
+    if (eStatus == m_eValidStatus)
+      return m_nValidCount;
+
+    final byte nOrdinal = (byte) eStatus.ordinal ();
+    int ret = 0;
+    for (final byte n : m_aStatus)
+      if (n == nOrdinal)
+        ret++;
+    return ret;
+  }
+
+  /**
+   * @return A copy of the bit set, where each set bit indicates a valid element. Never
+   *         <code>null</code>.
+   */
+  @NonNull
+  @ReturnsMutableCopy
+  public final BitSet getAllValidFlags ()
+  {
+    return (BitSet) m_aValid.clone ();
+  }
+
+  @Override
+  public String toString ()
+  {
+    return new ToStringGenerator (null).append ("Count", m_aStatus.length)
+                                       .append ("ValidCount", m_nValidCount)
+                                       .getToString ();
+  }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright (C) 2014-2026 Philip Helger (www.helger.com)
+ * philip[at]helger[dot]com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.helger.masterdata.validation;
+
+/**
+ * The policy that decides which entry of a full {@link ValidationCache} is replaced.
+ *
+ * @author Philip Helger
+ * @since 8.2.1
+ */
+public enum EValidationCacheEvictionPolicy
+{
+  /**
+   * Least recently used: a new entry always replaces the entry that was not accessed for the
+   * longest time.
+   */
+  LRU,
+  /**
+   * LRU with a TinyLFU admission filter: a new entry only replaces the least recently used entry if
+   * it was requested more often recently. The access frequencies are approximated by a compact
+   * count-min sketch that periodically ages. This keeps the frequently used identifiers in the
+   * cache, even if a large number of identifiers is validated only once.
+   */
+  TINY_LFU
+}
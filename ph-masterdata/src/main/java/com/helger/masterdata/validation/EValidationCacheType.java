@@ -0,0 +1,63 @@
+/*
+ * Copyright (C) 2014-2026 Philip Helger (www.helger.com)
+ * philip[at]helger[dot]com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.helger.masterdata.validation;
+
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import com.helger.annotation.Nonempty;
+import com.helger.base.id.IHasID;
+import com.helger.base.lang.EnumHelper;
+
+/**
+ * The types of identifiers, whose validation results can be cached via
+ * {@link ValidationCacheManager}.
+ *
+ * @author Philip Helger
+ * @since 8.2.1
+ */
+public enum EValidationCacheType implements IHasID <String>
+{
+  /** The country specific checks of {@link com.helger.masterdata.vat.VATINSyntaxChecker} */
+  VATIN ("vatin"),
+  /** The IBAN validation of {@link com.helger.masterdata.swift.IBANManager} */
+  IBAN ("iban"),
+  /** The GTIN, GLN and SSCC validation of {@link com.helger.masterdata.ean.GTINValidator} */
+  GTIN ("gtin"),
+  /** The validation of {@link com.helger.masterdata.leitwegid.LeitwegID} */
+  LEITWEG_ID ("leitweg-id");
+
+  private final String m_sID;
+
+  EValidationCacheType (@NonNull @Nonempty final String sID)
+  {
+    m_sID = sID;
+  }
+
+  @NonNull
+  @Nonempty
+  public String getID ()
+  {
+    return m_sID;
+  }
+
+  @Nullable
+  public static EValidationCacheType getFromIDOrNull (@Nullable final String sID)
+  {
+    return EnumHelper.getFromIDOrNull (EValidationCacheType.class, sID);
+  }
+}
@@ -0,0 +1,358 @@
+/*
+ * Copyright (C) 2014-2026 Philip Helger (www.helger.com)
+ * philip[at]helger[dot]com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.helger.masterdata.validation;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.ToIntFunction;
+
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import com.helger.annotation.Nonnegative;
+import com.helger.annotation.concurrent.NotThreadSafe;
+import com.helger.annotation.concurrent.ThreadSafe;
+import com.helger.base.enforce.ValueEnforcer;
+import com.helger.base.tostring.ToStringGenerator;
+
+/**
+ * A size bounded cache for the results of identifier validations. The cache is split into
+ * independently locked segments, so that concurrent validations rarely block each other. Each
+ * segment keeps its entries in LRU order and applies the configured
+ * {@link EValidationCacheEvictionPolicy} when it is full. The validation results are stored as
+ * <code>int</code> values (e.g. the ordinal of a status enum). The number of hits, misses, evictions
+ * and rejected admissions is counted.
+ *
+ * @author Philip Helger
+ * @since 8.2.1
+ * @see ValidationCacheManager
+ */
+@ThreadSafe
+public final class ValidationCache
+{
+  /** The maximum number of independently locked segments */
+  public static final int MAX_SEGMENT_COUNT = 16;
+
+  /**
+   * Approximates the access frequency of keys with 4 rows of 4-bit counters. All counters are halved
+   * after a number of increments, so that old accesses lose their weight.
+   */
+  @NotThreadSafe
+  private static final class FrequencySketch
+  {
+    private static final int ROWS = 4;
+    private static final int MAX_COUNT = 15;
+    private static final int [] SEEDS = { 0x9E3779B9, 0x85EBCA6B, 0xC2B2AE35, 0x27D4EB2F };
+
+    private final byte [] m_aCounters;
+    private final int m_nRowMask;
+    private final int m_nRowShift;
+    private final int m_nSampleSize;
+    private int m_nAdditions;
+
+    FrequencySketch (@Nonnegative final int nMaxSize)
+    {
+      // 4 counters per row and entry keep the overestimation by collisions low
+      final int nWidth = Math.max (16, Integer.highestOneBit (Math.max (1, nMaxSize - 1)) << 3);
+      m_aCounters = new byte [nWidth * ROWS];
+      m_nRowMask = nWidth - 1;
+      m_nRowShift = Integer.numberOfTrailingZeros (nWidth);
+      m_nSampleSize = 10 * Math.max (1, nMaxSize);
+    }
+
+    private int _getIndex (final int nHash, final int nRow)
+    {
+      int h = nHash * SEEDS[nRow];
+      h ^= h >>> 16;
+      return (nRow << m_nRowShift) | (h & m_nRowMask);
+    }
+
+    void increment (final int nHash)
+    {
+      boolean bAdded = false;
+      for (int nRow = 0; nRow < ROWS; ++nRow)
+      {
+        final int nIndex = _getIndex (nHash, nRow);
+        if (m_aCounters[nIndex] < MAX_COUNT)
+        {
+          m_aCounters[nIndex]++;
+          bAdded = true;
+        }
+      }
+      if (bAdded && ++m_nAdditions >= m_nSampleSize)
+      {
+        // Age all counters
+        for (int i = 0; i < m_aCounters.length; ++i)
+          m_aCounters[i] >>>= 1;
+        m_nAdditions /= 2;
+      }
+    }
+
+    int getFrequency (final int nHash)
+    {
+      int ret = MAX_COUNT;
+      for (int nRow = 0; nRow < ROWS; ++nRow)
+        ret = Math.min (ret, m_aCounters[_getIndex (nHash, nRow)]);
+      return ret;
+    }
+  }
+
+  /**
+   * A single independently locked part of the cache.
+   */
+  private final class Segment
+  {
+    private final ReentrantLock m_aLock = new ReentrantLock ();
+    private final int m_nMaxSize;
+    private final LinkedHashMap <String, Integer> m_aMap;
+    private final FrequencySketch m_aSketch;
+
+    Segment (@Nonnegative final int nMaxSize)
+    {
+      m_nMaxSize = nMaxSize;
+      // Access order for LRU
+      m_aMap = new LinkedHashMap <> (Math.min (nMaxSize, 1024) * 4 / 3 + 1, 0.75f, true);
+      m_aSketch = m_eEvictionPolicy == EValidationCacheEvictionPolicy.TINY_LFU ? new FrequencySketch (nMaxSize) : null;
+    }
+
+    @Nullable
+    Integer get (@NonNull final String sKey, final int nHash)
+    {
+      m_aLock.lock ();
+      try
+      {
+        if (m_aSketch != null)
+          m_aSketch.increment (nHash);
+        return m_aMap.get (sKey);
+      }
+      finally
+      {
+        m_aLock.unlock ();
+      }
+    }
+
+    void put (@NonNull final String sKey, final int nHash, final int nValue)
+    {
+      m_aLock.lock ();
+      try
+      {
+        if (m_aMap.size () >= m_nMaxSize && !m_aMap.containsKey (sKey))
+        {
+          final Iterator <String> it = m_aMap.keySet ().iterator ();
+          final String sVictim = it.next ();
+          if (m_aSketch != null && m_aSketch.getFrequency (nHash) <= m_aSketch.getFrequency (_getHash (sVictim)))
+          {
+            // The new entry is not worth replacing the victim
+            m_aRejections.increment ();
+            return;
+          }
+          it.remove ();
+          m_aEvictions.increment ();
+        }
+        m_aMap.put (sKey, Integer.valueOf (nValue));
+      }
+      finally
+      {
+        m_aLock.unlock ();
+      }
+    }
+
+    @Nonnegative
+    int size ()
+    {
+      m_aLock.lock ();
+      try
+      {
+        return m_aMap.size ();
+      }
+      finally
+      {
+        m_aLock.unlock ();
+      }
+    }
+
+    void clear ()
+    {
+      m_aLock.lock ();
+      try
+      {
+        m_aMap.clear ();
+      }
+      finally
+      {
+        m_aLock.unlock ();
+      }
+    }
+  }
+
+  private final int m_nMaxSize;
+  private final EValidationCacheEvictionPolicy m_eEvictionPolicy;
+  private final Segment [] m_aSegments;
+  private final LongAdder m_aHits = new LongAdder ();
+  private final LongAdder m_aMisses = new LongAdder ();
+  private final LongAdder m_aEvictions = new LongAdder ();
+  private final LongAdder m_aRejections = new LongAdder ();
+
+  /**
+   * Constructor
+   *
+   * @param nMaxSize
+   *        The maximum number of cached validation results. Must be &gt; 0.
+   * @param eEvictionPolicy
+   *        The eviction policy to use. May not be <code>null</code>.
+   */
+  public ValidationCache (@Nonnegative final int nMaxSize, @NonNull final EValidationCacheEvictionPolicy eEvictionPolicy)
+  {
+    ValueEnforcer.isGT0 (nMaxSize, "MaxSize");
+    ValueEnforcer.notNull (eEvictionPolicy, "EvictionPolicy");
+
+    m_nMaxSize = nMaxSize;
+    m_eEvictionPolicy = eEvictionPolicy;
+
+    // Use a power of 2 and at least one entry per segment
+    final int nSegmentCount = Math.min (MAX_SEGMENT_COUNT, Integer.highestOneBit (nMaxSize));
+    m_aSegments = new Segment [nSegmentCount];
+    for (int i = 0; i < nSegmentCount; ++i)
+      m_aSegments[i] = new Segment (nMaxSize / nSegmentCount + (i < nMaxSize % nSegmentCount ? 1 : 0));
+  }
+
+  private static int _getHash (@NonNull final String sKey)
+  {
+    final int h = sKey.hashCode () * 0x9E3779B9;
+    return h ^ (h >>> 16);
+  }
+
+  /**
+   * Get the cached validation result of the passed key, or validate and cache it.
+   *
+   * @param sKey
+   *        The normalized identifier. May not be <code>null</code>.
+   * @param aValidator
+   *        The validation to invoke if the key is not cached. It must always return the same value for
+   *        the same key. May not be <code>null</code>.
+   * @return The cached or newly determined validation result.
+   */
+  public int getOrCompute (@NonNull final String sKey, @NonNull final ToIntFunction <String> aValidator)
+  {
+    final int nHash = _getHash (sKey);
+    final Segment aSegment = m_aSegments[(nHash >>> 16) & (m_aSegments.length - 1)];
+    final Integer aCached = aSegment.get (sKey, nHash);
+    if (aCached != null)
+    {
+      m_aHits.increment ();
+      return aCached.intValue ();
+    }
+
+    m_aMisses.increment ();
+    // Validate outside of the lock - concurrent validations of the same key are harmless
+    final int ret = aValidator.applyAsInt (sKey);
+    aSegment.put (sKey, nHash, ret);
+    return ret;
+  }
+
+  /**
+   * @return The maximum number of cached validation results. Always &gt; 0.
+   */
+  @Nonnegative
+  public int getMaxSize ()
+  {
+    return m_nMaxSize;
+  }
+
+  /**
+   * @return The eviction policy used. Never <code>null</code>.
+   */
+  @NonNull
+  public EValidationCacheEvictionPolicy getEvictionPolicy ()
+  {
+    return m_eEvictionPolicy;
+  }
+
+  /**
+   * @return The current number of cached validation results. Always &ge; 0.
+   */
+  @Nonnegative
+  public int size ()
+  {
+    int ret = 0;
+    for (final Segment aSegment : m_aSegments)
+      ret += aSegment.size ();
+    return ret;
+  }
+
+  /**
+   * @return The number of lookups that were answered from the cache. Always &ge; 0.
+   */
+  @Nonnegative
+  public long getHitCount ()
+  {
+    return m_aHits.sum ();
+  }
+
+  /**
+   * @return The number of lookups that required a validation. Always &ge; 0.
+   */
+  @Nonnegative
+  public long getMissCount ()
+  {
+    return m_aMisses.sum ();
+  }
+
+  /**
+   * @return The number of cached entries that were replaced by newer entries. Always &ge; 0.
+   */
+  @Nonnegative
+  public long getEvictionCount ()
+  {
+    return m_aEvictions.sum ();
+  }
+
+  /**
+   * @return The number of validation results that were not cached, because the
+   *         {@link EValidationCacheEvictionPolicy#TINY_LFU} policy considered them less valuable
+   *         than the eviction candidate. Always &ge; 0.
+   */
+  @Nonnegative
+  public long getRejectionCount ()
+  {
+    return m_aRejections.sum ();
+  }
+
+  /**
+   * Remove all cached validation results. The counters are not reset.
+   */
+  public void clear ()
+  {
+    for (final Segment aSegment : m_aSegments)
+      aSegment.clear ();
+  }
+
+  @Override
+  public String toString ()
+  {
+    return new ToStringGenerator (null).append ("MaxSize", m_nMaxSize)
+                                       .append ("EvictionPolicy", m_eEvictionPolicy)
+                                       .append ("Segments", m_aSegments.length)
+                                       .append ("Hits", getHitCount ())
+                                       .append ("Misses", getMissCount ())
+                                       .append ("Evictions", getEvictionCount ())
+                                       .append ("Rejections", getRejectionCount ())
+                                       .getToString ();
+  }
+}
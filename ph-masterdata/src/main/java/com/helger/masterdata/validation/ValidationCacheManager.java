@@ -0,0 +1,121 @@
+/*
+ * Copyright (C) 2014-2026 Philip Helger (www.helger.com)
+ * philip[at]helger[dot]com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.helger.masterdata.validation;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import com.helger.annotation.Nonnegative;
+import com.helger.annotation.concurrent.ThreadSafe;
+import com.helger.base.enforce.ValueEnforcer;
+
+/**
+ * Switches the caching of validation results on and off per identifier type. By default no caching
+ * happens. When a cache is enabled for a type, the existing validation methods of that type (e.g.
+ * {@link com.helger.masterdata.swift.IBANManager#isValidIBAN(String)}) transparently use it. This
+ * pays off if the same identifiers are validated over and over again, e.g. when processing
+ * business documents of a limited set of partners.
+ *
+ * @author Philip Helger
+ * @since 8.2.1
+ */
+@ThreadSafe
+public final class ValidationCacheManager
+{
+  /** The default maximum number of cached validation results per identifier type */
+  public static final int DEFAULT_MAX_SIZE = 100_000;
+
+  private static final AtomicReferenceArray <ValidationCache> CACHES = new AtomicReferenceArray <> (EValidationCacheType.values ().length);
+
+  private ValidationCacheManager ()
+  {}
+
+  /**
+   * Enable the caching of validation results for the passed type with
+   * {@link #DEFAULT_MAX_SIZE} entries and the {@link EValidationCacheEvictionPolicy#TINY_LFU}
+   * policy. A previously enabled cache of the type is discarded.
+   *
+   * @param eType
+   *        The identifier type. May not be <code>null</code>.
+   * @return The newly enabled cache. Never <code>null</code>.
+   */
+  @NonNull
+  public static ValidationCache enableCache (@NonNull final EValidationCacheType eType)
+  {
+    return enableCache (eType, DEFAULT_MAX_SIZE, EValidationCacheEvictionPolicy.TINY_LFU);
+  }
+
+  /**
+   * Enable the caching of validation results for the passed type. A previously enabled cache of the
+   * type is discarded.
+   *
+   * @param eType
+   *        The identifier type. May not be <code>null</code>.
+   * @param nMaxSize
+   *        The maximum number of cached validation results. Must be &gt; 0.
+   * @param eEvictionPolicy
+   *        The eviction policy to use. May not be <code>null</code>.
+   * @return The newly enabled cache. Never <code>null</code>.
+   */
+  @NonNull
+  public static ValidationCache enableCache (@NonNull final EValidationCacheType eType,
+                                             @Nonnegative final int nMaxSize,
+                                             @NonNull final EValidationCacheEvictionPolicy eEvictionPolicy)
+  {
+    ValueEnforcer.notNull (eType, "Type");
+
+    final ValidationCache ret = new ValidationCache (nMaxSize, eEvictionPolicy);
+    CACHES.set (eType.ordinal (), ret);
+    return ret;
+  }
+
+  /**
+   * Disable the caching of validation results for the passed type.
+   *
+   * @param eType
+   *        The identifier type. May not be <code>null</code>.
+   */
+  public static void disableCache (@NonNull final EValidationCacheType eType)
+  {
+    ValueEnforcer.notNull (eType, "Type");
+    CACHES.set (eType.ordinal (), null);
+  }
+
+  /**
+   * Disable the caching of validation results for all types.
+   */
+  public static void disableAllCaches ()
+  {
+    for (int i = 0; i < CACHES.length (); ++i)
+      CACHES.set (i, null);
+  }
+
+  /**
+   * Get the cache of the passed type.
+   *
+   * @param eType
+   *        The identifier type. May not be <code>null</code>.
+   * @return <code>null</code> if caching is not enabled for the passed type.
+   */
+  @Nullable
+  public static ValidationCache getCache (@NonNull final EValidationCacheType eType)
+  {
+    return CACHES.get (eType.ordinal ());
+  }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (C) 2014-2026 Philip Helger (www.helger.com)
+ * philip[at]helger[dot]com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.helger.masterdata.vat;
+
+import org.jspecify.annotations.NonNull;
+
+/**
+ * The detailed result of a VATIN validation. The constants are ordered in the sequence in which the
+ * checks are performed, so only the first failing check is reported.
+ *
+ * @author Philip Helger
+ * @since 8.2.1
+ */
+public enum EVATINValidationStatus
+{
+  /** The VATIN is valid */
+  VALID,
+  /** <code>null</code> or not more than the 2 characters of the VATIN prefix */
+  TOO_SHORT,
+  /** Neither a VATIN structure nor a syntax checker is known for the VATIN prefix */
+  UNSUPPORTED_COUNTRY,
+  /** The length does not match any of the country specific lengths */
+  INVALID_LENGTH,
+  /**
+   * A character after the VATIN prefix can never occur in a VATIN of that country (e.g. a letter in
+   * a purely numeric VATIN)
+   */
+  INVALID_CHARACTERS,
+  /** The VATIN does not match the country specific structure */
+  INVALID_STRUCTURE,
+  /** The country specific checksum is invalid */
+  INVALID_CHECKSUM;
+
+  private static final EVATINValidationStatus [] VALUES = values ();
+
+  public boolean isValid ()
+  {
+    return this == VALID;
+  }
+
+  public boolean isInvalid ()
+  {
+    return this != VALID;
+  }
+
+  @NonNull
+  static EVATINValidationStatus getFromOrdinal (final int nOrdinal)
+  {
+    return VALUES[nOrdinal];
+  }
+}
@@ -18,13 +18,17 @@ package com.helger.masterdata.vat;
 
 import java.io.Serializable;
 import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collections;
 import java.util.Locale;
+import java.util.Map;
 import java.util.function.Predicate;
 
 import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.Nullable;
 
 import com.helger.annotation.concurrent.NotThreadSafe;
+import com.helger.annotation.style.ReturnsImmutableObject;
 import com.helger.annotation.style.ReturnsMutableCopy;
 import com.helger.base.enforce.ValueEnforcer;
 import com.helger.base.numeric.BigHelper;
@@ -46,8 +50,11 @@ public class VATCountryData implements IHasCountry, Serializable
   private final Locale m_aCountry;
   private final boolean m_bZeroVATAllowed;
   private final ICommonsMap <String, IVATItem> m_aItems = new CommonsHashMap <> ();
+  private final Map <String, IVATItem> m_aItemsView = Collections.unmodifiableMap (m_aItems);
   private final String m_sCountryName;
   private final String m_sInternalComment;
+  // Status vars
+  private transient VATItemIndex m_aIndex;
 
   public VATCountryData (@NonNull final Locale aCountry,
                          final boolean bZeroVATAllowed,
@@ -92,9 +99,23 @@ public class VATCountryData implements IHasCountry, Serializable
     if (m_aItems.containsKey (sID))
       return EChange.UNCHANGED;
     m_aItems.put (sID, aVATItem);
+    m_aIndex = null;
     return EChange.CHANGED;
   }
 
+  @NonNull
+  private VATItemIndex _getIndex ()
+  {
+    // The index is immutable so concurrently creating it multiple times is harmless
+    VATItemIndex ret = m_aIndex;
+    if (ret == null)
+    {
+      ret = new VATItemIndex (m_aItems.values ());
+      m_aIndex = ret;
+    }
+    return ret;
+  }
+
   public boolean isEmpty ()
   {
     return m_aItems.isEmpty ();
@@ -110,6 +131,18 @@ public class VATCountryData implements IHasCountry, Serializable
     return m_aItems.getClone ();
   }
 
+  /**
+   * @return A non-<code>null</code> but may be empty unmodifiable view on the map from VATItem ID
+   *         to VAT item. In contrast to {@link #getAllItems()} no copy is created.
+   * @since 8.2.1
+   */
+  @NonNull
+  @ReturnsImmutableObject
+  public Map <String, IVATItem> getAllItemsView ()
+  {
+    return m_aItemsView;
+  }
+
   @NonNull
   @ReturnsMutableCopy
   public ICommonsList <IVATItem> getItems (@NonNull final Predicate <? super IVATItem> aFilter)
@@ -122,9 +155,9 @@ public class VATCountryData implements IHasCountry, Serializable
   {
     if (aPercentage != null)
     {
-      for (final IVATItem aItem : m_aItems.values ())
-        if (aItem.hasPercentage (aPercentage))
-          return aItem;
+      final IVATItem aItem = _getIndex ().find (null, aPercentage, null);
+      if (aItem != null)
+        return aItem;
 
       // Special handling for 0%
       if (isZeroVATAllowed () && BigHelper.isEQ0 (aPercentage))
@@ -133,6 +166,65 @@ public class VATCountryData implements IHasCountry, Serializable
     return null;
   }
 
+  /**
+   * Find the first VAT item of this country with the provided type and percentage. If zero VAT is
+   * allowed, {@link VATManager#VATTYPE_NONE} is returned for 0% if no other item matches.
+   *
+   * @param eType
+   *        The VAT type to search. May be <code>null</code> resulting in a <code>null</code>
+   *        result.
+   * @param aPercentage
+   *        The percentage to search. May be <code>null</code> resulting in a <code>null</code>
+   *        result.
+   * @param aDate
+   *        The date at which the VAT item must be valid. May be <code>null</code> to ignore the
+   *        validity period.
+   * @return <code>null</code> if no matching VAT item is present.
+   * @since 8.2.1
+   */
+  @Nullable
+  public IVATItem getItemOfTypeAndPercentage (@Nullable final EVATItemType eType,
+                                              @Nullable final BigDecimal aPercentage,
+                                              @Nullable final LocalDate aDate)
+  {
+    if (eType == null || aPercentage == null)
+      return null;
+    final IVATItem aItem = _getIndex ().find (eType, aPercentage, aDate);
+    if (aItem != null)
+      return aItem;
+
+    // Special handling for 0%
+    if (isZeroVATAllowed () &&
+        eType == VATManager.VATTYPE_NONE.getType () &&
+        BigHelper.isEQ0 (aPercentage))
+      return VATManager.VATTYPE_NONE;
+    return null;
+  }
+
+  /**
+   * Find the VAT item of this country with the provided type that was applicable at the provided
+   * date. If multiple items of that type are valid at the date, the most specific one is returned:
+   * the one with the latest start of validity, then the one with the earliest end of validity and
+   * finally a non-deprecated one. This e.g. returns a temporarily reduced rate instead of the
+   * regular rate without validity period.<br>
+   * The lookup uses a binary search over the validity periods.
+   *
+   * @param eType
+   *        The VAT type to search. May be <code>null</code> resulting in a <code>null</code>
+   *        result.
+   * @param aDate
+   *        The date to search. May be <code>null</code> resulting in a <code>null</code> result.
+   * @return <code>null</code> if no VAT item of the provided type is valid at the provided date.
+   * @since 8.2.1
+   */
+  @Nullable
+  public IVATItem getItemOfTypeValidAt (@Nullable final EVATItemType eType, @Nullable final LocalDate aDate)
+  {
+    if (eType == null || aDate == null)
+      return null;
+    return _getIndex ().findValidAt (eType, aDate);
+  }
+
   @Override
   public String toString ()
   {
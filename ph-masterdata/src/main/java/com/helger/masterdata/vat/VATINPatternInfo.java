@@ -0,0 +1,331 @@
+/*
+ * Copyright (C) 2014-2026 Philip Helger (www.helger.com)
+ * philip[at]helger[dot]com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.helger.masterdata.vat;
+
+import org.jspecify.annotations.NonNull;
+
+import com.helger.annotation.Nonnegative;
+import com.helger.annotation.concurrent.Immutable;
+import com.helger.annotation.concurrent.NotThreadSafe;
+
+/**
+ * The possible lengths and characters of a VATIN structure, derived from its regular expression.
+ * Only the simple subset of regular expressions used in the VATIN structures is supported (literals,
+ * character classes, groups with alternatives and bounded repetitions). For everything else all
+ * lengths and characters are considered possible.
+ *
+ * @author Philip Helger
+ * @since 8.2.1
+ */
+@Immutable
+final class VATINPatternInfo
+{
+  private static final int MAX_LENGTH = 63;
+
+  private final boolean m_bAnyLength;
+  /** Bit n is set if the length n is possible */
+  private final long m_nLengths;
+  private final boolean m_bAnyChar;
+  /** The possible characters after the VATIN prefix */
+  private final boolean [] m_aChars;
+
+  /**
+   * Internal exception that is thrown for unsupported regular expressions.
+   */
+  private static final class UnsupportedException extends Exception
+  {
+    UnsupportedException ()
+    {
+      super (null, null, false, false);
+    }
+  }
+
+  /**
+   * Simple recursive descent parser for the regular expression.
+   */
+  @NotThreadSafe
+  private static final class Parser
+  {
+    private final String m_sRegEx;
+    private int m_nPos;
+    private final boolean [] m_aChars = new boolean [128];
+
+    Parser (@NonNull final String sRegEx)
+    {
+      m_sRegEx = sRegEx;
+    }
+
+    private boolean _hasMore ()
+    {
+      return m_nPos < m_sRegEx.length ();
+    }
+
+    private char _peek ()
+    {
+      return m_sRegEx.charAt (m_nPos);
+    }
+
+    private char _next () throws UnsupportedException
+    {
+      if (!_hasMore ())
+        throw new UnsupportedException ();
+      return m_sRegEx.charAt (m_nPos++);
+    }
+
+    private void _addChar (final char c) throws UnsupportedException
+    {
+      if (c >= m_aChars.length)
+        throw new UnsupportedException ();
+      m_aChars[c] = true;
+    }
+
+    private static long _getSum (final long nLengths1, final long nLengths2) throws UnsupportedException
+    {
+      long ret = 0;
+      for (int i = 0; i <= MAX_LENGTH; ++i)
+        if ((nLengths1 & (1L << i)) != 0)
+        {
+          final long nShifted = nLengths2 << i;
+          // Check that no bit was shifted out
+          if ((nShifted >>> i) != nLengths2)
+            throw new UnsupportedException ();
+          ret |= nShifted;
+        }
+      return ret;
+    }
+
+    private int _readNumber () throws UnsupportedException
+    {
+      int ret = 0;
+      int nDigits = 0;
+      while (_hasMore () && _peek () >= '0' && _peek () <= '9')
+      {
+        ret = ret * 10 + (_next () - '0');
+        if (++nDigits > 2)
+          throw new UnsupportedException ();
+      }
+      if (nDigits == 0)
+        throw new UnsupportedException ();
+      return ret;
+    }
+
+    private long _readQuantifier (final long nAtomLengths) throws UnsupportedException
+    {
+      if (!_hasMore ())
+        return nAtomLengths;
+
+      final int nMin;
+      final int nMax;
+      switch (_peek ())
+      {
+        case '?':
+          _next ();
+          nMin = 0;
+          nMax = 1;
+          break;
+        case '{':
+          _next ();
+          nMin = _readNumber ();
+          if (_peek () == ',')
+          {
+            _next ();
+            nMax = _readNumber ();
+          }
+          else
+            nMax = nMin;
+          if (_next () != '}' || nMax < nMin)
+            throw new UnsupportedException ();
+          break;
+        case '*':
+        case '+':
+          // Unbounded
+          throw new UnsupportedException ();
+        default:
+          return nAtomLengths;
+      }
+
+      long ret = 0;
+      // The lengths of k repetitions
+      long nRepeated = 1;
+      for (int k = 0; k <= nMax; ++k)
+      {
+        if (k >= nMin)
+          ret |= nRepeated;
+        nRepeated = _getSum (nRepeated, nAtomLengths);
+      }
+      return ret;
+    }
+
+    private void _readCharClass () throws UnsupportedException
+    {
+      if (_peek () == '^')
+        throw new UnsupportedException ();
+      while (true)
+      {
+        char c = _next ();
+        if (c == ']')
+          return;
+        if (c == '\\')
+          c = _next ();
+        if (_peek () == '-' && m_nPos + 1 < m_sRegEx.length () && m_sRegEx.charAt (m_nPos + 1) != ']')
+        {
+          _next ();
+          final char cTo = _next ();
+          for (char x = c; x <= cTo; ++x)
+            _addChar (x);
+        }
+        else
+          _addChar (c);
+      }
+    }
+
+    private long _readAtom () throws UnsupportedException
+    {
+      final char c = _next ();
+      switch (c)
+      {
+        case '^':
+        case '$':
+          // Zero length
+          return 1;
+        case '(':
+        {
+          if (_hasMore () && _peek () == '?')
+          {
+            _next ();
+            if (_next () != ':')
+              throw new UnsupportedException ();
+          }
+          final long ret = readAlternatives ();
+          if (_next () != ')')
+            throw new UnsupportedException ();
+          return ret;
+        }
+        case '[':
+          _readCharClass ();
+          return 1L << 1;
+        case '\\':
+        {
+          final char cEscaped = _next ();
+          if (Character.isLetterOrDigit (cEscaped))
+          {
+            // Predefined classes like \d or back references
+            throw new UnsupportedException ();
+          }
+          _addChar (cEscaped);
+          return 1L << 1;
+        }
+        case '.':
+        case ')':
+        case '|':
+        case '*':
+        case '+':
+        case '?':
+        case '{':
+          throw new UnsupportedException ();
+        default:
+          _addChar (c);
+          return 1L << 1;
+      }
+    }
+
+    private long _readSequence () throws UnsupportedException
+    {
+      // The empty sequence has the length 0
+      long ret = 1;
+      while (_hasMore () && _peek () != '|' && _peek () != ')')
+        ret = _getSum (ret, _readQuantifier (_readAtom ()));
+      return ret;
+    }
+
+    long readAlternatives () throws UnsupportedException
+    {
+      long ret = _readSequence ();
+      while (_hasMore () && _peek () == '|')
+      {
+        _next ();
+        ret |= _readSequence ();
+      }
+      return ret;
+    }
+
+    long readAll () throws UnsupportedException
+    {
+      final long ret = readAlternatives ();
+      if (_hasMore ())
+        throw new UnsupportedException ();
+      return ret;
+    }
+  }
+
+  /**
+   * Constructor
+   *
+   * @param sRegEx
+   *        The regular expression of the VATIN structure. May not be <code>null</code>.
+   * @param sPrefix
+   *        The 2 character VATIN prefix, the regular expression starts with. Its characters are not
+   *        considered to be possible characters. May not be <code>null</code>.
+   */
+  VATINPatternInfo (@NonNull final String sRegEx, @NonNull final String sPrefix)
+  {
+    long nLengths = 0;
+    boolean [] aChars = null;
+    final String sLeadingPrefix = "^" + sPrefix;
+    if (sRegEx.startsWith (sLeadingPrefix))
+      try
+      {
+        final Parser aParser = new Parser (sRegEx.substring (sLeadingPrefix.length ()));
+        nLengths = Parser._getSum (aParser.readAll (), 1L << sPrefix.length ());
+        aChars = aParser.m_aChars;
+      }
+      catch (final UnsupportedException ex)
+      {
+        // Fall through
+        nLengths = 0;
+        aChars = null;
+      }
+    m_bAnyLength = nLengths == 0;
+    m_nLengths = nLengths;
+    m_bAnyChar = aChars == null;
+    m_aChars = aChars;
+  }
+
+  /**
+   * @param nLength
+   *        The length of the whole VATIN including the prefix.
+   * @return <code>true</code> if a VATIN of the passed length can match.
+   */
+  boolean isPossibleLength (@Nonnegative final int nLength)
+  {
+    if (m_bAnyLength)
+      return true;
+    return nLength <= MAX_LENGTH && (m_nLengths & (1L << nLength)) != 0;
+  }
+
+  /**
+   * @param c
+   *        A character after the VATIN prefix.
+   * @return <code>true</code> if the passed character can be contained after the VATIN prefix.
+   */
+  boolean isPossibleChar (final char c)
+  {
+    if (m_bAnyChar)
+      return true;
+    return c < m_aChars.length && m_aChars[c];
+  }
+}
@@ -82,6 +82,18 @@ public class VATINStructure implements IHasCountry, Serializable
     return m_aPattern.matcher (sRealVATIN).matches ();
   }
 
+  /**
+   * Check if the passed VATIN matches the pattern, without any normalization.
+   *
+   * @param aRealVATIN
+   *        The VATIN without spaces and in upper case. May not be <code>null</code>.
+   * @return <code>true</code> if it matches.
+   */
+  boolean matchesUnified (@NonNull final CharSequence aRealVATIN)
+  {
+    return m_aPattern.matcher (aRealVATIN).matches ();
+  }
+
   /**
    * @return The regular expression pattern used for validation.
    */
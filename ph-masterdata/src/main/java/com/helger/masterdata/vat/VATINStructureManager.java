@@ -16,17 +16,26 @@
  */
 package com.helger.masterdata.vat;
 
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
 import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.Nullable;
 
 import com.helger.annotation.style.ReturnsMutableCopy;
+import com.helger.base.enforce.ValueEnforcer;
 import com.helger.base.string.StringHelper;
+import com.helger.base.string.StringRemove;
 import com.helger.collection.commons.CommonsArrayList;
 import com.helger.collection.commons.ICommonsList;
 import com.helger.io.resource.ClassPathResource;
+import com.helger.masterdata.MasterDataHelper;
+import com.helger.masterdata.codelist.CodelistSnapshot;
 import com.helger.xml.microdom.IMicroDocument;
 import com.helger.xml.microdom.IMicroElement;
-import com.helger.xml.microdom.serialize.MicroReader;
 
 /**
  * This class handles the different VATIN structures for different countries.
@@ -38,11 +47,17 @@ public class VATINStructureManager
   public static final String DEFAULT_RESOURCE = "codelists/vatin-data.xml";
 
   private static final ICommonsList <VATINStructure> s_aList = new CommonsArrayList <> ();
+  /** Indexed by the two letter VATIN prefix (e.g. "EL" for Greece) */
+  private static final VATINStructure [] s_aPrefixIndex = new VATINStructure [MasterDataHelper.COUNTRY_CODE_INDEX_SIZE];
+  /** The possible lengths and characters, indexed like {@link #s_aPrefixIndex} */
+  private static final VATINPatternInfo [] s_aPrefixPatternInfo = new VATINPatternInfo [MasterDataHelper.COUNTRY_CODE_INDEX_SIZE];
+  /** Indexed by the two letter ISO country code (e.g. "GR" for Greece) */
+  private static final VATINStructure [] s_aCountryIndex = new VATINStructure [MasterDataHelper.COUNTRY_CODE_INDEX_SIZE];
 
   static
   {
     // Read all information from a file
-    final IMicroDocument aDoc = MicroReader.readMicroXML (new ClassPathResource (DEFAULT_RESOURCE));
+    final IMicroDocument aDoc = CodelistSnapshot.readMicroXML (new ClassPathResource (DEFAULT_RESOURCE));
     final IMicroElement eRoot = aDoc.getDocumentElement ();
     for (final IMicroElement eVatin : eRoot.getAllChildElements ("vatin"))
     {
@@ -56,13 +71,31 @@ public class VATINStructureManager
         aExamples.add (eExample.getTextContent ());
 
       // Add the structure
-      s_aList.add (new VATINStructure (sCountry, sPattern, aExamples));
+      final VATINStructure aStructure = new VATINStructure (sCountry, sPattern, aExamples);
+      s_aList.add (aStructure);
+
+      // All patterns start with the VATIN prefix, so the first example contains it as well
+      final String sPrefix = aExamples.getFirstOrNull ().substring (0, 2).toUpperCase (Locale.US);
+      final int nPrefixIndex = MasterDataHelper.getCountryCodeIndex (sPrefix.charAt (0), sPrefix.charAt (1));
+      s_aPrefixIndex[nPrefixIndex] = aStructure;
+      s_aPrefixPatternInfo[nPrefixIndex] = new VATINPatternInfo (sPattern, sPrefix);
+      final String sCountryCode = aStructure.getCountry ().getCountry ();
+      s_aCountryIndex[MasterDataHelper.getCountryCodeIndex (sCountryCode.charAt (0), sCountryCode.charAt (1))] = aStructure;
     }
   }
 
   private VATINStructureManager ()
   {}
 
+  @Nullable
+  private static VATINStructure _getFromIndex (@NonNull final VATINStructure [] aIndex,
+                                               final char c0,
+                                               final char c1)
+  {
+    final int nIndex = MasterDataHelper.getCountryCodeIndex (c0, c1);
+    return nIndex < 0 ? null : aIndex[nIndex];
+  }
+
   /**
    * Determine the structure for a given VATIN.
    *
@@ -75,9 +108,49 @@ public class VATINStructureManager
   public static VATINStructure getFromValidVATIN (@Nullable final String sVATIN)
   {
     if (StringHelper.getLength (sVATIN) > 2)
-      for (final VATINStructure aStructure : s_aList)
-        if (aStructure.isValid (sVATIN))
-          return aStructure;
+    {
+      // Find the first two non-space characters - they determine the only structure that can match
+      char c0 = 0;
+      char c1 = 0;
+      int nFound = 0;
+      boolean bASCII = true;
+      final int nLen = sVATIN.length ();
+      for (int i = 0; i < nLen && nFound < 2; ++i)
+      {
+        final char c = sVATIN.charAt (i);
+        if (c == ' ')
+          continue;
+        if (c >= 0x80)
+          bASCII = false;
+        if (nFound == 0)
+          c0 = c;
+        else
+          c1 = c;
+        nFound++;
+      }
+      if (nFound < 2)
+        return null;
+
+      if (bASCII)
+      {
+        c0 = MasterDataHelper.getCaseFolded (c0);
+        c1 = MasterDataHelper.getCaseFolded (c1);
+      }
+      else
+      {
+        // Rare case: upper casing non-ASCII characters may change the length of the string, so use
+        // the same normalization as VATINStructure.isValid
+        final String sRealVATIN = StringRemove.removeAll (sVATIN, " ").toUpperCase (Locale.US);
+        if (sRealVATIN.length () < 2)
+          return null;
+        c0 = sRealVATIN.charAt (0);
+        c1 = sRealVATIN.charAt (1);
+      }
+
+      final VATINStructure aStructure = _getFromIndex (s_aPrefixIndex, c0, c1);
+      if (aStructure != null && aStructure.isValid (sVATIN))
+        return aStructure;
+    }
     return null;
   }
 
@@ -94,12 +167,29 @@ public class VATINStructureManager
   public static VATINStructure getFromVATINCountry (@Nullable final String sVATIN)
   {
     if (StringHelper.getLength (sVATIN) >= 2)
-    {
-      final String sCountry = sVATIN.substring (0, 2);
-      for (final VATINStructure aStructure : s_aList)
-        if (aStructure.getExamples ().get (0).substring (0, 2).equalsIgnoreCase (sCountry))
-          return aStructure;
-    }
+      return _getFromIndex (s_aPrefixIndex,
+                            MasterDataHelper.getCaseFolded (sVATIN.charAt (0)),
+                            MasterDataHelper.getCaseFolded (sVATIN.charAt (1)));
+    return null;
+  }
+
+  /**
+   * Get the VATIN structure of the passed country. Note: the country code is not necessarily the
+   * same as the VATIN prefix - e.g. Greece has the country code "GR" but the VATIN prefix "EL".
+   *
+   * @param sCountryCode
+   *        The ISO 3166 two letter country code. Case insensitive. May be <code>null</code>.
+   * @return <code>null</code> if the passed country code is invalid or if no VATIN structure is
+   *         known for that country.
+   * @since 8.2.1
+   */
+  @Nullable
+  public static VATINStructure getStructureOfCountry (@Nullable final String sCountryCode)
+  {
+    if (StringHelper.getLength (sCountryCode) == 2)
+      return _getFromIndex (s_aCountryIndex,
+                            MasterDataHelper.getCaseFolded (sCountryCode.charAt (0)),
+                            MasterDataHelper.getCaseFolded (sCountryCode.charAt (1)));
     return null;
   }
 
@@ -116,6 +206,169 @@ public class VATINStructureManager
     return getFromValidVATIN (sVATIN) != null;
   }
 
+  /**
+   * Unify the passed VATIN the same way as {@link VATINStructure#isValid(String)} does: remove all
+   * spaces and convert to upper case. No new object is created if the VATIN is already unified.
+   *
+   * @param aVATIN
+   *        The VATIN to unify. May not be <code>null</code>.
+   * @return The unified VATIN. Never <code>null</code>.
+   */
+  @NonNull
+  private static CharSequence _getUnifiedVATIN (@NonNull final CharSequence aVATIN)
+  {
+    final int nLen = aVATIN.length ();
+    int nFirstChange = -1;
+    for (int i = 0; i < nLen; ++i)
+    {
+      final char c = aVATIN.charAt (i);
+      if (c == ' ' || (c >= 'a' && c <= 'z'))
+      {
+        if (nFirstChange < 0)
+          nFirstChange = i;
+      }
+      else
+        if (c >= 0x80)
+        {
+          // Non-ASCII upper casing may change the length - use the String based path
+          return StringRemove.removeAll (aVATIN.toString (), " ").toUpperCase (Locale.US);
+        }
+    }
+    if (nFirstChange < 0)
+      return aVATIN;
+
+    final StringBuilder aSB = new StringBuilder (nLen);
+    aSB.append (aVATIN, 0, nFirstChange);
+    for (int i = nFirstChange; i < nLen; ++i)
+    {
+      final char c = aVATIN.charAt (i);
+      // Only ASCII characters are left
+      if (c != ' ')
+        aSB.append (MasterDataHelper.getCaseFolded (c));
+    }
+    return aSB;
+  }
+
+  /**
+   * Check the passed VATIN and determine the detailed validation status. Both the country specific
+   * structure and the country specific syntax check of {@link VATINSyntaxChecker} are applied. Spaces
+   * are ignored and the check is case insensitive. Checks for which no country specific data is
+   * available are skipped.
+   *
+   * @param aVATIN
+   *        The VATIN to check. May be <code>null</code>.
+   * @return The validation status and never <code>null</code>. If multiple checks fail, the first
+   *         one in the order of {@link EVATINValidationStatus} is returned.
+   * @since 8.2.1
+   */
+  @NonNull
+  public static EVATINValidationStatus getValidationStatus (@Nullable final CharSequence aVATIN)
+  {
+    if (aVATIN == null)
+      return EVATINValidationStatus.TOO_SHORT;
+
+    final CharSequence aRealVATIN = _getUnifiedVATIN (aVATIN);
+    final int nLen = aRealVATIN.length ();
+    if (nLen <= 2)
+      return EVATINValidationStatus.TOO_SHORT;
+
+    final int nPrefixIndex = MasterDataHelper.getCountryCodeIndex (aRealVATIN.charAt (0), aRealVATIN.charAt (1));
+    final VATINStructure aStructure = nPrefixIndex < 0 ? null : s_aPrefixIndex[nPrefixIndex];
+    final boolean bHasSyntaxChecker = VATINSyntaxChecker.isValidatorPresent (aRealVATIN, 0);
+    if (aStructure == null && !bHasSyntaxChecker)
+      return EVATINValidationStatus.UNSUPPORTED_COUNTRY;
+
+    if (aStructure != null)
+    {
+      final VATINPatternInfo aPatternInfo = s_aPrefixPatternInfo[nPrefixIndex];
+      if (!aPatternInfo.isPossibleLength (nLen))
+        return EVATINValidationStatus.INVALID_LENGTH;
+
+      for (int i = 2; i < nLen; ++i)
+        if (!aPatternInfo.isPossibleChar (aRealVATIN.charAt (i)))
+          return EVATINValidationStatus.INVALID_CHARACTERS;
+
+      if (!aStructure.matchesUnified (aRealVATIN))
+        return EVATINValidationStatus.INVALID_STRUCTURE;
+    }
+
+    if (bHasSyntaxChecker && !VATINSyntaxChecker.isValidVATIN (aRealVATIN, 0, true))
+      return EVATINValidationStatus.INVALID_CHECKSUM;
+
+    return EVATINValidationStatus.VALID;
+  }
+
+  /**
+   * Validate a list of VATINs on the calling thread.
+   *
+   * @param aVATINs
+   *        The VATINs to validate. May not be <code>null</code> but may contain <code>null</code>
+   *        elements.
+   * @return The bulk validation result with one entry per input element in the same order. Never
+   *         <code>null</code>.
+   * @since 8.2.1
+   */
+  @NonNull
+  public static VATINBulkValidationResult validateVATINs (@NonNull final List <? extends CharSequence> aVATINs)
+  {
+    return validateVATINs (aVATINs, null);
+  }
+
+  /**
+   * Validate a list of VATINs, optionally in parallel. The list is split into chunks of
+   * {@link MasterDataHelper#DEFAULT_BULK_CHUNK_SIZE} elements, and each chunk is validated on the
+   * provided executor. Lists that fit into a single chunk are always validated on the calling
+   * thread.
+   *
+   * @param aVATINs
+   *        The VATINs to validate. May not be <code>null</code> but may contain <code>null</code>
+   *        elements. The list should provide fast random access and must not be modified while
+   *        validating.
+   * @param aExecutor
+   *        The executor to run the chunks on. May be <code>null</code> to validate all elements on
+   *        the calling thread.
+   * @return The bulk validation result with one entry per input element in the same order. Never
+   *         <code>null</code>.
+   * @see #getValidationStatus(CharSequence)
+   * @since 8.2.1
+   */
+  @NonNull
+  public static VATINBulkValidationResult validateVATINs (@NonNull final List <? extends CharSequence> aVATINs,
+                                                          @Nullable final Executor aExecutor)
+  {
+    ValueEnforcer.notNull (aVATINs, "VATINs");
+
+    final int nCount = aVATINs.size ();
+    final byte [] aStatus = new byte [nCount];
+    MasterDataHelper.forEachChunk (nCount, MasterDataHelper.DEFAULT_BULK_CHUNK_SIZE, aExecutor, (nStart, nEnd) -> {
+      for (int i = nStart; i < nEnd; ++i)
+        aStatus[i] = (byte) getValidationStatus (aVATINs.get (i)).ordinal ();
+    });
+    return new VATINBulkValidationResult (aStatus);
+  }
+
+  /**
+   * Validate a stream of VATINs, optionally in parallel. The stream is collected into a list first.
+   *
+   * @param aVATINs
+   *        The VATINs to validate. May not be <code>null</code>.
+   * @param aExecutor
+   *        The executor to run the chunks on. May be <code>null</code> to validate all elements on
+   *        the calling thread.
+   * @return The bulk validation result with one entry per stream element in encounter order. Never
+   *         <code>null</code>.
+   * @see #validateVATINs(List, Executor)
+   * @since 8.2.1
+   */
+  @NonNull
+  public static VATINBulkValidationResult validateVATINs (@NonNull final Stream <? extends CharSequence> aVATINs,
+                                                          @Nullable final Executor aExecutor)
+  {
+    ValueEnforcer.notNull (aVATINs, "VATINs");
+
+    return validateVATINs (aVATINs.collect (Collectors.toList ()), aExecutor);
+  }
+
   /**
    * @return A list of all available VATIN structures
    */
@@ -16,19 +16,19 @@
  */
 package com.helger.masterdata.vat;
 
-import java.util.Locale;
-import java.util.function.Predicate;
-
 import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
 
 import com.helger.annotation.CheckForSigned;
+import com.helger.annotation.Nonnegative;
 import com.helger.annotation.style.VisibleForTesting;
 import com.helger.base.enforce.ValueEnforcer;
-import com.helger.base.string.StringHelper;
-import com.helger.collection.commons.CommonsHashMap;
-import com.helger.collection.commons.ICommonsMap;
 import com.helger.datetime.helper.PDTFactory;
+import com.helger.masterdata.MasterDataHelper;
 import com.helger.masterdata.iso.ISO7064;
+import com.helger.masterdata.validation.EValidationCacheType;
+import com.helger.masterdata.validation.ValidationCache;
+import com.helger.masterdata.validation.ValidationCacheManager;
 
 /**
  * Check the syntax of VATINs based on the published rules.
@@ -38,44 +38,78 @@ import com.helger.masterdata.iso.ISO7064;
  */
 public class VATINSyntaxChecker
 {
-  private static final ICommonsMap <String, Predicate <String>> MAP = new CommonsHashMap <> ();
+  /**
+   * Internal interface for the country specific checks.
+   */
+  @FunctionalInterface
+  private interface IVATINChecker
+  {
+    /**
+     * @param aVATIN
+     *        The characters to check. Never <code>null</code>.
+     * @param nOfs
+     *        The offset of the first character after the country code.
+     * @return <code>true</code> if the VATIN is valid.
+     */
+    boolean isValid (@NonNull CharSequence aVATIN, int nOfs);
+  }
+
+  /** The checkers indexed by {@link MasterDataHelper#getCountryCodeIndex(char, char)} */
+  private static final IVATINChecker [] CHECKERS = new IVATINChecker [MasterDataHelper.COUNTRY_CODE_INDEX_SIZE];
+
+  private static void _register (@NonNull final String sCountryCode, @NonNull final IVATINChecker aChecker)
+  {
+    CHECKERS[MasterDataHelper.getCountryCodeIndex (sCountryCode.charAt (0), sCountryCode.charAt (1))] = aChecker;
+  }
 
   static
   {
-    MAP.put ("AT", VATINSyntaxChecker::isValidVATIN_AT);
-    MAP.put ("BE", VATINSyntaxChecker::isValidVATIN_BE);
-    MAP.put ("BG", VATINSyntaxChecker::isValidVATIN_BG);
-    MAP.put ("CY", VATINSyntaxChecker::isValidVATIN_CY);
-    MAP.put ("CZ", VATINSyntaxChecker::isValidVATIN_CZ);
-    MAP.put ("DE", VATINSyntaxChecker::isValidVATIN_DE);
-    MAP.put ("DK", VATINSyntaxChecker::isValidVATIN_DK);
-    MAP.put ("EE", VATINSyntaxChecker::isValidVATIN_EE);
-    MAP.put ("EL", VATINSyntaxChecker::isValidVATIN_EL);
-    MAP.put ("GR", VATINSyntaxChecker::isValidVATIN_EL);
-    MAP.put ("ES", VATINSyntaxChecker::isValidVATIN_ES);
-    MAP.put ("FI", VATINSyntaxChecker::isValidVATIN_FI);
-    MAP.put ("FR", VATINSyntaxChecker::isValidVATIN_FR);
-    MAP.put ("GB", VATINSyntaxChecker::isValidVATIN_GB);
-    MAP.put ("HR", VATINSyntaxChecker::isValidVATIN_HR);
-    MAP.put ("HU", VATINSyntaxChecker::isValidVATIN_HU);
-    MAP.put ("IE", VATINSyntaxChecker::isValidVATIN_IE);
-    MAP.put ("IT", VATINSyntaxChecker::isValidVATIN_IT);
-    MAP.put ("LT", VATINSyntaxChecker::isValidVATIN_LT);
-    MAP.put ("LU", VATINSyntaxChecker::isValidVATIN_LU);
-    MAP.put ("LV", VATINSyntaxChecker::isValidVATIN_LV);
-    MAP.put ("MT", VATINSyntaxChecker::isValidVATIN_MT);
-    MAP.put ("NL", VATINSyntaxChecker::isValidVATIN_NL);
-    MAP.put ("PL", VATINSyntaxChecker::isValidVATIN_PL);
-    MAP.put ("PT", VATINSyntaxChecker::isValidVATIN_PT);
-    MAP.put ("RO", VATINSyntaxChecker::isValidVATIN_RO);
-    MAP.put ("SE", VATINSyntaxChecker::isValidVATIN_SE);
-    MAP.put ("SI", VATINSyntaxChecker::isValidVATIN_SI);
-    MAP.put ("SK", VATINSyntaxChecker::isValidVATIN_SK);
+    _register ("AT", VATINSyntaxChecker::_isValidVATIN_AT);
+    _register ("BE", VATINSyntaxChecker::_isValidVATIN_BE);
+    _register ("BG", VATINSyntaxChecker::_isValidVATIN_BG);
+    _register ("CY", VATINSyntaxChecker::_isValidVATIN_CY);
+    _register ("CZ", VATINSyntaxChecker::_isValidVATIN_CZ);
+    _register ("DE", VATINSyntaxChecker::_isValidVATIN_DE);
+    _register ("DK", VATINSyntaxChecker::_isValidVATIN_DK);
+    _register ("EE", VATINSyntaxChecker::_isValidVATIN_EE);
+    _register ("EL", VATINSyntaxChecker::_isValidVATIN_EL);
+    _register ("GR", VATINSyntaxChecker::_isValidVATIN_EL);
+    _register ("ES", VATINSyntaxChecker::_isValidVATIN_ES);
+    _register ("FI", VATINSyntaxChecker::_isValidVATIN_FI);
+    _register ("FR", VATINSyntaxChecker::_isValidVATIN_FR);
+    _register ("GB", VATINSyntaxChecker::_isValidVATIN_GB);
+    _register ("HR", VATINSyntaxChecker::_isValidVATIN_HR);
+    _register ("HU", VATINSyntaxChecker::_isValidVATIN_HU);
+    _register ("IE", VATINSyntaxChecker::_isValidVATIN_IE);
+    _register ("IT", VATINSyntaxChecker::_isValidVATIN_IT);
+    _register ("LT", VATINSyntaxChecker::_isValidVATIN_LT);
+    _register ("LU", VATINSyntaxChecker::_isValidVATIN_LU);
+    _register ("LV", VATINSyntaxChecker::_isValidVATIN_LV);
+    _register ("MT", VATINSyntaxChecker::_isValidVATIN_MT);
+    _register ("NL", VATINSyntaxChecker::_isValidVATIN_NL);
+    _register ("PL", VATINSyntaxChecker::_isValidVATIN_PL);
+    _register ("PT", VATINSyntaxChecker::_isValidVATIN_PT);
+    _register ("RO", VATINSyntaxChecker::_isValidVATIN_RO);
+    _register ("SE", VATINSyntaxChecker::_isValidVATIN_SE);
+    _register ("SI", VATINSyntaxChecker::_isValidVATIN_SI);
+    _register ("SK", VATINSyntaxChecker::_isValidVATIN_SK);
   }
 
   private VATINSyntaxChecker ()
   {}
 
+  @Nullable
+  private static IVATINChecker _getChecker (@NonNull final CharSequence aVATIN, final int nOfs)
+  {
+    // Something must follow the country code
+    if (aVATIN.length () - nOfs <= 2)
+      return null;
+
+    final int nIndex = MasterDataHelper.getCountryCodeIndex (MasterDataHelper.getCaseFolded (aVATIN.charAt (nOfs)),
+                                                             MasterDataHelper.getCaseFolded (aVATIN.charAt (nOfs + 1)));
+    return nIndex < 0 ? null : CHECKERS[nIndex];
+  }
+
   /**
    * Check if the provided VATIN is valid. This method handles VATINs for all countries. This check
    * uses only the checksum algorithm and does not call any webservice etc.
@@ -103,13 +137,44 @@ public class VATINSyntaxChecker
    */
   public static boolean isValidVATIN (@NonNull final String sVATIN, final boolean bIfNoValidator)
   {
-    ValueEnforcer.notNull (sVATIN, "VATIN");
-    if (sVATIN.length () > 2)
+    return isValidVATIN (sVATIN, 0, bIfNoValidator);
+  }
+
+  /**
+   * Check if the VATIN starting at the provided offset is valid. This method handles VATINs for all
+   * countries and reads the provided characters in place, so e.g. a VATIN that is part of a larger
+   * buffer can be checked without creating a String. This check uses only the checksum algorithm
+   * and does not call any webservice etc. If a cache is enabled for
+   * {@link EValidationCacheType#VATIN} in {@link ValidationCacheManager}, the result is cached by the
+   * VATIN starting at the offset.
+   *
+   * @param aVATIN
+   *        The characters containing the VATIN to check from the offset up to the end. May not be
+   *        <code>null</code>.
+   * @param nOfs
+   *        The offset of the country code. Must be &ge; 0 and &le; the length.
+   * @param bIfNoValidator
+   *        What to return if no validator was found?
+   * @return <code>true</code> if the VATIN is valid (or unknown).
+   * @since 8.2.1
+   */
+  public static boolean isValidVATIN (@NonNull final CharSequence aVATIN,
+                                      @Nonnegative final int nOfs,
+                                      final boolean bIfNoValidator)
+  {
+    ValueEnforcer.notNull (aVATIN, "VATIN");
+    ValueEnforcer.isTrue (nOfs >= 0 && nOfs <= aVATIN.length (), "Invalid offset");
+
+    final IVATINChecker aChecker = _getChecker (aVATIN, nOfs);
+    if (aChecker != null)
     {
-      final String sCountryCode = sVATIN.substring (0, 2).toUpperCase (Locale.US);
-      final Predicate <String> aValidator = MAP.get (sCountryCode);
-      if (aValidator != null)
-        return aValidator.test (sVATIN.substring (2));
+      final ValidationCache aCache = ValidationCacheManager.getCache (EValidationCacheType.VATIN);
+      if (aCache != null)
+      {
+        final String sCacheKey = aVATIN.subSequence (nOfs, aVATIN.length ()).toString ();
+        return aCache.getOrCompute (sCacheKey, x -> aChecker.isValid (x, 2) ? 1 : 0) == 1;
+      }
+      return aChecker.isValid (aVATIN, nOfs + 2);
     }
 
     // No validator
@@ -125,12 +190,26 @@ public class VATINSyntaxChecker
    */
   public static boolean isValidatorPresent (@NonNull final String sVATIN)
   {
-    ValueEnforcer.notNull (sVATIN, "VATIN");
-    if (sVATIN.length () <= 2)
-      return false;
+    return isValidatorPresent (sVATIN, 0);
+  }
+
+  /**
+   * Check if a validator is present for the VATIN starting at the provided offset.
+   *
+   * @param aVATIN
+   *        The characters containing the VATIN to check from the offset up to the end. May not be
+   *        <code>null</code>.
+   * @param nOfs
+   *        The offset of the country code. Must be &ge; 0 and &le; the length.
+   * @return <code>true</code> if a validator is present, <code>false</code> if not.
+   * @since 8.2.1
+   */
+  public static boolean isValidatorPresent (@NonNull final CharSequence aVATIN, @Nonnegative final int nOfs)
+  {
+    ValueEnforcer.notNull (aVATIN, "VATIN");
+    ValueEnforcer.isTrue (nOfs >= 0 && nOfs <= aVATIN.length (), "Invalid offset");
 
-    final String sCountryCode = sVATIN.substring (0, 2).toUpperCase (Locale.US);
-    return MAP.containsKey (sCountryCode);
+    return _getChecker (aVATIN, nOfs) != null;
   }
 
   @VisibleForTesting
@@ -316,106 +395,143 @@ public class VATINSyntaxChecker
   public static boolean isValidVATIN_AT (@NonNull final String sVATIN)
   {
     ValueEnforcer.notNull (sVATIN, "VATIN");
-    final char [] c = sVATIN.toCharArray ();
-    if (c.length != 9)
+    return _isValidVATIN_AT (sVATIN, 0);
+  }
+
+  private static boolean _isValidVATIN_AT (@NonNull final CharSequence c, final int nOfs)
+  {
+    final int nLen = c.length () - nOfs;
+    if (nLen != 9)
       return false;
-    if (c[0] != 'U')
+    if (c.charAt (nOfs) != 'U')
       return false;
     for (int i = 1; i <= 8; ++i)
-      if (!_isNum (c[i]))
+      if (!_isNum (c.charAt (nOfs + i)))
         return false;
-    final int r = _at_s (c[2]) + _at_s (c[4]) + _at_s (c[6]);
-    final int n9 = (10 - (r + _toInt (c[1]) + _toInt (c[3]) + _toInt (c[5]) + _toInt (c[7]) + 4) % 10) % 10;
-    return _toInt (c[8]) == n9;
+    final int r = _at_s (c.charAt (nOfs + 2)) + _at_s (c.charAt (nOfs + 4)) + _at_s (c.charAt (nOfs + 6));
+    final int n9 = (10 - (r +
+                          _toInt (c.charAt (nOfs + 1)) +
+                          _toInt (c.charAt (nOfs + 3)) +
+                          _toInt (c.charAt (nOfs + 5)) +
+                          _toInt (c.charAt (nOfs + 7)) +
+                          4) % 10) % 10;
+    return _toInt (c.charAt (nOfs + 8)) == n9;
   }
 
   public static boolean isValidVATIN_BE (@NonNull final String sVATIN)
   {
     ValueEnforcer.notNull (sVATIN, "VATIN");
-    final char [] c = sVATIN.toCharArray ();
-    if (c.length != 10)
+    return _isValidVATIN_BE (sVATIN, 0);
+  }
+
+  private static boolean _isValidVATIN_BE (@NonNull final CharSequence c, final int nOfs)
+  {
+    final int nLen = c.length () - nOfs;
+    if (nLen != 10)
       return false;
-    if (c[0] != '0' && c[0] != '1')
+    if (c.charAt (nOfs) != '0' && c.charAt (nOfs) != '1')
       return false;
     for (int i = 1; i <= 9; ++i)
-      if (!_isNum (c[i]))
+      if (!_isNum (c.charAt (nOfs + i)))
         return false;
 
-    final int nChecksum = 97 - (_toInt (c[0], c[1], c[2], c[3], c[4], c[5], c[6], c[7]) % 97);
-    final int nExpected = _toInt (c[8], c[9]);
+    final int nChecksum = 97 - (_toInt (c.charAt (nOfs),
+                                        c.charAt (nOfs + 1),
+                                        c.charAt (nOfs + 2),
+                                        c.charAt (nOfs + 3),
+                                        c.charAt (nOfs + 4),
+                                        c.charAt (nOfs + 5),
+                                        c.charAt (nOfs + 6),
+                                        c.charAt (nOfs + 7)) % 97);
+    final int nExpected = _toInt (c.charAt (nOfs + 8), c.charAt (nOfs + 9));
     return nExpected == nChecksum;
   }
 
   public static boolean isValidVATIN_DE (@NonNull final String sVATIN)
   {
     ValueEnforcer.notNull (sVATIN, "VATIN");
-    final char [] c = sVATIN.toCharArray ();
-    if (c.length != 9)
+    return _isValidVATIN_DE (sVATIN, 0);
+  }
+
+  private static boolean _isValidVATIN_DE (@NonNull final CharSequence c, final int nOfs)
+  {
+    final int nLen = c.length () - nOfs;
+    if (nLen != 9)
       return false;
-    if (!_isNum1to9 (c[0]))
+    if (!_isNum1to9 (c.charAt (nOfs)))
       return false;
     for (int i = 1; i <= 8; ++i)
-      if (!_isNum (c[i]))
+      if (!_isNum (c.charAt (nOfs + i)))
         return false;
 
     int p = 10;
     for (int n = 0; n <= 7; ++n)
     {
-      int m = (_toInt (c[n]) + p) % 10;
+      int m = (_toInt (c.charAt (nOfs + n)) + p) % 10;
       if (m == 0)
         m = 10;
       p = (2 * m) % 11;
     }
     final int r = 11 - p;
     final int nChecksum = r == 10 ? 0 : r;
-    final int nExpected = _toInt (c[8]);
+    final int nExpected = _toInt (c.charAt (nOfs + 8));
     return nChecksum == nExpected;
   }
 
   public static boolean isValidVATIN_DK (@NonNull final String sVATIN)
   {
     ValueEnforcer.notNull (sVATIN, "VATIN");
-    final char [] c = sVATIN.toCharArray ();
-    if (c.length != 8)
+    return _isValidVATIN_DK (sVATIN, 0);
+  }
+
+  private static boolean _isValidVATIN_DK (@NonNull final CharSequence c, final int nOfs)
+  {
+    final int nLen = c.length () - nOfs;
+    if (nLen != 8)
       return false;
-    if (!_isNum1to9 (c[0]))
+    if (!_isNum1to9 (c.charAt (nOfs)))
       return false;
     for (int i = 1; i <= 7; ++i)
-      if (!_isNum (c[i]))
+      if (!_isNum (c.charAt (nOfs + i)))
         return false;
 
-    final int r = (2 * _toInt (c[0]) +
-                   7 * _toInt (c[1]) +
-                   6 * _toInt (c[2]) +
-                   5 * _toInt (c[3]) +
-                   4 * _toInt (c[4]) +
-                   3 * _toInt (c[5]) +
-                   2 * _toInt (c[6]) +
-                   1 * _toInt (c[7]));
+    final int r = (2 * _toInt (c.charAt (nOfs)) +
+                   7 * _toInt (c.charAt (nOfs + 1)) +
+                   6 * _toInt (c.charAt (nOfs + 2)) +
+                   5 * _toInt (c.charAt (nOfs + 3)) +
+                   4 * _toInt (c.charAt (nOfs + 4)) +
+                   3 * _toInt (c.charAt (nOfs + 5)) +
+                   2 * _toInt (c.charAt (nOfs + 6)) +
+                   1 * _toInt (c.charAt (nOfs + 7)));
     return (r % 11) == 0;
   }
 
   public static boolean isValidVATIN_EL (@NonNull final String sVATIN)
   {
     ValueEnforcer.notNull (sVATIN, "VATIN");
-    final char [] c = sVATIN.toCharArray ();
-    if (c.length != 9)
+    return _isValidVATIN_EL (sVATIN, 0);
+  }
+
+  private static boolean _isValidVATIN_EL (@NonNull final CharSequence c, final int nOfs)
+  {
+    final int nLen = c.length () - nOfs;
+    if (nLen != 9)
       return false;
     for (int i = 0; i <= 8; ++i)
-      if (!_isNum (c[i]))
+      if (!_isNum (c.charAt (nOfs + i)))
         return false;
 
-    final int a1 = 256 * _toInt (c[0]) +
-                   128 * _toInt (c[1]) +
-                   64 * _toInt (c[2]) +
-                   32 * _toInt (c[3]) +
-                   16 * _toInt (c[4]) +
-                   8 * _toInt (c[5]) +
-                   4 * _toInt (c[6]) +
-                   2 * _toInt (c[7]);
+    final int a1 = 256 * _toInt (c.charAt (nOfs)) +
+                   128 * _toInt (c.charAt (nOfs + 1)) +
+                   64 * _toInt (c.charAt (nOfs + 2)) +
+                   32 * _toInt (c.charAt (nOfs + 3)) +
+                   16 * _toInt (c.charAt (nOfs + 4)) +
+                   8 * _toInt (c.charAt (nOfs + 5)) +
+                   4 * _toInt (c.charAt (nOfs + 6)) +
+                   2 * _toInt (c.charAt (nOfs + 7));
     final int a2 = a1 % 11;
     final int nChecksum = a2 % 10;
-    final int nExpected = _toInt (c[8]);
+    final int nExpected = _toInt (c.charAt (nOfs + 8));
     return nChecksum == nExpected;
   }
 
@@ -519,53 +635,77 @@ public class VATINSyntaxChecker
   public static boolean isValidVATIN_ES (@NonNull final String sVATIN)
   {
     ValueEnforcer.notNull (sVATIN, "VATIN");
-    final char [] c = sVATIN.toCharArray ();
-    if (c.length != 9)
+    return _isValidVATIN_ES (sVATIN, 0);
+  }
+
+  private static boolean _isValidVATIN_ES (@NonNull final CharSequence c, final int nOfs)
+  {
+    final int nLen = c.length () - nOfs;
+    if (nLen != 9)
       return false;
-    if (!_isLetterOrNum (c[0]))
+    if (!_isLetterOrNum (c.charAt (nOfs)))
       return false;
     for (int i = 1; i <= 7; ++i)
-      if (!_isNum (c[i]))
+      if (!_isNum (c.charAt (nOfs + i)))
         return false;
-    if (!_isLetterOrNum (c[8]))
+    if (!_isLetterOrNum (c.charAt (nOfs + 8)))
       return false;
 
-    final boolean bAlphabetic9 = _isLetter (c[8]);
+    final boolean bAlphabetic9 = _isLetter (c.charAt (nOfs + 8));
     if (!bAlphabetic9)
     {
-      if (!_es_c1valid_c9num (c[0]))
+      if (!_es_c1valid_c9num (c.charAt (nOfs)))
         return false;
 
       // National juridical entities:
-      final int s1 = _toInt (c[2]) + _toInt (c[4]) + _toInt (c[6]);
-      final int s2 = _es_d (c[1]) + _es_d (c[3]) + _es_d (c[5]) + _es_d (c[7]);
+      final int s1 = _toInt (c.charAt (nOfs + 2)) + _toInt (c.charAt (nOfs + 4)) + _toInt (c.charAt (nOfs + 6));
+      final int s2 = _es_d (c.charAt (nOfs + 1)) +
+                     _es_d (c.charAt (nOfs + 3)) +
+                     _es_d (c.charAt (nOfs + 5)) +
+                     _es_d (c.charAt (nOfs + 7));
       final int r = 10 - (s1 + s2) % 10;
       final int nChecksum = r % 10;
-      final int nExpected = _toInt (c[8]);
+      final int nExpected = _toInt (c.charAt (nOfs + 8));
       return nChecksum == nExpected;
     }
-    if (!_es_c1valid_c9alpha (c[0]))
+    if (!_es_c1valid_c9alpha (c.charAt (nOfs)))
       return false;
 
     // Juridical entities other than national ones
-    if (_es_isV1 (c[0]))
+    if (_es_isV1 (c.charAt (nOfs)))
     {
-      final int s1 = _toInt (c[2]) + _toInt (c[4]) + _toInt (c[6]);
-      final int s2 = _es_d (c[1]) + _es_d (c[3]) + _es_d (c[5]) + _es_d (c[7]);
+      final int s1 = _toInt (c.charAt (nOfs + 2)) + _toInt (c.charAt (nOfs + 4)) + _toInt (c.charAt (nOfs + 6));
+      final int s2 = _es_d (c.charAt (nOfs + 1)) +
+                     _es_d (c.charAt (nOfs + 3)) +
+                     _es_d (c.charAt (nOfs + 5)) +
+                     _es_d (c.charAt (nOfs + 7));
       final int r = 10 - (s1 + s2) % 10;
-      return c[8] == 'A' + r - 1;
+      return c.charAt (nOfs + 8) == 'A' + r - 1;
     }
 
     // Physical persons:
-    if (_es_isV2 (c[0]))
+    if (_es_isV2 (c.charAt (nOfs)))
     {
-      final char c0 = c[0] == 'Y' ? '1' : c[0] == 'Z' ? '2' : c[0];
+      final char c0 = c.charAt (nOfs) == 'Y' ? '1' : c.charAt (nOfs) == 'Z' ? '2' : c.charAt (nOfs);
       int r;
       if (_isNum (c0))
-        r = _toInt (c0, c[1], c[2], c[3], c[4], c[5], c[6], c[7]) % 23 + 1;
+        r = _toInt (c0,
+                    c.charAt (nOfs + 1),
+                    c.charAt (nOfs + 2),
+                    c.charAt (nOfs + 3),
+                    c.charAt (nOfs + 4),
+                    c.charAt (nOfs + 5),
+                    c.charAt (nOfs + 6),
+                    c.charAt (nOfs + 7)) % 23 + 1;
       else
-        r = _toInt (c[1], c[2], c[3], c[4], c[5], c[6], c[7]) % 23 + 1;
-      return c[8] == ES_V2[r - 1];
+        r = _toInt (c.charAt (nOfs + 1),
+                    c.charAt (nOfs + 2),
+                    c.charAt (nOfs + 3),
+                    c.charAt (nOfs + 4),
+                    c.charAt (nOfs + 5),
+                    c.charAt (nOfs + 6),
+                    c.charAt (nOfs + 7)) % 23 + 1;
+      return c.charAt (nOfs + 8) == ES_V2[r - 1];
     }
 
     return false;
@@ -574,26 +714,31 @@ public class VATINSyntaxChecker
   public static boolean isValidVATIN_FI (@NonNull final String sVATIN)
   {
     ValueEnforcer.notNull (sVATIN, "VATIN");
-    final char [] c = sVATIN.toCharArray ();
-    if (c.length != 8)
+    return _isValidVATIN_FI (sVATIN, 0);
+  }
+
+  private static boolean _isValidVATIN_FI (@NonNull final CharSequence c, final int nOfs)
+  {
+    final int nLen = c.length () - nOfs;
+    if (nLen != 8)
       return false;
     for (int i = 0; i <= 7; ++i)
-      if (!_isNum (c[i]))
+      if (!_isNum (c.charAt (nOfs + i)))
         return false;
 
     final int r = 11 -
-                  (7 * _toInt (c[0]) +
-                   9 * _toInt (c[1]) +
-                   10 * _toInt (c[2]) +
-                   5 * _toInt (c[3]) +
-                   8 * _toInt (c[4]) +
-                   4 * _toInt (c[5]) +
-                   2 * _toInt (c[6])) % 11;
+                  (7 * _toInt (c.charAt (nOfs)) +
+                   9 * _toInt (c.charAt (nOfs + 1)) +
+                   10 * _toInt (c.charAt (nOfs + 2)) +
+                   5 * _toInt (c.charAt (nOfs + 3)) +
+                   8 * _toInt (c.charAt (nOfs + 4)) +
+                   4 * _toInt (c.charAt (nOfs + 5)) +
+                   2 * _toInt (c.charAt (nOfs + 6))) % 11;
     if (r == 10)
       return false;
 
     final int nChecksum = r == 11 ? 0 : r;
-    final int nExpected = _toInt (c[7]);
+    final int nExpected = _toInt (c.charAt (nOfs + 7));
     return nChecksum == nExpected;
   }
 
@@ -611,94 +756,136 @@ public class VATINSyntaxChecker
   public static boolean isValidVATIN_FR (@NonNull final String sVATIN)
   {
     ValueEnforcer.notNull (sVATIN, "VATIN");
-    final char [] c = sVATIN.toCharArray ();
-    if (c.length != 11)
+    return _isValidVATIN_FR (sVATIN, 0);
+  }
+
+  private static boolean _isValidVATIN_FR (@NonNull final CharSequence c, final int nOfs)
+  {
+    final int nLen = c.length () - nOfs;
+    if (nLen != 11)
       return false;
-    if (!_isLetterOrNum (c[0]))
+    if (!_isLetterOrNum (c.charAt (nOfs)))
       return false;
-    if (!_isLetterOrNum (c[1]))
+    if (!_isLetterOrNum (c.charAt (nOfs + 1)))
       return false;
     for (int i = 2; i <= 10; ++i)
-      if (!_isNum (c[i]))
+      if (!_isNum (c.charAt (nOfs + i)))
         return false;
 
-    final boolean bNum1 = _isNum (c[0]);
-    final boolean bNum2 = _isNum (c[1]);
+    final boolean bNum1 = _isNum (c.charAt (nOfs));
+    final boolean bNum2 = _isNum (c.charAt (nOfs + 1));
     if (bNum1 && bNum2)
     {
       // Case 1: Old Style
-      final int nChecksum = (int) (_toLong (c[2], c[3], c[4], c[5], c[6], c[7], c[8], c[9], c[10], '1', '2') % 97);
-      final int nExpected = _toInt (c[0], c[1]);
+      final int nChecksum = (int) (_toLong (c.charAt (nOfs + 2),
+                                            c.charAt (nOfs + 3),
+                                            c.charAt (nOfs + 4),
+                                            c.charAt (nOfs + 5),
+                                            c.charAt (nOfs + 6),
+                                            c.charAt (nOfs + 7),
+                                            c.charAt (nOfs + 8),
+                                            c.charAt (nOfs + 9),
+                                            c.charAt (nOfs + 10),
+                                            '1',
+                                            '2') % 97);
+      final int nExpected = _toInt (c.charAt (nOfs), c.charAt (nOfs + 1));
       return nChecksum == nExpected;
     }
 
     // Case 2 : New Style
-    final int s1 = _fr_check (c[0]);
+    final int s1 = _fr_check (c.charAt (nOfs));
     if (s1 < 0)
       return false;
-    final int s2 = _fr_check (c[1]);
+    final int s2 = _fr_check (c.charAt (nOfs + 1));
     if (s2 < 0)
       return false;
     final int s = bNum1 ? (s1 * 24) + (s2 - 10) : (s1 * 34) + (s2 - 100);
     final int p = (s / 11) + 1;
     final int r1 = s % 11;
-    final int r2 = (_toInt (c[2], c[3], c[4], c[5], c[6], c[7], c[8], c[9], c[10]) + p) % 11;
+    final int r2 = (_toInt (c.charAt (nOfs + 2),
+                            c.charAt (nOfs + 3),
+                            c.charAt (nOfs + 4),
+                            c.charAt (nOfs + 5),
+                            c.charAt (nOfs + 6),
+                            c.charAt (nOfs + 7),
+                            c.charAt (nOfs + 8),
+                            c.charAt (nOfs + 9),
+                            c.charAt (nOfs + 10)) + p) % 11;
     return r1 == r2;
   }
 
   public static boolean isValidVATIN_GB (@NonNull final String sVATIN)
   {
     ValueEnforcer.notNull (sVATIN, "VATIN");
-    final char [] c = sVATIN.toCharArray ();
-    if (c.length == 5)
+    return _isValidVATIN_GB (sVATIN, 0);
+  }
+
+  private static boolean _isValidVATIN_GB (@NonNull final CharSequence c, final int nOfs)
+  {
+    final int nLen = c.length () - nOfs;
+    if (nLen == 5)
     {
       // This format applies to Government departments and Health authorities
-      if (c[0] == 'G' && c[1] == 'D')
+      if (c.charAt (nOfs) == 'G' && c.charAt (nOfs + 1) == 'D')
       {
-        final int n = _toInt (c[2], c[3], c[4]);
+        final int n = _toInt (c.charAt (nOfs + 2), c.charAt (nOfs + 3), c.charAt (nOfs + 4));
         return n >= 0 && n <= 499;
       }
-      if (c[0] == 'H' && c[1] == 'A')
+      if (c.charAt (nOfs) == 'H' && c.charAt (nOfs + 1) == 'A')
       {
-        final int n = _toInt (c[2], c[3], c[4]);
+        final int n = _toInt (c.charAt (nOfs + 2), c.charAt (nOfs + 3), c.charAt (nOfs + 4));
         return n >= 500 && n <= 999;
       }
       return false;
     }
 
     // This format applies to all others
-    if (c.length != 9 && c.length != 12)
+    if (nLen != 9 && nLen != 12)
       return false;
-    for (final char aElement : c)
-      if (!_isNum (aElement))
+    for (int i = 0; i < nLen; ++i)
+      if (!_isNum (c.charAt (nOfs + i)))
         return false;
 
-    final int v1 = _toInt (c[0], c[1], c[2], c[3], c[4], c[5], c[6]);
+    final int v1 = _toInt (c.charAt (nOfs),
+                           c.charAt (nOfs + 1),
+                           c.charAt (nOfs + 2),
+                           c.charAt (nOfs + 3),
+                           c.charAt (nOfs + 4),
+                           c.charAt (nOfs + 5),
+                           c.charAt (nOfs + 6));
     if (v1 >= 100_000 && v1 <= 999_999)
       return false;
     if (v1 >= 9_490_001 && v1 <= 9_700_000)
       return false;
     if (v1 >= 9_990_001 && v1 <= 9_999_999)
       return false;
-    if (c.length == 12)
+    if (nLen == 12)
     {
-      final int v2b = _toInt (c[9], c[10], c[11]);
+      final int v2b = _toInt (c.charAt (nOfs + 9), c.charAt (nOfs + 10), c.charAt (nOfs + 11));
       if (v2b <= 0)
         return false;
     }
 
-    final int v2 = _toInt (c[0], c[1], c[2], c[3], c[4], c[5], c[6], c[7], c[8]);
+    final int v2 = _toInt (c.charAt (nOfs),
+                           c.charAt (nOfs + 1),
+                           c.charAt (nOfs + 2),
+                           c.charAt (nOfs + 3),
+                           c.charAt (nOfs + 4),
+                           c.charAt (nOfs + 5),
+                           c.charAt (nOfs + 6),
+                           c.charAt (nOfs + 7),
+                           c.charAt (nOfs + 8));
     if (v2 <= 0)
       return false;
 
-    final int tmp = 8 * _toInt (c[0]) +
-                    7 * _toInt (c[1]) +
-                    6 * _toInt (c[2]) +
-                    5 * _toInt (c[3]) +
-                    4 * _toInt (c[4]) +
-                    3 * _toInt (c[5]) +
-                    2 * _toInt (c[6]) +
-                    1 * _toInt (c[7], c[8]);
+    final int tmp = 8 * _toInt (c.charAt (nOfs)) +
+                    7 * _toInt (c.charAt (nOfs + 1)) +
+                    6 * _toInt (c.charAt (nOfs + 2)) +
+                    5 * _toInt (c.charAt (nOfs + 3)) +
+                    4 * _toInt (c.charAt (nOfs + 4)) +
+                    3 * _toInt (c.charAt (nOfs + 5)) +
+                    2 * _toInt (c.charAt (nOfs + 6)) +
+                    1 * _toInt (c.charAt (nOfs + 7), c.charAt (nOfs + 8));
     final int r1 = tmp % 97;
     final int r2 = (tmp + 55) % 97;
     return r1 == 0 || r2 == 0;
@@ -729,86 +916,93 @@ public class VATINSyntaxChecker
     return c - 'A' + 1;
   }
 
-  private static boolean _ie_isV1 (@NonNull final char [] c)
+  private static boolean _ie_isV1 (@NonNull final CharSequence c, final int nOfs)
   {
-    if (c.length != 8)
+    final int nLen = c.length () - nOfs;
+    if (nLen != 8)
       return false;
-    if (!_isNum (c[0]))
+    if (!_isNum (c.charAt (nOfs)))
       return false;
-    if (!_ie_is2 (c[1]))
+    if (!_ie_is2 (c.charAt (nOfs + 1)))
       return false;
     for (int i = 2; i <= 6; ++i)
-      if (!_isNum (c[i]))
+      if (!_isNum (c.charAt (nOfs + i)))
         return false;
-    if (!_ie_is8 (c[7]))
+    if (!_ie_is8 (c.charAt (nOfs + 7)))
       return false;
     final int r = (0 * 8 +
-                   _toInt (c[2]) * 7 +
-                   _toInt (c[3]) * 6 +
-                   _toInt (c[4]) * 5 +
-                   _toInt (c[5]) * 4 +
-                   _toInt (c[6]) * 3 +
-                   _toInt (c[0]) * 2) % 23;
+                   _toInt (c.charAt (nOfs + 2)) * 7 +
+                   _toInt (c.charAt (nOfs + 3)) * 6 +
+                   _toInt (c.charAt (nOfs + 4)) * 5 +
+                   _toInt (c.charAt (nOfs + 5)) * 4 +
+                   _toInt (c.charAt (nOfs + 6)) * 3 +
+                   _toInt (c.charAt (nOfs)) * 2) % 23;
 
     final char cCheck = _ie_checkChar (r);
-    return c[7] == cCheck;
+    return c.charAt (nOfs + 7) == cCheck;
   }
 
-  private static boolean _ie_isV2 (@NonNull final char [] c)
+  private static boolean _ie_isV2 (@NonNull final CharSequence c, final int nOfs)
   {
-    if (c.length != 8)
+    final int nLen = c.length () - nOfs;
+    if (nLen != 8)
       return false;
     for (int i = 0; i <= 6; ++i)
-      if (!_isNum (c[i]))
+      if (!_isNum (c.charAt (nOfs + i)))
         return false;
-    if (!_ie_is8 (c[7]))
+    if (!_ie_is8 (c.charAt (nOfs + 7)))
       return false;
-    final int r = (_toInt (c[0]) * 8 +
-                   _toInt (c[1]) * 7 +
-                   _toInt (c[2]) * 6 +
-                   _toInt (c[3]) * 5 +
-                   _toInt (c[4]) * 4 +
-                   _toInt (c[5]) * 3 +
-                   _toInt (c[6]) * 2) % 23;
+    final int r = (_toInt (c.charAt (nOfs)) * 8 +
+                   _toInt (c.charAt (nOfs + 1)) * 7 +
+                   _toInt (c.charAt (nOfs + 2)) * 6 +
+                   _toInt (c.charAt (nOfs + 3)) * 5 +
+                   _toInt (c.charAt (nOfs + 4)) * 4 +
+                   _toInt (c.charAt (nOfs + 5)) * 3 +
+                   _toInt (c.charAt (nOfs + 6)) * 2) % 23;
 
     final char cCheck = _ie_checkChar (r);
-    return c[7] == cCheck;
+    return c.charAt (nOfs + 7) == cCheck;
   }
 
   public static boolean isValidVATIN_IE (@NonNull final String sVATIN)
   {
     ValueEnforcer.notNull (sVATIN, "VATIN");
-    final char [] c = sVATIN.toCharArray ();
+    return _isValidVATIN_IE (sVATIN, 0);
+  }
+
+  private static boolean _isValidVATIN_IE (@NonNull final CharSequence c, final int nOfs)
+  {
+    final int nLen = c.length () - nOfs;
 
     // Version 1 (old Style)
-    if (_ie_isV1 (c))
+    if (_ie_isV1 (c, nOfs))
       return true;
 
     // Version 2 (new Style 8 characters)
-    if (_ie_isV2 (c))
+    if (_ie_isV2 (c, nOfs))
       return true;
 
     // Version 3 (new Style 9 characters)
-    if (c.length != 9)
+    if (nLen != 9)
       return false;
     for (int i = 0; i <= 6; ++i)
-      if (!_isNum (c[i]))
+      if (!_isNum (c.charAt (nOfs + i)))
         return false;
-    if (!_ie_is8 (c[7]))
+    if (!_ie_is8 (c.charAt (nOfs + 7)))
       return false;
-    if (!_ie_is9 (c[8]))
+    if (!_ie_is9 (c.charAt (nOfs + 8)))
       return false;
-    final int r = (_toInt (c[0]) * 8 +
-                   _toInt (c[1]) * 7 +
-                   _toInt (c[2]) * 6 +
-                   _toInt (c[3]) * 5 +
-                   _toInt (c[4]) * 4 +
-                   _toInt (c[5]) * 3 +
-                   _toInt (c[6]) * 2 +
-                   _ie_toNum (c[8]) * 9) % 23;
+    final int r = (_toInt (c.charAt (nOfs)) * 8 +
+                   _toInt (c.charAt (nOfs + 1)) * 7 +
+                   _toInt (c.charAt (nOfs + 2)) * 6 +
+                   _toInt (c.charAt (nOfs + 3)) * 5 +
+                   _toInt (c.charAt (nOfs + 4)) * 4 +
+                   _toInt (c.charAt (nOfs + 5)) * 3 +
+                   _toInt (c.charAt (nOfs + 6)) * 2 +
+                   _ie_toNum (c.charAt (nOfs + 8)) * 9) % 23;
 
     final char cCheck = _ie_checkChar (r);
-    return c[7] == cCheck;
+    return c.charAt (nOfs + 7) == cCheck;
   }
 
   private static int _it_d (final char c)
@@ -820,111 +1014,147 @@ public class VATINSyntaxChecker
   public static boolean isValidVATIN_IT (@NonNull final String sVATIN)
   {
     ValueEnforcer.notNull (sVATIN, "VATIN");
-    final char [] c = sVATIN.toCharArray ();
+    return _isValidVATIN_IT (sVATIN, 0);
+  }
 
-    if (c.length != 11)
+  private static boolean _isValidVATIN_IT (@NonNull final CharSequence c, final int nOfs)
+  {
+    final int nLen = c.length () - nOfs;
+
+    if (nLen != 11)
       return false;
     for (int i = 0; i <= 10; ++i)
-      if (!_isNum (c[i]))
+      if (!_isNum (c.charAt (nOfs + i)))
         return false;
 
-    final int v = _toInt (c[7], c[8], c[9]);
+    final int v = _toInt (c.charAt (nOfs + 7), c.charAt (nOfs + 8), c.charAt (nOfs + 9));
     if (!((v > 0 && v < 101) || v == 120 || v == 121 || v == 999 || v == 888))
       return false;
 
-    final int s1 = _toInt (c[0]) + _toInt (c[2]) + _toInt (c[4]) + _toInt (c[6]) + _toInt (c[8]);
-    final int s2 = _it_d (c[1]) + _it_d (c[3]) + _it_d (c[5]) + _it_d (c[7]) + _it_d (c[9]);
+    final int s1 = _toInt (c.charAt (nOfs)) +
+                   _toInt (c.charAt (nOfs + 2)) +
+                   _toInt (c.charAt (nOfs + 4)) +
+                   _toInt (c.charAt (nOfs + 6)) +
+                   _toInt (c.charAt (nOfs + 8));
+    final int s2 = _it_d (c.charAt (nOfs + 1)) +
+                   _it_d (c.charAt (nOfs + 3)) +
+                   _it_d (c.charAt (nOfs + 5)) +
+                   _it_d (c.charAt (nOfs + 7)) +
+                   _it_d (c.charAt (nOfs + 9));
     final int nChecksum = (10 - (s1 + s2) % 10) % 10;
-    final int nExpected = _toInt (c[10]);
+    final int nExpected = _toInt (c.charAt (nOfs + 10));
     return nChecksum == nExpected;
   }
 
   public static boolean isValidVATIN_LU (@NonNull final String sVATIN)
   {
     ValueEnforcer.notNull (sVATIN, "VATIN");
-    final char [] c = sVATIN.toCharArray ();
+    return _isValidVATIN_LU (sVATIN, 0);
+  }
+
+  private static boolean _isValidVATIN_LU (@NonNull final CharSequence c, final int nOfs)
+  {
+    final int nLen = c.length () - nOfs;
 
-    if (c.length != 8)
+    if (nLen != 8)
       return false;
     for (int i = 0; i <= 7; ++i)
-      if (!_isNum (c[i]))
+      if (!_isNum (c.charAt (nOfs + i)))
         return false;
 
-    final int nChecksum = _toInt (c[0], c[1], c[2], c[3], c[4], c[5]) % 89;
-    final int nExpected = _toInt (c[6], c[7]);
+    final int nChecksum = _toInt (c.charAt (nOfs),
+                                  c.charAt (nOfs + 1),
+                                  c.charAt (nOfs + 2),
+                                  c.charAt (nOfs + 3),
+                                  c.charAt (nOfs + 4),
+                                  c.charAt (nOfs + 5)) % 89;
+    final int nExpected = _toInt (c.charAt (nOfs + 6), c.charAt (nOfs + 7));
     return nChecksum == nExpected;
   }
 
-  private static boolean _isNL_BSN (final char [] c)
+  /** The Mod 97 checksum of the "NL" prefix used by the BTW algorithm */
+  private static final int NL_MOD97 = ISO7064.Mod97.getChecksum ("NL");
+
+  private static boolean _isNL_BSN (@NonNull final CharSequence c, final int nOfs)
   {
-    final int a1 = _toInt (c[0]) * 9 +
-                   _toInt (c[1]) * 8 +
-                   _toInt (c[2]) * 7 +
-                   _toInt (c[3]) * 6 +
-                   _toInt (c[4]) * 5 +
-                   _toInt (c[5]) * 4 +
-                   _toInt (c[6]) * 3 +
-                   _toInt (c[7]) * 2;
+    final int a1 = _toInt (c.charAt (nOfs)) * 9 +
+                   _toInt (c.charAt (nOfs + 1)) * 8 +
+                   _toInt (c.charAt (nOfs + 2)) * 7 +
+                   _toInt (c.charAt (nOfs + 3)) * 6 +
+                   _toInt (c.charAt (nOfs + 4)) * 5 +
+                   _toInt (c.charAt (nOfs + 5)) * 4 +
+                   _toInt (c.charAt (nOfs + 6)) * 3 +
+                   _toInt (c.charAt (nOfs + 7)) * 2;
     final int nChecksum = a1 % 11;
     if (nChecksum == 10)
       return false;
 
-    final int v1 = _toInt (c[10], c[11]);
+    final int v1 = _toInt (c.charAt (nOfs + 10), c.charAt (nOfs + 11));
     if (v1 <= 0)
       return false;
 
-    final int nExpected = _toInt (c[8]);
+    final int nExpected = _toInt (c.charAt (nOfs + 8));
     return nChecksum == nExpected;
   }
 
   public static boolean isValidVATIN_NL (@NonNull final String sVATIN)
   {
     ValueEnforcer.notNull (sVATIN, "VATIN");
-    final char [] c = sVATIN.toCharArray ();
+    return _isValidVATIN_NL (sVATIN, 0);
+  }
+
+  private static boolean _isValidVATIN_NL (@NonNull final CharSequence c, final int nOfs)
+  {
+    final int nLen = c.length () - nOfs;
 
-    if (c.length != 12)
+    if (nLen != 12)
       return false;
     for (int i = 0; i <= 8; ++i)
-      if (!_isNum (c[i]))
+      if (!_isNum (c.charAt (nOfs + i)))
         return false;
-    if (c[9] != 'B')
+    if (c.charAt (nOfs + 9) != 'B')
       return false;
     for (int i = 10; i <= 11; ++i)
-      if (!_isNum (c[i]))
+      if (!_isNum (c.charAt (nOfs + i)))
         return false;
 
     // BSN algorithm
-    if (_isNL_BSN (c))
+    if (_isNL_BSN (c, nOfs))
       return true;
 
     // BTW algorithm
-    return ISO7064.Mod97.isValid ("NL" + sVATIN);
+    return ISO7064.Mod97.getChecksum (NL_MOD97, c, nOfs, nLen, 0) == ISO7064.Mod97.EXPECTED_CHECKSUM;
   }
 
   public static boolean isValidVATIN_PT (@NonNull final String sVATIN)
   {
     ValueEnforcer.notNull (sVATIN, "VATIN");
-    final char [] c = sVATIN.toCharArray ();
+    return _isValidVATIN_PT (sVATIN, 0);
+  }
+
+  private static boolean _isValidVATIN_PT (@NonNull final CharSequence c, final int nOfs)
+  {
+    final int nLen = c.length () - nOfs;
 
-    if (c.length != 9)
+    if (nLen != 9)
       return false;
-    if (!_isNum1to9 (c[0]))
+    if (!_isNum1to9 (c.charAt (nOfs)))
       return false;
     for (int i = 1; i <= 8; ++i)
-      if (!_isNum (c[i]))
+      if (!_isNum (c.charAt (nOfs + i)))
         return false;
 
     final int r = 11 -
-                  (_toInt (c[0]) * 9 +
-                   _toInt (c[1]) * 8 +
-                   _toInt (c[2]) * 7 +
-                   _toInt (c[3]) * 6 +
-                   _toInt (c[4]) * 5 +
-                   _toInt (c[5]) * 4 +
-                   _toInt (c[6]) * 3 +
-                   _toInt (c[7]) * 2) % 11;
+                  (_toInt (c.charAt (nOfs)) * 9 +
+                   _toInt (c.charAt (nOfs + 1)) * 8 +
+                   _toInt (c.charAt (nOfs + 2)) * 7 +
+                   _toInt (c.charAt (nOfs + 3)) * 6 +
+                   _toInt (c.charAt (nOfs + 4)) * 5 +
+                   _toInt (c.charAt (nOfs + 5)) * 4 +
+                   _toInt (c.charAt (nOfs + 6)) * 3 +
+                   _toInt (c.charAt (nOfs + 7)) * 2) % 11;
     final int nChecksum = (r == 10 || r == 11) ? 0 : r;
-    final int nExpected = _toInt (c[8]);
+    final int nExpected = _toInt (c.charAt (nOfs + 8));
     return nChecksum == nExpected;
   }
 
@@ -937,21 +1167,34 @@ public class VATINSyntaxChecker
   public static boolean isValidVATIN_SE (@NonNull final String sVATIN)
   {
     ValueEnforcer.notNull (sVATIN, "VATIN");
-    final char [] c = sVATIN.toCharArray ();
+    return _isValidVATIN_SE (sVATIN, 0);
+  }
+
+  private static boolean _isValidVATIN_SE (@NonNull final CharSequence c, final int nOfs)
+  {
+    final int nLen = c.length () - nOfs;
 
-    if (c.length != 12)
+    if (nLen != 12)
       return false;
     for (int i = 0; i <= 11; ++i)
-      if (!_isNum (c[i]))
+      if (!_isNum (c.charAt (nOfs + i)))
         return false;
 
-    final int v1 = _toInt (c[10], c[11]);
+    final int v1 = _toInt (c.charAt (nOfs + 10), c.charAt (nOfs + 11));
     if (v1 < 1 || v1 > 94)
       return false;
 
-    final int r = _se_s (c[0]) + _se_s (c[2]) + _se_s (c[4]) + _se_s (c[6]) + _se_s (c[8]);
-    final int nChecksum = (10 - (r + _toInt (c[1]) + _toInt (c[3]) + _toInt (c[5]) + _toInt (c[7])) % 10) % 10;
-    final int nExpected = _toInt (c[9]);
+    final int r = _se_s (c.charAt (nOfs)) +
+                  _se_s (c.charAt (nOfs + 2)) +
+                  _se_s (c.charAt (nOfs + 4)) +
+                  _se_s (c.charAt (nOfs + 6)) +
+                  _se_s (c.charAt (nOfs + 8));
+    final int nChecksum = (10 - (r +
+                                 _toInt (c.charAt (nOfs + 1)) +
+                                 _toInt (c.charAt (nOfs + 3)) +
+                                 _toInt (c.charAt (nOfs + 5)) +
+                                 _toInt (c.charAt (nOfs + 7))) % 10) % 10;
+    final int nExpected = _toInt (c.charAt (nOfs + 9));
     return nChecksum == nExpected;
   }
 
@@ -970,74 +1213,81 @@ public class VATINSyntaxChecker
   public static boolean isValidVATIN_CY (@NonNull final String sVATIN)
   {
     ValueEnforcer.notNull (sVATIN, "VATIN");
-    final char [] c = sVATIN.toCharArray ();
-    if (c.length != 9)
+    return _isValidVATIN_CY (sVATIN, 0);
+  }
+
+  private static boolean _isValidVATIN_CY (@NonNull final CharSequence c, final int nOfs)
+  {
+    final int nLen = c.length () - nOfs;
+    if (nLen != 9)
       return false;
-    if (!_cy_is1 (c[0]))
+    if (!_cy_is1 (c.charAt (nOfs)))
       return false;
     for (int i = 1; i <= 7; ++i)
-      if (!_isNum (c[i]))
+      if (!_isNum (c.charAt (nOfs + i)))
         return false;
-    if (!_isLetterOrNum (c[8]))
+    if (!_isLetterOrNum (c.charAt (nOfs + 8)))
       return false;
 
-    final int v = _toInt (c[0], c[1]);
+    final int v = _toInt (c.charAt (nOfs), c.charAt (nOfs + 1));
     if (v == 12)
       return false;
 
-    final int a1 = _cy_odd (c[0]) +
-                   _toInt (c[1]) +
-                   _cy_odd (c[2]) +
-                   _toInt (c[3]) +
-                   _cy_odd (c[4]) +
-                   _toInt (c[5]) +
-                   _cy_odd (c[6]) +
-                   _toInt (c[7]);
+    final int a1 = _cy_odd (c.charAt (nOfs)) +
+                   _toInt (c.charAt (nOfs + 1)) +
+                   _cy_odd (c.charAt (nOfs + 2)) +
+                   _toInt (c.charAt (nOfs + 3)) +
+                   _cy_odd (c.charAt (nOfs + 4)) +
+                   _toInt (c.charAt (nOfs + 5)) +
+                   _cy_odd (c.charAt (nOfs + 6)) +
+                   _toInt (c.charAt (nOfs + 7));
     final char cChecksum = (char) ('A' + (a1 % 26));
-    return cChecksum == c[8];
+    return cChecksum == c.charAt (nOfs + 8);
   }
 
-  private static boolean _cz_isV1 (@NonNull final char [] c)
+  private static boolean _cz_isV1 (@NonNull final CharSequence c, final int nOfs)
   {
-    if (c.length != 8)
+    final int nLen = c.length () - nOfs;
+    if (nLen != 8)
       return false;
     for (int i = 0; i <= 7; ++i)
-      if (!_isNum (c[i]))
+      if (!_isNum (c.charAt (nOfs + i)))
         return false;
-    if (c[0] == '9')
+    if (c.charAt (nOfs) == '9')
       return false;
 
-    final int a1 = 8 * _toInt (c[0]) +
-                   7 * _toInt (c[1]) +
-                   6 * _toInt (c[2]) +
-                   5 * _toInt (c[3]) +
-                   4 * _toInt (c[4]) +
-                   3 * _toInt (c[5]) +
-                   2 * _toInt (c[6]);
+    final int a1 = 8 * _toInt (c.charAt (nOfs)) +
+                   7 * _toInt (c.charAt (nOfs + 1)) +
+                   6 * _toInt (c.charAt (nOfs + 2)) +
+                   5 * _toInt (c.charAt (nOfs + 3)) +
+                   4 * _toInt (c.charAt (nOfs + 4)) +
+                   3 * _toInt (c.charAt (nOfs + 5)) +
+                   2 * _toInt (c.charAt (nOfs + 6));
 
     final int a2 = (a1 % 11) == 0 ? a1 + 11 : ceilTo (a1, 11);
     final int nChecksum = (a2 - a1) % 10;
-    final int nExpected = _toInt (c[7]);
+    final int nExpected = _toInt (c.charAt (nOfs + 7));
     return nChecksum == nExpected;
   }
 
-  private static boolean _cz_isV2 (@NonNull final char [] c)
+  private static boolean _cz_isV2 (@NonNull final CharSequence c, final int nOfs)
   {
-    if (c.length != 9)
+    final int nLen = c.length () - nOfs;
+    if (nLen != 9)
       return false;
     for (int i = 0; i <= 8; ++i)
-      if (!_isNum (c[i]))
+      if (!_isNum (c.charAt (nOfs + i)))
         return false;
 
-    final int y = _toInt (c[0], c[1]);
+    final int y = _toInt (c.charAt (nOfs), c.charAt (nOfs + 1));
     if (y < 0 || y > 53)
       return false;
-    final int m = _toInt (c[2], c[3]);
+    final int m = _toInt (c.charAt (nOfs + 2), c.charAt (nOfs + 3));
     if ((m < 1 || m > 12) && (m < 51 || m > 62))
       return false;
     final int nEffectiveMonth = m >= 51 ? m - 50 : m;
 
-    final int d = _toInt (c[4], c[5]);
+    final int d = _toInt (c.charAt (nOfs + 4), c.charAt (nOfs + 5));
     if (!_isValidMonthDay (nEffectiveMonth, d))
       return false;
 
@@ -1046,27 +1296,28 @@ public class VATINSyntaxChecker
 
   private static final int [] CZ_V3 = { 8, 7, 6, 5, 4, 3, 2, 1, 0, 9, 8 };
 
-  private static boolean _cz_isV3 (@NonNull final char [] c)
+  private static boolean _cz_isV3 (@NonNull final CharSequence c, final int nOfs)
   {
-    if (c.length != 9)
+    final int nLen = c.length () - nOfs;
+    if (nLen != 9)
       return false;
     for (int i = 0; i <= 8; ++i)
-      if (!_isNum (c[i]))
+      if (!_isNum (c.charAt (nOfs + i)))
         return false;
-    if (c[0] != '6')
+    if (c.charAt (nOfs) != '6')
       return false;
 
-    final int a1 = 8 * _toInt (c[1]) +
-                   7 * _toInt (c[2]) +
-                   6 * _toInt (c[3]) +
-                   5 * _toInt (c[4]) +
-                   4 * _toInt (c[5]) +
-                   3 * _toInt (c[6]) +
-                   2 * _toInt (c[7]);
+    final int a1 = 8 * _toInt (c.charAt (nOfs + 1)) +
+                   7 * _toInt (c.charAt (nOfs + 2)) +
+                   6 * _toInt (c.charAt (nOfs + 3)) +
+                   5 * _toInt (c.charAt (nOfs + 4)) +
+                   4 * _toInt (c.charAt (nOfs + 5)) +
+                   3 * _toInt (c.charAt (nOfs + 6)) +
+                   2 * _toInt (c.charAt (nOfs + 7));
 
     final int a2 = (a1 % 11) == 0 ? a1 + 11 : ceilTo (a1, 11);
     final int nChecksum = CZ_V3[a2 - a1 - 1];
-    final int nExpected = _toInt (c[8]);
+    final int nExpected = _toInt (c.charAt (nOfs + 8));
     return nChecksum == nExpected;
   }
 
@@ -1075,44 +1326,62 @@ public class VATINSyntaxChecker
   public static boolean isValidVATIN_CZ (@NonNull final String sVATIN)
   {
     ValueEnforcer.notNull (sVATIN, "VATIN");
-    final char [] c = sVATIN.toCharArray ();
+    return _isValidVATIN_CZ (sVATIN, 0);
+  }
+
+  private static boolean _isValidVATIN_CZ (@NonNull final CharSequence c, final int nOfs)
+  {
+    final int nLen = c.length () - nOfs;
 
     // Format 1: 8 digits numbers – Legal Entities
-    if (_cz_isV1 (c))
+    if (_cz_isV1 (c, nOfs))
       return true;
 
     // Format 2: 9 digits numbers – Individuals
-    if (_cz_isV2 (c))
+    if (_cz_isV2 (c, nOfs))
       return true;
 
     // Format 3: 9 digits numbers – Individuals (Special cases)
-    if (_cz_isV3 (c))
+    if (_cz_isV3 (c, nOfs))
       return true;
 
     // Format 4: 10 digits numbers – Individuals
-    if (c.length != 10)
+    if (nLen != 10)
       return false;
     for (int i = 0; i <= 9; ++i)
-      if (!_isNum (c[i]))
+      if (!_isNum (c.charAt (nOfs + i)))
         return false;
 
-    final long v = _toLong (c[0], c[1], c[2], c[3], c[4], c[5], c[6], c[7], c[8], c[9]);
+    final long v = _toLong (c.charAt (nOfs),
+                            c.charAt (nOfs + 1),
+                            c.charAt (nOfs + 2),
+                            c.charAt (nOfs + 3),
+                            c.charAt (nOfs + 4),
+                            c.charAt (nOfs + 5),
+                            c.charAt (nOfs + 6),
+                            c.charAt (nOfs + 7),
+                            c.charAt (nOfs + 8),
+                            c.charAt (nOfs + 9));
     if ((v % 11) != 0)
       return false;
 
-    final int y = _toInt (c[0], c[1]);
+    final int y = _toInt (c.charAt (nOfs), c.charAt (nOfs + 1));
     if ((y < 0 || y > CZ_YEAR_MAX) && (y < 54))
       return false;
-    final int m = _toInt (c[2], c[3]);
+    final int m = _toInt (c.charAt (nOfs + 2), c.charAt (nOfs + 3));
     if ((m < 1 || m > 12) && (m < 21 || m > 32) && (m < 51 || m > 62) && (m < 71 || m > 82))
       return false;
 
     final int nEffectiveMonth = m >= 71 ? m - 70 : m >= 51 ? m - 50 : m >= 21 ? m - 20 : m;
-    final int d = _toInt (c[4], c[5]);
+    final int d = _toInt (c.charAt (nOfs + 4), c.charAt (nOfs + 5));
     if (!_isValidMonthDay (nEffectiveMonth, d))
       return false;
 
-    final int a1 = y + m + d + _toInt (c[6], c[7]) + _toInt (c[8], c[9]);
+    final int a1 = y +
+                   m +
+                   d +
+                   _toInt (c.charAt (nOfs + 6), c.charAt (nOfs + 7)) +
+                   _toInt (c.charAt (nOfs + 8), c.charAt (nOfs + 9));
     if ((a1 % 11) != 0)
       return false;
 
@@ -1122,198 +1391,220 @@ public class VATINSyntaxChecker
   public static boolean isValidVATIN_EE (@NonNull final String sVATIN)
   {
     ValueEnforcer.notNull (sVATIN, "VATIN");
-    final char [] c = sVATIN.toCharArray ();
-    if (c.length != 9)
+    return _isValidVATIN_EE (sVATIN, 0);
+  }
+
+  private static boolean _isValidVATIN_EE (@NonNull final CharSequence c, final int nOfs)
+  {
+    final int nLen = c.length () - nOfs;
+    if (nLen != 9)
       return false;
     for (int i = 0; i <= 8; ++i)
-      if (!_isNum (c[i]))
+      if (!_isNum (c.charAt (nOfs + i)))
         return false;
 
-    final int a1 = 3 * _toInt (c[0]) +
-                   7 * _toInt (c[1]) +
-                   1 * _toInt (c[2]) +
-                   3 * _toInt (c[3]) +
-                   7 * _toInt (c[4]) +
-                   1 * _toInt (c[5]) +
-                   3 * _toInt (c[6]) +
-                   7 * _toInt (c[7]);
+    final int a1 = 3 * _toInt (c.charAt (nOfs)) +
+                   7 * _toInt (c.charAt (nOfs + 1)) +
+                   1 * _toInt (c.charAt (nOfs + 2)) +
+                   3 * _toInt (c.charAt (nOfs + 3)) +
+                   7 * _toInt (c.charAt (nOfs + 4)) +
+                   1 * _toInt (c.charAt (nOfs + 5)) +
+                   3 * _toInt (c.charAt (nOfs + 6)) +
+                   7 * _toInt (c.charAt (nOfs + 7));
     // Round to ceiling multiple of 10
     final int a2 = ceilTo (a1, 10);
     final int nChecksum = a2 - a1;
-    final int nExpected = _toInt (c[8]);
+    final int nExpected = _toInt (c.charAt (nOfs + 8));
     return nChecksum == nExpected;
   }
 
   public static boolean isValidVATIN_HU (@NonNull final String sVATIN)
   {
     ValueEnforcer.notNull (sVATIN, "VATIN");
-    final char [] c = sVATIN.toCharArray ();
-    if (c.length != 8)
+    return _isValidVATIN_HU (sVATIN, 0);
+  }
+
+  private static boolean _isValidVATIN_HU (@NonNull final CharSequence c, final int nOfs)
+  {
+    final int nLen = c.length () - nOfs;
+    if (nLen != 8)
       return false;
     for (int i = 0; i <= 7; ++i)
-      if (!_isNum (c[i]))
+      if (!_isNum (c.charAt (nOfs + i)))
         return false;
 
-    final int a1 = 9 * _toInt (c[0]) +
-                   7 * _toInt (c[1]) +
-                   3 * _toInt (c[2]) +
-                   1 * _toInt (c[3]) +
-                   9 * _toInt (c[4]) +
-                   7 * _toInt (c[5]) +
-                   3 * _toInt (c[6]);
+    final int a1 = 9 * _toInt (c.charAt (nOfs)) +
+                   7 * _toInt (c.charAt (nOfs + 1)) +
+                   3 * _toInt (c.charAt (nOfs + 2)) +
+                   1 * _toInt (c.charAt (nOfs + 3)) +
+                   9 * _toInt (c.charAt (nOfs + 4)) +
+                   7 * _toInt (c.charAt (nOfs + 5)) +
+                   3 * _toInt (c.charAt (nOfs + 6));
     final int nRest = a1 % 10;
     final int nChecksum = nRest == 0 ? 0 : 10 - nRest;
-    final int nExpected = _toInt (c[7]);
+    final int nExpected = _toInt (c.charAt (nOfs + 7));
     return nChecksum == nExpected;
   }
 
-  private static boolean _lt_isLegalPerson (@NonNull final char [] c)
+  private static boolean _lt_isLegalPerson (@NonNull final CharSequence c, final int nOfs)
   {
-    if (c.length != 9)
+    final int nLen = c.length () - nOfs;
+    if (nLen != 9)
       return false;
     for (int i = 0; i <= 6; ++i)
-      if (!_isNum (c[i]))
+      if (!_isNum (c.charAt (nOfs + i)))
         return false;
-    if (c[7] != '1')
+    if (c.charAt (nOfs + 7) != '1')
       return false;
-    if (!_isNum (c[8]))
+    if (!_isNum (c.charAt (nOfs + 8)))
       return false;
 
-    final int a1 = 1 * _toInt (c[0]) +
-                   2 * _toInt (c[1]) +
-                   3 * _toInt (c[2]) +
-                   4 * _toInt (c[3]) +
-                   5 * _toInt (c[4]) +
-                   6 * _toInt (c[5]) +
-                   7 * _toInt (c[6]) +
-                   8 * _toInt (c[7]);
+    final int a1 = 1 * _toInt (c.charAt (nOfs)) +
+                   2 * _toInt (c.charAt (nOfs + 1)) +
+                   3 * _toInt (c.charAt (nOfs + 2)) +
+                   4 * _toInt (c.charAt (nOfs + 3)) +
+                   5 * _toInt (c.charAt (nOfs + 4)) +
+                   6 * _toInt (c.charAt (nOfs + 5)) +
+                   7 * _toInt (c.charAt (nOfs + 6)) +
+                   8 * _toInt (c.charAt (nOfs + 7));
     final int r1 = a1 % 11;
     int nChecksum;
     if (r1 != 10)
       nChecksum = r1;
     else
     {
-      final int a2 = 3 * _toInt (c[0]) +
-                     4 * _toInt (c[1]) +
-                     5 * _toInt (c[2]) +
-                     6 * _toInt (c[3]) +
-                     7 * _toInt (c[4]) +
-                     8 * _toInt (c[5]) +
-                     9 * _toInt (c[6]) +
-                     1 * _toInt (c[7]);
+      final int a2 = 3 * _toInt (c.charAt (nOfs)) +
+                     4 * _toInt (c.charAt (nOfs + 1)) +
+                     5 * _toInt (c.charAt (nOfs + 2)) +
+                     6 * _toInt (c.charAt (nOfs + 3)) +
+                     7 * _toInt (c.charAt (nOfs + 4)) +
+                     8 * _toInt (c.charAt (nOfs + 5)) +
+                     9 * _toInt (c.charAt (nOfs + 6)) +
+                     1 * _toInt (c.charAt (nOfs + 7));
       final int r2 = a2 % 11;
       nChecksum = r2 == 10 ? 0 : r2;
     }
-    final int nExpected = _toInt (c[8]);
+    final int nExpected = _toInt (c.charAt (nOfs + 8));
     return nChecksum == nExpected;
   }
 
   public static boolean isValidVATIN_LT (@NonNull final String sVATIN)
   {
     ValueEnforcer.notNull (sVATIN, "VATIN");
-    final char [] c = sVATIN.toCharArray ();
+    return _isValidVATIN_LT (sVATIN, 0);
+  }
+
+  private static boolean _isValidVATIN_LT (@NonNull final CharSequence c, final int nOfs)
+  {
+    final int nLen = c.length () - nOfs;
 
     // Format 1: Legal persons
-    if (_lt_isLegalPerson (c))
+    if (_lt_isLegalPerson (c, nOfs))
       return true;
 
     // Format 2: Temporarily Registered Taxpayers
-    if (c.length != 12)
+    if (nLen != 12)
       return false;
     for (int i = 0; i <= 9; ++i)
-      if (!_isNum (c[i]))
+      if (!_isNum (c.charAt (nOfs + i)))
         return false;
-    if (c[10] != '1')
-      return false;
-    if (!_isNum (c[11]))
-      return false;
-
-    final int a1 = 1 * _toInt (c[0]) +
-                   2 * _toInt (c[1]) +
-                   3 * _toInt (c[2]) +
-                   4 * _toInt (c[3]) +
-                   5 * _toInt (c[4]) +
-                   6 * _toInt (c[5]) +
-                   7 * _toInt (c[6]) +
-                   8 * _toInt (c[7]) +
-                   9 * _toInt (c[8]) +
-                   1 * _toInt (c[9]) +
-                   2 * _toInt (c[10]);
+    if (c.charAt (nOfs + 10) != '1')
+      return false;
+    if (!_isNum (c.charAt (nOfs + 11)))
+      return false;
+
+    final int a1 = 1 * _toInt (c.charAt (nOfs)) +
+                   2 * _toInt (c.charAt (nOfs + 1)) +
+                   3 * _toInt (c.charAt (nOfs + 2)) +
+                   4 * _toInt (c.charAt (nOfs + 3)) +
+                   5 * _toInt (c.charAt (nOfs + 4)) +
+                   6 * _toInt (c.charAt (nOfs + 5)) +
+                   7 * _toInt (c.charAt (nOfs + 6)) +
+                   8 * _toInt (c.charAt (nOfs + 7)) +
+                   9 * _toInt (c.charAt (nOfs + 8)) +
+                   1 * _toInt (c.charAt (nOfs + 9)) +
+                   2 * _toInt (c.charAt (nOfs + 10));
     final int r1 = a1 % 11;
     int nChecksum;
     if (r1 != 10)
       nChecksum = r1;
     else
     {
-      final int a2 = 3 * _toInt (c[0]) +
-                     4 * _toInt (c[1]) +
-                     5 * _toInt (c[2]) +
-                     6 * _toInt (c[3]) +
-                     7 * _toInt (c[4]) +
-                     8 * _toInt (c[5]) +
-                     9 * _toInt (c[6]) +
-                     1 * _toInt (c[7]) +
-                     2 * _toInt (c[8]) +
-                     3 * _toInt (c[9]) +
-                     4 * _toInt (c[10]);
+      final int a2 = 3 * _toInt (c.charAt (nOfs)) +
+                     4 * _toInt (c.charAt (nOfs + 1)) +
+                     5 * _toInt (c.charAt (nOfs + 2)) +
+                     6 * _toInt (c.charAt (nOfs + 3)) +
+                     7 * _toInt (c.charAt (nOfs + 4)) +
+                     8 * _toInt (c.charAt (nOfs + 5)) +
+                     9 * _toInt (c.charAt (nOfs + 6)) +
+                     1 * _toInt (c.charAt (nOfs + 7)) +
+                     2 * _toInt (c.charAt (nOfs + 8)) +
+                     3 * _toInt (c.charAt (nOfs + 9)) +
+                     4 * _toInt (c.charAt (nOfs + 10));
       final int r2 = a2 % 11;
       nChecksum = r2 == 10 ? 0 : r2;
     }
-    final int nExpected = _toInt (c[11]);
+    final int nExpected = _toInt (c.charAt (nOfs + 11));
     return nChecksum == nExpected;
   }
 
-  private static boolean _is_lvV1 (@NonNull final char [] c)
+  private static boolean _is_lvV1 (@NonNull final CharSequence c, final int nOfs)
   {
-    if (c.length != 11)
+    final int nLen = c.length () - nOfs;
+    if (nLen != 11)
       return false;
     for (int i = 0; i <= 10; ++i)
-      if (!_isNum (c[i]))
+      if (!_isNum (c.charAt (nOfs + i)))
         return false;
-    if (_toInt (c[0]) <= 3)
-      return false;
-
-    final int a1 = 9 * _toInt (c[0]) +
-                   1 * _toInt (c[1]) +
-                   4 * _toInt (c[2]) +
-                   8 * _toInt (c[3]) +
-                   3 * _toInt (c[4]) +
-                   10 * _toInt (c[5]) +
-                   2 * _toInt (c[6]) +
-                   5 * _toInt (c[7]) +
-                   7 * _toInt (c[8]) +
-                   6 * _toInt (c[9]);
+    if (_toInt (c.charAt (nOfs)) <= 3)
+      return false;
+
+    final int a1 = 9 * _toInt (c.charAt (nOfs)) +
+                   1 * _toInt (c.charAt (nOfs + 1)) +
+                   4 * _toInt (c.charAt (nOfs + 2)) +
+                   8 * _toInt (c.charAt (nOfs + 3)) +
+                   3 * _toInt (c.charAt (nOfs + 4)) +
+                   10 * _toInt (c.charAt (nOfs + 5)) +
+                   2 * _toInt (c.charAt (nOfs + 6)) +
+                   5 * _toInt (c.charAt (nOfs + 7)) +
+                   7 * _toInt (c.charAt (nOfs + 8)) +
+                   6 * _toInt (c.charAt (nOfs + 9));
     final int r = 3 - (a1 % 11);
     if (r == -1)
       return false;
     final int nChecksum = r < -1 ? r + 11 : r;
-    final int nExpected = _toInt (c[10]);
+    final int nExpected = _toInt (c.charAt (nOfs + 10));
     return nChecksum == nExpected;
   }
 
   public static boolean isValidVATIN_LV (@NonNull final String sVATIN)
   {
     ValueEnforcer.notNull (sVATIN, "VATIN");
-    final char [] c = sVATIN.toCharArray ();
+    return _isValidVATIN_LV (sVATIN, 0);
+  }
+
+  private static boolean _isValidVATIN_LV (@NonNull final CharSequence c, final int nOfs)
+  {
+    final int nLen = c.length () - nOfs;
 
     // Format 1: Legal persons
-    if (_is_lvV1 (c))
+    if (_is_lvV1 (c, nOfs))
       return true;
 
     // Format 2: Natural persons
-    if (c.length != 11)
+    if (nLen != 11)
       return false;
     for (int i = 0; i <= 10; ++i)
-      if (!_isNum (c[i]))
+      if (!_isNum (c.charAt (nOfs + i)))
         return false;
-    if (_toInt (c[0]) > 3)
+    if (_toInt (c.charAt (nOfs)) > 3)
       return false;
 
-    final int d = _toInt (c[0], c[1]);
-    final int m = _toInt (c[2], c[3]);
+    final int d = _toInt (c.charAt (nOfs), c.charAt (nOfs + 1));
+    final int m = _toInt (c.charAt (nOfs + 2), c.charAt (nOfs + 3));
     if (m < 1 || m > 12)
       return false;
-    // final int y = _toInt (c[4], c[5]);
+    // final int y = _toInt (c.charAt (nOfs + 4), c.charAt (nOfs + 5));
     if (!_isValidMonthDay (m, d))
       return false;
     return true;
@@ -1322,81 +1613,107 @@ public class VATINSyntaxChecker
   public static boolean isValidVATIN_MT (@NonNull final String sVATIN)
   {
     ValueEnforcer.notNull (sVATIN, "VATIN");
-    final char [] c = sVATIN.toCharArray ();
-    if (c.length != 8)
+    return _isValidVATIN_MT (sVATIN, 0);
+  }
+
+  private static boolean _isValidVATIN_MT (@NonNull final CharSequence c, final int nOfs)
+  {
+    final int nLen = c.length () - nOfs;
+    if (nLen != 8)
       return false;
     for (int i = 0; i <= 7; ++i)
-      if (!_isNum (c[i]))
+      if (!_isNum (c.charAt (nOfs + i)))
         return false;
 
-    final int v = _toInt (c[0], c[1], c[2], c[3], c[4], c[5]);
+    final int v = _toInt (c.charAt (nOfs),
+                          c.charAt (nOfs + 1),
+                          c.charAt (nOfs + 2),
+                          c.charAt (nOfs + 3),
+                          c.charAt (nOfs + 4),
+                          c.charAt (nOfs + 5));
     if (v <= 100_000)
       return false;
 
-    final int a1 = 3 * _toInt (c[0]) +
-                   4 * _toInt (c[1]) +
-                   6 * _toInt (c[2]) +
-                   7 * _toInt (c[3]) +
-                   8 * _toInt (c[4]) +
-                   9 * _toInt (c[5]);
+    final int a1 = 3 * _toInt (c.charAt (nOfs)) +
+                   4 * _toInt (c.charAt (nOfs + 1)) +
+                   6 * _toInt (c.charAt (nOfs + 2)) +
+                   7 * _toInt (c.charAt (nOfs + 3)) +
+                   8 * _toInt (c.charAt (nOfs + 4)) +
+                   9 * _toInt (c.charAt (nOfs + 5));
     final int r = 37 - (a1 % 37);
     final int nChecksum = r == 0 ? 37 : r;
-    final int nExpected = _toInt (c[6], c[7]);
+    final int nExpected = _toInt (c.charAt (nOfs + 6), c.charAt (nOfs + 7));
     return nChecksum == nExpected;
   }
 
   public static boolean isValidVATIN_PL (@NonNull final String sVATIN)
   {
     ValueEnforcer.notNull (sVATIN, "VATIN");
-    final char [] c = sVATIN.toCharArray ();
-    if (c.length != 10)
+    return _isValidVATIN_PL (sVATIN, 0);
+  }
+
+  private static boolean _isValidVATIN_PL (@NonNull final CharSequence c, final int nOfs)
+  {
+    final int nLen = c.length () - nOfs;
+    if (nLen != 10)
       return false;
     for (int i = 0; i <= 9; ++i)
-      if (!_isNum (c[i]))
+      if (!_isNum (c.charAt (nOfs + i)))
         return false;
 
-    final int a1 = 6 * _toInt (c[0]) +
-                   5 * _toInt (c[1]) +
-                   7 * _toInt (c[2]) +
-                   2 * _toInt (c[3]) +
-                   3 * _toInt (c[4]) +
-                   4 * _toInt (c[5]) +
-                   5 * _toInt (c[6]) +
-                   6 * _toInt (c[7]) +
-                   7 * _toInt (c[8]);
+    final int a1 = 6 * _toInt (c.charAt (nOfs)) +
+                   5 * _toInt (c.charAt (nOfs + 1)) +
+                   7 * _toInt (c.charAt (nOfs + 2)) +
+                   2 * _toInt (c.charAt (nOfs + 3)) +
+                   3 * _toInt (c.charAt (nOfs + 4)) +
+                   4 * _toInt (c.charAt (nOfs + 5)) +
+                   5 * _toInt (c.charAt (nOfs + 6)) +
+                   6 * _toInt (c.charAt (nOfs + 7)) +
+                   7 * _toInt (c.charAt (nOfs + 8));
     final int nChecksum = a1 % 11;
     if (nChecksum == 10)
       return false;
-    final int nExpected = _toInt (c[9]);
+    final int nExpected = _toInt (c.charAt (nOfs + 9));
     return nChecksum == nExpected;
   }
 
   public static boolean isValidVATIN_SI (@NonNull final String sVATIN)
   {
     ValueEnforcer.notNull (sVATIN, "VATIN");
-    final char [] c = sVATIN.toCharArray ();
-    if (c.length != 8)
+    return _isValidVATIN_SI (sVATIN, 0);
+  }
+
+  private static boolean _isValidVATIN_SI (@NonNull final CharSequence c, final int nOfs)
+  {
+    final int nLen = c.length () - nOfs;
+    if (nLen != 8)
       return false;
     for (int i = 0; i <= 7; ++i)
-      if (!_isNum (c[i]))
+      if (!_isNum (c.charAt (nOfs + i)))
         return false;
 
-    final int v = _toInt (c[0], c[1], c[2], c[3], c[4], c[5], c[6]);
+    final int v = _toInt (c.charAt (nOfs),
+                          c.charAt (nOfs + 1),
+                          c.charAt (nOfs + 2),
+                          c.charAt (nOfs + 3),
+                          c.charAt (nOfs + 4),
+                          c.charAt (nOfs + 5),
+                          c.charAt (nOfs + 6));
     if (v < 1_000_000 || v > 9_999_999)
       return false;
 
-    final int a1 = 8 * _toInt (c[0]) +
-                   7 * _toInt (c[1]) +
-                   6 * _toInt (c[2]) +
-                   5 * _toInt (c[3]) +
-                   4 * _toInt (c[4]) +
-                   3 * _toInt (c[5]) +
-                   2 * _toInt (c[6]);
+    final int a1 = 8 * _toInt (c.charAt (nOfs)) +
+                   7 * _toInt (c.charAt (nOfs + 1)) +
+                   6 * _toInt (c.charAt (nOfs + 2)) +
+                   5 * _toInt (c.charAt (nOfs + 3)) +
+                   4 * _toInt (c.charAt (nOfs + 4)) +
+                   3 * _toInt (c.charAt (nOfs + 5)) +
+                   2 * _toInt (c.charAt (nOfs + 6));
     final int r = 11 - (a1 % 11);
     if (r == 11)
       return false;
     final int nChecksum = r == 10 ? 0 : r;
-    final int nExpected = _toInt (c[7]);
+    final int nExpected = _toInt (c.charAt (nOfs + 7));
     return nChecksum == nExpected;
   }
 
@@ -1408,192 +1725,215 @@ public class VATINSyntaxChecker
   public static boolean isValidVATIN_SK (@NonNull final String sVATIN)
   {
     ValueEnforcer.notNull (sVATIN, "VATIN");
-    final char [] c = sVATIN.toCharArray ();
-    if (c.length != 10)
+    return _isValidVATIN_SK (sVATIN, 0);
+  }
+
+  private static boolean _isValidVATIN_SK (@NonNull final CharSequence c, final int nOfs)
+  {
+    final int nLen = c.length () - nOfs;
+    if (nLen != 10)
       return false;
-    if (!_isNum1to9 (c[0]))
+    if (!_isNum1to9 (c.charAt (nOfs)))
       return false;
-    if (!_isNum (c[1]))
+    if (!_isNum (c.charAt (nOfs + 1)))
       return false;
-    if (!_sk_is3 (c[2]))
+    if (!_sk_is3 (c.charAt (nOfs + 2)))
       return false;
     for (int i = 3; i <= 9; ++i)
-      if (!_isNum (c[i]))
+      if (!_isNum (c.charAt (nOfs + i)))
         return false;
 
-    final long v = _toLong (c[0], c[1], c[2], c[3], c[4], c[5], c[6], c[7], c[8], c[9]);
+    final long v = _toLong (c.charAt (nOfs),
+                            c.charAt (nOfs + 1),
+                            c.charAt (nOfs + 2),
+                            c.charAt (nOfs + 3),
+                            c.charAt (nOfs + 4),
+                            c.charAt (nOfs + 5),
+                            c.charAt (nOfs + 6),
+                            c.charAt (nOfs + 7),
+                            c.charAt (nOfs + 8),
+                            c.charAt (nOfs + 9));
     return (v % 11) == 0;
   }
 
-  private static boolean _bg_isV1 (@NonNull final char [] c)
+  private static boolean _bg_isV1 (@NonNull final CharSequence c, final int nOfs)
   {
-    if (c.length != 9)
+    final int nLen = c.length () - nOfs;
+    if (nLen != 9)
       return false;
     for (int i = 0; i <= 8; ++i)
-      if (!_isNum (c[i]))
+      if (!_isNum (c.charAt (nOfs + i)))
         return false;
 
-    final int a1 = 1 * _toInt (c[0]) +
-                   2 * _toInt (c[1]) +
-                   3 * _toInt (c[2]) +
-                   4 * _toInt (c[3]) +
-                   5 * _toInt (c[4]) +
-                   6 * _toInt (c[5]) +
-                   7 * _toInt (c[6]) +
-                   8 * _toInt (c[7]);
+    final int a1 = 1 * _toInt (c.charAt (nOfs)) +
+                   2 * _toInt (c.charAt (nOfs + 1)) +
+                   3 * _toInt (c.charAt (nOfs + 2)) +
+                   4 * _toInt (c.charAt (nOfs + 3)) +
+                   5 * _toInt (c.charAt (nOfs + 4)) +
+                   6 * _toInt (c.charAt (nOfs + 5)) +
+                   7 * _toInt (c.charAt (nOfs + 6)) +
+                   8 * _toInt (c.charAt (nOfs + 7));
     final int r1 = a1 % 11;
     int nChecksum;
     if (r1 != 10)
       nChecksum = r1;
     else
     {
-      final int a2 = 3 * _toInt (c[0]) +
-                     4 * _toInt (c[1]) +
-                     5 * _toInt (c[2]) +
-                     6 * _toInt (c[3]) +
-                     7 * _toInt (c[4]) +
-                     8 * _toInt (c[5]) +
-                     9 * _toInt (c[6]) +
-                     10 * _toInt (c[7]);
+      final int a2 = 3 * _toInt (c.charAt (nOfs)) +
+                     4 * _toInt (c.charAt (nOfs + 1)) +
+                     5 * _toInt (c.charAt (nOfs + 2)) +
+                     6 * _toInt (c.charAt (nOfs + 3)) +
+                     7 * _toInt (c.charAt (nOfs + 4)) +
+                     8 * _toInt (c.charAt (nOfs + 5)) +
+                     9 * _toInt (c.charAt (nOfs + 6)) +
+                     10 * _toInt (c.charAt (nOfs + 7));
       final int r2 = a2 % 11;
       nChecksum = r2 == 10 ? 0 : r2;
     }
-    final int nExpected = _toInt (c[8]);
+    final int nExpected = _toInt (c.charAt (nOfs + 8));
     return nChecksum == nExpected;
   }
 
-  private static boolean _bg_isV2 (@NonNull final char [] c)
+  private static boolean _bg_isV2 (@NonNull final CharSequence c, final int nOfs)
   {
-    if (c.length != 10)
+    final int nLen = c.length () - nOfs;
+    if (nLen != 10)
       return false;
     for (int i = 0; i <= 9; ++i)
-      if (!_isNum (c[i]))
+      if (!_isNum (c.charAt (nOfs + i)))
         return false;
 
-    final int m = _toInt (c[2], c[3]) % 20;
-    final int d = _toInt (c[4], c[5]);
+    final int m = _toInt (c.charAt (nOfs + 2), c.charAt (nOfs + 3)) % 20;
+    final int d = _toInt (c.charAt (nOfs + 4), c.charAt (nOfs + 5));
     if (!_isValidMonthDay (m, d))
       return false;
 
-    final int a1 = 2 * _toInt (c[0]) +
-                   4 * _toInt (c[1]) +
-                   8 * _toInt (c[2]) +
-                   5 * _toInt (c[3]) +
-                   10 * _toInt (c[4]) +
-                   9 * _toInt (c[5]) +
-                   7 * _toInt (c[6]) +
-                   3 * _toInt (c[7]) +
-                   6 * _toInt (c[8]);
+    final int a1 = 2 * _toInt (c.charAt (nOfs)) +
+                   4 * _toInt (c.charAt (nOfs + 1)) +
+                   8 * _toInt (c.charAt (nOfs + 2)) +
+                   5 * _toInt (c.charAt (nOfs + 3)) +
+                   10 * _toInt (c.charAt (nOfs + 4)) +
+                   9 * _toInt (c.charAt (nOfs + 5)) +
+                   7 * _toInt (c.charAt (nOfs + 6)) +
+                   3 * _toInt (c.charAt (nOfs + 7)) +
+                   6 * _toInt (c.charAt (nOfs + 8));
     final int r1 = a1 % 11;
     final int nChecksum = r1 == 10 ? 0 : r1;
-    final int nExpected = _toInt (c[9]);
+    final int nExpected = _toInt (c.charAt (nOfs + 9));
     return nChecksum == nExpected;
   }
 
-  private static boolean _bg_isV3 (@NonNull final char [] c)
+  private static boolean _bg_isV3 (@NonNull final CharSequence c, final int nOfs)
   {
-    if (c.length != 10)
+    final int nLen = c.length () - nOfs;
+    if (nLen != 10)
       return false;
     for (int i = 0; i <= 9; ++i)
-      if (!_isNum (c[i]))
+      if (!_isNum (c.charAt (nOfs + i)))
         return false;
 
-    final int a1 = 21 * _toInt (c[0]) +
-                   19 * _toInt (c[1]) +
-                   17 * _toInt (c[2]) +
-                   13 * _toInt (c[3]) +
-                   11 * _toInt (c[4]) +
-                   9 * _toInt (c[5]) +
-                   7 * _toInt (c[6]) +
-                   3 * _toInt (c[7]) +
-                   1 * _toInt (c[8]);
+    final int a1 = 21 * _toInt (c.charAt (nOfs)) +
+                   19 * _toInt (c.charAt (nOfs + 1)) +
+                   17 * _toInt (c.charAt (nOfs + 2)) +
+                   13 * _toInt (c.charAt (nOfs + 3)) +
+                   11 * _toInt (c.charAt (nOfs + 4)) +
+                   9 * _toInt (c.charAt (nOfs + 5)) +
+                   7 * _toInt (c.charAt (nOfs + 6)) +
+                   3 * _toInt (c.charAt (nOfs + 7)) +
+                   1 * _toInt (c.charAt (nOfs + 8));
     final int nChecksum = a1 % 10;
-    final int nExpected = _toInt (c[9]);
+    final int nExpected = _toInt (c.charAt (nOfs + 9));
     return nChecksum == nExpected;
   }
 
   public static boolean isValidVATIN_BG (@NonNull final String sVATIN)
   {
     ValueEnforcer.notNull (sVATIN, "VATIN");
-    final char [] c = sVATIN.toCharArray ();
+    return _isValidVATIN_BG (sVATIN, 0);
+  }
+
+  private static boolean _isValidVATIN_BG (@NonNull final CharSequence c, final int nOfs)
+  {
+    final int nLen = c.length () - nOfs;
 
     // Format 1: 9 digits numbers for legal entities
-    if (_bg_isV1 (c))
+    if (_bg_isV1 (c, nOfs))
       return true;
 
     // Format 2: 10 digits numbers Bulgarian physical persons
-    if (_bg_isV2 (c))
+    if (_bg_isV2 (c, nOfs))
       return true;
 
     // Format 3: 10 digits numbers for foreigners
-    if (_bg_isV3 (c))
+    if (_bg_isV3 (c, nOfs))
       return true;
 
     // Format 4: 10 digits numbers for entities not covered by the above three
     // categories
-    if (c.length != 10)
+    if (nLen != 10)
       return false;
     for (int i = 0; i <= 9; ++i)
-      if (!_isNum (c[i]))
+      if (!_isNum (c.charAt (nOfs + i)))
         return false;
 
-    final int a1 = 4 * _toInt (c[0]) +
-                   3 * _toInt (c[1]) +
-                   2 * _toInt (c[2]) +
-                   7 * _toInt (c[3]) +
-                   6 * _toInt (c[4]) +
-                   5 * _toInt (c[5]) +
-                   4 * _toInt (c[6]) +
-                   3 * _toInt (c[7]) +
-                   2 * _toInt (c[8]);
+    final int a1 = 4 * _toInt (c.charAt (nOfs)) +
+                   3 * _toInt (c.charAt (nOfs + 1)) +
+                   2 * _toInt (c.charAt (nOfs + 2)) +
+                   7 * _toInt (c.charAt (nOfs + 3)) +
+                   6 * _toInt (c.charAt (nOfs + 4)) +
+                   5 * _toInt (c.charAt (nOfs + 5)) +
+                   4 * _toInt (c.charAt (nOfs + 6)) +
+                   3 * _toInt (c.charAt (nOfs + 7)) +
+                   2 * _toInt (c.charAt (nOfs + 8));
     final int r1 = 11 - a1 % 11;
     if (r1 == 10)
       return false;
     final int nChecksum = r1 == 11 ? 0 : r1;
-    final int nExpected = _toInt (c[9]);
+    final int nExpected = _toInt (c.charAt (nOfs + 9));
     return nChecksum == nExpected;
   }
 
+  private static final int [] RO_WEIGHTS = { 7, 5, 3, 2, 1, 7, 5, 3, 2 };
+
   public static boolean isValidVATIN_RO (@NonNull final String sVATIN)
   {
     ValueEnforcer.notNull (sVATIN, "VATIN");
-    char [] c = sVATIN.toCharArray ();
-    if (c.length < 2 || c.length > 10)
+    return _isValidVATIN_RO (sVATIN, 0);
+  }
+
+  private static boolean _isValidVATIN_RO (@NonNull final CharSequence c, final int nOfs)
+  {
+    final int nLen = c.length () - nOfs;
+    if (nLen < 2 || nLen > 10)
       return false;
-    for (final char aElement : c)
-      if (!_isNum (aElement))
+    for (int i = 0; i < nLen; ++i)
+      if (!_isNum (c.charAt (nOfs + i)))
         return false;
 
-    if (c.length < 10)
-    {
-      // Ensure length of 10, prefixed with leading zeroes
-      c = StringHelper.getLeadingZero (sVATIN, 10).toCharArray ();
-    }
-
-    final int a1 = 7 * _toInt (c[0]) +
-                   5 * _toInt (c[1]) +
-                   3 * _toInt (c[2]) +
-                   2 * _toInt (c[3]) +
-                   1 * _toInt (c[4]) +
-                   7 * _toInt (c[5]) +
-                   5 * _toInt (c[6]) +
-                   3 * _toInt (c[7]) +
-                   2 * _toInt (c[8]);
+    // Shorter VATINs are treated as if they were prefixed with leading zeroes
+    int a1 = 0;
+    for (int i = 0; i < nLen - 1; ++i)
+      a1 += RO_WEIGHTS[10 - nLen + i] * _toInt (c.charAt (nOfs + i));
     final int a2 = a1 * 10;
     final int r1 = a2 % 11;
     final int nChecksum = r1 == 10 ? 0 : r1;
-    final int nExpected = _toInt (c[9]);
+    final int nExpected = _toInt (c.charAt (nOfs + nLen - 1));
     return nChecksum == nExpected;
   }
 
   public static boolean isValidVATIN_HR (@NonNull final String sVATIN)
   {
     ValueEnforcer.notNull (sVATIN, "VATIN");
-    final char [] c = sVATIN.toCharArray ();
-    if (c.length != 11)
+    return _isValidVATIN_HR (sVATIN, 0);
+  }
+
+  private static boolean _isValidVATIN_HR (@NonNull final CharSequence c, final int nOfs)
+  {
+    final int nLen = c.length () - nOfs;
+    if (nLen != 11)
       return false;
     for (int i = 0; i <= 10; ++i)
-      if (!_isNum (c[i]))
+      if (!_isNum (c.charAt (nOfs + i)))
         return false;
 
     // TODO HR vatin rule details
@@ -0,0 +1,226 @@
+/*
+ * Copyright (C) 2014-2026 Philip Helger (www.helger.com)
+ * philip[at]helger[dot]com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.helger.masterdata.vat;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.TreeSet;
+
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import com.helger.annotation.concurrent.Immutable;
+import com.helger.collection.commons.CommonsArrayList;
+import com.helger.collection.commons.ICommonsList;
+
+/**
+ * An immutable index over a set of VAT items that allows finding an item by type and percentage
+ * via binary search, without iterating all items and without allocating. Items with the same
+ * percentage keep the order in which they were provided, so that the result is the same as the one
+ * of a linear search in that order.<br>
+ * Additionally the validity periods of the items of each type are split into disjoint segments, each
+ * with the single item applicable in that segment, so that the item valid at a certain date can be
+ * found via binary search.
+ *
+ * @author Philip Helger
+ * @since 8.2.1
+ */
+@Immutable
+final class VATItemIndex
+{
+  private static final IVATItem [] NO_ITEMS = new IVATItem [0];
+
+  /** All items sorted by percentage */
+  private final IVATItem [] m_aAll;
+  /** All items per type (indexed by ordinal) sorted by percentage */
+  private final IVATItem [] [] m_aPerType;
+  /** The start epoch days of the validity segments per type (indexed by ordinal) */
+  private final long [] [] m_aSegmentStarts;
+  /** The item applicable in each validity segment per type (indexed by ordinal). May contain null. */
+  private final IVATItem [] [] m_aSegmentItems;
+
+  VATItemIndex (@NonNull final Iterable <? extends IVATItem> aItems)
+  {
+    final ICommonsList <IVATItem> aAll = new CommonsArrayList <> (aItems);
+    // List sorting is stable
+    aAll.sort (Comparator.comparing (IVATItem::getPercentage));
+    m_aAll = aAll.toArray (NO_ITEMS);
+
+    final EVATItemType [] aTypes = EVATItemType.values ();
+    m_aPerType = new IVATItem [aTypes.length] [];
+    m_aSegmentStarts = new long [aTypes.length] [];
+    m_aSegmentItems = new IVATItem [aTypes.length] [];
+    final ICommonsList <IVATItem> aInOrder = new CommonsArrayList <> (aItems);
+    for (final EVATItemType eType : aTypes)
+    {
+      final int nOrdinal = eType.ordinal ();
+      m_aPerType[nOrdinal] = aAll.getAll (x -> x.getType () == eType).toArray (NO_ITEMS);
+      _createSegments (aInOrder.getAll (x -> x.getType () == eType), nOrdinal);
+    }
+  }
+
+  private static long _getStart (@NonNull final IVATItem aItem)
+  {
+    final LocalDate aStart = aItem.getPeriod ().getStart ();
+    return aStart == null ? Long.MIN_VALUE : aStart.toEpochDay ();
+  }
+
+  private static long _getEnd (@NonNull final IVATItem aItem)
+  {
+    final LocalDate aEnd = aItem.getPeriod ().getEnd ();
+    return aEnd == null ? Long.MAX_VALUE : aEnd.toEpochDay ();
+  }
+
+  /**
+   * Check if the first item is more specific than the second one: the later start wins, then the
+   * earlier end and finally non-deprecated items win over deprecated ones.
+   */
+  private static boolean _isPreferred (@NonNull final IVATItem aItem, @NonNull final IVATItem aOther)
+  {
+    final int nStart = Long.compare (_getStart (aItem), _getStart (aOther));
+    if (nStart != 0)
+      return nStart > 0;
+    final int nEnd = Long.compare (_getEnd (aItem), _getEnd (aOther));
+    if (nEnd != 0)
+      return nEnd < 0;
+    return !aItem.isDeprecated () && aOther.isDeprecated ();
+  }
+
+  private void _createSegments (@NonNull final ICommonsList <IVATItem> aItems, final int nOrdinal)
+  {
+    // Every start and every day after an end starts a new segment
+    final TreeSet <Long> aBoundaries = new TreeSet <> ();
+    for (final IVATItem aItem : aItems)
+    {
+      final long nStart = _getStart (aItem);
+      if (nStart != Long.MIN_VALUE)
+        aBoundaries.add (Long.valueOf (nStart));
+      final long nEnd = _getEnd (aItem);
+      if (nEnd != Long.MAX_VALUE)
+        aBoundaries.add (Long.valueOf (nEnd + 1));
+    }
+
+    final ICommonsList <Long> aSegmentStarts = new CommonsArrayList <> ();
+    final ICommonsList <IVATItem> aSegmentItems = new CommonsArrayList <> ();
+    final ICommonsList <Long> aAllStarts = new CommonsArrayList <> ();
+    aAllStarts.add (Long.valueOf (Long.MIN_VALUE));
+    aAllStarts.addAll (aBoundaries);
+    for (final Long aSegmentStart : aAllStarts)
+    {
+      final long nDay = aSegmentStart.longValue ();
+      // Find the most specific item valid on the first day of the segment
+      IVATItem aBest = null;
+      for (final IVATItem aItem : aItems)
+        if (_getStart (aItem) <= nDay && nDay <= _getEnd (aItem) && (aBest == null || _isPreferred (aItem, aBest)))
+          aBest = aItem;
+
+      // Merge with the previous segment if it has the same item
+      if (aSegmentItems.isEmpty () || aSegmentItems.getLastOrNull () != aBest)
+      {
+        aSegmentStarts.add (aSegmentStart);
+        aSegmentItems.add (aBest);
+      }
+    }
+
+    final long [] aStarts = new long [aSegmentStarts.size ()];
+    for (int i = 0; i < aStarts.length; ++i)
+      aStarts[i] = aSegmentStarts.get (i).longValue ();
+    m_aSegmentStarts[nOrdinal] = aStarts;
+    m_aSegmentItems[nOrdinal] = aSegmentItems.toArray (NO_ITEMS);
+  }
+
+  @Nullable
+  private static IVATItem _find (@NonNull final IVATItem [] aItems,
+                                 @NonNull final BigDecimal aPercentage,
+                                 @Nullable final LocalDate aDate)
+  {
+    // Find the first item with a percentage >= the searched one
+    int nLow = 0;
+    int nHigh = aItems.length;
+    while (nLow < nHigh)
+    {
+      final int nMid = (nLow + nHigh) >>> 1;
+      if (aItems[nMid].getPercentage ().compareTo (aPercentage) < 0)
+        nLow = nMid + 1;
+      else
+        nHigh = nMid;
+    }
+
+    for (int i = nLow; i < aItems.length; ++i)
+    {
+      final IVATItem aItem = aItems[i];
+      if (aItem.getPercentage ().compareTo (aPercentage) != 0)
+        break;
+      if (aDate == null || aItem.getPeriod ().isValidFor (aDate))
+        return aItem;
+    }
+    return null;
+  }
+
+  /**
+   * Find the first item with the provided properties.
+   *
+   * @param eType
+   *        The type to search. May be <code>null</code> to search all types.
+   * @param aPercentage
+   *        The percentage to search. May not be <code>null</code>.
+   * @param aDate
+   *        The date at which the item must be valid. May be <code>null</code> to not consider the
+   *        validity.
+   * @return <code>null</code> if no such item is contained.
+   */
+  @Nullable
+  IVATItem find (@Nullable final EVATItemType eType,
+                 @NonNull final BigDecimal aPercentage,
+                 @Nullable final LocalDate aDate)
+  {
+    return _find (eType == null ? m_aAll : m_aPerType[eType.ordinal ()], aPercentage, aDate);
+  }
+
+  /**
+   * Find the item of the provided type that is applicable at the provided date. If multiple items
+   * are valid at that date, the most specific one is returned: the one with the latest start of
+   * validity, then the one with the earliest end of validity and finally a non-deprecated one.
+   *
+   * @param eType
+   *        The type to search. May not be <code>null</code>.
+   * @param aDate
+   *        The date to search. May not be <code>null</code>.
+   * @return <code>null</code> if no item of that type is valid at the provided date.
+   */
+  @Nullable
+  IVATItem findValidAt (@NonNull final EVATItemType eType, @NonNull final LocalDate aDate)
+  {
+    final int nOrdinal = eType.ordinal ();
+    final long [] aStarts = m_aSegmentStarts[nOrdinal];
+    final long nDay = aDate.toEpochDay ();
+
+    // Find the last segment starting at or before the day - the first one always matches
+    int nLow = 0;
+    int nHigh = aStarts.length - 1;
+    while (nLow < nHigh)
+    {
+      final int nMid = (nLow + nHigh + 1) >>> 1;
+      if (aStarts[nMid] <= nDay)
+        nLow = nMid;
+      else
+        nHigh = nMid - 1;
+    }
+    return m_aSegmentItems[nOrdinal][nLow];
+  }
+}
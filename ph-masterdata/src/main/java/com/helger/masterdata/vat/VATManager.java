@@ -20,7 +20,11 @@ import java.io.InputStream;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.function.Predicate;
 
 import org.jspecify.annotations.NonNull;
@@ -30,6 +34,7 @@ import org.slf4j.LoggerFactory;
 
 import com.helger.annotation.WillClose;
 import com.helger.annotation.concurrent.NotThreadSafe;
+import com.helger.annotation.style.ReturnsImmutableObject;
 import com.helger.annotation.style.ReturnsMutableCopy;
 import com.helger.base.enforce.ValueEnforcer;
 import com.helger.base.io.iface.IHasInputStream;
@@ -44,6 +49,8 @@ import com.helger.collection.commons.ICommonsMap;
 import com.helger.collection.commons.ICommonsSet;
 import com.helger.datetime.format.PDTFromString;
 import com.helger.io.resource.ClassPathResource;
+import com.helger.masterdata.MasterDataHelper;
+import com.helger.masterdata.codelist.CodelistSnapshot;
 import com.helger.text.locale.LocaleHelper;
 import com.helger.text.locale.country.CountryCache;
 import com.helger.xml.microdom.IMicroDocument;
@@ -61,7 +68,12 @@ public class VATManager implements IVATItemProvider
 {
   private static final class SingletonHolder
   {
-    static final VATManager INSTANCE = readFromXML (new ClassPathResource ("codelists/vat-data.xml"));
+    static final VATManager INSTANCE = new VATManager ();
+
+    static
+    {
+      INSTANCE.initFromXML (CodelistSnapshot.readMicroXML (new ClassPathResource ("codelists/vat-data.xml")));
+    }
   }
 
   /**
@@ -87,6 +99,32 @@ public class VATManager implements IVATItemProvider
   // Overall VAT map (ID to item)
   private final ICommonsMap <String, IVATItem> m_aAllVATItems = new CommonsHashMap <> ();
 
+  /**
+   * Derived data of a single country, created once after reading
+   */
+  private static final class CountryEntry
+  {
+    private final VATCountryData m_aData;
+    private final Map <String, IVATItem> m_aItemsView;
+
+    CountryEntry (@NonNull final VATCountryData aData)
+    {
+      m_aData = aData;
+      final ICommonsMap <String, IVATItem> aItems = new CommonsHashMap <> ();
+      if (aData.isZeroVATAllowed ())
+        aItems.put (VATTYPE_NONE.getID (), VATTYPE_NONE);
+      aItems.putAll (aData.getAllItemsView ());
+      m_aItemsView = Collections.unmodifiableMap (aItems);
+    }
+  }
+
+  // Same as m_aVATItemsPerCountry plus derived data
+  private final ICommonsMap <Locale, CountryEntry> m_aEntriesPerCountry = new CommonsHashMap <> ();
+  // Same as m_aEntriesPerCountry but indexed by the two letter country code
+  private final CountryEntry [] m_aEntryIndex = new CountryEntry [MasterDataHelper.COUNTRY_CODE_INDEX_SIZE];
+  // Index over m_aAllVATItems
+  private VATItemIndex m_aAllVATItemsIndex = new VATItemIndex (m_aAllVATItems.values ());
+
   public VATManager ()
   {}
 
@@ -110,6 +148,8 @@ public class VATManager implements IVATItemProvider
     m_aSources.clear ();
     m_aVATItemsPerCountry.clear ();
     m_aAllVATItems.clear ();
+    m_aEntriesPerCountry.clear ();
+    Arrays.fill (m_aEntryIndex, null);
 
     final IMicroElement eSources = aDoc.getDocumentElement ().getFirstChildElement ("sources");
     if (eSources != null)
@@ -196,6 +236,40 @@ public class VATManager implements IVATItemProvider
         LOGGER.warn ("No VAT types for country " + aCountry + " defined!");
       m_aVATItemsPerCountry.put (aCountry, aVATCountryData);
     }
+
+    // Create all indices
+    m_aVATItemsPerCountry.forEach ( (k, v) -> {
+      final CountryEntry aEntry = new CountryEntry (v);
+      m_aEntriesPerCountry.put (k, aEntry);
+      final int nIndex = _getIndex (k);
+      if (nIndex >= 0)
+        m_aEntryIndex[nIndex] = aEntry;
+    });
+    m_aAllVATItemsIndex = new VATItemIndex (m_aAllVATItems.values ());
+  }
+
+  /**
+   * @param aLocale
+   *        The locale to use. May not be <code>null</code>.
+   * @return The index of the country code of the passed locale or -1 if it is not a two letter
+   *         country code.
+   */
+  private static int _getIndex (@NonNull final Locale aLocale)
+  {
+    // The country of a Locale is always upper case
+    final String sCountry = aLocale.getCountry ();
+    return sCountry.length () == 2 ? MasterDataHelper.getCountryCodeIndex (sCountry.charAt (0), sCountry.charAt (1))
+                                   : -1;
+  }
+
+  @Nullable
+  private CountryEntry _getCountryEntry (@NonNull final Locale aLocale)
+  {
+    final int nIndex = _getIndex (aLocale);
+    if (nIndex >= 0)
+      return m_aEntryIndex[nIndex];
+    final Locale aCountry = CountryCache.getInstance ().getCountry (aLocale);
+    return m_aEntriesPerCountry.get (aCountry);
   }
 
   /**
@@ -259,8 +333,8 @@ public class VATManager implements IVATItemProvider
   public VATCountryData getVATCountryData (@NonNull final Locale aLocale)
   {
     ValueEnforcer.notNull (aLocale, "Locale");
-    final Locale aCountry = CountryCache.getInstance ().getCountry (aLocale);
-    return m_aVATItemsPerCountry.get (aCountry);
+    final CountryEntry aEntry = _getCountryEntry (aLocale);
+    return aEntry == null ? null : aEntry.m_aData;
   }
 
   /**
@@ -299,11 +373,33 @@ public class VATManager implements IVATItemProvider
     {
       if (aVATCountryData.isZeroVATAllowed ())
         ret.put (VATTYPE_NONE.getID (), VATTYPE_NONE);
-      ret.putAll (aVATCountryData.getAllItems ());
+      ret.putAll (aVATCountryData.getAllItemsView ());
     }
     return ret;
   }
 
+  /**
+   * Get all VAT types matching the given locale (without any fallback!). It contains both the
+   * specific definitions and the locale independent definitions. In contrast to
+   * {@link #getAllVATItemsForCountry(Locale)} no copy is created. The result reflects the state
+   * after {@link #initFromXML(IMicroDocument)}.
+   *
+   * @param aCountry
+   *        The locale to use. May not be <code>null</code>.
+   * @return A non-<code>null</code> unmodifiable map from ID to the matching VAT item. Also the
+   *         deprecated VAT items are returned! VATTYPE_NONE.getID () is used if zero VAT is allowed
+   * @since 8.2.1
+   */
+  @NonNull
+  @ReturnsImmutableObject
+  public Map <String, IVATItem> getAllVATItemsForCountryView (@NonNull final Locale aCountry)
+  {
+    ValueEnforcer.notNull (aCountry, "Country");
+
+    final CountryEntry aEntry = _getCountryEntry (aCountry);
+    return aEntry == null ? Collections.emptyMap () : aEntry.m_aItemsView;
+  }
+
   @Nullable
   public IVATItem getVATItemOfID (@Nullable final String sID)
   {
@@ -334,7 +430,89 @@ public class VATManager implements IVATItemProvider
   {
     if (eType == null || aPercentage == null)
       return null;
-    return findFirst (x -> x.getType ().equals (eType) && x.hasPercentage (aPercentage));
+    return m_aAllVATItemsIndex.find (eType, aPercentage, null);
+  }
+
+  /**
+   * Find the first matching VAT item of the provided country.
+   *
+   * @param aCountry
+   *        The country to use. May not be <code>null</code>.
+   * @param eType
+   *        The VAT type to use. May be <code>null</code> resulting in a <code>null</code> result.
+   * @param aPercentage
+   *        The percentage to find. May be <code>null</code> resulting in a <code>null</code>
+   *        result.
+   * @param aDate
+   *        The date at which the VAT item must be valid. May be <code>null</code> to ignore the
+   *        validity period.
+   * @return <code>null</code> if no matching item could be found,
+   * @see VATCountryData#getItemOfTypeAndPercentage(EVATItemType, BigDecimal, LocalDate)
+   * @since 8.2.1
+   */
+  @Nullable
+  public IVATItem findVATItem (@NonNull final Locale aCountry,
+                               @Nullable final EVATItemType eType,
+                               @Nullable final BigDecimal aPercentage,
+                               @Nullable final LocalDate aDate)
+  {
+    final VATCountryData aVATCountryData = getVATCountryData (aCountry);
+    return aVATCountryData == null ? null : aVATCountryData.getItemOfTypeAndPercentage (eType, aPercentage, aDate);
+  }
+
+  /**
+   * Find the VAT item of the provided country and type that was applicable at the provided date.
+   *
+   * @param aCountry
+   *        The country to use. May not be <code>null</code>.
+   * @param eType
+   *        The VAT type to use. May be <code>null</code> resulting in a <code>null</code> result.
+   * @param aDate
+   *        The date to use. May be <code>null</code> resulting in a <code>null</code> result.
+   * @return <code>null</code> if no matching item could be found,
+   * @see VATCountryData#getItemOfTypeValidAt(EVATItemType, LocalDate)
+   * @since 8.2.1
+   */
+  @Nullable
+  public IVATItem findVATItemValidAt (@NonNull final Locale aCountry,
+                                      @Nullable final EVATItemType eType,
+                                      @Nullable final LocalDate aDate)
+  {
+    final VATCountryData aVATCountryData = getVATCountryData (aCountry);
+    return aVATCountryData == null ? null : aVATCountryData.getItemOfTypeValidAt (eType, aDate);
+  }
+
+  /**
+   * Find the VAT items of the provided country and type that were applicable at each of the
+   * provided dates.
+   *
+   * @param aCountry
+   *        The country to use. May not be <code>null</code>.
+   * @param eType
+   *        The VAT type to use. May be <code>null</code> resulting in only <code>null</code>
+   *        elements.
+   * @param aDates
+   *        The dates to use. May not be <code>null</code> but may contain <code>null</code>
+   *        elements.
+   * @return A list with one element per date in the same order. An element is <code>null</code> if
+   *         no matching item could be found for that date. Never <code>null</code>.
+   * @see VATCountryData#getItemOfTypeValidAt(EVATItemType, LocalDate)
+   * @since 8.2.1
+   */
+  @NonNull
+  @ReturnsMutableCopy
+  public ICommonsList <IVATItem> findVATItemsValidAt (@NonNull final Locale aCountry,
+                                                      @Nullable final EVATItemType eType,
+                                                      @NonNull final List <LocalDate> aDates)
+  {
+    ValueEnforcer.notNull (aDates, "Dates");
+
+    final int nCount = aDates.size ();
+    final ICommonsList <IVATItem> ret = new CommonsArrayList <> (nCount);
+    final VATCountryData aVATCountryData = getVATCountryData (aCountry);
+    for (final LocalDate aDate : aDates)
+      ret.add (aVATCountryData == null ? null : aVATCountryData.getItemOfTypeValidAt (eType, aDate));
+    return ret;
   }
 
   /**
@@ -0,0 +1,87 @@
+/*
+ * Copyright (C) 2014-2026 Philip Helger (www.helger.com)
+ * philip[at]helger[dot]com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.helger.masterdata;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.Test;
+
+/**
+ * Test class for class {@link MasterDataBootstrap}.
+ *
+ * @author Philip Helger
+ */
+public final class MasterDataBootstrapTest
+{
+  @Test
+  public void testInitializeAll ()
+  {
+    final ExecutorService aES = Executors.newFixedThreadPool (4);
+    try
+    {
+      final MasterDataBootstrapResult aResult = MasterDataBootstrap.initializeAll (aES);
+      assertNotNull (aResult);
+      assertTrue (aResult.getAllFailures ().toString (), aResult.isSuccess ());
+      assertEquals (EMasterDataRegistry.values ().length, aResult.getAllDurations ().size ());
+      for (final EMasterDataRegistry e : EMasterDataRegistry.values ())
+      {
+        assertNotNull (aResult.getDuration (e));
+        assertNull (aResult.getFailure (e));
+      }
+      assertNotNull (aResult.getTotalDuration ());
+    }
+    finally
+    {
+      aES.shutdown ();
+    }
+
+    // Second time on the calling thread - everything is already initialized
+    final MasterDataBootstrapResult aResult = MasterDataBootstrap.initializeAll (null);
+    assertTrue (aResult.isSuccess ());
+    assertEquals (EMasterDataRegistry.values ().length, aResult.getAllDurations ().size ());
+  }
+
+  @Test
+  public void testInitializeSelected ()
+  {
+    final MasterDataBootstrapResult aResult = MasterDataBootstrap.initialize (null,
+                                                                              EMasterDataRegistry.IBAN,
+                                                                              EMasterDataRegistry.VAT,
+                                                                              EMasterDataRegistry.IBAN);
+    assertTrue (aResult.isSuccess ());
+    assertEquals (2, aResult.getAllDurations ().size ());
+    assertNotNull (aResult.getDuration (EMasterDataRegistry.IBAN));
+    assertNull (aResult.getDuration (EMasterDataRegistry.NUTS));
+
+    assertEquals (0, MasterDataBootstrap.initialize (null).getAllDurations ().size ());
+  }
+
+  @Test
+  public void testRegistryID ()
+  {
+    for (final EMasterDataRegistry e : EMasterDataRegistry.values ())
+      assertSame (e, EMasterDataRegistry.getFromIDOrNull (e.getID ()));
+    assertNull (EMasterDataRegistry.getFromIDOrNull ("does-not-exist"));
+  }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright (C) 2014-2026 Philip Helger (www.helger.com)
+ * philip[at]helger[dot]com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.helger.masterdata;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+/**
+ * Test class for class {@link MasterDataHelper}.
+ *
+ * @author Philip Helger
+ */
+public final class MasterDataHelperTest
+{
+  @Test
+  public void testGetCaseFolded ()
+  {
+    assertEquals ('A', MasterDataHelper.getCaseFolded ('a'));
+    assertEquals ('Z', MasterDataHelper.getCaseFolded ('Z'));
+    assertEquals ('1', MasterDataHelper.getCaseFolded ('1'));
+    assertEquals ('I', MasterDataHelper.getCaseFolded ('\u0131'));
+    assertEquals ('K', MasterDataHelper.getCaseFolded ('\u212a'));
+    assertEquals ('\u00e4', MasterDataHelper.getCaseFolded ('\u00e4'));
+
+    // Same as String.equalsIgnoreCase for all letters
+    for (char c = 'A'; c <= 'Z'; ++c)
+      for (int i = 0; i <= Character.MAX_VALUE; ++i)
+      {
+        final char x = (char) i;
+        assertEquals (Character.toString (x),
+                      String.valueOf (c).equalsIgnoreCase (String.valueOf (x)),
+                      MasterDataHelper.getCaseFolded (x) == c);
+      }
+  }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright (C) 2014-2026 Philip Helger (www.helger.com)
+ * philip[at]helger[dot]com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.helger.masterdata.codelist;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import com.helger.base.io.stream.StreamHelper;
+import com.helger.collection.commons.CommonsArrayList;
+import com.helger.collection.commons.CommonsHashMap;
+import com.helger.collection.commons.ICommonsList;
+import com.helger.collection.commons.ICommonsMap;
+import com.helger.io.resource.ClassPathResource;
+import com.helger.xml.microdom.IMicroDocument;
+import com.helger.xml.microdom.IMicroElement;
+import com.helger.xml.microdom.IMicroNode;
+import com.helger.xml.microdom.serialize.MicroReader;
+
+/**
+ * Test class for class {@link CodelistSnapshot} and
+ * {@link CodelistSnapshotWriter}.
+ *
+ * @author Philip Helger
+ */
+public final class CodelistSnapshotTest
+{
+  private static void _assertEquals (final IMicroNode aExpected, final IMicroNode aActual)
+  {
+    if (aExpected.isElement ())
+    {
+      assertTrue (aActual.isElement ());
+      final IMicroElement eExpected = (IMicroElement) aExpected;
+      final IMicroElement eActual = (IMicroElement) aActual;
+      assertEquals (eExpected.getTagName (), eActual.getTagName ());
+
+      final ICommonsMap <String, String> aExpectedAttrs = new CommonsHashMap <> ();
+      eExpected.forAllAttributes (a -> aExpectedAttrs.put (a.getAttributeName (), a.getAttributeValue ()));
+      final ICommonsMap <String, String> aActualAttrs = new CommonsHashMap <> ();
+      eActual.forAllAttributes (a -> aActualAttrs.put (a.getAttributeName (), a.getAttributeValue ()));
+      assertEquals (aExpectedAttrs, aActualAttrs);
+    }
+    else
+    {
+      // Text or CDATA
+      assertTrue (aActual.isText ());
+      assertEquals (aExpected.getNodeValue (), aActual.getNodeValue ());
+    }
+
+    // All children including whitespace only text, but without comments
+    final ICommonsList <IMicroNode> aExpectedChildren = new CommonsArrayList <> ();
+    aExpected.forAllChildren (x -> {
+      if (x.isElement () || x.isText () || x.isCDATA ())
+        aExpectedChildren.add (x);
+    });
+    final ICommonsList <IMicroNode> aActualChildren = new CommonsArrayList <> ();
+    aActual.forAllChildren (aActualChildren::add);
+    assertEquals (aExpectedChildren.size (), aActualChildren.size ());
+    for (int i = 0; i < aExpectedChildren.size (); ++i)
+      _assertEquals (aExpectedChildren.get (i), aActualChildren.get (i));
+  }
+
+  @Test
+  public void testRoundTrip ()
+  {
+    for (final String sCodelist : CodelistSnapshotWriter.CODELISTS)
+    {
+      final String sPath = CodelistSnapshotWriter.CODELIST_FOLDER + "/" + sCodelist;
+      final ClassPathResource aRes = new ClassPathResource (sPath);
+      assertTrue (sPath, aRes.exists ());
+      final byte [] aXMLBytes = StreamHelper.getAllBytes (aRes);
+      assertNotNull (sPath, aXMLBytes);
+
+      final byte [] aSnapshot = CodelistSnapshotWriter.createSnapshot (aXMLBytes);
+      assertNotNull (sPath, aSnapshot);
+      assertTrue (sPath, aSnapshot.length < aXMLBytes.length);
+
+      final IMicroDocument aExpected = MicroReader.readMicroXML (new ByteArrayInputStream (aXMLBytes));
+      final IMicroDocument aActual = CodelistSnapshot.readSnapshot (aSnapshot, aXMLBytes);
+      assertNotNull (sPath, aActual);
+      _assertEquals (aExpected.getDocumentElement (), aActual.getDocumentElement ());
+    }
+  }
+
+  @Test
+  public void testOutdatedOrCorrupt ()
+  {
+    final byte [] aXMLBytes = StreamHelper.getAllBytes (new ClassPathResource ("codelists/vatin-data.xml"));
+    final byte [] aSnapshot = CodelistSnapshotWriter.createSnapshot (aXMLBytes);
+    assertNotNull (aSnapshot);
+    assertNotNull (CodelistSnapshot.readSnapshot (aSnapshot, aXMLBytes));
+
+    // Source changed
+    final byte [] aChangedXMLBytes = aXMLBytes.clone ();
+    aChangedXMLBytes[aChangedXMLBytes.length - 2] ^= 1;
+    assertNull (CodelistSnapshot.readSnapshot (aSnapshot, aChangedXMLBytes));
+    assertNull (CodelistSnapshot.readSnapshot (aSnapshot, Arrays.copyOf (aXMLBytes, aXMLBytes.length + 1)));
+
+    // Snapshot truncated or extended
+    assertNull (CodelistSnapshot.readSnapshot (Arrays.copyOf (aSnapshot, aSnapshot.length - 1), aXMLBytes));
+    assertNull (CodelistSnapshot.readSnapshot (Arrays.copyOf (aSnapshot, aSnapshot.length + 1), aXMLBytes));
+    assertNull (CodelistSnapshot.readSnapshot (new byte [0], aXMLBytes));
+
+    // Wrong version
+    final byte [] aWrongVersion = aSnapshot.clone ();
+    aWrongVersion[4]++;
+    assertNull (CodelistSnapshot.readSnapshot (aWrongVersion, aXMLBytes));
+  }
+
+  @Test
+  public void testUnsupported ()
+  {
+    assertNull (CodelistSnapshotWriter.createSnapshot ("no xml".getBytes (StandardCharsets.UTF_8)));
+    assertNull (CodelistSnapshotWriter.createSnapshot ("<root xmlns='urn:x'/>".getBytes (StandardCharsets.UTF_8)));
+
+    final byte [] aXMLBytes = "<root a='1'><x> y </x><!-- c --> <x/></root>".getBytes (StandardCharsets.UTF_8);
+    final IMicroDocument aDoc = CodelistSnapshot.readSnapshot (CodelistSnapshotWriter.createSnapshot (aXMLBytes),
+                                                               aXMLBytes);
+    assertNotNull (aDoc);
+    assertEquals ("1", aDoc.getDocumentElement ().getAttributeValue ("a"));
+    // The comment is dropped, the whitespace is kept
+    assertEquals (3, aDoc.getDocumentElement ().getChildCount ());
+    assertEquals (" y ", aDoc.getDocumentElement ().getFirstChildElement ("x").getTextContent ());
+  }
+
+  @Test
+  public void testReadMicroXML ()
+  {
+    // Uses the snapshot created during the build if present
+    final IMicroDocument aDoc = CodelistSnapshot.readMicroXML (new ClassPathResource ("codelists/vatin-data.xml"));
+    assertNotNull (aDoc);
+    assertEquals ("vatins", aDoc.getDocumentElement ().getTagName ());
+
+    assertNull (CodelistSnapshot.readMicroXML (new ClassPathResource ("codelists/does-not-exist.xml")));
+  }
+}
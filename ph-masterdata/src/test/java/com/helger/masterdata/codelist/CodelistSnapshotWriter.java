@@ -0,0 +1,285 @@
+/*
+ * Copyright (C) 2014-2026 Philip Helger (www.helger.com)
+ * philip[at]helger[dot]com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.helger.masterdata.codelist;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.helger.annotation.Nonnegative;
+import com.helger.annotation.concurrent.Immutable;
+import com.helger.base.enforce.ValueEnforcer;
+import com.helger.base.string.StringHelper;
+import com.helger.collection.commons.CommonsArrayList;
+import com.helger.collection.commons.CommonsHashMap;
+import com.helger.collection.commons.ICommonsList;
+import com.helger.collection.commons.ICommonsMap;
+import com.helger.xml.microdom.IMicroDocument;
+import com.helger.xml.microdom.IMicroElement;
+import com.helger.xml.microdom.IMicroNode;
+import com.helger.xml.microdom.serialize.MicroReader;
+
+/**
+ * Creates the binary codelist snapshots read by {@link CodelistSnapshot}. This
+ * is a build time tool only and therefore part of the test sources. It is
+ * invoked during the build (<code>process-test-classes</code> phase) with the
+ * class output directory as the only argument and creates a snapshot for every
+ * codelist in {@link #CODELISTS}.<br>
+ * The snapshots shipped in the main JAR are created by this build step, so
+ * releases must be built with compiled tests (<code>-DskipTests</code> is fine,
+ * <code>-Dmaven.test.skip=true</code> is not). Otherwise the JAR contains no
+ * snapshots and the XML files are read instead, which is slower but still
+ * correct.<br>
+ * Elements, attributes and all text (including whitespace only text) are
+ * contained in a snapshot. CDATA sections are stored as text, comments and
+ * processing instructions are not contained. XML files using namespaces are
+ * not supported and are skipped.
+ *
+ * @author Philip Helger
+ * @since 8.2.1
+ */
+@Immutable
+public final class CodelistSnapshotWriter
+{
+  /** The folder relative to the class path root containing the codelists */
+  public static final String CODELIST_FOLDER = "codelists";
+
+  /**
+   * The names of the codelists in {@link #CODELIST_FOLDER} that are read via
+   * {@link CodelistSnapshot#readMicroXML(com.helger.io.resource.IReadableResource)}
+   * and therefore get a snapshot. Codelists that are not read by this library
+   * (like UN/ECE Rec 20 and 21) are not snapshotted to keep the JAR small. All
+   * listed codelists must be present in the main resources.
+   */
+  static final String [] CODELISTS = { "dialcode-country-data.xml",
+                                       "iban-country-data.xml",
+                                       "iso639-2-data-20220414.xml",
+                                       "locale-deprecated.xml",
+                                       "nuts2021.xml",
+                                       "postal-codes-20220114.xml",
+                                       "vat-data.xml",
+                                       "vatin-data.xml" };
+
+  private static final Logger LOGGER = LoggerFactory.getLogger (CodelistSnapshotWriter.class);
+
+  private CodelistSnapshotWriter ()
+  {}
+
+  /**
+   * Check if the passed node is contained in a snapshot. Comments, processing
+   * instructions etc. are never contained.
+   */
+  private static boolean _isContained (@NonNull final IMicroNode aNode)
+  {
+    return aNode.isElement () || aNode.isText () || aNode.isCDATA ();
+  }
+
+  @NonNull
+  private static ICommonsList <IMicroNode> _getContainedChildren (@NonNull final IMicroNode aParent)
+  {
+    final ICommonsList <IMicroNode> ret = new CommonsArrayList <> ();
+    aParent.forAllChildren (x -> {
+      if (_isContained (x))
+        ret.add (x);
+    });
+    return ret;
+  }
+
+  private static void _collectStrings (@NonNull final IMicroNode aParent,
+                                       @NonNull final ICommonsMap <String, Integer> aStringMap,
+                                       @NonNull final ICommonsList <String> aStrings)
+  {
+    for (final IMicroNode aChild : _getContainedChildren (aParent))
+    {
+      if (aChild.isElement ())
+      {
+        final IMicroElement eChild = (IMicroElement) aChild;
+        if (StringHelper.isNotEmpty (eChild.getNamespaceURI ()))
+          throw new IllegalArgumentException ("Namespace URIs are not supported: " + eChild.getNamespaceURI ());
+        _addString (eChild.getTagName (), aStringMap, aStrings);
+        eChild.forAllAttributes (aAttr -> {
+          if (StringHelper.isNotEmpty (aAttr.getNamespaceURI ()))
+            throw new IllegalArgumentException ("Namespace URIs are not supported: " + aAttr.getNamespaceURI ());
+          _addString (aAttr.getAttributeName (), aStringMap, aStrings);
+          _addString (aAttr.getAttributeValue (), aStringMap, aStrings);
+        });
+        _collectStrings (eChild, aStringMap, aStrings);
+      }
+      else
+        _addString (aChild.getNodeValue (), aStringMap, aStrings);
+    }
+  }
+
+  private static void _addString (@NonNull final String s,
+                                  @NonNull final ICommonsMap <String, Integer> aStringMap,
+                                  @NonNull final ICommonsList <String> aStrings)
+  {
+    if (!aStringMap.containsKey (s))
+    {
+      aStringMap.put (s, Integer.valueOf (aStrings.size ()));
+      aStrings.add (s);
+    }
+  }
+
+  private static void _writeInt (@NonNull final ByteArrayOutputStream aOS, final int n)
+  {
+    aOS.write (n >>> 24);
+    aOS.write (n >>> 16);
+    aOS.write (n >>> 8);
+    aOS.write (n);
+  }
+
+  private static void _writeVarInt (@NonNull final ByteArrayOutputStream aOS, @Nonnegative final int n)
+  {
+    int nRest = n;
+    while ((nRest & ~0x7f) != 0)
+    {
+      aOS.write ((nRest & 0x7f) | 0x80);
+      nRest >>>= 7;
+    }
+    aOS.write (nRest);
+  }
+
+  private static void _writeChildren (@NonNull final ByteArrayOutputStream aOS,
+                                      @NonNull final IMicroNode aParent,
+                                      @NonNull final ICommonsMap <String, Integer> aStringMap)
+  {
+    final ICommonsList <IMicroNode> aChildren = _getContainedChildren (aParent);
+    _writeVarInt (aOS, aChildren.size ());
+    for (final IMicroNode aChild : aChildren)
+    {
+      if (aChild.isElement ())
+      {
+        final IMicroElement eChild = (IMicroElement) aChild;
+        aOS.write (CodelistSnapshot.NODE_ELEMENT);
+        _writeVarInt (aOS, aStringMap.get (eChild.getTagName ()).intValue ());
+        _writeVarInt (aOS, eChild.getAttributeCount ());
+        eChild.forAllAttributes (aAttr -> {
+          _writeVarInt (aOS, aStringMap.get (aAttr.getAttributeName ()).intValue ());
+          _writeVarInt (aOS, aStringMap.get (aAttr.getAttributeValue ()).intValue ());
+        });
+        _writeChildren (aOS, eChild, aStringMap);
+      }
+      else
+      {
+        aOS.write (CodelistSnapshot.NODE_TEXT);
+        _writeVarInt (aOS, aStringMap.get (aChild.getNodeValue ()).intValue ());
+      }
+    }
+  }
+
+  /**
+   * Create the snapshot of the passed XML codelist.
+   *
+   * @param aXMLBytes
+   *        The bytes of the XML source. May not be <code>null</code>.
+   * @return <code>null</code> if the passed bytes are not valid XML or if
+   *         namespaces are used.
+   */
+  @Nullable
+  public static byte [] createSnapshot (@NonNull final byte [] aXMLBytes)
+  {
+    ValueEnforcer.notNull (aXMLBytes, "XMLBytes");
+
+    final IMicroDocument aDoc = MicroReader.readMicroXML (new ByteArrayInputStream (aXMLBytes));
+    if (aDoc == null || aDoc.getDocumentElement () == null)
+      return null;
+
+    final ICommonsMap <String, Integer> aStringMap = new CommonsHashMap <> ();
+    final ICommonsList <String> aStrings = new CommonsArrayList <> ();
+    try
+    {
+      _collectStrings (aDoc, aStringMap, aStrings);
+    }
+    catch (final IllegalArgumentException ex)
+    {
+      LOGGER.warn ("Cannot create codelist snapshot: " + ex.getMessage ());
+      return null;
+    }
+
+    final ByteArrayOutputStream aOS = new ByteArrayOutputStream (aXMLBytes.length / 2);
+    _writeInt (aOS, CodelistSnapshot.MAGIC);
+    aOS.write (CodelistSnapshot.VERSION);
+    _writeInt (aOS, aXMLBytes.length);
+    _writeInt (aOS, CodelistSnapshot.getChecksum (aXMLBytes));
+    _writeVarInt (aOS, aStrings.size ());
+    for (final String s : aStrings)
+    {
+      final byte [] aBytes = s.getBytes (StandardCharsets.UTF_8);
+      _writeVarInt (aOS, aBytes.length);
+      aOS.write (aBytes, 0, aBytes.length);
+    }
+    _writeChildren (aOS, aDoc, aStringMap);
+    return aOS.toByteArray ();
+  }
+
+  /**
+   * Create the snapshots of all {@link #CODELISTS} in the
+   * {@link #CODELIST_FOLDER} of the passed base directory. Existing snapshots
+   * are overwritten.
+   *
+   * @param aBaseDir
+   *        The base directory, usually the class output directory. May not be
+   *        <code>null</code>.
+   * @return The number of snapshots written.
+   * @throws IOException
+   *         In case a listed codelist is missing or reading or writing fails
+   */
+  @Nonnegative
+  public static int writeAllSnapshots (@NonNull final File aBaseDir) throws IOException
+  {
+    ValueEnforcer.notNull (aBaseDir, "BaseDir");
+
+    final File aFolder = new File (aBaseDir, CODELIST_FOLDER);
+    if (!aFolder.isDirectory ())
+      throw new IOException ("No codelist folder found in " + aBaseDir.getAbsolutePath ());
+
+    int ret = 0;
+    for (final String sCodelist : CODELISTS)
+    {
+      final File aXMLFile = new File (aFolder, sCodelist);
+      if (!aXMLFile.isFile ())
+        throw new IOException ("Codelist " + sCodelist + " is not present in " + aFolder.getAbsolutePath ());
+      final byte [] aSnapshot = createSnapshot (Files.readAllBytes (aXMLFile.toPath ()));
+      if (aSnapshot != null)
+      {
+        final File aSnapshotFile = new File (aFolder, CodelistSnapshot.getSnapshotPath (sCodelist));
+        Files.write (aSnapshotFile.toPath (), aSnapshot);
+        LOGGER.info ("Wrote codelist snapshot " + aSnapshotFile.getName () + " (" + aSnapshot.length + " bytes)");
+        ret++;
+      }
+      else
+        LOGGER.warn ("Skipping codelist " + sCodelist);
+    }
+    return ret;
+  }
+
+  public static void main (final String [] args) throws IOException
+  {
+    if (args.length != 1)
+      throw new IllegalArgumentException ("Expecting exactly one argument: the class output directory");
+    writeAllSnapshots (new File (args[0]));
+  }
+}
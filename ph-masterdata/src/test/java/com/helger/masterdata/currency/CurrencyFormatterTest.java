@@ -0,0 +1,156 @@
+/*
+ * Copyright (C) 2014-2026 Philip Helger (www.helger.com)
+ * philip[at]helger[dot]com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.helger.masterdata.currency;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.text.DecimalFormat;
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.helger.collection.commons.CommonsArrayList;
+import com.helger.collection.commons.ICommonsList;
+
+/**
+ * Test class for class {@link CurrencyFormatter}.
+ *
+ * @author Philip Helger
+ */
+public final class CurrencyFormatterTest
+{
+  private static ICommonsList <BigDecimal> _getTestValues ()
+  {
+    final ICommonsList <BigDecimal> ret = new CommonsArrayList <> ();
+    for (final String s : new String [] { "0",
+                                          "-0",
+                                          "0.00",
+                                          "1",
+                                          "-1",
+                                          "0.5",
+                                          "-0.001",
+                                          "-0.005",
+                                          "0.005",
+                                          "0.015",
+                                          "0.025",
+                                          "12.345",
+                                          "999.995",
+                                          "-999.995",
+                                          "1000",
+                                          "1234567.891",
+                                          "-1234567.125",
+                                          "100000000",
+                                          "0.0001234",
+                                          "-0.0009",
+                                          "0.000001",
+                                          "9223372036854775807",
+                                          "-9223372036854775808.99",
+                                          "123456789012345678901234567890.123456" })
+      ret.add (new BigDecimal (s));
+    final Random aRandom = new Random (42);
+    for (int i = 0; i < 50; ++i)
+      ret.add (BigDecimal.valueOf (aRandom.nextLong () >> aRandom.nextInt (60), aRandom.nextInt (6)));
+    return ret;
+  }
+
+  private static void _assertSame (final DecimalFormat aFormat, final ICommonsList <BigDecimal> aValues)
+  {
+    final CurrencyFormatter aFormatter = new CurrencyFormatter (aFormat);
+    for (final BigDecimal aValue : aValues)
+    {
+      assertEquals (aValue.toPlainString (), aFormat.format (aValue), aFormatter.getFormatted (aValue));
+      for (int nFractionDigits = 0; nFractionDigits <= 4; ++nFractionDigits)
+      {
+        final DecimalFormat aFormat2 = (DecimalFormat) aFormat.clone ();
+        aFormat2.setMaximumFractionDigits (nFractionDigits);
+          assertEquals (aFormat2.format (aValue), aFormatter.getFormatted (aValue, nFractionDigits));
+      }
+    }
+  }
+
+  @Test
+  public void testSameAsDecimalFormat ()
+  {
+    final ICommonsList <BigDecimal> aValues = _getTestValues ();
+    for (final ECurrency e : ECurrency.values ())
+    {
+      final PerCurrencySettings aPCS = new PerCurrencySettings (e);
+      _assertSame (aPCS.getCurrencyFormat (), aValues);
+      _assertSame (aPCS.getValueFormat (), aValues);
+
+      // Modified settings
+      final DecimalFormat aFormat = aPCS.getCurrencyFormat ();
+      aFormat.setMinimumFractionDigits (0);
+      _assertSame (aFormat, aValues);
+      aFormat.setMinimumFractionDigits (3);
+      for (final RoundingMode eRoundingMode : new RoundingMode [] { RoundingMode.UP,
+                                                                    RoundingMode.DOWN,
+                                                                    RoundingMode.CEILING,
+                                                                    RoundingMode.FLOOR,
+                                                                    RoundingMode.HALF_UP })
+      {
+        aFormat.setRoundingMode (eRoundingMode);
+        _assertSame (aFormat, aValues);
+      }
+      aFormat.setGroupingUsed (false);
+      aFormat.setMinimumIntegerDigits (3);
+      aFormat.setDecimalSeparatorAlwaysShown (true);
+      aFormat.setMaximumFractionDigits (0);
+      _assertSame (aFormat, aValues);
+    }
+  }
+
+  @Test
+  public void testScaled ()
+  {
+    final Random aRandom = new Random (42);
+    for (final ECurrency e : ECurrency.values ())
+    {
+      final DecimalFormat aFormat = CurrencyHelper.getCurrencyFormat (e);
+      final CurrencyFormatter aFormatter = CurrencyHelper.getCurrencyFormatter (e);
+      for (final long nValue : new long [] { 0, 1, -1, 5, -5, 10, 1_000_000, Long.MAX_VALUE, Long.MIN_VALUE })
+        for (int nScale = 0; nScale <= 4; ++nScale)
+          assertEquals (aFormat.format (BigDecimal.valueOf (nValue, nScale)), aFormatter.getFormattedScaled (nValue, nScale));
+      for (int i = 0; i < 20; ++i)
+      {
+        final long nValue = aRandom.nextLong () >> aRandom.nextInt (60);
+        assertEquals (aFormat.format (BigDecimal.valueOf (nValue, 2)), aFormatter.getFormattedScaled (nValue, 2));
+      }
+    }
+  }
+
+  @Test
+  public void testSettings () throws IOException
+  {
+    final PerCurrencySettings aDefaultPCS = new PerCurrencySettings (ECurrency.EUR);
+    final BigDecimal aValue = new BigDecimal ("1234.5");
+    assertEquals (aDefaultPCS.getCurrencyFormat ().format (aValue), aDefaultPCS.getCurrencyFormatted (aValue));
+    assertEquals (aDefaultPCS.getValueFormat ().format (aValue), aDefaultPCS.getValueFormatted (aValue));
+
+    final PerCurrencySettings aPCS = aDefaultPCS.getWithMinimumFractionDigits (0);
+    assertEquals (aPCS.getCurrencyFormat ().format (aValue), aPCS.getCurrencyFormatted (aValue));
+    assertEquals (aPCS.getValueFormat ().format (BigDecimal.TEN), aPCS.getValueFormatted (BigDecimal.TEN));
+    assertEquals (aPCS.getValueFormat ().format (BigDecimal.TEN),
+                  aPCS.getValueFormatter ().appendFormatted (BigDecimal.TEN, new StringWriter ()).toString ());
+    assertEquals ("x" + aPCS.getValueFormat ().format (aValue),
+                  aPCS.getValueFormatter ().appendFormatted (aValue, new StringBuilder ("x")).toString ());
+  }
+}
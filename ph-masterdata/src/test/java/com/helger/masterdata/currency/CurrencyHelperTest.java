@@ -19,10 +19,12 @@ package com.helger.masterdata.currency;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 
 import org.junit.Test;
 import org.slf4j.Logger;
@@ -309,4 +311,41 @@ public final class CurrencyHelperTest
     assertEquals ("5,12" + CURRENCY_SPACE + "Ft", CurrencyHelper.getCurrencyFormat (e).format (5.123));
     assertEquals ("5,12", CurrencyHelper.getValueFormat (e).format (5.123));
   }
+
+  @Test
+  public void testModifySettings ()
+  {
+    final ECurrency e = ECurrency.CHF;
+    final PerCurrencySettings aOldPCS = CurrencyHelper.getSettings (e);
+    final int nOldMinFractionDigits = aOldPCS.getMinimumFractionDigits ();
+    try
+    {
+      CurrencyHelper.setRoundingMode (e, RoundingMode.DOWN);
+      assertEquals (RoundingMode.DOWN, CurrencyHelper.getRoundingMode (e));
+      assertEquals (new BigDecimal ("1.23"), CurrencyHelper.getRounded (e, new BigDecimal ("1.239")));
+      assertNotSame (aOldPCS, CurrencyHelper.getSettings (e));
+
+      CurrencyHelper.setMinimumFractionDigits (e, 4);
+      assertEquals (4, CurrencyHelper.getMinimumFractionDigits (e));
+      assertEquals (4, CurrencyHelper.getCurrencyFormat (e).getMinimumFractionDigits ());
+      assertEquals (4, CurrencyHelper.getValueFormatter (e).getMinimumFractionDigits ());
+      assertEquals (4, CurrencyHelper.getValueParser (e).getScale ());
+      // The rounding mode is kept
+      assertEquals (RoundingMode.DOWN, CurrencyHelper.getRoundingMode (e));
+
+      // The previously retrieved settings are not modified
+      assertEquals (CurrencyHelper.DEFAULT_ROUNDING_MODE, aOldPCS.getRoundingMode ());
+      assertEquals (nOldMinFractionDigits, aOldPCS.getMinimumFractionDigits ());
+      assertEquals (nOldMinFractionDigits, aOldPCS.getCurrencyFormat ().getMinimumFractionDigits ());
+
+      // Other currencies are not affected
+      assertEquals (CurrencyHelper.DEFAULT_ROUNDING_MODE, CurrencyHelper.getRoundingMode (ECurrency.EUR));
+    }
+    finally
+    {
+      CurrencyHelper.reinitializeCurrencySettings ();
+    }
+    assertEquals (CurrencyHelper.DEFAULT_ROUNDING_MODE, CurrencyHelper.getRoundingMode (e));
+    assertEquals (nOldMinFractionDigits, CurrencyHelper.getMinimumFractionDigits (e));
+  }
 }
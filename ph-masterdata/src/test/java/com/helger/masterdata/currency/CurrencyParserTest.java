@@ -0,0 +1,247 @@
+/*
+ * Copyright (C) 2014-2026 Philip Helger (www.helger.com)
+ * philip[at]helger[dot]com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.helger.masterdata.currency;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.text.ParsePosition;
+import java.util.Locale;
+import java.util.Random;
+
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.junit.Test;
+
+import com.helger.collection.commons.CommonsArrayList;
+import com.helger.collection.commons.ICommonsList;
+
+/**
+ * Test class for class {@link CurrencyParser}.
+ *
+ * @author Philip Helger
+ */
+public final class CurrencyParserTest
+{
+  private static final BigDecimal DEFAULT = new BigDecimal ("-4711");
+
+  /**
+   * The reference implementation based on {@link DecimalFormat}, including the separator fixing
+   * that was previously done in {@link CurrencyHelper}.
+   */
+  @Nullable
+  private static BigDecimal _parseReference (@NonNull final DecimalFormat aFormat,
+                                             @Nullable final String sText,
+                                             final boolean bLenient,
+                                             @NonNull final RoundingMode eRoundingMode)
+  {
+    String sRealText = sText;
+    if (bLenient && sRealText != null)
+    {
+      sRealText = sRealText.trim ();
+      final DecimalFormatSymbols aDFS = aFormat.getDecimalFormatSymbols ();
+      final EDecimalSeparator eDecimalSep = EDecimalSeparator.getFromCharOrNull (aDFS.getDecimalSeparator ());
+      final EGroupingSeparator eGroupingSep = EGroupingSeparator.getFromCharOrNull (aDFS.getGroupingSeparator ());
+      if (eDecimalSep != null && eGroupingSep != null && sRealText.indexOf (eDecimalSep.getChar ()) < 0)
+      {
+        final char cOther = eDecimalSep == EDecimalSeparator.COMMA ? '.' : ',';
+        if (sRealText.indexOf (cOther) >= 0 && eGroupingSep.getChar () != cOther)
+          sRealText = sRealText.replace (cOther, eDecimalSep.getChar ());
+      }
+    }
+    if (sRealText == null || sRealText.isEmpty ())
+      return DEFAULT;
+
+    final DecimalFormat aClone = (DecimalFormat) aFormat.clone ();
+    aClone.setParseBigDecimal (true);
+    final ParsePosition aPP = new ParsePosition (0);
+    final Number aNum = aClone.parse (sRealText, aPP);
+    // NaN and Infinity are returned as Double
+    if (aPP.getErrorIndex () != -1 || !(aNum instanceof BigDecimal))
+      return DEFAULT;
+    return ((BigDecimal) aNum).setScale (aClone.getMaximumFractionDigits (), eRoundingMode);
+  }
+
+  private static long _getUnscaled (@NonNull final BigDecimal aValue)
+  {
+    return aValue == DEFAULT || aValue.unscaledValue ().bitLength () >= 64 ? Long.MIN_VALUE
+                                                                           : aValue.unscaledValue ().longValue ();
+  }
+
+  private static void _assertSame (@NonNull final DecimalFormat aFormat,
+                                   @NonNull final CurrencyParser aParser,
+                                   @Nullable final String sText,
+                                   @NonNull final RoundingMode eRoundingMode)
+  {
+    final String sMsg = "'" + sText + "' with " + aParser;
+    final BigDecimal aExpected = _parseReference (aFormat, sText, true, eRoundingMode);
+    assertEquals (sMsg, aExpected, aParser.parse (sText, DEFAULT, eRoundingMode));
+    assertEquals (sMsg,
+                  _getUnscaled (aExpected),
+                  aParser.parseUnscaled (sText, Long.MIN_VALUE, eRoundingMode));
+
+    final BigDecimal aExpectedUnchanged = _parseReference (aFormat, sText, false, eRoundingMode);
+    assertEquals (sMsg, aExpectedUnchanged, aParser.parseUnchanged (sText, DEFAULT, eRoundingMode));
+    assertEquals (sMsg,
+                  _getUnscaled (aExpectedUnchanged),
+                  aParser.parseUnscaledUnchanged (sText, Long.MIN_VALUE, eRoundingMode));
+  }
+
+  @NonNull
+  private static ICommonsList <String> _getTokens (@NonNull final DecimalFormat aFormat,
+                                                   @NonNull final CurrencyFormatter aFormatter)
+  {
+    final DecimalFormatSymbols aDFS = aFormat.getDecimalFormatSymbols ();
+    final ICommonsList <String> ret = new CommonsArrayList <> ();
+    for (char c = '0'; c <= '9'; ++c)
+      ret.add (Character.toString (c));
+    ret.add ("0");
+    ret.add ("0");
+    ret.add (Character.toString (aFormatter.getUsedDecimalSeparator ()));
+    ret.add (Character.toString (aFormatter.getUsedGroupingSeparator ()));
+    ret.add (Character.toString (aDFS.getDecimalSeparator ()));
+    ret.add (Character.toString (aDFS.getGroupingSeparator ()));
+    ret.addAll (".", ",", "'", " ", " ", "-", "+", "E", "E-", "x", "٣", "５");
+    ret.addAll (aFormat.getPositivePrefix (),
+                aFormat.getPositiveSuffix (),
+                aFormat.getNegativePrefix (),
+                aFormat.getNegativeSuffix (),
+                aDFS.getCurrencySymbol (),
+                aDFS.getNaN (),
+                aDFS.getInfinity ());
+    return ret;
+  }
+
+  private static void _testFormat (@NonNull final DecimalFormat aFormat, @NonNull final Random aRandom)
+  {
+    final CurrencyFormatter aFormatter = new CurrencyFormatter (aFormat);
+    final CurrencyParser aParser = new CurrencyParser (aFormat);
+    final RoundingMode [] aRoundingModes = { RoundingMode.HALF_EVEN, RoundingMode.HALF_UP, RoundingMode.DOWN };
+
+    for (final String s : new String [] { null,
+                                          "",
+                                          "   ",
+                                          "5",
+                                          " 5 ",
+                                          "+5",
+                                          "-5",
+                                          "5,0",
+                                          " 5.0 ",
+                                          "5,0000",
+                                          "5.0009",
+                                          "1.234,56",
+                                          "1,234.56",
+                                          "1 234,56",
+                                          "1'234.56",
+                                          "1.2.3",
+                                          "1,2,3",
+                                          "12,",
+                                          ".5",
+                                          "-.5",
+                                          "0.000",
+                                          "-0",
+                                          "1E3",
+                                          "1.5E-3",
+                                          "1E",
+                                          "1E-",
+                                          "1E99999999999999999999",
+                                          "9223372036854775807",
+                                          "92233720368547758.08",
+                                          "123456789012345678901234567890.125",
+                                          "NaN",
+                                          "∞",
+                                          "abc" })
+      for (final RoundingMode eRoundingMode : aRoundingModes)
+        _assertSame (aFormat, aParser, s, eRoundingMode);
+
+    // Round trip of formatted values
+    for (int i = 0; i < 200; ++i)
+    {
+      final BigDecimal aValue = BigDecimal.valueOf (aRandom.nextLong () >> aRandom.nextInt (64), aRandom.nextInt (6));
+      _assertSame (aFormat, aParser, aFormatter.getFormatted (aValue, aRandom.nextInt (5)), RoundingMode.HALF_EVEN);
+    }
+
+    // Random token sequences
+    final ICommonsList <String> aTokens = _getTokens (aFormat, aFormatter);
+    final StringBuilder aSB = new StringBuilder ();
+    for (int i = 0; i < 200; ++i)
+    {
+      aSB.setLength (0);
+      final int nTokens = aRandom.nextInt (10);
+      for (int j = 0; j < nTokens; ++j)
+        aSB.append (aTokens.get (aRandom.nextInt (aTokens.size ())));
+      _assertSame (aFormat, aParser, aSB.toString (), aRoundingModes[aRandom.nextInt (aRoundingModes.length)]);
+    }
+  }
+
+  @Test
+  public void testSameAsDecimalFormat ()
+  {
+    final Random aRandom = new Random (42);
+    for (final ECurrency e : ECurrency.values ())
+    {
+      final PerCurrencySettings aPCS = CurrencyHelper.getSettings (e);
+      _testFormat (aPCS.getCurrencyFormat (), aRandom);
+      _testFormat (aPCS.getValueFormat (), aRandom);
+    }
+  }
+
+  @Test
+  public void testCustomFormats ()
+  {
+    final Random aRandom = new Random (4711);
+    final DecimalFormatSymbols aDFS = DecimalFormatSymbols.getInstance (Locale.GERMANY);
+    for (final String sPattern : new String [] { "#,##0.00",
+                                                 "#,##0.00;(#,##0.00)",
+                                                 "+#,##0.###;-#,##0.###",
+                                                 "0.00 ¤;0.00- ¤",
+                                                 "#0.0000" })
+    {
+      _testFormat (new DecimalFormat (sPattern, aDFS), aRandom);
+      final DecimalFormat aNoGrouping = new DecimalFormat (sPattern, aDFS);
+      aNoGrouping.setGroupingUsed (false);
+      _testFormat (aNoGrouping, aRandom);
+    }
+  }
+
+  @Test
+  public void testBasic ()
+  {
+    assertEquals (new BigDecimal ("5.00"), CurrencyHelper.getValueParser (ECurrency.EUR).parse ("5", null, RoundingMode.HALF_EVEN));
+
+    final CurrencyParser aParser = new CurrencyParser (new DecimalFormat ("#,##0.00",
+                                                                          DecimalFormatSymbols.getInstance (Locale.US)));
+    assertEquals (2, aParser.getScale ());
+    assertNull (aParser.parse (null, null, RoundingMode.HALF_EVEN));
+    assertNull (aParser.parse ("", null, RoundingMode.HALF_EVEN));
+    assertNull (aParser.parse ("abc", null, RoundingMode.HALF_EVEN));
+    assertEquals (new BigDecimal ("5.00"), aParser.parse ("5", null, RoundingMode.HALF_EVEN));
+    assertEquals (new BigDecimal ("5.00"), aParser.parse (" 5 ", null, RoundingMode.HALF_EVEN));
+    assertEquals (new BigDecimal ("-5.13"), aParser.parse ("-5.125", null, RoundingMode.HALF_UP));
+    assertEquals (new BigDecimal ("-5.12"), aParser.parse ("-5.125", null, RoundingMode.HALF_EVEN));
+    assertEquals (-512, aParser.parseUnscaled ("-5.125", 0, RoundingMode.HALF_EVEN));
+    assertEquals (123456, aParser.parseUnscaled ("1,234.56", 0, RoundingMode.HALF_EVEN));
+    // "," is the grouping separator and therefore not swapped
+    assertEquals (12345600, aParser.parseUnscaled ("1234,56", 0, RoundingMode.HALF_EVEN));
+    assertEquals (0, aParser.parseUnscaled ("100000000000000000", 0, RoundingMode.HALF_EVEN));
+    assertEquals (7, aParser.parseUnscaled (null, 7, RoundingMode.HALF_EVEN));
+  }
+}
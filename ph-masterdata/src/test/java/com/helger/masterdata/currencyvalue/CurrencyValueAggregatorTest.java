@@ -0,0 +1,179 @@
+/*
+ * Copyright (C) 2014-2026 Philip Helger (www.helger.com)
+ * philip[at]helger[dot]com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.helger.masterdata.currencyvalue;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.Test;
+
+import com.helger.collection.commons.ICommonsMap;
+import com.helger.masterdata.currency.CurrencyHelper;
+import com.helger.masterdata.currency.ECurrency;
+
+/**
+ * Test class for class {@link CurrencyValueAggregator}.
+ *
+ * @author Philip Helger
+ */
+public final class CurrencyValueAggregatorTest
+{
+  private static void _assertTotals (final String sMsg,
+                                     final Map <ECurrency, BigDecimal> aExpected,
+                                     final Map <ECurrency, ICurrencyValue> aActual)
+  {
+    assertEquals (sMsg, aExpected.keySet (), aActual.keySet ());
+    for (final Map.Entry <ECurrency, BigDecimal> aEntry : aExpected.entrySet ())
+    {
+      final ICurrencyValue aValue = aActual.get (aEntry.getKey ());
+      assertEquals (sMsg, aEntry.getKey (), aValue.getCurrency ());
+      assertEquals (sMsg + " " + aEntry.getKey (), 0, aEntry.getValue ().compareTo (aValue.getValue ()));
+    }
+  }
+
+  @Test
+  public void testBasic ()
+  {
+    final CurrencyValueAggregator aAgg = new CurrencyValueAggregator ();
+    assertTrue (aAgg.isEmpty ());
+    assertTrue (aAgg.getTotals ().isEmpty ());
+    assertNull (aAgg.getTotal (ECurrency.EUR));
+    assertFalse (aAgg.containsCurrency (null));
+
+    aAgg.add (ECurrency.EUR, new BigDecimal ("12.34"));
+    aAgg.add (new CurrencyValue (ECurrency.EUR, new BigDecimal ("0.66")));
+    aAgg.add (new MinorUnitCurrencyValue (ECurrency.EUR, 100));
+    aAgg.addMinorUnits (ECurrency.JPY, 500);
+    aAgg.add (ECurrency.JPY, new BigDecimal ("1E+3"));
+    aAgg.add (ECurrency.USD, BigDecimal.ZERO);
+    assertFalse (aAgg.isEmpty ());
+    assertTrue (aAgg.containsCurrency (ECurrency.USD));
+    assertFalse (aAgg.containsCurrency (ECurrency.CHF));
+
+    assertEquals (new BigDecimal ("14.00"), aAgg.getTotal (ECurrency.EUR));
+    assertEquals (new BigDecimal ("1500"), aAgg.getTotal (ECurrency.JPY));
+    assertEquals (BigDecimal.valueOf (0, CurrencyHelper.getScale (ECurrency.USD)), aAgg.getTotal (ECurrency.USD));
+
+    final ICommonsMap <ECurrency, ICurrencyValue> aTotals = aAgg.getTotals ();
+    assertEquals (3, aTotals.size ());
+    assertEquals (new BigDecimal ("14.00"), aTotals.get (ECurrency.EUR).getValue ());
+  }
+
+  @Test
+  public void testExactFallback ()
+  {
+    final CurrencyValueAggregator aAgg = new CurrencyValueAggregator ();
+    // More fraction digits than the currency
+    aAgg.add (ECurrency.EUR, new BigDecimal ("0.001"));
+    aAgg.add (ECurrency.EUR, new BigDecimal ("1.10"));
+    assertEquals (new BigDecimal ("1.101"), aAgg.getTotal (ECurrency.EUR));
+
+    // Overflow of the minor units
+    aAgg.addMinorUnits (ECurrency.USD, Long.MAX_VALUE);
+    aAgg.addMinorUnits (ECurrency.USD, Long.MAX_VALUE);
+    aAgg.addMinorUnits (ECurrency.USD, 2);
+    assertEquals (BigDecimal.valueOf (Long.MAX_VALUE, 2).multiply (BigDecimal.valueOf (2)).add (new BigDecimal ("0.02")),
+                  aAgg.getTotal (ECurrency.USD));
+
+    // Too many digits
+    final BigDecimal aHuge = new BigDecimal ("123456789012345678901234567890.12");
+    aAgg.add (ECurrency.CHF, aHuge);
+    aAgg.add (ECurrency.CHF, BigDecimal.ONE);
+    assertEquals (aHuge.add (BigDecimal.ONE), aAgg.getTotal (ECurrency.CHF));
+
+    // Merge
+    final CurrencyValueAggregator aAgg2 = new CurrencyValueAggregator ();
+    aAgg2.addMinorUnits (ECurrency.USD, Long.MAX_VALUE);
+    aAgg2.add (ECurrency.EUR, new BigDecimal ("0.009"));
+    aAgg2.addAll (aAgg);
+    assertEquals (new BigDecimal ("1.110"), aAgg2.getTotal (ECurrency.EUR));
+    assertEquals (aAgg.getTotal (ECurrency.USD).add (BigDecimal.valueOf (Long.MAX_VALUE, 2)),
+                  aAgg2.getTotal (ECurrency.USD));
+    assertEquals (aHuge.add (BigDecimal.ONE), aAgg2.getTotal (ECurrency.CHF));
+    // Source is unchanged
+    assertEquals (new BigDecimal ("1.101"), aAgg.getTotal (ECurrency.EUR));
+  }
+
+  @Test
+  public void testAggregate ()
+  {
+    final ECurrency [] aAllCurrencies = ECurrency.values ();
+    final Random aRandom = new Random (20260101L);
+    final int nCount = 50_000;
+    final ECurrency [] aCurrencies = new ECurrency [nCount];
+    final BigDecimal [] aAmounts = new BigDecimal [nCount];
+    final long [] aMinorUnits = new long [nCount];
+    final List <CurrencyValue> aValues = new ArrayList <> (nCount);
+    final Map <ECurrency, BigDecimal> aExpected = new EnumMap <> (ECurrency.class);
+    final Map <ECurrency, BigDecimal> aExpectedMinorUnits = new EnumMap <> (ECurrency.class);
+    for (int i = 0; i < nCount; ++i)
+    {
+      final ECurrency eCurrency = aAllCurrencies[aRandom.nextInt (20)];
+      final int nScale = CurrencyHelper.getScale (eCurrency);
+      // Force overflows of the minor units from time to time
+      final long nUnscaled = i % 1000 == 0 ? Long.MAX_VALUE / 2 : aRandom.nextInt ();
+      aCurrencies[i] = eCurrency;
+      // Use a different scale from time to time
+      aAmounts[i] = BigDecimal.valueOf (nUnscaled, nScale + (i % 7 == 0 ? 1 : 0));
+      aMinorUnits[i] = nUnscaled;
+      aValues.add (new CurrencyValue (eCurrency, aAmounts[i]));
+      aExpected.merge (eCurrency, aAmounts[i], BigDecimal::add);
+      aExpectedMinorUnits.merge (eCurrency, BigDecimal.valueOf (nUnscaled, nScale), BigDecimal::add);
+    }
+
+    _assertTotals ("array", aExpected, CurrencyValueAggregator.aggregate (aCurrencies, aAmounts, null));
+    _assertTotals ("list", aExpected, CurrencyValueAggregator.aggregate (aValues, null));
+    _assertTotals ("minor", aExpectedMinorUnits, CurrencyValueAggregator.aggregate (aCurrencies, aMinorUnits, null));
+    _assertTotals ("stream", aExpected, aValues.stream ().collect (CurrencyValueAggregator.toTotals ()));
+    _assertTotals ("parallel stream",
+                   aExpected,
+                   aValues.parallelStream ().collect (CurrencyValueAggregator.toTotals ()));
+
+    final ExecutorService aES = Executors.newFixedThreadPool (4);
+    try
+    {
+      _assertTotals ("parallel array", aExpected, CurrencyValueAggregator.aggregate (aCurrencies, aAmounts, aES));
+      _assertTotals ("parallel list", aExpected, CurrencyValueAggregator.aggregate (aValues, aES));
+      _assertTotals ("parallel minor",
+                     aExpectedMinorUnits,
+                     CurrencyValueAggregator.aggregate (aCurrencies, aMinorUnits, aES));
+    }
+    finally
+    {
+      aES.shutdown ();
+    }
+
+    assertTrue (CurrencyValueAggregator.aggregate (new ECurrency [0], new BigDecimal [0], null).isEmpty ());
+  }
+
+  @Test (expected = IllegalArgumentException.class)
+  public void testAggregateLengthMismatch ()
+  {
+    CurrencyValueAggregator.aggregate (new ECurrency [1], new long [2], null);
+  }
+}
@@ -0,0 +1,259 @@
+/*
+ * Copyright (C) 2014-2026 Philip Helger (www.helger.com)
+ * philip[at]helger[dot]com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.helger.masterdata.currencyvalue;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import org.junit.Test;
+
+import com.helger.masterdata.currency.CurrencyHelper;
+import com.helger.masterdata.currency.ECurrency;
+import com.helger.unittest.support.TestHelper;
+import com.helger.xml.microdom.IMicroElement;
+
+/**
+ * Test class for class {@link MinorUnitCurrencyValue}.
+ *
+ * @author Philip Helger
+ */
+public final class MinorUnitCurrencyValueTest
+{
+  @Test
+  public void testBasic ()
+  {
+    final MinorUnitCurrencyValue aMV = new MinorUnitCurrencyValue (ECurrency.EUR, 1234);
+    assertSame (ECurrency.EUR, aMV.getCurrency ());
+    assertEquals (1234, aMV.getMinorUnits ());
+    assertEquals (2, aMV.getScale ());
+    assertEquals (new BigDecimal ("12.34"), aMV.getValue ());
+    assertTrue (aMV.isGT0 ());
+    assertTrue (aMV.isGE0 ());
+    assertTrue (aMV.isNE0 ());
+    assertFalse (aMV.isEQ0 ());
+    assertFalse (aMV.isLE0 ());
+    assertFalse (aMV.isLT0 ());
+
+    // JPY has no fraction digits
+    assertEquals (new BigDecimal ("1234"), new MinorUnitCurrencyValue (ECurrency.JPY, 1234).getValue ());
+
+    TestHelper.testDefaultImplementationWithEqualContentObject (aMV, new MinorUnitCurrencyValue (ECurrency.EUR, 1234));
+    TestHelper.testDefaultImplementationWithDifferentContentObject (aMV,
+                                                                    new MinorUnitCurrencyValue (ECurrency.EUR, 1235));
+    TestHelper.testDefaultImplementationWithDifferentContentObject (aMV,
+                                                                    new MinorUnitCurrencyValue (ECurrency.USD, 1234));
+  }
+
+  @Test
+  public void testConversion ()
+  {
+    for (final ECurrency eCurrency : ECurrency.values ())
+    {
+      final int nScale = CurrencyHelper.getScale (eCurrency);
+      final BigDecimal aValue = BigDecimal.valueOf (-98765, nScale);
+      final MinorUnitCurrencyValue aMV = MinorUnitCurrencyValue.of (new CurrencyValue (eCurrency, aValue));
+      assertEquals (-98765, aMV.getMinorUnits ());
+
+      // Lossless round trip
+      final CurrencyValue aCV = aMV.getAsCurrencyValue ();
+      assertSame (eCurrency, aCV.getCurrency ());
+      assertEquals (aValue, aCV.getValue ());
+      assertEquals (aMV, MinorUnitCurrencyValue.of (aCV));
+      assertEquals (aCV.getCurrencyFormatted (), aMV.getCurrencyFormatted ());
+      assertEquals (aCV.getValueFormatted (), aMV.getValueFormatted ());
+    }
+
+    // Trailing zeros are fine
+    assertEquals (1230, MinorUnitCurrencyValue.of (ECurrency.EUR, new BigDecimal ("12.3000")).getMinorUnits ());
+
+    // Too many fraction digits
+    try
+    {
+      MinorUnitCurrencyValue.of (new CurrencyValue (ECurrency.EUR, new BigDecimal ("12.345")));
+      fail ();
+    }
+    catch (final ArithmeticException ex)
+    {
+      // expected
+    }
+    assertEquals (1235,
+                  MinorUnitCurrencyValue.of (new CurrencyValue (ECurrency.EUR, new BigDecimal ("12.345")),
+                                             RoundingMode.HALF_UP)
+                                        .getMinorUnits ());
+
+    // Too large
+    try
+    {
+      MinorUnitCurrencyValue.of (ECurrency.EUR, BigDecimal.valueOf (Long.MAX_VALUE));
+      fail ();
+    }
+    catch (final ArithmeticException ex)
+    {
+      // expected
+    }
+  }
+
+  @Test
+  public void testArithmetic ()
+  {
+    final MinorUnitCurrencyValue aMV = new MinorUnitCurrencyValue (ECurrency.EUR, 1000);
+    assertEquals (1250, aMV.getAdded (250).getMinorUnits ());
+    assertEquals (1250, aMV.getAdded (new MinorUnitCurrencyValue (ECurrency.EUR, 250)).getMinorUnits ());
+    assertEquals (750, aMV.getSubtracted (250).getMinorUnits ());
+    assertEquals (750, aMV.getSubtracted (new MinorUnitCurrencyValue (ECurrency.EUR, 250)).getMinorUnits ());
+    assertEquals (-1000, aMV.getNegated ().getMinorUnits ());
+    assertEquals (3000, aMV.getMultiplied (3).getMinorUnits ());
+    assertEquals (1500, aMV.getMultiplied (new BigDecimal ("1.5")).getMinorUnits ());
+    assertEquals (333, aMV.getDivided (3).getMinorUnits ());
+    assertEquals (334, aMV.getDivided (3, RoundingMode.UP).getMinorUnits ());
+    assertEquals (800, aMV.getDivided (new BigDecimal ("1.25")).getMinorUnits ());
+    assertSame (aMV, aMV.getAdded (0));
+    assertSame (aMV, aMV.getMultiplied (1));
+
+    // Currency mismatch
+    try
+    {
+      aMV.getAdded (new MinorUnitCurrencyValue (ECurrency.USD, 1));
+      fail ();
+    }
+    catch (final IllegalArgumentException ex)
+    {
+      // expected
+    }
+
+    // Overflow
+    final MinorUnitCurrencyValue aMax = new MinorUnitCurrencyValue (ECurrency.EUR, Long.MAX_VALUE);
+    final MinorUnitCurrencyValue aMin = new MinorUnitCurrencyValue (ECurrency.EUR, Long.MIN_VALUE);
+    for (final Runnable r : new Runnable [] { () -> aMax.getAdded (1),
+                                              () -> aMax.getMultiplied (2),
+                                              () -> aMax.getMultiplied (new BigDecimal ("1.5")),
+                                              () -> aMax.getNegated ().getSubtracted (2),
+                                              () -> aMin.getNegated (),
+                                              () -> aMin.getDivided (-1),
+                                              () -> aMV.getDivided (0) })
+      try
+      {
+        r.run ();
+        fail ();
+      }
+      catch (final ArithmeticException ex)
+      {
+        // expected
+      }
+  }
+
+  @Test
+  public void testDividedRounding ()
+  {
+    final long [] aValues = { 0,
+                              1,
+                              -1,
+                              5,
+                              -5,
+                              7,
+                              -7,
+                              15,
+                              -15,
+                              25,
+                              -25,
+                              99,
+                              -99,
+                              Long.MAX_VALUE,
+                              Long.MIN_VALUE,
+                              Long.MAX_VALUE - 1,
+                              Long.MIN_VALUE + 1 };
+    final long [] aDivisors = { 1,
+                                -1,
+                                2,
+                                -2,
+                                3,
+                                -3,
+                                4,
+                                10,
+                                -10,
+                                7,
+                                Long.MAX_VALUE,
+                                Long.MIN_VALUE,
+                                Long.MIN_VALUE + 1 };
+    for (final long nValue : aValues)
+      for (final long nDivisor : aDivisors)
+        for (final RoundingMode eRoundingMode : RoundingMode.values ())
+        {
+          if (nValue == Long.MIN_VALUE && nDivisor == -1)
+            continue;
+
+          Long aExpected;
+          try
+          {
+            aExpected = Long.valueOf (BigDecimal.valueOf (nValue)
+                                                .divide (BigDecimal.valueOf (nDivisor), 0, eRoundingMode)
+                                                .longValueExact ());
+          }
+          catch (final ArithmeticException ex)
+          {
+            aExpected = null;
+          }
+
+          Long aActual;
+          try
+          {
+            aActual = Long.valueOf (MinorUnitCurrencyValue.getDivided (nValue, nDivisor, eRoundingMode));
+          }
+          catch (final ArithmeticException ex)
+          {
+            aActual = null;
+          }
+          assertEquals (nValue + " / " + nDivisor + " " + eRoundingMode, aExpected, aActual);
+        }
+  }
+
+  @Test
+  public void testMicroTypeConverter ()
+  {
+    final MinorUnitCurrencyValueMicroTypeConverter aConverter = new MinorUnitCurrencyValueMicroTypeConverter ();
+    for (final ECurrency eCurrency : ECurrency.values ())
+    {
+      final MinorUnitCurrencyValue aMV = new MinorUnitCurrencyValue (eCurrency, -4711);
+      final IMicroElement eElement = aConverter.convertToMicroElement (aMV, null, "price");
+      assertEquals (eCurrency.getID (), eElement.getAttributeValue ("currency"));
+      assertEquals (aMV, aConverter.convertToNative (eElement));
+
+      // Same representation as for CurrencyValue
+      assertEquals (aMV.getAsCurrencyValue (),
+                    new CurrencyValueMicroTypeConverter ().convertToNative (eElement));
+    }
+
+    // XML of a CurrencyValue with more fraction digits than the currency is rounded
+    final CurrencyValueMicroTypeConverter aCVConverter = new CurrencyValueMicroTypeConverter ();
+    for (final ECurrency eCurrency : new ECurrency [] { ECurrency.EUR, ECurrency.JPY })
+    {
+      final BigDecimal aValue = new BigDecimal ("12.345");
+      final IMicroElement eElement = aCVConverter.convertToMicroElement (new CurrencyValue (eCurrency, aValue),
+                                                                         null,
+                                                                         "price");
+      final MinorUnitCurrencyValue aMV = aConverter.convertToNative (eElement);
+      assertEquals (aValue.setScale (CurrencyHelper.getScale (eCurrency), CurrencyHelper.getRoundingMode (eCurrency)),
+                    aMV.getValue ());
+    }
+  }
+}
@@ -25,6 +25,8 @@ import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.junit.Test;
 
@@ -120,4 +122,79 @@ public class EGS1PrefixTest
       EGS1Prefix.getPrefixFromCode (Integer.toString (i) + "0000000000000");
     }
   }
+
+  private static boolean _isDigits (final String s)
+  {
+    for (final char c : s.toCharArray ())
+      if (c < '0' || c > '9')
+        return false;
+    return true;
+  }
+
+  /**
+   * The reference implementation: the first prefix in declaration order containing the start of the
+   * code
+   */
+  private static EGS1Prefix _getPrefixLinear (final String sCode)
+  {
+    for (final EGS1Prefix e : EGS1Prefix.values ())
+      if (sCode.length () >= e.getPrefixLength ())
+      {
+        final String sUsablePrefix = sCode.substring (0, e.getPrefixLength ());
+        if (_isDigits (sUsablePrefix) &&
+            sUsablePrefix.compareTo (e.getFrom ()) >= 0 &&
+            sUsablePrefix.compareTo (e.hasTo () ? e.getTo () : e.getFrom ()) <= 0)
+          return e;
+      }
+    return null;
+  }
+
+  @Test
+  public void testGetPrefixSameAsLinear ()
+  {
+    final ICommonsList <String> aCodes = new CommonsArrayList <> ();
+    for (int nLength = 1; nLength <= 5; ++nLength)
+      for (int i = 0; i < Math.pow (10, nLength); ++i)
+        aCodes.add (StringHelper.getLeadingZero (i, nLength));
+    for (int i = 0; i < 10_000; ++i)
+    {
+      aCodes.add ("000" + StringHelper.getLeadingZero (i, 4));
+      aCodes.add ("000" + StringHelper.getLeadingZero (i, 4) + "123456");
+    }
+    aCodes.add ("99A");
+    aCodes.add ("9A9");
+    aCodes.add ("A99");
+    aCodes.add ("38A");
+    aCodes.add ("000000A");
+
+    for (final String sCode : aCodes)
+      assertSame (sCode, _getPrefixLinear (sCode), EGS1Prefix.getPrefixFromCode (sCode));
+  }
+
+  @Test
+  public void testGetPrefixesFromCodes ()
+  {
+    final ICommonsList <String> aCodes = new CommonsArrayList <> ();
+    for (int i = 0; i < 20_000; ++i)
+      aCodes.add (i % 100 == 0 ? null : StringHelper.getLeadingZero (i * 37, 13));
+
+    final ExecutorService aES = Executors.newFixedThreadPool (4);
+    try
+    {
+      final EGS1Prefix [] aSerial = EGS1Prefix.getPrefixesFromCodes (aCodes, null);
+      final EGS1Prefix [] aParallel = EGS1Prefix.getPrefixesFromCodes (aCodes, aES);
+      assertEquals (aCodes.size (), aSerial.length);
+      assertEquals (aCodes.size (), aParallel.length);
+      for (int i = 0; i < aCodes.size (); ++i)
+      {
+        assertSame (EGS1Prefix.getPrefixFromCode (aCodes.get (i)), aSerial[i]);
+        assertSame (aSerial[i], aParallel[i]);
+      }
+      assertNull (aSerial[0]);
+    }
+    finally
+    {
+      aES.shutdown ();
+    }
+  }
 }
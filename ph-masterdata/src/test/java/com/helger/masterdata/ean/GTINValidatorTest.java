@@ -16,8 +16,14 @@
  */
 package com.helger.masterdata.ean;
 
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
 
 import org.junit.Test;
 
@@ -98,4 +104,110 @@ public final class GTINValidatorTest
     assertFalse (GTINValidator.isValidSSCC (""));
     assertFalse (GTINValidator.isValidSSCC (null));
   }
+
+  @Test
+  public void testValidateGTINs ()
+  {
+    final String sCodes = "11111115" + "11111114" + "1111111X" + "00000000";
+    final boolean [] aResults = GTINValidator.validateGTINs (sCodes.getBytes (StandardCharsets.US_ASCII),
+                                                              GTINValidator.LENGTH_GTIN8);
+    assertArrayEquals (new boolean [] { true, false, false, true }, aResults);
+
+    // With offset
+    final boolean [] aResults2 = new boolean [3];
+    assertEquals (1,
+                  GTINValidator.validateGTINs (("xx" + "6291041500213" + "6291041500212" + "629104150021/").getBytes (StandardCharsets.US_ASCII),
+                                               2,
+                                               GTINValidator.LENGTH_GTIN13,
+                                               3,
+                                               aResults2));
+    assertArrayEquals (new boolean [] { true, false, false }, aResults2);
+
+    assertEquals (0, GTINValidator.validateGTINs (new byte [0], GTINValidator.LENGTH_SSCC).length);
+
+    for (final int nInvalidLength : new int [] { -1, 0, 7, 9, 17, 19 })
+      assertFalse (GTINValidator.isSupportedCodeLength (nInvalidLength));
+    try
+    {
+      GTINValidator.validateGTINs (new byte [10], 10);
+      fail ();
+    }
+    catch (final IllegalArgumentException ex)
+    {
+      // expected
+    }
+    try
+    {
+      GTINValidator.validateGTINs (new byte [9], GTINValidator.LENGTH_GTIN8);
+      fail ();
+    }
+    catch (final IllegalArgumentException ex)
+    {
+      // expected
+    }
+  }
+
+  @Test
+  public void testValidateGTINsSameAsString ()
+  {
+    final Random aRandom = new Random (42);
+    for (final int nLength : new int [] { GTINValidator.LENGTH_GTIN8,
+                                          GTINValidator.LENGTH_GTIN12,
+                                          GTINValidator.LENGTH_GTIN13,
+                                          GTINValidator.LENGTH_GTIN14,
+                                          GTINValidator.LENGTH_SSCC })
+    {
+      assertTrue (GTINValidator.isSupportedCodeLength (nLength));
+
+      final int nCount = 5000;
+      final StringBuilder aSB = new StringBuilder ();
+      for (int i = 0; i < nCount; ++i)
+        for (int j = 0; j < nLength; ++j)
+        {
+          // Mostly digits
+          final int n = aRandom.nextInt (100);
+          aSB.append (n == 0 ? (char) ('0' - 1 - aRandom.nextInt (10)) : n == 1 ? (char) ('9' + 1 + aRandom.nextInt (10))
+                                                                                 : (char) ('0' + n % 10));
+        }
+      final String sAll = aSB.toString ();
+      final boolean [] aResults = GTINValidator.validateGTINs (sAll.getBytes (StandardCharsets.US_ASCII), nLength);
+      assertEquals (nCount, aResults.length);
+      int nValid = 0;
+      for (int i = 0; i < nCount; ++i)
+      {
+        final String sCode = sAll.substring (i * nLength, (i + 1) * nLength);
+        final boolean bExpected;
+        switch (nLength)
+        {
+          case GTINValidator.LENGTH_GTIN8:
+            bExpected = GTINValidator.isValidGTIN8 (sCode);
+            break;
+          case GTINValidator.LENGTH_GTIN12:
+            bExpected = GTINValidator.isValidGTIN12 (sCode);
+            break;
+          case GTINValidator.LENGTH_GTIN13:
+            bExpected = GTINValidator.isValidGTIN13 (sCode);
+            break;
+          case GTINValidator.LENGTH_GTIN14:
+            bExpected = GTINValidator.isValidGTIN14 (sCode);
+            break;
+          default:
+            bExpected = GTINValidator.isValidSSCC (sCode);
+            break;
+        }
+        assertEquals (sCode, Boolean.valueOf (bExpected), Boolean.valueOf (aResults[i]));
+        // Cross check with the old implementation
+        final boolean bAllDigits = sCode.chars ().allMatch (c -> c >= '0' && c <= '9');
+        assertEquals (sCode,
+                      Boolean.valueOf (bAllDigits &&
+                                       AbstractUPCEAN.calcChecksum (sCode.toCharArray (), nLength - 1) ==
+                                                     AbstractUPCEAN.asInt (sCode.charAt (nLength - 1))),
+                      Boolean.valueOf (bExpected));
+        if (bExpected)
+          nValid++;
+      }
+      // Roughly every 10th code is valid
+      assertTrue (nValid > 0);
+    }
+  }
 }
@@ -0,0 +1,114 @@
+/*
+ * Copyright (C) 2014-2026 Philip Helger (www.helger.com)
+ * philip[at]helger[dot]com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.helger.masterdata.ean;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.helger.collection.commons.CommonsHashMap;
+import com.helger.collection.commons.ICommonsMap;
+
+/**
+ * Test class for class {@link PackedGTINIntMap}.
+ *
+ * @author Philip Helger
+ */
+public final class PackedGTINIntMapTest
+{
+  @Test
+  public void testBasic ()
+  {
+    final PackedGTINIntMap aMap = new PackedGTINIntMap ();
+    assertTrue (aMap.isEmpty ());
+    assertEquals (PackedGTINIntMap.NO_VALUE, aMap.put (4006381333931L, 1));
+    assertEquals (1, aMap.put (4006381333931L, 2));
+    assertEquals (2, aMap.putIfAbsent (4006381333931L, 3));
+    assertEquals (PackedGTINIntMap.NO_VALUE, aMap.putIfAbsent (11111115L, 4));
+    assertEquals (2, aMap.size ());
+
+    assertEquals (2, aMap.get (4006381333931L));
+    assertEquals (4, aMap.get (11111115L));
+    assertEquals (PackedGTINIntMap.NO_VALUE, aMap.get (0));
+    assertEquals (99, aMap.get (0, 99));
+    assertEquals (99, aMap.get (PackedGTIN.INVALID, 99));
+    assertTrue (aMap.containsKey (11111115L));
+    assertFalse (aMap.containsKey (0));
+
+    final long [] aKeys = aMap.keysToArray ();
+    Arrays.sort (aKeys);
+    assertArrayEquals (new long [] { 11111115L, 4006381333931L }, aKeys);
+
+    assertEquals (4, aMap.remove (11111115L));
+    assertEquals (PackedGTINIntMap.NO_VALUE, aMap.remove (11111115L));
+    assertEquals (1, aMap.size ());
+
+    aMap.clear ();
+    assertTrue (aMap.isEmpty ());
+    assertFalse (aMap.containsKey (4006381333931L));
+  }
+
+  @Test
+  public void testSameAsHashMap ()
+  {
+    final Random aRandom = new Random (42);
+    final PackedGTINIntMap aMap = new PackedGTINIntMap (0);
+    final ICommonsMap <Long, Integer> aExpected = new CommonsHashMap <> ();
+    for (int i = 0; i < 200_000; ++i)
+    {
+      // Small range with consecutive values to provoke collisions and clusters
+      final long nKey = 4006381000000L + aRandom.nextInt (50_000);
+      final Integer aOld;
+      final int nOld;
+      if (aRandom.nextInt (4) == 0)
+      {
+        aOld = aExpected.remove (Long.valueOf (nKey));
+        nOld = aMap.remove (nKey);
+      }
+      else
+      {
+        aOld = aExpected.put (Long.valueOf (nKey), Integer.valueOf (i));
+        nOld = aMap.put (nKey, i);
+      }
+      if (aOld == null)
+        assertEquals (PackedGTINIntMap.NO_VALUE, nOld);
+      else
+        assertEquals (aOld.intValue (), nOld);
+      assertEquals (aExpected.size (), aMap.size ());
+    }
+
+    for (long nKey = 4006381000000L; nKey < 4006381050000L; ++nKey)
+    {
+      final Integer aValue = aExpected.get (Long.valueOf (nKey));
+      if (aValue == null)
+        assertFalse (aMap.containsKey (nKey));
+      else
+        assertEquals (aValue.intValue (), aMap.get (nKey));
+    }
+
+    final ICommonsMap <Long, Integer> aActual = new CommonsHashMap <> ();
+    aMap.forEach ( (k, v) -> assertNull (aActual.put (Long.valueOf (k), Integer.valueOf (v))));
+    assertEquals (aExpected, aActual);
+  }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (C) 2014-2026 Philip Helger (www.helger.com)
+ * philip[at]helger[dot]com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.helger.masterdata.ean;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.helger.collection.commons.CommonsHashSet;
+import com.helger.collection.commons.ICommonsSet;
+
+/**
+ * Test class for class {@link PackedGTINSet}.
+ *
+ * @author Philip Helger
+ */
+public final class PackedGTINSetTest
+{
+  @Test
+  public void testBasic ()
+  {
+    final PackedGTINSet aSet = new PackedGTINSet ();
+    assertTrue (aSet.isEmpty ());
+    assertTrue (aSet.add (4006381333931L));
+    assertFalse (aSet.add (4006381333931L));
+    assertTrue (aSet.add (0));
+    assertEquals (2, aSet.size ());
+    assertTrue (aSet.contains (0));
+    assertTrue (aSet.contains (4006381333931L));
+    assertFalse (aSet.contains (11111115L));
+    assertFalse (aSet.contains (PackedGTIN.INVALID));
+
+    final long [] aValues = aSet.toArray ();
+    Arrays.sort (aValues);
+    assertArrayEquals (new long [] { 0, 4006381333931L }, aValues);
+
+    assertTrue (aSet.remove (0));
+    assertFalse (aSet.remove (0));
+    assertFalse (aSet.remove (PackedGTIN.INVALID));
+    assertEquals (1, aSet.size ());
+
+    aSet.clear ();
+    assertTrue (aSet.isEmpty ());
+    assertFalse (aSet.contains (4006381333931L));
+  }
+
+  @Test
+  public void testSameAsHashSet ()
+  {
+    final Random aRandom = new Random (42);
+    final PackedGTINSet aSet = new PackedGTINSet (0);
+    final ICommonsSet <Long> aExpected = new CommonsHashSet <> ();
+    for (int i = 0; i < 200_000; ++i)
+    {
+      // Small range with consecutive values to provoke collisions and clusters
+      final long nValue = 4006381000000L + aRandom.nextInt (50_000);
+      if (aRandom.nextInt (4) == 0)
+        assertEquals (aExpected.remove (Long.valueOf (nValue)), aSet.remove (nValue));
+      else
+        assertEquals (aExpected.add (Long.valueOf (nValue)), aSet.add (nValue));
+      assertEquals (aExpected.size (), aSet.size ());
+    }
+
+    for (long nValue = 4006381000000L; nValue < 4006381050000L; ++nValue)
+      assertEquals (aExpected.contains (Long.valueOf (nValue)), aSet.contains (nValue));
+
+    final ICommonsSet <Long> aActual = new CommonsHashSet <> ();
+    aSet.forEach (x -> assertTrue (aActual.add (Long.valueOf (x))));
+    assertEquals (aExpected, aActual);
+  }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright (C) 2014-2026 Philip Helger (www.helger.com)
+ * philip[at]helger[dot]com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.helger.masterdata.ean;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.Test;
+
+import com.helger.collection.commons.CommonsArrayList;
+import com.helger.collection.commons.ICommonsList;
+
+/**
+ * Test class for class {@link PackedGTIN}.
+ *
+ * @author Philip Helger
+ */
+public final class PackedGTINTest
+{
+  @Test
+  public void testEncode ()
+  {
+    assertEquals (11111115L, PackedGTIN.encode ("11111115"));
+    assertEquals (111111111117L, PackedGTIN.encode ("111111111117"));
+    assertEquals (4006381333931L, PackedGTIN.encode ("4006381333931"));
+    assertEquals (4006381333931L, PackedGTIN.encode ("04006381333931"));
+    assertEquals (4006381333931L, PackedGTIN.encode (new StringBuilder ("04006381333931")));
+    assertEquals (0L, PackedGTIN.encode ("00000000"));
+
+    assertEquals (PackedGTIN.INVALID, PackedGTIN.encode (null));
+    assertEquals (PackedGTIN.INVALID, PackedGTIN.encode (""));
+    assertEquals (PackedGTIN.INVALID, PackedGTIN.encode ("4006381333932"));
+    assertEquals (PackedGTIN.INVALID, PackedGTIN.encode ("400638133393"));
+    assertEquals (PackedGTIN.INVALID, PackedGTIN.encode ("40063813339a1"));
+    // SSCC is not supported
+    assertEquals (PackedGTIN.INVALID, PackedGTIN.encode ("106141411234567897"));
+  }
+
+  @Test
+  public void testDecode ()
+  {
+    assertEquals ("04006381333931", PackedGTIN.decode (4006381333931L));
+    assertEquals ("00000011111115", PackedGTIN.decode (11111115L));
+    assertEquals ("4006381333931", PackedGTIN.decodeToGTIN13OrNull (4006381333931L));
+    assertNull (PackedGTIN.decodeToGTIN13OrNull (PackedGTIN.encode ("14006381333938")));
+
+    assertFalse (PackedGTIN.isValid (-1));
+    assertFalse (PackedGTIN.isValid (4006381333932L));
+    assertFalse (PackedGTIN.isValid (100_000_000_000_000L));
+    try
+    {
+      PackedGTIN.decode (4006381333932L);
+      fail ();
+    }
+    catch (final IllegalArgumentException ex)
+    {
+      // expected
+    }
+  }
+
+  @Test
+  public void testRoundTripSameAsValidator ()
+  {
+    final Random aRandom = new Random (42);
+    for (int i = 0; i < 20_000; ++i)
+    {
+      final int nLength = new int [] { 8, 12, 13, 14 }[i % 4];
+      final char [] aChars = new char [nLength];
+      for (int j = 0; j < nLength; ++j)
+        aChars[j] = (char) ('0' + aRandom.nextInt (10));
+      final String sGTIN = new String (aChars);
+
+      final boolean bValid;
+      switch (nLength)
+      {
+        case 8:
+          bValid = GTINValidator.isValidGTIN8 (sGTIN);
+          break;
+        case 12:
+          bValid = GTINValidator.isValidGTIN12 (sGTIN);
+          break;
+        case 13:
+          bValid = GTINValidator.isValidGTIN13 (sGTIN);
+          break;
+        default:
+          bValid = GTINValidator.isValidGTIN14 (sGTIN);
+          break;
+      }
+
+      final long nEncoded = PackedGTIN.encode (sGTIN);
+      assertEquals (sGTIN, bValid, nEncoded != PackedGTIN.INVALID);
+      if (bValid)
+      {
+        assertTrue (PackedGTIN.isValid (nEncoded));
+        final String sGTIN14 = PackedGTIN.decode (nEncoded);
+        assertEquals (14, sGTIN14.length ());
+        assertTrue (sGTIN14.endsWith (sGTIN));
+        assertTrue (GTINValidator.isValidGTIN14 (sGTIN14));
+      }
+    }
+  }
+
+  @Test
+  public void testEncodeAll ()
+  {
+    final ICommonsList <String> aGTINs = new CommonsArrayList <> ();
+    for (int i = 0; i < 10_000; ++i)
+      aGTINs.add (i % 3 == 0 ? null : i % 3 == 1 ? "4006381333931" : "11111114");
+
+    final long [] aExpected = new long [aGTINs.size ()];
+    for (int i = 0; i < aExpected.length; ++i)
+      aExpected[i] = PackedGTIN.encode (aGTINs.get (i));
+
+    assertArrayEquals (aExpected, PackedGTIN.encodeAll (aGTINs, null));
+    final ExecutorService aES = Executors.newFixedThreadPool (4);
+    try
+    {
+      assertArrayEquals (aExpected, PackedGTIN.encodeAll (aGTINs, aES));
+    }
+    finally
+    {
+      aES.shutdown ();
+    }
+  }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (C) 2014-2026 Philip Helger (www.helger.com)
+ * philip[at]helger[dot]com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.helger.masterdata.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import org.junit.Test;
+
+/**
+ * Test class for class {@link AbstractPackedLongHashTable}.
+ *
+ * @author Philip Helger
+ */
+public final class AbstractPackedLongHashTableTest
+{
+  private static final class MockTable extends AbstractPackedLongHashTable
+  {
+    MockTable (final int nKeyWidth, final int nMaxCapacity)
+    {
+      super (nKeyWidth, true, 0, DEFAULT_FILL_FACTOR, nMaxCapacity);
+    }
+
+    boolean add (final long nKey0, final long nKey1, final int nValue)
+    {
+      final int nSlot = getSlotForInsert (nKey0, nKey1);
+      if (nSlot >= 0)
+        return false;
+      insertAt (nSlot, nKey0, nKey1, nValue);
+      return true;
+    }
+
+    int get (final long nKey0, final long nKey1)
+    {
+      final int nSlot = getSlot (nKey0, nKey1);
+      return nSlot < 0 ? -1 : getValueAt (nSlot);
+    }
+
+    int getCapacityValue ()
+    {
+      return getCapacity ();
+    }
+  }
+
+  private static void _testFull (final int nKeyWidth, final int nMaxCapacity)
+  {
+    final MockTable aTable = new MockTable (nKeyWidth, nMaxCapacity);
+
+    // One slot always stays free
+    final int nMaxSize = nMaxCapacity - 1;
+    for (int i = 0; i < nMaxSize; ++i)
+      assertTrue (aTable.add (i * 1_000_003L, i, i));
+    assertEquals (nMaxSize, aTable.size ());
+    assertEquals (nMaxCapacity, aTable.getCapacityValue ());
+
+    try
+    {
+      aTable.add (Long.MAX_VALUE, 7, 4711);
+      fail ();
+    }
+    catch (final IllegalArgumentException ex)
+    {
+      // expected
+    }
+
+    // The failed insert did not modify the table
+    assertEquals (nMaxSize, aTable.size ());
+    assertEquals (-1, aTable.get (Long.MAX_VALUE, 7));
+    for (int i = 0; i < nMaxSize; ++i)
+      assertEquals (i, aTable.get (i * 1_000_003L, i));
+
+    // Lookups of absent keys terminate
+    for (int i = 0; i < 1000; ++i)
+      assertEquals (-1, aTable.get (Long.MAX_VALUE - i, i + 1));
+    assertFalse (aTable.add (0, 0, 0));
+
+    // After removing an element, another one can be added
+    aTable.removeAt (aTable.getSlot (0, 0));
+    assertTrue (aTable.add (Long.MAX_VALUE, 7, 4711));
+    assertEquals (4711, aTable.get (Long.MAX_VALUE, 7));
+    assertEquals (nMaxSize, aTable.size ());
+  }
+
+  @Test
+  public void testFullTable ()
+  {
+    _testFull (1, 16);
+    _testFull (1, 64);
+    _testFull (2, 16);
+    _testFull (2, 64);
+  }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright (C) 2014-2026 Philip Helger (www.helger.com)
+ * philip[at]helger[dot]com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.helger.masterdata.iso;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.helger.base.CGlobal;
+
+/**
+ * Test class for class {@link ISO7064}.
+ *
+ * @author Philip Helger
+ */
+public final class ISO7064Test
+{
+  private static int _getMod97Simple (final String s)
+  {
+    int ret = 0;
+    for (final char c : s.toCharArray ())
+      if (c <= '9')
+        ret = (10 * ret + (c - '0')) % 97;
+      else
+        ret = (100 * ret + (c - 'A' + 10)) % 97;
+    return ret;
+  }
+
+  @Test
+  public void testMod97 ()
+  {
+    assertEquals (1, ISO7064.Mod97.getChecksum ("370400440532013000DE89"));
+    assertTrue (ISO7064.Mod97.isValid ("370400440532013000DE89"));
+    assertTrue (ISO7064.Mod97.isValid (new StringBuilder ("370400440532013000DE89")));
+    assertFalse (ISO7064.Mod97.isValid ("370400440532013000DE88"));
+    assertEquals (0, ISO7064.Mod97.getChecksum (""));
+    assertEquals (ISO7064.Mod97.ILLEGAL_CHECKSUM, ISO7064.Mod97.getChecksum ("3704a"));
+    assertEquals (ISO7064.Mod97.ILLEGAL_CHECKSUM, ISO7064.Mod97.getChecksum ("3704-"));
+
+    // Range with rotation
+    assertEquals (1, ISO7064.Mod97.getChecksum ("DE89370400440532013000", 0, 22, 4));
+    assertEquals (1, ISO7064.Mod97.getChecksum ("xxDE89370400440532013000yy", 2, 22, 4));
+    assertEquals (ISO7064.Mod97.getChecksum ("1234"), ISO7064.Mod97.getChecksum ("1234", 0, 4, 0));
+    assertEquals (ISO7064.Mod97.getChecksum ("1234"), ISO7064.Mod97.getChecksum ("1234", 0, 4, 4));
+
+    // Continued
+    final int nFirst = ISO7064.Mod97.getChecksum ("370400440532");
+    assertEquals (1, ISO7064.Mod97.getChecksum (nFirst, "013000DE89", 0, 10, 0));
+
+    // Single characters
+    int nChecksum = 0;
+    for (final char c : "370400440532013000DE89".toCharArray ())
+      nChecksum = ISO7064.Mod97.getChecksum (nChecksum, c);
+    assertEquals (1, nChecksum);
+    assertEquals (ISO7064.Mod97.ILLEGAL_CHECKSUM, ISO7064.Mod97.getChecksum (5, 'a'));
+    assertEquals (ISO7064.Mod97.ILLEGAL_CHECKSUM, ISO7064.Mod97.getChecksum (ISO7064.Mod97.ILLEGAL_CHECKSUM, '1'));
+  }
+
+  @Test
+  public void testMod97SameAsSimple ()
+  {
+    final Random aRandom = new Random (42);
+    for (int i = 0; i < 10_000; ++i)
+    {
+      final int nLen = aRandom.nextInt (60);
+      final char [] aChars = new char [nLen];
+      for (int j = 0; j < nLen; ++j)
+      {
+        final int n = aRandom.nextInt (36);
+        aChars[j] = (char) (n < 10 ? '0' + n : 'A' + n - 10);
+      }
+      final String s = new String (aChars);
+      assertEquals (s, _getMod97Simple (s), ISO7064.Mod97.getChecksum (s));
+
+      int nChecksum = 0;
+      for (final char c : aChars)
+        nChecksum = ISO7064.Mod97.getChecksum (nChecksum, c);
+      assertEquals (s, _getMod97Simple (s), nChecksum);
+
+      final int nRotation = nLen == 0 ? 0 : aRandom.nextInt (nLen + 1);
+      assertEquals (s,
+                    _getMod97Simple (s.substring (nRotation) + s.substring (0, nRotation)),
+                    ISO7064.Mod97.getChecksum (s, 0, nLen, nRotation));
+    }
+  }
+
+  @Test
+  public void testMod11_2 ()
+  {
+    assertEquals ('0', ISO7064.Mod11_2.getCheckCharacter ("0794"));
+    // ORCID
+    assertEquals ('7', ISO7064.Mod11_2.getCheckCharacter ("000000021825009"));
+    assertEquals ('X', ISO7064.Mod11_2.getCheckCharacter ("000000021694233"));
+    assertEquals (CGlobal.ILLEGAL_UINT, ISO7064.Mod11_2.getCheckCharacter ("07A4"));
+    assertTrue (ISO7064.Mod11_2.isValid ("07940"));
+    assertTrue (ISO7064.Mod11_2.isValid ("000000021694233X"));
+    assertFalse (ISO7064.Mod11_2.isValid ("07941"));
+    assertFalse (ISO7064.Mod11_2.isValid ("0794A"));
+    assertFalse (ISO7064.Mod11_2.isValid ("A794A"));
+    assertFalse (ISO7064.Mod11_2.isValid (""));
+  }
+
+  @Test
+  public void testMod37_2 ()
+  {
+    assertEquals ('H', ISO7064.Mod37_2.getCheckCharacter ("G123498654321"));
+    assertTrue (ISO7064.Mod37_2.isValid ("G123498654321H"));
+    assertFalse (ISO7064.Mod37_2.isValid ("G123498654321I"));
+    assertFalse (ISO7064.Mod37_2.isValid ("g123498654321H"));
+    assertEquals (CGlobal.ILLEGAL_UINT, ISO7064.Mod37_2.getCheckCharacter ("G12*"));
+  }
+
+  @Test
+  public void testMod11_10 ()
+  {
+    assertEquals ('5', ISO7064.Mod11_10.getCheckCharacter ("0794"));
+    // German VAT number
+    assertEquals ('6', ISO7064.Mod11_10.getCheckCharacter ("13669597"));
+    assertTrue (ISO7064.Mod11_10.isValid ("136695976"));
+    assertFalse (ISO7064.Mod11_10.isValid ("136695977"));
+    assertFalse (ISO7064.Mod11_10.isValid ("13669597A"));
+    assertEquals (CGlobal.ILLEGAL_UINT, ISO7064.Mod11_10.getCheckCharacter ("1A"));
+  }
+
+  @Test
+  public void testMod37_36 ()
+  {
+    assertEquals ('M', ISO7064.Mod37_36.getCheckCharacter ("A12425GABC1234002"));
+    assertTrue (ISO7064.Mod37_36.isValid ("A12425GABC1234002M"));
+    assertFalse (ISO7064.Mod37_36.isValid ("A12425GABC1234002N"));
+    assertFalse (ISO7064.Mod37_36.isValid ("A12425GABC1234002*"));
+    assertEquals (CGlobal.ILLEGAL_UINT, ISO7064.Mod37_36.getCheckCharacter ("a"));
+  }
+}
@@ -19,10 +19,18 @@ package com.helger.masterdata.postal;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.Locale;
 
 import org.junit.Test;
 
+import com.helger.collection.commons.CommonsArrayList;
+import com.helger.collection.commons.CommonsLinkedHashSet;
+import com.helger.collection.commons.ICommonsSet;
 import com.helger.text.locale.country.CountryCache;
 
 /**
@@ -87,4 +95,102 @@ public final class PostalCodeManagerTest
     assertEquals ("^[0-9][0-9][0-9][0-9]$", aFormat.getRegExPattern ());
     assertEquals ("AM", aFormat.getISO ());
   }
+
+  @Test
+  public void testMatchingFormat ()
+  {
+    final PostalCodeManager aMgr = PostalCodeManager.DEFAULT_MGR;
+
+    // South Korea has multiple formats
+    final IPostalCodeCountry aKR = aMgr.getPostalCountryOfCountry ("KR");
+    assertNotNull (aKR);
+    assertEquals ("NNN-NN", aKR.getMatchingFormat ("123-45").getFormatDefinitionString ());
+    assertEquals ("NNN-NNN", aKR.getMatchingFormat ("123-456").getFormatDefinitionString ());
+    assertEquals ("NNNNNN", aKR.getMatchingFormat ("123456").getFormatDefinitionString ());
+    assertNull (aKR.getMatchingFormat ("12-345"));
+    assertNull (aKR.getMatchingFormat (""));
+    assertNull (aKR.getMatchingFormat (null));
+
+    final IPostalCodeCountry aIM = aMgr.getPostalCountryOfCountry ("IM");
+    assertNotNull (aIM);
+    assertNotNull (aIM.getMatchingFormat ("IM1 1AA"));
+    assertNull (aIM.getMatchingFormat ("im1 1AA"));
+    assertNull (aIM.getMatchingFormat ("IM1 1\u00C4A"));
+  }
+
+  @Test
+  public void testMatchingFormatSameAsRegEx ()
+  {
+    final PostalCodeManager aMgr = PostalCodeManager.DEFAULT_MGR;
+    for (final Locale aCountry : aMgr.getAllAvailableCountries ())
+    {
+      final IPostalCodeCountry aPostalCountry = aMgr.getPostalCountryOfCountry (aCountry);
+
+      // Create valid and invalid variations of all examples
+      final ICommonsSet <String> aCandidates = new CommonsLinkedHashSet <> ();
+      for (final String sExample : aPostalCountry.getAllExamples ())
+      {
+        aCandidates.add (sExample);
+        aCandidates.add (sExample.toLowerCase (Locale.US));
+        aCandidates.add (sExample.substring (1));
+        aCandidates.add (sExample + "1");
+        aCandidates.add (sExample + "A");
+        for (int i = 0; i < sExample.length (); ++i)
+          for (final char c : new char [] { 'A', 'z', '0', '9', ' ', '-', '_', '\u00E4' })
+            aCandidates.add (sExample.substring (0, i) + c + sExample.substring (i + 1));
+      }
+
+      for (final String sCandidate : aCandidates)
+      {
+        PostalCodeFormat aExpected = null;
+        for (final PostalCodeFormat aFormat : aPostalCountry.getAllFormats ())
+          if (aFormat.isValidPostalCode (sCandidate))
+          {
+            aExpected = aFormat;
+            break;
+          }
+        final PostalCodeFormat aActual = aPostalCountry.getMatchingFormat (sCandidate);
+        if (aExpected == null)
+          assertNull (aCountry + " '" + sCandidate + "'", aActual);
+        else
+          assertSame (aCountry + " '" + sCandidate + "'", aExpected, aActual);
+        assertEquals (aExpected != null || aPostalCountry.getFormatCount () == 0,
+                      aPostalCountry.isValidPostalCode (sCandidate));
+      }
+    }
+  }
+
+  @Test
+  public void testAddCountry ()
+  {
+    final PostalCodeManager aMgr = new PostalCodeManager ();
+    assertTrue (aMgr.getAllAvailableCountries ().isEmpty ());
+    assertNull (aMgr.getPostalCountryOfCountry ("AT"));
+
+    final PostalCodeCountry aAT = new PostalCodeCountry ("AT");
+    aAT.addFormat (new PostalCodeFormat ("AT", new CommonsArrayList <> (EPostalCodeFormatElement.NUMBER)));
+    aMgr.addCountry (aAT);
+    assertSame (aAT, aMgr.getPostalCountryOfCountry ("AT"));
+    assertSame (aAT, aMgr.getPostalCountryOfCountry ("at"));
+    assertSame (aAT, aMgr.getPostalCountryOfCountry (CountryCache.getInstance ().getCountry ("AT")));
+    assertSame (aAT, aMgr.getPostalCountryOfCountry (new Locale ("de", "AT")));
+    assertNull (aMgr.getPostalCountryOfCountry ("DE"));
+    assertNull (aMgr.getPostalCountryOfCountry ("A"));
+    assertNull (aMgr.getPostalCountryOfCountry ((String) null));
+    assertNull (aMgr.getPostalCountryOfCountry (Locale.GERMAN));
+    assertNull (aMgr.getPostalCountryOfCountry ((Locale) null));
+    assertEquals (1, aMgr.getAllAvailableCountries ().size ());
+    assertTrue (aMgr.isValidPostalCodeDefaultNo (CountryCache.getInstance ().getCountry ("AT"), "1"));
+
+    try
+    {
+      aMgr.addCountry (new PostalCodeCountry ("at"));
+      fail ();
+    }
+    catch (final IllegalArgumentException ex)
+    {
+      // expected
+    }
+    assertSame (aAT, aMgr.getPostalCountryOfCountry ("AT"));
+  }
 }
@@ -20,14 +20,23 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
+import java.io.IOException;
+import java.io.StringWriter;
 import java.time.Month;
+import java.util.Arrays;
 import java.util.Locale;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 
 import org.junit.Test;
 
+import com.helger.base.CGlobal;
 import com.helger.base.string.StringParser;
+import com.helger.collection.commons.CommonsArrayList;
+import com.helger.collection.commons.ICommonsList;
 import com.helger.datetime.helper.PDTFactory;
 
 /**
@@ -185,6 +194,129 @@ public final class IBANManagerTest
                     IBANManager.createChecksumOfNewIBAN (sIBAN.substring (0, 2), sIBAN.substring (4)));
   }
 
+  @Test
+  public void testIBANValidityCharSequence ()
+  {
+    for (final String sIBAN : VALID_IBANS)
+    {
+      assertTrue (sIBAN, IBANManager.isValidIBAN (new StringBuilder (sIBAN)));
+      assertTrue (sIBAN, IBANManager.isValidIBAN (sIBAN.toLowerCase (Locale.US)));
+    }
+
+    // Invalid length
+    assertFalse (IBANManager.isValidIBAN ("DE89 3704 0044 0532 0130 0"));
+    assertFalse (IBANManager.isValidIBAN ("DE89 3704 0044 0532 0130 000"));
+    // Invalid checksum
+    assertFalse (IBANManager.isValidIBAN ("DE88 3704 0044 0532 0130 00"));
+    assertFalse (IBANManager.isValidIBAN ("DEX9 3704 0044 0532 0130 00"));
+    // Invalid layout
+    assertFalse (IBANManager.isValidIBAN ("DE89 3704 0044 0532 0130 0A"));
+    // Fixed check digits
+    assertFalse (IBANManager.isValidIBAN ("TN60 1000 6035 1835 9847 8831"));
+    // Too short
+    assertFalse (IBANManager.isValidIBAN ("DE8"));
+    assertFalse (IBANManager.isValidIBAN (""));
+    assertFalse (IBANManager.isValidIBAN ((CharSequence) null));
+
+    // Unknown country
+    assertFalse (IBANManager.isValidIBAN ("XX89 3704 0044 0532 0130 00"));
+    assertTrue (IBANManager.isValidIBAN ("XX89 3704 0044 0532 0130 00", true));
+    assertTrue (IBANManager.isValidIBAN ("1234", true));
+    assertFalse (IBANManager.isValidIBAN ("123", true));
+  }
+
+  @Test
+  public void testValidationStatus ()
+  {
+    for (final String sIBAN : VALID_IBANS)
+      assertSame (sIBAN, EIBANValidationStatus.VALID, IBANManager.getValidationStatus (sIBAN));
+
+    assertSame (EIBANValidationStatus.TOO_SHORT, IBANManager.getValidationStatus (null));
+    assertSame (EIBANValidationStatus.TOO_SHORT, IBANManager.getValidationStatus ("DE-8"));
+    assertSame (EIBANValidationStatus.UNSUPPORTED_COUNTRY, IBANManager.getValidationStatus ("XX89370400440532013000"));
+    assertSame (EIBANValidationStatus.INVALID_LENGTH, IBANManager.getValidationStatus ("DE8937040044053201300"));
+    assertSame (EIBANValidationStatus.INVALID_LENGTH, IBANManager.getValidationStatus ("DE893704004405320130000"));
+    assertSame (EIBANValidationStatus.INVALID_CHECK_DIGITS, IBANManager.getValidationStatus ("DEX9370400440532013000"));
+    assertSame (EIBANValidationStatus.INVALID_CHECKSUM, IBANManager.getValidationStatus ("DE88370400440532013000"));
+    // Valid checksum but invalid layout
+    assertSame (EIBANValidationStatus.INVALID_LAYOUT,
+                IBANManager.getValidationStatus (IBANManager.createIBANWithValidChecksum ("DE", "37040044053201300A")));
+  }
+
+  @Test
+  public void testBulkValidation ()
+  {
+    final ICommonsList <String> aIBANs = new CommonsArrayList <> ();
+    for (int i = 0; i < 10_000; ++i)
+    {
+      aIBANs.add (VALID_IBANS[i % VALID_IBANS.length]);
+      aIBANs.add (i % 2 == 0 ? "DE88370400440532013000" : null);
+    }
+
+    IBANBulkValidationResult aResult = IBANManager.validateIBANs (aIBANs.subList (0, 4));
+    assertEquals (4, aResult.getCount ());
+    assertEquals (2, aResult.getValidCount ());
+    assertTrue (aResult.isValid (0));
+    assertSame (EIBANValidationStatus.INVALID_CHECKSUM, aResult.getStatus (1));
+    assertSame (EIBANValidationStatus.TOO_SHORT, aResult.getStatus (3));
+
+    // Serial and parallel
+    for (final Executor aExecutor : new Executor [] { null, ForkJoinPool.commonPool () })
+    {
+      aResult = IBANManager.validateIBANs (aIBANs, aExecutor);
+      assertEquals (aIBANs.size (), aResult.getCount ());
+      assertEquals (10_000, aResult.getValidCount ());
+      assertEquals (10_000, aResult.getInvalidCount ());
+      assertEquals (5_000, aResult.getCountOfStatus (EIBANValidationStatus.INVALID_CHECKSUM));
+      assertEquals (5_000, aResult.getCountOfStatus (EIBANValidationStatus.TOO_SHORT));
+      assertFalse (aResult.areAllValid ());
+      assertEquals (10_000, aResult.getAllValidFlags ().cardinality ());
+      for (int i = 0; i < aIBANs.size (); ++i)
+        assertEquals (i % 2 == 0, aResult.isValid (i));
+    }
+
+    // Stream
+    aResult = IBANManager.validateIBANs (Arrays.stream (VALID_IBANS), ForkJoinPool.commonPool ());
+    assertTrue (aResult.areAllValid ());
+  }
+
+  @Test
+  public void testFormattedIBAN () throws IOException
+  {
+    assertNull (IBANManager.getFormattedIBAN (null));
+    assertEquals ("", IBANManager.getFormattedIBAN (""));
+    assertEquals ("DE89 3704 0044 0532 0130 00", IBANManager.getFormattedIBAN ("DE89370400440532013000"));
+    assertEquals ("DE89 3704 0044 0532 0130 00", IBANManager.getFormattedIBAN (" de89-3704.0044 0532 0130 00 "));
+    assertEquals ("DE89-3704-0044-0532-0130-00", IBANManager.getFormattedIBAN ("DE89370400440532013000", 4, "-"));
+    assertEquals ("DE89, 3704, 0044", IBANManager.getFormattedIBAN ("DE8937040044", 4, ", "));
+    assertEquals ("DE8937040044", IBANManager.getFormattedIBAN ("DE8937040044", 12, " "));
+    assertEquals ("D E 8", IBANManager.getFormattedIBAN ("de8", 1, " "));
+    // Same upper casing as unifyIBAN
+    assertEquals ("STRA SSE", IBANManager.getFormattedIBAN ("stra\u00dfe", 4, " "));
+
+    for (final String sIBAN : VALID_IBANS)
+    {
+      final String sFormatted = IBANManager.getFormattedIBAN (sIBAN);
+      assertEquals (IBANManager.unifyIBAN (sIBAN), sFormatted.replace (" ", ""));
+
+      // Appendable
+      final StringWriter aSW = new StringWriter ();
+      assertSame (aSW, IBANManager.appendFormattedIBAN (sIBAN, 4, " ", aSW));
+      assertEquals (sFormatted, aSW.toString ());
+
+      // StringBuilder
+      final StringBuilder aSB = new StringBuilder ("x");
+      assertSame (aSB, IBANManager.appendFormattedIBAN (sIBAN, 4, " ", aSB));
+      assertEquals ("x" + sFormatted, aSB.toString ());
+
+      // char array
+      final char [] aChars = new char [sFormatted.length () + 2];
+      assertEquals (sFormatted.length (), IBANManager.getFormattedIBAN (sIBAN, 4, " ", aChars, 2));
+      assertEquals (sFormatted, new String (aChars, 2, sFormatted.length ()));
+      assertEquals (CGlobal.ILLEGAL_UINT, IBANManager.getFormattedIBAN (sIBAN, 4, " ", aChars, 3));
+    }
+  }
+
   @Test
   public void testCreateIBANs ()
   {
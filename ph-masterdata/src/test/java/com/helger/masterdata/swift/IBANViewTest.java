@@ -0,0 +1,120 @@
+/*
+ * Copyright (C) 2014-2026 Philip Helger (www.helger.com)
+ * philip[at]helger[dot]com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.helger.masterdata.swift;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.EnumSet;
+
+import org.junit.Test;
+
+import com.helger.base.CGlobal;
+
+/**
+ * Test class for class {@link IBANView}.
+ *
+ * @author Philip Helger
+ */
+public final class IBANViewTest
+{
+  @Test
+  public void testBasic ()
+  {
+    final IBANView aView = IBANView.createFromString ("de89 3704 0044 0532 0130 00");
+    assertNotNull (aView);
+    assertEquals ("DE89370400440532013000", aView.toString ());
+    assertEquals (22, aView.length ());
+    assertEquals ('D', aView.charAt (0));
+    assertEquals ("DE", aView.subSequence (0, 2).toString ());
+    assertSame (IBANManager.getCountryData ("DE"), aView.getCountryData ());
+
+    assertTrue (aView.hasElement (EIBANElementType.NATIONAL_BANK_CODE));
+    assertEquals ("37040044", aView.getElementValue (EIBANElementType.NATIONAL_BANK_CODE).toString ());
+    assertEquals (37040044, aView.getElementValueAsLong (EIBANElementType.NATIONAL_BANK_CODE));
+    assertEquals ("0532013000", aView.getElementValue (EIBANElementType.ACCOUNT_NUMBER).toString ());
+    assertEquals (532013000, aView.getElementValueAsLong (EIBANElementType.ACCOUNT_NUMBER));
+    assertEquals ("DE", aView.getElementValue (EIBANElementType.COUNTRY_CODE).toString ());
+    assertEquals (CGlobal.ILLEGAL_ULONG, aView.getElementValueAsLong (EIBANElementType.COUNTRY_CODE));
+    assertEquals ("89", aView.getElementValue (EIBANElementType.IBAN_CHECK_DIGITS).toString ());
+
+    final CharSequence aBankCode = aView.getElementValue (EIBANElementType.NATIONAL_BANK_CODE);
+    assertEquals ('3', aBankCode.charAt (0));
+    assertEquals ("0400", aBankCode.subSequence (2, 6).toString ());
+
+    assertFalse (aView.hasElement (EIBANElementType.BRANCH_CODE));
+    assertNull (aView.getElementValue (EIBANElementType.BRANCH_CODE));
+    assertEquals (CGlobal.ILLEGAL_ULONG, aView.getElementValueAsLong (EIBANElementType.BRANCH_CODE));
+
+    assertEquals (aView, IBANView.createFromString ("DE89370400440532013000"));
+    assertEquals (aView.hashCode (), IBANView.createFromString ("DE89370400440532013000").hashCode ());
+    assertEquals (IBAN.createFromString ("DE89370400440532013000"), aView.getAsIBAN ());
+  }
+
+  @Test
+  public void testSameAsIBAN ()
+  {
+    for (final String sIBAN : IBANManagerTest.VALID_IBANS)
+    {
+      final IBANView aView = IBANView.createFromString (sIBAN);
+      assertNotNull (sIBAN, aView);
+      assertEquals (IBANManager.unifyIBAN (sIBAN), aView.toString ());
+
+      // The element values must match the first element value of each type
+      final EnumSet <EIBANElementType> aSeen = EnumSet.noneOf (EIBANElementType.class);
+      for (final IBANElementValue aValue : IBAN.createFromString (sIBAN).getAllValues ())
+      {
+        final EIBANElementType eType = aValue.getElement ().getElementType ();
+        if (aSeen.add (eType))
+          assertEquals (sIBAN + " " + eType, aValue.getValue (), aView.getElementValue (eType).toString ());
+      }
+    }
+  }
+
+  @Test
+  public void testInvalid ()
+  {
+    assertNull (IBANView.createFromString (null));
+    assertNull (IBANView.createFromString (""));
+    assertNull (IBANView.createFromString ("DE-8"));
+
+    try
+    {
+      IBANView.createFromString ("XX89370400440532013000");
+      fail ();
+    }
+    catch (final IllegalArgumentException ex)
+    {
+      // expected
+    }
+
+    try
+    {
+      IBANView.createFromString ("DE8937040044053201300");
+      fail ();
+    }
+    catch (final IllegalArgumentException ex)
+    {
+      // expected
+    }
+  }
+}
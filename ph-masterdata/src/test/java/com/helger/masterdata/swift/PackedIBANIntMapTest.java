@@ -0,0 +1,122 @@
+/*
+ * Copyright (C) 2014-2026 Philip Helger (www.helger.com)
+ * philip[at]helger[dot]com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.helger.masterdata.swift;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.helger.collection.commons.CommonsHashMap;
+import com.helger.collection.commons.ICommonsMap;
+
+/**
+ * Test class for class {@link PackedIBANIntMap}.
+ *
+ * @author Philip Helger
+ */
+public final class PackedIBANIntMapTest
+{
+  @Test
+  public void testBasic ()
+  {
+    final long [] aDE = new long [2];
+    final long [] aAT = new long [2];
+    assertTrue (PackedIBAN.encode ("DE89370400440532013000", aDE, 0));
+    assertTrue (PackedIBAN.encode ("AT611904300234573201", aAT, 0));
+
+    final PackedIBANIntMap aMap = new PackedIBANIntMap ();
+    assertTrue (aMap.isEmpty ());
+    assertEquals (PackedIBANIntMap.NO_VALUE, aMap.put (aDE[0], aDE[1], 1));
+    assertEquals (1, aMap.put (aDE[0], aDE[1], 2));
+    assertEquals (2, aMap.putIfAbsent (aDE[0], aDE[1], 3));
+    assertEquals (PackedIBANIntMap.NO_VALUE, aMap.putIfAbsent (aAT[0], aAT[1], 4));
+    assertEquals (2, aMap.size ());
+
+    assertEquals (2, aMap.get (aDE[0], aDE[1]));
+    assertEquals (4, aMap.get (aAT[0], aAT[1]));
+    assertEquals (PackedIBANIntMap.NO_VALUE, aMap.get (0, 0));
+    assertEquals (99, aMap.get (0, 0, 99));
+    assertEquals (99, aMap.get (PackedIBAN.INVALID, PackedIBAN.INVALID, 99));
+    assertTrue (aMap.containsKey (aAT[0], aAT[1]));
+    assertFalse (aMap.containsKey (0, 0));
+
+    // The high part may be negative
+    assertEquals (PackedIBANIntMap.NO_VALUE, aMap.put (Long.MIN_VALUE, PackedIBAN.INVALID, 5));
+    assertEquals (5, aMap.get (Long.MIN_VALUE, PackedIBAN.INVALID));
+    assertEquals (5, aMap.remove (Long.MIN_VALUE, PackedIBAN.INVALID));
+
+    assertEquals (4, aMap.remove (aAT[0], aAT[1]));
+    assertEquals (PackedIBANIntMap.NO_VALUE, aMap.remove (aAT[0], aAT[1]));
+    assertEquals (1, aMap.size ());
+    assertArrayEquals (aDE, aMap.keysToArray ());
+
+    aMap.clear ();
+    assertTrue (aMap.isEmpty ());
+    assertFalse (aMap.containsKey (aDE[0], aDE[1]));
+  }
+
+  @Test
+  public void testSameAsHashMap ()
+  {
+    final Random aRandom = new Random (42);
+    final PackedIBANIntMap aMap = new PackedIBANIntMap (0);
+    final ICommonsMap <String, Integer> aExpected = new CommonsHashMap <> ();
+    for (int i = 0; i < 200_000; ++i)
+    {
+      // Small range with consecutive values to provoke collisions and clusters
+      final long nHigh = aRandom.nextInt (3);
+      final long nLow = aRandom.nextInt (20_000) - 10_000;
+      final Integer aOld;
+      final int nOld;
+      if (aRandom.nextInt (4) == 0)
+      {
+        aOld = aExpected.remove (nHigh + "/" + nLow);
+        nOld = aMap.remove (nHigh, nLow);
+      }
+      else
+      {
+        aOld = aExpected.put (nHigh + "/" + nLow, Integer.valueOf (i));
+        nOld = aMap.put (nHigh, nLow, i);
+      }
+      if (aOld == null)
+        assertEquals (PackedIBANIntMap.NO_VALUE, nOld);
+      else
+        assertEquals (aOld.intValue (), nOld);
+      assertEquals (aExpected.size (), aMap.size ());
+    }
+
+    for (long nHigh = 0; nHigh < 3; ++nHigh)
+      for (long nLow = -10_000; nLow < 10_000; ++nLow)
+      {
+        final Integer aValue = aExpected.get (nHigh + "/" + nLow);
+        if (aValue == null)
+          assertFalse (aMap.containsKey (nHigh, nLow));
+        else
+          assertEquals (aValue.intValue (), aMap.get (nHigh, nLow));
+      }
+
+    final ICommonsMap <String, Integer> aActual = new CommonsHashMap <> ();
+    aMap.forEach ( (h, l, v) -> assertNull (aActual.put (h + "/" + l, Integer.valueOf (v))));
+    assertEquals (aExpected, aActual);
+  }
+}
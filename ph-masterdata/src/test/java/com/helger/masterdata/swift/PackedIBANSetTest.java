@@ -0,0 +1,126 @@
+/*
+ * Copyright (C) 2014-2026 Philip Helger (www.helger.com)
+ * philip[at]helger[dot]com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.helger.masterdata.swift;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.helger.collection.commons.CommonsHashSet;
+import com.helger.collection.commons.ICommonsSet;
+
+/**
+ * Test class for class {@link PackedIBANSet}.
+ *
+ * @author Philip Helger
+ */
+public final class PackedIBANSetTest
+{
+  @Test
+  public void testBasic ()
+  {
+    final long [] aDE = new long [2];
+    final long [] aAT = new long [2];
+    assertTrue (PackedIBAN.encode ("DE89370400440532013000", aDE, 0));
+    assertTrue (PackedIBAN.encode ("AT611904300234573201", aAT, 0));
+
+    final PackedIBANSet aSet = new PackedIBANSet ();
+    assertTrue (aSet.isEmpty ());
+    assertTrue (aSet.add (aDE[0], aDE[1]));
+    assertFalse (aSet.add (aDE[0], aDE[1]));
+    assertEquals (1, aSet.size ());
+    assertTrue (aSet.contains (aDE[0], aDE[1]));
+    assertFalse (aSet.contains (aAT[0], aAT[1]));
+    assertFalse (aSet.contains (PackedIBAN.INVALID, PackedIBAN.INVALID));
+    assertArrayEquals (aDE, aSet.toArray ());
+
+    assertTrue (aSet.add (aAT[0], aAT[1]));
+    assertEquals (2, aSet.size ());
+    assertTrue (aSet.remove (aDE[0], aDE[1]));
+    assertFalse (aSet.remove (aDE[0], aDE[1]));
+    assertFalse (aSet.remove (PackedIBAN.INVALID, PackedIBAN.INVALID));
+    assertEquals (1, aSet.size ());
+    assertArrayEquals (aAT, aSet.toArray ());
+
+    aSet.clear ();
+    assertTrue (aSet.isEmpty ());
+    assertFalse (aSet.contains (aAT[0], aAT[1]));
+  }
+
+  @Test
+  public void testNegativeHighPart ()
+  {
+    final PackedIBANSet aSet = new PackedIBANSet ();
+    assertTrue (aSet.add (PackedIBAN.INVALID, 0));
+    assertTrue (aSet.add (0, PackedIBAN.INVALID));
+    assertTrue (aSet.add (Long.MIN_VALUE, -2));
+    assertEquals (3, aSet.size ());
+    assertTrue (aSet.contains (PackedIBAN.INVALID, 0));
+    assertTrue (aSet.contains (Long.MIN_VALUE, -2));
+    assertFalse (aSet.contains (PackedIBAN.INVALID, PackedIBAN.INVALID));
+
+    // Reserved for unused slots
+    try
+    {
+      aSet.add (PackedIBAN.INVALID, PackedIBAN.INVALID);
+      fail ();
+    }
+    catch (final IllegalArgumentException ex)
+    {
+      // expected
+    }
+    assertEquals (3, aSet.size ());
+
+    assertTrue (aSet.remove (PackedIBAN.INVALID, 0));
+    assertFalse (aSet.contains (PackedIBAN.INVALID, 0));
+    assertTrue (aSet.contains (0, PackedIBAN.INVALID));
+    assertEquals (2, aSet.size ());
+  }
+
+  @Test
+  public void testSameAsHashSet ()
+  {
+    final Random aRandom = new Random (42);
+    final PackedIBANSet aSet = new PackedIBANSet (0);
+    final ICommonsSet <String> aExpected = new CommonsHashSet <> ();
+    for (int i = 0; i < 200_000; ++i)
+    {
+      // Small range with consecutive values to provoke collisions and clusters
+      final long nHigh = aRandom.nextInt (3);
+      final long nLow = aRandom.nextInt (20_000) - 10_000;
+      if (aRandom.nextInt (4) == 0)
+        assertEquals (aExpected.remove (nHigh + "/" + nLow), aSet.remove (nHigh, nLow));
+      else
+        assertEquals (aExpected.add (nHigh + "/" + nLow), aSet.add (nHigh, nLow));
+      assertEquals (aExpected.size (), aSet.size ());
+    }
+
+    for (long nHigh = 0; nHigh < 3; ++nHigh)
+      for (long nLow = -10_000; nLow < 10_000; ++nLow)
+        assertEquals (aExpected.contains (nHigh + "/" + nLow), aSet.contains (nHigh, nLow));
+
+    final ICommonsSet <String> aActual = new CommonsHashSet <> ();
+    aSet.forEach ( (h, l) -> assertTrue (aActual.add (h + "/" + l)));
+    assertEquals (aExpected, aActual);
+  }
+}
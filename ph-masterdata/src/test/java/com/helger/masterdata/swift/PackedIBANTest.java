@@ -0,0 +1,195 @@
+/*
+ * Copyright (C) 2014-2026 Philip Helger (www.helger.com)
+ * philip[at]helger[dot]com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.helger.masterdata.swift;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.helger.collection.commons.CommonsArrayList;
+import com.helger.collection.commons.CommonsHashSet;
+import com.helger.collection.commons.ICommonsSet;
+
+/**
+ * Test class for class {@link PackedIBAN}.
+ *
+ * @author Philip Helger
+ */
+public final class PackedIBANTest
+{
+  @Test
+  public void testEncodableCountries ()
+  {
+    assertTrue (PackedIBAN.isEncodableCountry ("DE"));
+    assertTrue (PackedIBAN.isEncodableCountry ("at"));
+    assertTrue (PackedIBAN.isEncodableCountry ("BF"));
+    // Long alphanumeric BBANs
+    assertFalse (PackedIBAN.isEncodableCountry ("LC"));
+    assertFalse (PackedIBAN.isEncodableCountry ("KW"));
+    assertFalse (PackedIBAN.isEncodableCountry ("MT"));
+    // Fit alone, but not together with all other countries
+    assertFalse (PackedIBAN.isEncodableCountry ("PS"));
+    assertFalse (PackedIBAN.isEncodableCountry ("QA"));
+    // No IBAN country
+    assertFalse (PackedIBAN.isEncodableCountry ("US"));
+    assertFalse (PackedIBAN.isEncodableCountry ("D"));
+    assertFalse (PackedIBAN.isEncodableCountry (null));
+
+    int nEncodable = 0;
+    for (final String sCountry : IBANManager.getAllSupportedCountries ())
+      if (PackedIBAN.isEncodableCountry (sCountry))
+        nEncodable++;
+    assertTrue (nEncodable >= IBANManager.getAllSupportedCountries ().size () - 5);
+  }
+
+  @Test
+  public void testEncodeDecode ()
+  {
+    final long [] aEncoded = new long [3];
+    for (final String sIBAN : IBANManagerTest.VALID_IBANS)
+    {
+      final String sUnified = IBANManager.unifyIBAN (sIBAN);
+      if (PackedIBAN.isEncodableCountry (sUnified.substring (0, 2)))
+      {
+        assertTrue (sIBAN, PackedIBAN.encode (sIBAN, aEncoded, 1));
+        assertTrue (PackedIBAN.isValid (aEncoded[1], aEncoded[2]));
+        assertEquals (sUnified, PackedIBAN.decode (aEncoded[1], aEncoded[2]));
+        assertSame (IBANManager.getCountryData (sUnified.substring (0, 2)),
+                    PackedIBAN.getCountryData (aEncoded[1], aEncoded[2]));
+
+        // Same value independent of the formatting
+        final long [] aEncoded2 = new long [2];
+        assertTrue (PackedIBAN.encode (IBANManager.getFormattedIBAN (sUnified).toLowerCase (), aEncoded2, 0));
+        assertArrayEquals (Arrays.copyOfRange (aEncoded, 1, 3), aEncoded2);
+      }
+      else
+        assertFalse (sIBAN, PackedIBAN.encode (sIBAN, aEncoded, 0));
+    }
+
+    assertFalse (PackedIBAN.encode (null, aEncoded, 0));
+    assertFalse (PackedIBAN.encode ("", aEncoded, 0));
+    // Invalid checksum
+    assertFalse (PackedIBAN.encode ("DE89 3704 0044 0532 0130 01", aEncoded, 0));
+    // Invalid length
+    assertFalse (PackedIBAN.encode ("DE89 3704 0044 0532 0130 0", aEncoded, 0));
+  }
+
+  @Test
+  public void testRandomBBANs ()
+  {
+    final Random aRandom = new Random (42);
+    final long [] aEncoded = new long [2];
+    final ICommonsSet <String> aValues = new CommonsHashSet <> ();
+    for (final String sCountry : IBANManager.getAllSupportedCountries ())
+      if (PackedIBAN.isEncodableCountry (sCountry))
+      {
+        final IBANCountryData aData = IBANManager.getCountryData (sCountry);
+        for (int i = 0; i < 100; ++i)
+        {
+          final char [] aBBAN = new char [aData.getExpectedLength () - 4];
+          for (int j = 0; j < aBBAN.length; ++j)
+          {
+            final int nCharCount = aData.getLayoutCharCount (4 + j);
+            if (nCharCount == 1)
+            {
+              // Fixed character
+              aBBAN[j] = aData.getLayoutFixedChar (4 + j);
+              continue;
+            }
+            // Also use the smallest and the largest BBAN
+            final int nValue = i == 1 ? 0 : i == 2 ? nCharCount - 1 : aRandom.nextInt (nCharCount);
+            if (nCharCount == 26)
+              aBBAN[j] = (char) ('A' + nValue);
+            else
+              aBBAN[j] = (char) (nValue < 10 ? '0' + nValue : 'A' + nValue - 10);
+          }
+          final String sIBAN = IBANManager.createIBANWithValidChecksum (sCountry, new String (aBBAN));
+
+          if (!IBANManager.isValidIBAN (sIBAN))
+          {
+            // Fixed check digits don't match
+            assertTrue (aData.hasFixedCheckDigits ());
+            assertFalse (sIBAN, PackedIBAN.encode (sIBAN, aEncoded, 0));
+            continue;
+          }
+
+          final int nCheckDigits = Integer.parseInt (sIBAN.substring (2, 4));
+          assertTrue (sIBAN, PackedIBAN.encode (sIBAN, aEncoded, 0));
+          assertEquals (sIBAN, PackedIBAN.decode (aEncoded[0], aEncoded[1]));
+          assertSame (aData, PackedIBAN.getCountryData (aEncoded[0], aEncoded[1]));
+          aValues.add (aEncoded[0] + "/" + aEncoded[1]);
+
+          // Alternative check digits with the same checksum
+          if (nCheckDigits <= 2 || nCheckDigits >= 97)
+          {
+            final String sAlternative = sIBAN.substring (0, 2) +
+                                        (nCheckDigits <= 2 ? nCheckDigits + 97 : "0" + (nCheckDigits - 97)) +
+                                        sIBAN.substring (4);
+            assertFalse (sAlternative, PackedIBAN.encode (sAlternative, aEncoded, 0));
+          }
+        }
+      }
+    // No collisions
+    assertTrue (aValues.size () > 80 * 90);
+  }
+
+  @Test
+  public void testBounds ()
+  {
+    assertTrue (PackedIBAN.isValid (0, 0));
+    assertNotNull (PackedIBAN.decode (0, 0));
+    assertFalse (PackedIBAN.isValid (PackedIBAN.INVALID, PackedIBAN.INVALID));
+    assertFalse (PackedIBAN.isValid (Long.MAX_VALUE, 0));
+    assertNull (PackedIBAN.getCountryData (PackedIBAN.INVALID, PackedIBAN.INVALID));
+    try
+    {
+      PackedIBAN.decode (PackedIBAN.INVALID, PackedIBAN.INVALID);
+      fail ();
+    }
+    catch (final IllegalArgumentException ex)
+    {
+      // expected
+    }
+  }
+
+  @Test
+  public void testEncodeAll ()
+  {
+    final long [] aEncoded = PackedIBAN.encodeAll (new CommonsArrayList <> ("DE89370400440532013000",
+                                                                            null,
+                                                                            "AT611904300234573201",
+                                                                            "LC39WJMVX272HPOEVB9OOAEDOECVE6PR"),
+                                                   null);
+    assertEquals (8, aEncoded.length);
+    assertEquals ("DE89370400440532013000", PackedIBAN.decode (aEncoded[0], aEncoded[1]));
+    assertEquals (PackedIBAN.INVALID, aEncoded[2]);
+    assertEquals (PackedIBAN.INVALID, aEncoded[3]);
+    assertEquals ("AT611904300234573201", PackedIBAN.decode (aEncoded[4], aEncoded[5]));
+    assertEquals (PackedIBAN.INVALID, aEncoded[6]);
+    assertEquals (PackedIBAN.INVALID, aEncoded[7]);
+  }
+}
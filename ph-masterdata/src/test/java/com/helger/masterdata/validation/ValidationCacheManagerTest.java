@@ -0,0 +1,130 @@
+/*
+ * Copyright (C) 2014-2026 Philip Helger (www.helger.com)
+ * philip[at]helger[dot]com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.helger.masterdata.validation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.After;
+import org.junit.Test;
+
+import com.helger.masterdata.ean.GTINValidator;
+import com.helger.masterdata.leitwegid.LeitwegID;
+import com.helger.masterdata.swift.EIBANValidationStatus;
+import com.helger.masterdata.swift.IBANManager;
+import com.helger.masterdata.vat.VATINSyntaxChecker;
+
+/**
+ * Test class for class {@link ValidationCacheManager}.
+ *
+ * @author Philip Helger
+ */
+public final class ValidationCacheManagerTest
+{
+  @After
+  public void after ()
+  {
+    ValidationCacheManager.disableAllCaches ();
+  }
+
+  @Test
+  public void testEnableDisable ()
+  {
+    for (final EValidationCacheType eType : EValidationCacheType.values ())
+    {
+      assertSame (eType, EValidationCacheType.getFromIDOrNull (eType.getID ()));
+      assertNull (ValidationCacheManager.getCache (eType));
+
+      final ValidationCache aCache = ValidationCacheManager.enableCache (eType);
+      assertNotNull (aCache);
+      assertSame (aCache, ValidationCacheManager.getCache (eType));
+      assertEquals (ValidationCacheManager.DEFAULT_MAX_SIZE, aCache.getMaxSize ());
+
+      ValidationCacheManager.disableCache (eType);
+      assertNull (ValidationCacheManager.getCache (eType));
+    }
+  }
+
+  @Test
+  public void testIBAN ()
+  {
+    final ValidationCache aCache = ValidationCacheManager.enableCache (EValidationCacheType.IBAN,
+                                                                      100,
+                                                                      EValidationCacheEvictionPolicy.LRU);
+    for (int i = 0; i < 2; ++i)
+    {
+      assertTrue (IBANManager.isValidIBAN ("DE89370400440532013000"));
+      // Same unified IBAN
+      assertTrue (IBANManager.isValidIBAN ("de89 3704 0044 0532 0130 00"));
+      assertTrue (IBANManager.isValidIBAN ("DE89 3704 0044 0532 0130 00"));
+      assertTrue (IBANManager.isValidIBAN ("DE89370400440532013000 "));
+      assertSame (EIBANValidationStatus.INVALID_CHECKSUM, IBANManager.getValidationStatus ("DE88370400440532013000"));
+      assertSame (EIBANValidationStatus.TOO_SHORT, IBANManager.getValidationStatus ("DE-8"));
+      assertSame (EIBANValidationStatus.TOO_SHORT, IBANManager.getValidationStatus (null));
+    }
+    assertEquals (3, aCache.getMissCount ());
+    assertEquals (9, aCache.getHitCount ());
+  }
+
+  @Test
+  public void testIBANCaseWithoutSeparators ()
+  {
+    final ValidationCache aCache = ValidationCacheManager.enableCache (EValidationCacheType.IBAN,
+                                                                      100,
+                                                                      EValidationCacheEvictionPolicy.LRU);
+    assertTrue (IBANManager.isValidIBAN ("de89370400440532013000"));
+    assertTrue (IBANManager.isValidIBAN ("DE89370400440532013000"));
+    // Both are cached by the same unified IBAN
+    assertEquals (1, aCache.size ());
+    assertEquals (1, aCache.getMissCount ());
+    assertEquals (1, aCache.getHitCount ());
+  }
+
+  @Test
+  public void testOthers ()
+  {
+    final ValidationCache aVATINCache = ValidationCacheManager.enableCache (EValidationCacheType.VATIN);
+    final ValidationCache aGTINCache = ValidationCacheManager.enableCache (EValidationCacheType.GTIN);
+    final ValidationCache aLeitwegCache = ValidationCacheManager.enableCache (EValidationCacheType.LEITWEG_ID);
+    for (int i = 0; i < 2; ++i)
+    {
+      assertTrue (VATINSyntaxChecker.isValidVATIN ("ATU13585627"));
+      assertTrue (VATINSyntaxChecker.isValidVATIN ("xxATU13585627", 2, false));
+      assertFalse (VATINSyntaxChecker.isValidVATIN ("ATU13585626"));
+      // No validator - not cached
+      assertTrue (VATINSyntaxChecker.isValidVATIN ("XX123", 0, true));
+
+      assertTrue (GTINValidator.isValidGTIN13 ("4006381333931"));
+      assertFalse (GTINValidator.isValidGTIN13 ("4006381333932"));
+      // Wrong length - not cached
+      assertFalse (GTINValidator.isValidGTIN8 ("4006381333931"));
+
+      assertTrue (LeitwegID.isLeitwegIDValid ("04011000-1234512345-06"));
+      assertFalse (LeitwegID.isLeitwegIDValid ("04011000-1234512345-07"));
+    }
+    assertEquals (2, aVATINCache.getMissCount ());
+    assertEquals (4, aVATINCache.getHitCount ());
+    assertEquals (2, aGTINCache.getMissCount ());
+    assertEquals (2, aGTINCache.getHitCount ());
+    assertEquals (2, aLeitwegCache.getMissCount ());
+    assertEquals (2, aLeitwegCache.getHitCount ());
+  }
+}
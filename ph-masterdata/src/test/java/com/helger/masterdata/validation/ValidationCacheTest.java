@@ -0,0 +1,150 @@
+/*
+ * Copyright (C) 2014-2026 Philip Helger (www.helger.com)
+ * philip[at]helger[dot]com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.helger.masterdata.validation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+/**
+ * Test class for class {@link ValidationCache}.
+ *
+ * @author Philip Helger
+ */
+public final class ValidationCacheTest
+{
+  @Test
+  public void testBasic ()
+  {
+    for (final EValidationCacheEvictionPolicy ePolicy : EValidationCacheEvictionPolicy.values ())
+    {
+      final AtomicInteger aCalls = new AtomicInteger ();
+      final ValidationCache aCache = new ValidationCache (100, ePolicy);
+      assertEquals (100, aCache.getMaxSize ());
+      assertEquals (0, aCache.size ());
+
+      assertEquals (3, aCache.getOrCompute ("abc", x -> {
+        aCalls.incrementAndGet ();
+        return x.length ();
+      }));
+      assertEquals (3, aCache.getOrCompute ("abc", x -> {
+        aCalls.incrementAndGet ();
+        return -1;
+      }));
+      assertEquals (1, aCalls.get ());
+      assertEquals (1, aCache.size ());
+      assertEquals (1, aCache.getHitCount ());
+      assertEquals (1, aCache.getMissCount ());
+      assertEquals (0, aCache.getEvictionCount ());
+
+      aCache.clear ();
+      assertEquals (0, aCache.size ());
+      assertEquals (-1, aCache.getOrCompute ("abc", x -> -1));
+    }
+  }
+
+  @Test
+  public void testLRU ()
+  {
+    final ValidationCache aCache = new ValidationCache (1000, EValidationCacheEvictionPolicy.LRU);
+    for (int i = 0; i < 10_000; ++i)
+      aCache.getOrCompute (Integer.toString (i), String::length);
+    assertEquals (1000, aCache.size ());
+    assertEquals (9_000, aCache.getEvictionCount ());
+    assertEquals (0, aCache.getRejectionCount ());
+
+    // The most recent ones are still contained
+    final long nMisses = aCache.getMissCount ();
+    aCache.getOrCompute ("9999", String::length);
+    assertEquals (nMisses, aCache.getMissCount ());
+  }
+
+  @Test
+  public void testTinyLFUKeepsFrequentKeys ()
+  {
+    for (final EValidationCacheEvictionPolicy ePolicy : EValidationCacheEvictionPolicy.values ())
+    {
+      final ValidationCache aCache = new ValidationCache (1000, ePolicy);
+      long nHotMisses = 0;
+      for (int nRound = 0; nRound < 10; ++nRound)
+      {
+        // Frequently used keys
+        final long nMisses = aCache.getMissCount ();
+        for (int i = 0; i < 500; ++i)
+          aCache.getOrCompute ("hot" + i, String::length);
+        if (nRound > 0)
+          nHotMisses += aCache.getMissCount () - nMisses;
+
+        // A scan of keys used only once, larger than the cache
+        for (int i = 0; i < 2000; ++i)
+          aCache.getOrCompute ("cold" + nRound + "-" + i, String::length);
+        assertTrue (aCache.size () <= 1000);
+      }
+
+      if (ePolicy == EValidationCacheEvictionPolicy.LRU)
+      {
+        // Nearly all hot keys were evicted by the scans
+        assertTrue (aCache.toString (), nHotMisses > 9 * 400);
+      }
+      else
+      {
+        // Nearly all hot keys survived the scans
+        assertTrue (aCache.toString (), nHotMisses < 9 * 50);
+        assertTrue (aCache.getRejectionCount () > 0);
+      }
+    }
+  }
+
+  @Test
+  public void testSmallSizes ()
+  {
+    for (int nMaxSize = 1; nMaxSize < 40; ++nMaxSize)
+    {
+      final ValidationCache aCache = new ValidationCache (nMaxSize, EValidationCacheEvictionPolicy.LRU);
+      for (int i = 0; i < 100; ++i)
+        aCache.getOrCompute (Integer.toString (i), String::length);
+      assertTrue (aCache.size () > 0);
+      assertTrue (aCache.size () <= nMaxSize);
+    }
+  }
+
+  @Test
+  public void testConcurrent () throws Exception
+  {
+    final ValidationCache aCache = new ValidationCache (500, EValidationCacheEvictionPolicy.TINY_LFU);
+    final ExecutorService aES = Executors.newFixedThreadPool (4);
+    for (int t = 0; t < 4; ++t)
+      aES.submit ( () -> {
+        for (int i = 0; i < 20_000; ++i)
+        {
+          final String sKey = Integer.toString (i % 1000);
+          if (aCache.getOrCompute (sKey, Integer::parseInt) != i % 1000)
+            throw new IllegalStateException ("Wrong value for " + sKey);
+        }
+      });
+    aES.shutdown ();
+    assertTrue (aES.awaitTermination (1, TimeUnit.MINUTES));
+    assertEquals (80_000, aCache.getHitCount () + aCache.getMissCount ());
+    assertTrue (aCache.size () <= 500);
+  }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (C) 2014-2026 Philip Helger (www.helger.com)
+ * philip[at]helger[dot]com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.helger.masterdata.vat;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+/**
+ * Test class for class {@link VATINPatternInfo}.
+ *
+ * @author Philip Helger
+ */
+public final class VATINPatternInfoTest
+{
+  @Test
+  public void testBasic ()
+  {
+    VATINPatternInfo aInfo = new VATINPatternInfo ("^ATU[0-9]{8}$", "AT");
+    assertFalse (aInfo.isPossibleLength (10));
+    assertTrue (aInfo.isPossibleLength (11));
+    assertFalse (aInfo.isPossibleLength (12));
+    assertTrue (aInfo.isPossibleChar ('U'));
+    assertTrue (aInfo.isPossibleChar ('0'));
+    assertTrue (aInfo.isPossibleChar ('9'));
+    assertFalse (aInfo.isPossibleChar ('A'));
+    assertFalse (aInfo.isPossibleChar ('\u00e4'));
+
+    aInfo = new VATINPatternInfo ("^GB([0-9]{9}|[0-9]{12}|GD[0-9]{3}|HA[0-9]{3})$", "GB");
+    assertTrue (aInfo.isPossibleLength (7));
+    assertTrue (aInfo.isPossibleLength (11));
+    assertTrue (aInfo.isPossibleLength (14));
+    assertFalse (aInfo.isPossibleLength (8));
+    assertFalse (aInfo.isPossibleLength (12));
+    assertTrue (aInfo.isPossibleChar ('H'));
+    assertFalse (aInfo.isPossibleChar ('B'));
+
+    aInfo = new VATINPatternInfo ("^IE[0-9][0-9A-Z\\+\\*][0-9]{5}[0-9A-Z]$", "IE");
+    assertTrue (aInfo.isPossibleLength (10));
+    assertFalse (aInfo.isPossibleLength (11));
+    assertTrue (aInfo.isPossibleChar ('+'));
+    assertTrue (aInfo.isPossibleChar ('*'));
+    assertFalse (aInfo.isPossibleChar ('-'));
+
+    aInfo = new VATINPatternInfo ("^RO[0-9]{2,10}$", "RO");
+    assertFalse (aInfo.isPossibleLength (3));
+    for (int i = 4; i <= 12; ++i)
+      assertTrue (aInfo.isPossibleLength (i));
+    assertFalse (aInfo.isPossibleLength (13));
+  }
+
+  @Test
+  public void testUnsupported ()
+  {
+    // Everything is possible
+    for (final String sRegEx : new String [] { "^AT\\d{8}$", "^AT[0-9]+$", "^AT.{8}$", "^AT[^A]{8}$", "^XX[0-9]$" })
+    {
+      final VATINPatternInfo aInfo = new VATINPatternInfo (sRegEx, "AT");
+      assertTrue (aInfo.isPossibleLength (0));
+      assertTrue (aInfo.isPossibleLength (100));
+      assertTrue (aInfo.isPossibleChar ('-'));
+      assertTrue (aInfo.isPossibleChar ('\u00e4'));
+    }
+  }
+}
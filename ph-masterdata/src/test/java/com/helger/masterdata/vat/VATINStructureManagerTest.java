@@ -17,10 +17,20 @@
 package com.helger.masterdata.vat;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
 
 import org.junit.Test;
 
+import com.helger.collection.commons.CommonsArrayList;
+import com.helger.collection.commons.ICommonsList;
 import com.helger.xml.microdom.IMicroDocument;
 import com.helger.xml.microdom.IMicroElement;
 import com.helger.xml.microdom.MicroDocument;
@@ -38,7 +48,137 @@ public final class VATINStructureManagerTest
   {
     for (final VATINStructure aStructure : VATINStructureManager.getAllStructures ())
       for (final String sExample : aStructure.getExamples ())
+      {
         assertEquals (aStructure, VATINStructureManager.getFromValidVATIN (sExample));
+        assertSame (aStructure, VATINStructureManager.getFromVATINCountry (sExample));
+        assertSame (aStructure, VATINStructureManager.getStructureOfCountry (aStructure.getCountry ().getCountry ()));
+      }
+  }
+
+  @Test
+  public void testGetFromValidVATIN ()
+  {
+    assertNotNull (VATINStructureManager.getFromValidVATIN ("ATU12345678"));
+    assertNotNull (VATINStructureManager.getFromValidVATIN ("atu12345678"));
+    assertNotNull (VATINStructureManager.getFromValidVATIN ("  AT U123 456 78"));
+    assertNotNull (VATINStructureManager.getFromValidVATIN ("EL123456789"));
+    assertNull (VATINStructureManager.getFromValidVATIN ("GR123456789"));
+    assertNull (VATINStructureManager.getFromValidVATIN ("ATU1234567"));
+    assertNull (VATINStructureManager.getFromValidVATIN ("XX12345678"));
+    assertNull (VATINStructureManager.getFromValidVATIN ("1234567890"));
+    assertNull (VATINStructureManager.getFromValidVATIN ("A   "));
+    assertNull (VATINStructureManager.getFromValidVATIN ("AT"));
+    assertNull (VATINStructureManager.getFromValidVATIN (""));
+    assertNull (VATINStructureManager.getFromValidVATIN (null));
+    // Non-ASCII characters that upper case to ASCII letters
+    assertEquals (VATINStructureManager.getFromValidVATIN ("IT12345678901"),
+                  VATINStructureManager.getFromValidVATIN ("\u0131T12345678901"));
+
+    assertTrue (VATINStructureManager.isValidVATIN ("ATU12345678"));
+    assertFalse (VATINStructureManager.isValidVATIN ("ATU1234567"));
+  }
+
+  @Test
+  public void testGetStructureOfCountry ()
+  {
+    final VATINStructure aAT = VATINStructureManager.getStructureOfCountry ("AT");
+    assertNotNull (aAT);
+    assertEquals ("AT", aAT.getCountry ().getCountry ());
+    assertSame (aAT, VATINStructureManager.getStructureOfCountry ("at"));
+    assertSame (aAT, VATINStructureManager.getFromVATINCountry ("AT"));
+    assertSame (aAT, VATINStructureManager.getFromVATINCountry ("aTU"));
+
+    // Greece uses a different VATIN prefix
+    final VATINStructure aGR = VATINStructureManager.getStructureOfCountry ("GR");
+    assertNotNull (aGR);
+    assertSame (aGR, VATINStructureManager.getFromVATINCountry ("EL"));
+    assertNull (VATINStructureManager.getFromVATINCountry ("GR"));
+    assertNull (VATINStructureManager.getStructureOfCountry ("EL"));
+
+    assertNull (VATINStructureManager.getStructureOfCountry ("XX"));
+    assertNull (VATINStructureManager.getStructureOfCountry ("A"));
+    assertNull (VATINStructureManager.getStructureOfCountry ("AUT"));
+    assertNull (VATINStructureManager.getStructureOfCountry ("A1"));
+    assertNull (VATINStructureManager.getStructureOfCountry (""));
+    assertNull (VATINStructureManager.getStructureOfCountry (null));
+    assertNull (VATINStructureManager.getFromVATINCountry ("A"));
+    assertNull (VATINStructureManager.getFromVATINCountry (null));
+  }
+
+  @Test
+  public void testValidationStatus ()
+  {
+    for (final String sVATIN : new String [] { "ATU13585627",
+                                               "atu 1358 5627",
+                                               "DE111111125",
+                                               "EL040127797",
+                                               "GR040127797",
+                                               "GBGD123",
+                                               "GB434031494100",
+                                               "IE8Z49289F",
+                                               "NL010000446B01",
+                                               "CH123" })
+      assertSame (sVATIN,
+                  sVATIN.startsWith ("CH") ? EVATINValidationStatus.UNSUPPORTED_COUNTRY
+                                           : EVATINValidationStatus.VALID,
+                  VATINStructureManager.getValidationStatus (sVATIN));
+
+    assertSame (EVATINValidationStatus.TOO_SHORT, VATINStructureManager.getValidationStatus (null));
+    assertSame (EVATINValidationStatus.TOO_SHORT, VATINStructureManager.getValidationStatus ("AT"));
+    assertSame (EVATINValidationStatus.TOO_SHORT, VATINStructureManager.getValidationStatus ("A T  "));
+    assertSame (EVATINValidationStatus.UNSUPPORTED_COUNTRY, VATINStructureManager.getValidationStatus ("XX123456789"));
+    assertSame (EVATINValidationStatus.UNSUPPORTED_COUNTRY, VATINStructureManager.getValidationStatus ("1X123456789"));
+    assertSame (EVATINValidationStatus.INVALID_LENGTH, VATINStructureManager.getValidationStatus ("ATU1358562"));
+    assertSame (EVATINValidationStatus.INVALID_LENGTH, VATINStructureManager.getValidationStatus ("GB4340314941"));
+    assertSame (EVATINValidationStatus.INVALID_CHARACTERS, VATINStructureManager.getValidationStatus ("DE11111112X"));
+    assertSame (EVATINValidationStatus.INVALID_CHARACTERS, VATINStructureManager.getValidationStatus ("DE11111112-"));
+    assertSame (EVATINValidationStatus.INVALID_CHARACTERS, VATINStructureManager.getValidationStatus ("DE11111112\u00e4"));
+    // All characters are possible but at the wrong position
+    assertSame (EVATINValidationStatus.INVALID_STRUCTURE, VATINStructureManager.getValidationStatus ("ATUU3585627"));
+    assertSame (EVATINValidationStatus.INVALID_STRUCTURE, VATINStructureManager.getValidationStatus ("NL010000446101"));
+    assertSame (EVATINValidationStatus.INVALID_CHECKSUM, VATINStructureManager.getValidationStatus ("ATU13585626"));
+    assertSame (EVATINValidationStatus.INVALID_CHECKSUM, VATINStructureManager.getValidationStatus ("de 111111126"));
+    // No structure but a syntax checker
+    assertSame (EVATINValidationStatus.INVALID_CHECKSUM, VATINStructureManager.getValidationStatus ("GR040127798"));
+  }
+
+  @Test
+  public void testBulkValidation ()
+  {
+    final ICommonsList <String> aVATINs = new CommonsArrayList <> ();
+    for (int i = 0; i < 10_000; ++i)
+    {
+      aVATINs.add (i % 2 == 0 ? "ATU13585627" : "DE111111125");
+      aVATINs.add (i % 2 == 0 ? "ATU13585626" : null);
+    }
+
+    VATINBulkValidationResult aResult = VATINStructureManager.validateVATINs (aVATINs.subList (0, 4));
+    assertEquals (4, aResult.getCount ());
+    assertEquals (2, aResult.getValidCount ());
+    assertTrue (aResult.isValid (0));
+    assertSame (EVATINValidationStatus.INVALID_CHECKSUM, aResult.getStatus (1));
+    assertSame (EVATINValidationStatus.TOO_SHORT, aResult.getStatus (3));
+
+    // Serial and parallel
+    for (final Executor aExecutor : new Executor [] { null, ForkJoinPool.commonPool () })
+    {
+      aResult = VATINStructureManager.validateVATINs (aVATINs, aExecutor);
+      assertEquals (aVATINs.size (), aResult.getCount ());
+      assertEquals (10_000, aResult.getValidCount ());
+      assertEquals (10_000, aResult.getInvalidCount ());
+      assertEquals (5_000, aResult.getCountOfStatus (EVATINValidationStatus.INVALID_CHECKSUM));
+      assertEquals (5_000, aResult.getCountOfStatus (EVATINValidationStatus.TOO_SHORT));
+      assertFalse (aResult.areAllValid ());
+      assertEquals (10_000, aResult.getAllValidFlags ().cardinality ());
+      for (int i = 0; i < aVATINs.size (); ++i)
+        assertEquals (i % 2 == 0, aResult.isValid (i));
+    }
+
+    // Stream
+    aResult = VATINStructureManager.validateVATINs (Stream.of ("ATU13585627", "DE111111125", "XX123"),
+                                                    ForkJoinPool.commonPool ());
+    assertEquals (2, aResult.getValidCount ());
+    assertSame (EVATINValidationStatus.UNSUPPORTED_COUNTRY, aResult.getStatus (2));
   }
 
   @Test
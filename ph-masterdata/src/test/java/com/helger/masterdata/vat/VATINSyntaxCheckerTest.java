@@ -6860,6 +6860,45 @@ public final class VATINSyntaxCheckerTest
     assertTrue (VATINSyntaxChecker.isValidVATIN ("SK2120066993"));
   }
 
+  @Test
+  public void testCharSequenceWithOffset ()
+  {
+    for (final String sVATIN : new String [] { "ATU10223006",
+                                               "ATU10223007",
+                                               "BE0776091951",
+                                               "de111111125",
+                                               "DE111111126",
+                                               "EL040127797",
+                                               "GR040127797",
+                                               "GBGD001",
+                                               "NL004495445B01",
+                                               "RO99908",
+                                               "RO99909",
+                                               "XX123",
+                                               "AT",
+                                               "A",
+                                               "" })
+    {
+      final StringBuilder aSB = new StringBuilder ("Seller: ").append (sVATIN);
+      final int nOfs = aSB.length () - sVATIN.length ();
+      assertEquals (sVATIN,
+                    VATINSyntaxChecker.isValidVATIN (sVATIN, false),
+                    VATINSyntaxChecker.isValidVATIN (aSB, nOfs, false));
+      assertEquals (sVATIN,
+                    VATINSyntaxChecker.isValidVATIN (sVATIN, true),
+                    VATINSyntaxChecker.isValidVATIN (aSB, nOfs, true));
+      assertEquals (sVATIN,
+                    VATINSyntaxChecker.isValidatorPresent (sVATIN),
+                    VATINSyntaxChecker.isValidatorPresent (aSB, nOfs));
+    }
+
+    assertTrue (VATINSyntaxChecker.isValidVATIN ("ATU10223006", 0, false));
+    assertTrue (VATINSyntaxChecker.isValidVATIN ("atU10223006", 0, false));
+    assertFalse (VATINSyntaxChecker.isValidVATIN ("XXATU10223006", 1, false));
+    assertTrue (VATINSyntaxChecker.isValidatorPresent ("XXATU10223006", 2));
+    assertFalse (VATINSyntaxChecker.isValidatorPresent ("XXATU10223006", 0));
+  }
+
   @Test
   public void testCeilTo ()
   {
@@ -20,14 +20,20 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.Month;
 import java.util.Locale;
 import java.util.Map;
 
 import org.junit.Test;
 
+import com.helger.collection.CollectionFind;
+import com.helger.collection.commons.CommonsArrayList;
+import com.helger.collection.commons.ICommonsList;
 import com.helger.datetime.helper.PDTFactory;
 import com.helger.text.locale.country.CountryCache;
 
@@ -100,4 +106,168 @@ public final class VATManagerTest
     assertNull (aItem.getPeriod ().getStart ());
     assertNull (aItem.getPeriod ().getEnd ());
   }
+
+  @Test
+  public void testAllVATItemsForCountryView ()
+  {
+    final VATManager aVATMgr = VATManager.getDefaultInstance ();
+    for (final Locale aCountry : aVATMgr.getAllAvailableCountries ())
+    {
+      final Map <String, IVATItem> aView = aVATMgr.getAllVATItemsForCountryView (aCountry);
+      assertEquals (aVATMgr.getAllVATItemsForCountry (aCountry), aView);
+      assertSame (aView, aVATMgr.getAllVATItemsForCountryView (aCountry));
+    }
+    assertTrue (aVATMgr.getAllVATItemsForCountryView (Locale.GERMAN).isEmpty ());
+    assertTrue (aVATMgr.getAllVATItemsForCountryView (CountryCache.getInstance ().getCountry ("XX")).isEmpty ());
+
+    final Locale aDE = CountryCache.getInstance ().getCountry ("DE");
+    assertEquals (aVATMgr.getAllVATItemsForCountry (aDE), aVATMgr.getAllVATItemsForCountryView (new Locale ("de", "DE")));
+    assertSame (aVATMgr.getVATCountryData (aDE), aVATMgr.getVATCountryData (Locale.GERMANY));
+    assertNull (aVATMgr.getVATCountryData (Locale.GERMAN));
+  }
+
+  @Test
+  public void testFindVATItem ()
+  {
+    final VATManager aVATMgr = VATManager.getDefaultInstance ();
+    for (final Locale aCountry : aVATMgr.getAllAvailableCountries ())
+      for (final IVATItem aItem : aVATMgr.getVATCountryData (aCountry).getAllItemsView ().values ())
+      {
+        // Must be the same as a linear search
+        final EVATItemType eType = aItem.getType ();
+        final BigDecimal aPercentage = aItem.getPercentage ();
+        assertSame (aVATMgr.findFirst (x -> x.getType ().equals (eType) && x.hasPercentage (aPercentage)),
+                    aVATMgr.findVATItem (eType, aPercentage));
+        assertSame (aVATMgr.findFirst (x -> x.getType ().equals (eType) && x.hasPercentage (aPercentage)),
+                    aVATMgr.findVATItem (eType, aPercentage.setScale (3)));
+
+        final VATCountryData aVATCountryData = aVATMgr.getVATCountryData (aCountry);
+        assertSame (CollectionFind.findFirst (aVATCountryData.getAllItemsView ().values (),
+                                              x -> x.hasPercentage (aPercentage)),
+                    aVATCountryData.getItemOfPercentage (aPercentage));
+        final IVATItem aFound = aVATMgr.findVATItem (aCountry, eType, aPercentage, null);
+        assertNotNull (aFound);
+        assertEquals (eType, aFound.getType ());
+        assertTrue (aFound.hasPercentage (aPercentage));
+      }
+
+    assertNull (aVATMgr.findVATItem (null, BigDecimal.TEN));
+    assertNull (aVATMgr.findVATItem (EVATItemType.REGULAR, null));
+    assertNull (aVATMgr.findVATItem (EVATItemType.REGULAR, new BigDecimal ("99.99")));
+  }
+
+  @Test
+  public void testFindVATItemOfCountry ()
+  {
+    final VATManager aVATMgr = VATManager.getDefaultInstance ();
+    final Locale aDE = CountryCache.getInstance ().getCountry ("de");
+
+    IVATItem aItem = aVATMgr.findVATItem (aDE, EVATItemType.REGULAR, new BigDecimal ("16.0"), null);
+    assertNotNull (aItem);
+    assertEquals ("de.v16", aItem.getID ());
+    assertSame (aItem,
+                aVATMgr.findVATItem (aDE, EVATItemType.REGULAR, BigDecimal.valueOf (16), PDTFactory.createLocalDate (2020, Month.AUGUST, 1)));
+    assertNull (aVATMgr.findVATItem (aDE, EVATItemType.REGULAR, BigDecimal.valueOf (16), PDTFactory.createLocalDate (2021, Month.JANUARY, 1)));
+    assertNull (aVATMgr.findVATItem (aDE, EVATItemType.REDUCED, BigDecimal.valueOf (16), null));
+
+    aItem = aVATMgr.findVATItem (aDE, EVATItemType.REDUCED, BigDecimal.valueOf (7), PDTFactory.createLocalDate (2021, Month.JANUARY, 1));
+    assertNotNull (aItem);
+    assertEquals ("de.v07", aItem.getID ());
+
+    // Zero VAT is allowed in Germany
+    assertSame (VATManager.VATTYPE_NONE, aVATMgr.findVATItem (aDE, EVATItemType.OTHER, BigDecimal.ZERO, null));
+    assertNull (aVATMgr.findVATItem (aDE, EVATItemType.REGULAR, BigDecimal.ZERO, null));
+
+    assertNull (aVATMgr.findVATItem (aDE, null, BigDecimal.ZERO, null));
+    assertNull (aVATMgr.findVATItem (aDE, EVATItemType.REGULAR, null, null));
+    assertNull (aVATMgr.findVATItem (CountryCache.getInstance ().getCountry ("XX"), EVATItemType.REGULAR, BigDecimal.valueOf (19), null));
+  }
+
+  @Test
+  public void testFindVATItemValidAt ()
+  {
+    final VATManager aVATMgr = VATManager.getDefaultInstance ();
+    final Locale aDE = CountryCache.getInstance ().getCountry ("de");
+    final LocalDate a2019 = PDTFactory.createLocalDate (2019, Month.MARCH, 1);
+    final LocalDate aReduced = PDTFactory.createLocalDate (2020, Month.AUGUST, 1);
+    final LocalDate a2021 = PDTFactory.createLocalDate (2021, Month.JANUARY, 1);
+
+    assertEquals ("de.v19", aVATMgr.findVATItemValidAt (aDE, EVATItemType.REGULAR, a2019).getID ());
+    assertEquals ("de.v16", aVATMgr.findVATItemValidAt (aDE, EVATItemType.REGULAR, aReduced).getID ());
+    assertEquals ("de.v16",
+                  aVATMgr.findVATItemValidAt (aDE, EVATItemType.REGULAR, PDTFactory.createLocalDate (2020, Month.JULY, 1))
+                         .getID ());
+    assertEquals ("de.v16",
+                  aVATMgr.findVATItemValidAt (aDE, EVATItemType.REGULAR, PDTFactory.createLocalDate (2020, Month.DECEMBER, 31))
+                         .getID ());
+    assertEquals ("de.v19", aVATMgr.findVATItemValidAt (aDE, EVATItemType.REGULAR, a2021).getID ());
+    assertEquals ("de.v05", aVATMgr.findVATItemValidAt (aDE, EVATItemType.REDUCED, aReduced).getID ());
+    assertEquals ("de.v07", aVATMgr.findVATItemValidAt (aDE, EVATItemType.REDUCED, a2021).getID ());
+    assertNull (aVATMgr.findVATItemValidAt (aDE, EVATItemType.REDUCED_HEAVILY, a2021));
+    assertNull (aVATMgr.findVATItemValidAt (aDE, null, a2021));
+    assertNull (aVATMgr.findVATItemValidAt (aDE, EVATItemType.REGULAR, null));
+    assertNull (aVATMgr.findVATItemValidAt (Locale.GERMAN, EVATItemType.REGULAR, a2021));
+
+    // Hungary switched from 25% to 27%
+    final Locale aHU = CountryCache.getInstance ().getCountry ("hu");
+    assertEquals ("hu.v25",
+                  aVATMgr.findVATItemValidAt (aHU, EVATItemType.REGULAR, PDTFactory.createLocalDate (2011, Month.DECEMBER, 31))
+                         .getID ());
+    assertEquals ("hu.v27",
+                  aVATMgr.findVATItemValidAt (aHU, EVATItemType.REGULAR, PDTFactory.createLocalDate (2012, Month.JANUARY, 1))
+                         .getID ());
+
+    // Deprecated items without a period lose
+    assertEquals ("ee.v20",
+                  aVATMgr.findVATItemValidAt (CountryCache.getInstance ().getCountry ("ee"), EVATItemType.REGULAR, a2021)
+                         .getID ());
+
+    // Bulk
+    final ICommonsList <IVATItem> aItems = aVATMgr.findVATItemsValidAt (aDE,
+                                                                        EVATItemType.REGULAR,
+                                                                        new CommonsArrayList <> (a2019, aReduced, null, a2021));
+    assertEquals (4, aItems.size ());
+    assertEquals ("de.v19", aItems.get (0).getID ());
+    assertEquals ("de.v16", aItems.get (1).getID ());
+    assertNull (aItems.get (2));
+    assertEquals ("de.v19", aItems.get (3).getID ());
+    assertEquals (2, aVATMgr.findVATItemsValidAt (Locale.GERMAN, EVATItemType.REGULAR, new CommonsArrayList <> (a2019, a2021)).size ());
+  }
+
+  @Test
+  public void testFindVATItemValidAtSameAsLinear ()
+  {
+    final VATManager aVATMgr = VATManager.getDefaultInstance ();
+    for (final Locale aCountry : aVATMgr.getAllAvailableCountries ())
+    {
+      final VATCountryData aVATCountryData = aVATMgr.getVATCountryData (aCountry);
+      for (final EVATItemType eType : EVATItemType.values ())
+        for (LocalDate aDate = PDTFactory.createLocalDate (2000, Month.JANUARY, 1); aDate.getYear () < 2030; aDate = aDate.plusDays (5))
+        {
+          IVATItem aExpected = null;
+          for (final IVATItem aItem : aVATCountryData.getAllItemsView ().values ())
+            if (aItem.getType () == eType && aItem.getPeriod ().isValidFor (aDate))
+              if (aExpected == null || _isMoreSpecific (aItem, aExpected))
+                aExpected = aItem;
+          assertSame (aCountry + " " + eType + " " + aDate, aExpected, aVATCountryData.getItemOfTypeValidAt (eType, aDate));
+        }
+    }
+  }
+
+  private static boolean _isMoreSpecific (final IVATItem aItem, final IVATItem aOther)
+  {
+    final LocalDate aStart = aItem.getPeriod ().getStart ();
+    final LocalDate aOtherStart = aOther.getPeriod ().getStart ();
+    if (aStart != null && (aOtherStart == null || aStart.isAfter (aOtherStart)))
+      return true;
+    if (aOtherStart != null && (aStart == null || aOtherStart.isAfter (aStart)))
+      return false;
+    final LocalDate aEnd = aItem.getPeriod ().getEnd ();
+    final LocalDate aOtherEnd = aOther.getPeriod ().getEnd ();
+    if (aEnd != null && (aOtherEnd == null || aEnd.isBefore (aOtherEnd)))
+      return true;
+    if (aOtherEnd != null && (aEnd == null || aOtherEnd.isBefore (aEnd)))
+      return false;
+    return !aItem.isDeprecated () && aOther.isDeprecated ();
+  }
 }